@@ -0,0 +1,271 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.channel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled weekly availability schedule from
+ * {@code channel_configs.availability_schedule}.
+ *
+ * <p>The column holds JSON of the form:</p>
+ * <pre>
+ * {
+ *   "timezone": "Europe/Madrid",
+ *   "days": {
+ *     "WEEKDAYS": ["08:00-14:00", "16:00-20:00"],
+ *     "SATURDAY": "09:00-14:00"
+ *   }
+ * }
+ * </pre>
+ * <p>Day keys are day names, three-letter abbreviations, {@code WEEKDAYS},
+ * {@code WEEKEND} or {@code DAILY}. Ranges are {@code [start, end)}, may end
+ * at {@code 24:00} and may wrap past midnight into the next day. Days that
+ * are not listed are closed. {@code "24/7"}, {@code {"alwaysAvailable": true}}
+ * and an empty column mean always available.</p>
+ *
+ * <p>The schedule is compiled into a bitset with one bit per minute of the
+ * week, so a lookup is a single bit test.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class AvailabilitySchedule {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Set<DayOfWeek> WEEKDAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+    private static final Set<DayOfWeek> WEEKEND = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private final long[] openMinutes;
+    private final boolean alwaysAvailable;
+    private final ZoneId zone;
+    private final List<String> rejectedEntries;
+
+    private AvailabilitySchedule(long[] openMinutes, boolean alwaysAvailable, ZoneId zone, List<String> rejectedEntries) {
+        this.openMinutes = openMinutes;
+        this.alwaysAvailable = alwaysAvailable;
+        this.zone = zone;
+        this.rejectedEntries = Collections.unmodifiableList(rejectedEntries);
+    }
+
+    /**
+     * @param zone the zone to report
+     * @return a schedule that is always open
+     */
+    public static AvailabilitySchedule alwaysAvailable(ZoneId zone) {
+        return new AvailabilitySchedule(null, true, zone, new ArrayList<>());
+    }
+
+    /**
+     * Compiles a schedule. Malformed input compiles to an always-available
+     * schedule with the problems listed in {@link #getRejectedEntries()}, so a
+     * bad schedule never takes a channel offline.
+     *
+     * @param json the raw column value
+     * @param defaultZone zone used when the schedule does not name one
+     * @return the compiled schedule
+     */
+    public static AvailabilitySchedule parse(String json, ZoneId defaultZone) {
+        if (json == null || json.isBlank() || isAlwaysLiteral(json.trim())) {
+            return alwaysAvailable(defaultZone);
+        }
+        List<String> rejected = new ArrayList<>();
+        JsonNode root;
+        try {
+            root = OBJECT_MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            rejected.add("Invalid JSON: " + e.getOriginalMessage());
+            return new AvailabilitySchedule(null, true, defaultZone, rejected);
+        }
+        if (root.isTextual() && isAlwaysLiteral(root.asText())) {
+            return alwaysAvailable(defaultZone);
+        }
+        if (!root.isObject()) {
+            rejected.add("Schedule must be a JSON object");
+            return new AvailabilitySchedule(null, true, defaultZone, rejected);
+        }
+
+        ZoneId zone = defaultZone;
+        String zoneId = text(root, "timezone", "timeZone", "zone");
+        if (zoneId != null) {
+            try {
+                zone = ZoneId.of(zoneId);
+            } catch (DateTimeException e) {
+                rejected.add("Unknown time zone: " + zoneId);
+            }
+        }
+        if (root.path("alwaysAvailable").asBoolean(false)) {
+            return new AvailabilitySchedule(null, true, zone, rejected);
+        }
+        JsonNode days = root.path("days");
+        if (!days.isObject()) {
+            rejected.add("Missing \"days\" object");
+            return new AvailabilitySchedule(null, true, zone, rejected);
+        }
+
+        long[] openMinutes = new long[(MINUTES_PER_WEEK + 63) >>> 6];
+        Iterator<Map.Entry<String, JsonNode>> fields = days.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            Set<DayOfWeek> selected = parseDays(field.getKey());
+            if (selected.isEmpty()) {
+                rejected.add("Unknown day: " + field.getKey());
+                continue;
+            }
+            List<String> ranges = new ArrayList<>();
+            if (field.getValue().isArray()) {
+                field.getValue().forEach(node -> ranges.add(node.asText()));
+            } else {
+                ranges.add(field.getValue().asText());
+            }
+            for (String range : ranges) {
+                if (!addRange(openMinutes, selected, range)) {
+                    rejected.add(field.getKey() + ": " + range);
+                }
+            }
+        }
+        return new AvailabilitySchedule(openMinutes, false, zone, rejected);
+    }
+
+    /**
+     * @param instant the instant to evaluate
+     * @return true if the channel is scheduled to be open at the instant
+     */
+    public boolean isAvailableAt(Instant instant) {
+        if (alwaysAvailable) {
+            return true;
+        }
+        ZonedDateTime local = instant.atZone(zone);
+        int minute = (local.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY
+                + local.getHour() * 60 + local.getMinute();
+        return (openMinutes[minute >>> 6] & (1L << minute)) != 0;
+    }
+
+    public boolean isAlwaysAvailable() {
+        return alwaysAvailable;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * @return schedule entries that could not be parsed and were ignored
+     */
+    public List<String> getRejectedEntries() {
+        return rejectedEntries;
+    }
+
+    private static boolean addRange(long[] openMinutes, Set<DayOfWeek> days, String range) {
+        String[] bounds = range.split("-");
+        if (bounds.length != 2) {
+            return false;
+        }
+        int start = minuteOfDay(bounds[0].trim());
+        int end = minuteOfDay(bounds[1].trim());
+        if (start < 0 || end < 0 || start == MINUTES_PER_DAY || start == end) {
+            return false;
+        }
+        for (DayOfWeek day : days) {
+            int dayStart = (day.getValue() - 1) * MINUTES_PER_DAY;
+            if (start < end) {
+                set(openMinutes, dayStart + start, dayStart + end);
+            } else {
+                // Wraps past midnight into the next day (Sunday wraps to Monday)
+                set(openMinutes, dayStart + start, dayStart + MINUTES_PER_DAY);
+                int nextDay = (dayStart + MINUTES_PER_DAY) % MINUTES_PER_WEEK;
+                set(openMinutes, nextDay, nextDay + end);
+            }
+        }
+        return true;
+    }
+
+    private static void set(long[] bits, int from, int to) {
+        for (int i = from; i < to; i++) {
+            bits[i >>> 6] |= 1L << i;
+        }
+    }
+
+    private static int minuteOfDay(String time) {
+        if ("24:00".equals(time)) {
+            return MINUTES_PER_DAY;
+        }
+        try {
+            LocalTime parsed = LocalTime.parse(time);
+            return parsed.getHour() * 60 + parsed.getMinute();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private static Set<DayOfWeek> parseDays(String key) {
+        String value = key.trim().toUpperCase(Locale.ROOT);
+        switch (value) {
+            case "DAILY", "ALL", "EVERYDAY" -> {
+                return EnumSet.allOf(DayOfWeek.class);
+            }
+            case "WEEKDAYS" -> {
+                return EnumSet.copyOf(WEEKDAYS);
+            }
+            case "WEEKEND", "WEEKENDS" -> {
+                return EnumSet.copyOf(WEEKEND);
+            }
+            default -> {
+                for (DayOfWeek day : DayOfWeek.values()) {
+                    if (day.name().equals(value) || (value.length() == 3 && day.name().startsWith(value))) {
+                        return EnumSet.of(day);
+                    }
+                }
+                return EnumSet.noneOf(DayOfWeek.class);
+            }
+        }
+    }
+
+    private static boolean isAlwaysLiteral(String value) {
+        return "24/7".equals(value) || "24x7".equalsIgnoreCase(value) || "ALWAYS".equalsIgnoreCase(value);
+    }
+
+    private static String text(JsonNode node, String... names) {
+        for (String name : names) {
+            JsonNode value = node.get(name);
+            if (value != null && value.isTextual() && !value.asText().isBlank()) {
+                return value.asText().trim();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.channel;
+
+import com.firefly.common.config.core.policy.CountryCodeSet;
+import com.firefly.common.config.core.policy.PolicyValues;
+import com.firefly.common.config.interfaces.enums.ChannelDenialReason;
+import com.firefly.common.config.models.entities.ChannelConfig;
+import com.firefly.common.config.models.entities.ChannelConfigParameter;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Compiled, immutable view of a {@link ChannelConfig} and its active
+ * {@link ChannelConfigParameter}s.
+ *
+ * <p>Active parameters whose key matches one of the constants below override
+ * the corresponding column, so limits and restrictions can be tuned without
+ * touching the channel row. Everything is parsed once at compile time;
+ * {@link #evaluate} does no parsing beyond the caller's app version.</p>
+ *
+ * <p>Daily and monthly limits are checked against the single amount only;
+ * accumulated usage is not tracked here.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Value
+@Builder
+public class ChannelPolicy {
+
+    public static final String PARAM_MAX_TRANSACTION_AMOUNT = "max_transaction_amount";
+    public static final String PARAM_DAILY_TRANSACTION_LIMIT = "daily_transaction_limit";
+    public static final String PARAM_MONTHLY_TRANSACTION_LIMIT = "monthly_transaction_limit";
+    public static final String PARAM_MIN_APP_VERSION = "min_app_version";
+    public static final String PARAM_SUPPORTED_PLATFORMS = "supported_platforms";
+    public static final String PARAM_GEO_RESTRICTIONS_ENABLED = "geo_restrictions_enabled";
+    public static final String PARAM_ALLOWED_COUNTRIES = "allowed_countries";
+    public static final String PARAM_BLOCKED_COUNTRIES = "blocked_countries";
+    public static final String PARAM_AVAILABILITY_SCHEDULE = "availability_schedule";
+
+    UUID configId;
+    UUID tenantId;
+    String channelCode;
+    long version;
+    Instant compiledAt;
+    boolean enabled;
+    int priority;
+    UUID failoverChannelId;
+
+    Set<String> supportedPlatforms;
+    SemanticVersion minAppVersion;
+    BigDecimal maxTransactionAmount;
+    BigDecimal dailyTransactionLimit;
+    BigDecimal monthlyTransactionLimit;
+    boolean geoRestrictionsEnabled;
+    CountryCodeSet allowedCountries;
+    CountryCodeSet blockedCountries;
+    AvailabilitySchedule availabilitySchedule;
+
+    /**
+     * Values that could not be parsed and were ignored.
+     */
+    List<String> rejectedEntries;
+
+    /**
+     * Compiles a channel configuration.
+     *
+     * @param config the channel configuration
+     * @param parameters its parameters (inactive ones are ignored)
+     * @param defaultZone zone for schedules that do not name one
+     * @return the compiled policy
+     */
+    public static ChannelPolicy compile(ChannelConfig config, Collection<ChannelConfigParameter> parameters,
+                                        ZoneId defaultZone) {
+        Map<String, String> overrides = new HashMap<>();
+        for (ChannelConfigParameter parameter : parameters) {
+            if (Boolean.FALSE.equals(parameter.getActive()) || parameter.getParameterKey() == null) {
+                continue;
+            }
+            String value = parameter.getParameterValue() != null && !parameter.getParameterValue().isBlank()
+                    ? parameter.getParameterValue() : parameter.getDefaultValue();
+            if (value != null && !value.isBlank()) {
+                overrides.put(parameter.getParameterKey().trim().toLowerCase(Locale.ROOT), value.trim());
+            }
+        }
+
+        List<String> rejected = new ArrayList<>();
+        String minAppVersion = overrides.getOrDefault(PARAM_MIN_APP_VERSION, config.getMinAppVersion());
+        SemanticVersion minimum = SemanticVersion.parse(minAppVersion);
+        if (minimum == null && minAppVersion != null && !minAppVersion.isBlank()) {
+            rejected.add(PARAM_MIN_APP_VERSION + ": " + minAppVersion);
+        }
+        AvailabilitySchedule schedule = AvailabilitySchedule.parse(
+                overrides.getOrDefault(PARAM_AVAILABILITY_SCHEDULE, config.getAvailabilitySchedule()), defaultZone);
+        schedule.getRejectedEntries().forEach(entry -> rejected.add(PARAM_AVAILABILITY_SCHEDULE + ": " + entry));
+
+        String platformOverride = overrides.get(PARAM_SUPPORTED_PLATFORMS);
+        List<String> configuredPlatforms = platformOverride != null
+                ? PolicyValues.splitList(platformOverride)
+                : config.getSupportedPlatforms() != null ? config.getSupportedPlatforms() : List.of();
+        Set<String> platforms = new LinkedHashSet<>();
+        for (String platform : configuredPlatforms) {
+            platforms.add(platform.trim().toLowerCase(Locale.ROOT));
+        }
+
+        return ChannelPolicy.builder()
+                .configId(config.getId())
+                .tenantId(config.getTenantId())
+                .channelCode(config.getChannelCode())
+                .version(config.getVersion() != null ? config.getVersion() : 0L)
+                .compiledAt(Instant.now())
+                .enabled(PolicyValues.isTrue(config.getEnabled()) && !Boolean.FALSE.equals(config.getActive()))
+                .priority(PolicyValues.intOrDefault(config.getPriority(), Integer.MAX_VALUE))
+                .failoverChannelId(config.getFailoverChannelId())
+                .supportedPlatforms(Collections.unmodifiableSet(platforms))
+                .minAppVersion(minimum)
+                .maxTransactionAmount(decimal(overrides, PARAM_MAX_TRANSACTION_AMOUNT,
+                        config.getMaxTransactionAmount(), rejected))
+                .dailyTransactionLimit(decimal(overrides, PARAM_DAILY_TRANSACTION_LIMIT,
+                        config.getDailyTransactionLimit(), rejected))
+                .monthlyTransactionLimit(decimal(overrides, PARAM_MONTHLY_TRANSACTION_LIMIT,
+                        config.getMonthlyTransactionLimit(), rejected))
+                .geoRestrictionsEnabled(overrides.containsKey(PARAM_GEO_RESTRICTIONS_ENABLED)
+                        ? Boolean.parseBoolean(overrides.get(PARAM_GEO_RESTRICTIONS_ENABLED))
+                        : PolicyValues.isTrue(config.getGeoRestrictionsEnabled()))
+                .allowedCountries(CountryCodeSet.parse(
+                        overrides.getOrDefault(PARAM_ALLOWED_COUNTRIES, config.getAllowedCountries())))
+                .blockedCountries(CountryCodeSet.parse(
+                        overrides.getOrDefault(PARAM_BLOCKED_COUNTRIES, config.getBlockedCountries())))
+                .availabilitySchedule(schedule)
+                .rejectedEntries(Collections.unmodifiableList(rejected))
+                .build();
+    }
+
+    /**
+     * Evaluates a request against this channel. Omitted inputs are not checked.
+     *
+     * @param platform the client platform, e.g. {@code iOS}
+     * @param appVersion the client app version
+     * @param countryCode the ISO 3166-1 alpha-2 country of the request
+     * @param amount the transaction amount
+     * @param now the evaluation instant
+     * @return the reasons the channel cannot serve the request; empty if it can
+     */
+    public Set<ChannelDenialReason> evaluate(String platform, String appVersion, String countryCode,
+                                             BigDecimal amount, Instant now) {
+        EnumSet<ChannelDenialReason> reasons = EnumSet.noneOf(ChannelDenialReason.class);
+        if (!enabled) {
+            reasons.add(ChannelDenialReason.CHANNEL_DISABLED);
+        }
+        if (!availabilitySchedule.isAvailableAt(now)) {
+            reasons.add(ChannelDenialReason.OUTSIDE_AVAILABILITY_SCHEDULE);
+        }
+        if (platform != null && !platform.isBlank() && !supportedPlatforms.isEmpty()
+                && !supportedPlatforms.contains(platform.trim().toLowerCase(Locale.ROOT))) {
+            reasons.add(ChannelDenialReason.PLATFORM_NOT_SUPPORTED);
+        }
+        if (appVersion != null && !appVersion.isBlank() && minAppVersion != null) {
+            SemanticVersion version = SemanticVersion.parse(appVersion);
+            if (version == null || !version.isAtLeast(minAppVersion)) {
+                reasons.add(ChannelDenialReason.UNSUPPORTED_APP_VERSION);
+            }
+        }
+        if (geoRestrictionsEnabled && countryCode != null && !countryCode.isBlank()
+                && (blockedCountries.contains(countryCode)
+                        || (!allowedCountries.isEmpty() && !allowedCountries.contains(countryCode)))) {
+            reasons.add(ChannelDenialReason.COUNTRY_NOT_ALLOWED);
+        }
+        if (amount != null) {
+            if (exceeds(amount, maxTransactionAmount)) {
+                reasons.add(ChannelDenialReason.AMOUNT_EXCEEDS_TRANSACTION_LIMIT);
+            }
+            if (exceeds(amount, dailyTransactionLimit)) {
+                reasons.add(ChannelDenialReason.AMOUNT_EXCEEDS_DAILY_LIMIT);
+            }
+            if (exceeds(amount, monthlyTransactionLimit)) {
+                reasons.add(ChannelDenialReason.AMOUNT_EXCEEDS_MONTHLY_LIMIT);
+            }
+        }
+        return reasons;
+    }
+
+    private static boolean exceeds(BigDecimal amount, BigDecimal limit) {
+        return limit != null && amount.compareTo(limit) > 0;
+    }
+
+    private static BigDecimal decimal(Map<String, String> overrides, String key, BigDecimal fallback,
+                                      List<String> rejected) {
+        String value = overrides.get(key);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            rejected.add(key + ": " + value);
+            return fallback;
+        }
+    }
+}
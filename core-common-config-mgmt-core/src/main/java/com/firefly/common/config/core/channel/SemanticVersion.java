@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.channel;
+
+import java.util.Arrays;
+
+/**
+ * Parsed, comparable application version such as {@code 2.5.0}.
+ *
+ * <p>Parsing is lenient: a leading {@code v}, missing minor/patch components
+ * ({@code 2.5} equals {@code 2.5.0}) and any number of numeric components are
+ * accepted. Pre-release and build suffixes ({@code -beta.1}, {@code +42}) are
+ * ignored, so {@code 2.5.0-beta} satisfies a minimum of {@code 2.5.0}.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class SemanticVersion implements Comparable<SemanticVersion> {
+
+    private final int[] components;
+
+    private SemanticVersion(int[] components) {
+        this.components = components;
+    }
+
+    /**
+     * @param version the version string
+     * @return the parsed version, or null if the string has no numeric components
+     */
+    public static SemanticVersion parse(String version) {
+        if (version == null) {
+            return null;
+        }
+        String value = version.trim();
+        if (value.startsWith("v") || value.startsWith("V")) {
+            value = value.substring(1);
+        }
+        int suffix = indexOfAny(value, '-', '+', ' ');
+        if (suffix >= 0) {
+            value = value.substring(0, suffix);
+        }
+        if (value.isEmpty()) {
+            return null;
+        }
+        String[] parts = value.split("\\.");
+        int[] components = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                components[i] = Integer.parseInt(parts[i]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (components[i] < 0) {
+                return null;
+            }
+        }
+        // Trailing zeros carry no ordering information
+        int length = components.length;
+        while (length > 1 && components[length - 1] == 0) {
+            length--;
+        }
+        return new SemanticVersion(Arrays.copyOf(components, length));
+    }
+
+    /**
+     * @param minimum the minimum version
+     * @return true if this version is greater than or equal to the minimum
+     */
+    public boolean isAtLeast(SemanticVersion minimum) {
+        return compareTo(minimum) >= 0;
+    }
+
+    @Override
+    public int compareTo(SemanticVersion other) {
+        int length = Math.max(components.length, other.components.length);
+        for (int i = 0; i < length; i++) {
+            int left = i < components.length ? components[i] : 0;
+            int right = i < other.components.length ? other.components[i] : 0;
+            if (left != right) {
+                return Integer.compare(left, right);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SemanticVersion other && Arrays.equals(components, other.components);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(components);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.max(3, components.length); i++) {
+            if (i > 0) {
+                sb.append('.');
+            }
+            sb.append(i < components.length ? components[i] : 0);
+        }
+        return sb.toString();
+    }
+
+    private static int indexOfAny(String value, char... chars) {
+        for (int i = 0; i < value.length(); i++) {
+            for (char c : chars) {
+                if (value.charAt(i) == c) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+}
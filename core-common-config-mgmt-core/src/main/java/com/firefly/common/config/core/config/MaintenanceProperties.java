@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for the in-memory maintenance calendar and its web filter.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "firefly.config.maintenance")
+public class MaintenanceProperties {
+
+    /**
+     * Time zone used to interpret tenant maintenance timestamps and daily
+     * channel maintenance windows, which are stored without an offset.
+     */
+    private String zone = "UTC";
+
+    /**
+     * Web filter settings.
+     */
+    private Filter filter = new Filter();
+
+    @Data
+    public static class Filter {
+
+        /**
+         * Whether requests for tenants or channels in maintenance are rejected with 503.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Header carrying the tenant ID.
+         */
+        private String tenantHeader = "X-Tenant-Id";
+
+        /**
+         * Header carrying the channel code.
+         */
+        private String channelHeader = "X-Channel-Code";
+
+        /**
+         * Path prefixes that are never blocked, so maintenance can always be switched off.
+         */
+        private List<String> excludedPaths = new ArrayList<>(List.of(
+                "/api/v1/maintenance",
+                "/api/v1/tenant-settings",
+                "/api/v1/channel-configs",
+                "/actuator"));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for provider usage metering.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "firefly.config.metering")
+public class MeteringProperties {
+
+    /**
+     * How often the usage recorded in memory is written to the database. Each
+     * node enforces the monthly limits against its own usage plus the totals
+     * read back at the last flush, so this also bounds how long usage from
+     * other nodes goes unseen.
+     */
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /**
+     * Upper bound on waiting for the final flush at shutdown.
+     */
+    private Duration shutdownFlushTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Time zone in which billing months start.
+     */
+    private String zone = "UTC";
+}
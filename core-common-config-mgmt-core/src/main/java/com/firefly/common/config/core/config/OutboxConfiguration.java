@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.config;
+
+import com.firefly.common.config.core.outbox.LoggingOutboxEventSink;
+import com.firefly.common.config.core.outbox.OutboxEventSink;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Falls back to the {@link LoggingOutboxEventSink} when the deployment does
+ * not define an {@link OutboxEventSink} bean.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+public class OutboxConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxEventSink.class)
+    public OutboxEventSink loggingOutboxEventSink() {
+        log.warn("No OutboxEventSink configured; relayed configuration change events are only logged");
+        return new LoggingOutboxEventSink();
+    }
+}
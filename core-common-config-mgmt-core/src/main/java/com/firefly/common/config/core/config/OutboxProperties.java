@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the configuration change outbox relay and change feed.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "firefly.config.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether this node runs the relay. Changes are written to the outbox
+     * either way, so nodes that only serve requests can leave it off.
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Maximum number of messages claimed and delivered per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Pause after the outbox has been drained before polling again. Full
+     * batches are followed by the next batch immediately.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Upper bound of the exponential backoff after a failed delivery or
+     * database error; the backoff starts at the poll interval.
+     */
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    /**
+     * Failed deliveries after which a message is dead-lettered: it is kept
+     * for inspection but no longer retried, and the rest of its partition
+     * moves on.
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * How long published messages are kept before they are purged.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * How often published messages older than the retention are purged.
+     */
+    private Duration cleanupInterval = Duration.ofHours(1);
+
+    /**
+     * Whether this node follows the outbox to apply changes written by other
+     * nodes to its in-memory views. Only single-node deployments can turn it
+     * off.
+     */
+    private boolean feedEnabled = true;
+
+    /**
+     * Pause between change feed polls once it has caught up. Bounds how long
+     * other nodes serve the previous configuration after a change.
+     */
+    private Duration feedPollInterval = Duration.ofSeconds(1);
+}
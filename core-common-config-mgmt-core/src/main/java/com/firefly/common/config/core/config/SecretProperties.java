@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for resolving vault credential references.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "firefly.config.secrets")
+public class SecretProperties {
+
+    /**
+     * How long decrypted material is kept before it is zeroed and evicted.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * Fraction of the TTL after which a read also refreshes the credential in
+     * the background, so frequently used secrets never expire on the request
+     * path. 1 disables refresh-ahead.
+     */
+    private double refreshAheadRatio = 0.8;
+
+    /**
+     * Maximum number of credential IDs per vault call.
+     */
+    private int maxBatchSize = 100;
+
+    /**
+     * Properties file of {@code credentialId=value} lines loaded into the
+     * local stand-in vault client when no {@code VaultClient} bean is defined.
+     */
+    private String localFile;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for the tenant context web filter.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "firefly.config.tenant-context")
+public class TenantContextProperties {
+
+    /**
+     * Whether the tenant header is resolved for every request.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Header carrying the tenant code or ID.
+     */
+    private String header = "X-Tenant-Code";
+
+    /**
+     * Whether a header naming no known tenant is rejected with 400.
+     */
+    private boolean rejectUnknown = true;
+
+    /**
+     * Whether requests for inactive tenants are rejected with 403.
+     */
+    private boolean rejectInactive = false;
+
+    /**
+     * Path prefixes for which the header is ignored.
+     */
+    private List<String> excludedPaths = new ArrayList<>(List.of("/actuator"));
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.config;
+
+import com.firefly.common.config.core.support.HashedTimerWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Provides the shared timer wheel used to flip in-memory configuration state
+ * (maintenance windows, effective dates) exactly at its transition instants.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Configuration
+public class TimerWheelConfiguration {
+
+    @Bean(destroyMethod = "stop")
+    public HashedTimerWheel configTimerWheel(
+            @Value("${firefly.config.timer-wheel.tick:100ms}") Duration tick,
+            @Value("${firefly.config.timer-wheel.size:512}") int size) {
+        return new HashedTimerWheel("config-timer-wheel", tick, size);
+    }
+}
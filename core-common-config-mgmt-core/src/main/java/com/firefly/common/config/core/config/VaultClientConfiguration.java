@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.config;
+
+import com.firefly.common.config.core.secret.InMemoryVaultClient;
+import com.firefly.common.config.core.secret.VaultClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Falls back to the local {@link InMemoryVaultClient} when the deployment does
+ * not define a {@link VaultClient} bean.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+public class VaultClientConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(VaultClient.class)
+    public VaultClient localVaultClient(SecretProperties properties) throws IOException {
+        if (properties.getLocalFile() == null || properties.getLocalFile().isBlank()) {
+            log.warn("No VaultClient configured; credential references resolve against an empty local vault");
+            return new InMemoryVaultClient();
+        }
+        InMemoryVaultClient client = InMemoryVaultClient.load(Path.of(properties.getLocalFile()));
+        log.warn("No VaultClient configured; using {} credentials from local file {}",
+                client.size(), properties.getLocalFile());
+        return client;
+    }
+}
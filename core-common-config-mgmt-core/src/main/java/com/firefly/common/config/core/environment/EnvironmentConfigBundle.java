@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.environment;
+
+import com.firefly.common.config.models.entities.EnvironmentConfig;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Fully resolved, immutable key/value configuration of one tenant environment.
+ *
+ * <p>Rows are layered from lowest to highest precedence as described by
+ * {@link Layer}; for each key the row from the highest layer wins. Secret
+ * rows contribute their {@code credential_vault_id} to
+ * {@link #getSecretReferences()} rather than a value. The content hash covers
+ * values and secret references, so two bundles with the same hash are
+ * interchangeable.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Value
+public class EnvironmentConfigBundle {
+
+    /**
+     * Environment name whose rows apply to every environment.
+     */
+    public static final String DEFAULT_ENVIRONMENT = "default";
+
+    /**
+     * Configuration layers, lowest precedence first.
+     */
+    public enum Layer {
+        GLOBAL_DEFAULT,
+        GLOBAL_ENVIRONMENT,
+        TENANT_DEFAULT,
+        TENANT_ENVIRONMENT
+    }
+
+    UUID tenantId;
+    String environmentName;
+    Map<String, String> values;
+    Map<String, String> secretReferences;
+    Map<String, Layer> sources;
+    String contentHash;
+    Instant materializedAt;
+
+    /**
+     * Resolves candidate rows into a bundle. Rows that belong to another tenant
+     * or environment, and inactive rows, are ignored.
+     *
+     * @param tenantId the tenant ID
+     * @param environmentName the environment name
+     * @param rows candidate rows in any order
+     * @return the materialized bundle
+     */
+    public static EnvironmentConfigBundle materialize(UUID tenantId, String environmentName,
+                                                      Collection<EnvironmentConfig> rows) {
+        Map<String, EnvironmentConfig> winners = new TreeMap<>();
+        Map<String, Layer> sources = new TreeMap<>();
+        for (EnvironmentConfig row : rows) {
+            Layer layer = layerOf(row, tenantId, environmentName);
+            if (layer == null || Boolean.FALSE.equals(row.getActive()) || row.getConfigKey() == null) {
+                continue;
+            }
+            Layer current = sources.get(row.getConfigKey());
+            if (current == null || layer.compareTo(current) > 0) {
+                winners.put(row.getConfigKey(), row);
+                sources.put(row.getConfigKey(), layer);
+            }
+        }
+
+        Map<String, String> values = new TreeMap<>();
+        Map<String, String> secretReferences = new TreeMap<>();
+        winners.forEach((key, row) -> {
+            if (Boolean.TRUE.equals(row.getIsSecret())) {
+                if (row.getCredentialVaultId() != null) {
+                    secretReferences.put(key, row.getCredentialVaultId());
+                }
+            } else if (row.getConfigValue() != null) {
+                values.put(key, row.getConfigValue());
+            }
+        });
+        sources.keySet().retainAll(winners.keySet());
+
+        return new EnvironmentConfigBundle(
+                tenantId,
+                environmentName,
+                Collections.unmodifiableMap(values),
+                Collections.unmodifiableMap(secretReferences),
+                Collections.unmodifiableMap(sources),
+                hash(values, secretReferences),
+                Instant.now());
+    }
+
+    /**
+     * @param tenantId the tenant a change belongs to, or null for a global change
+     * @return true if a change to that tenant's rows can affect this bundle
+     */
+    public boolean dependsOn(UUID tenantId) {
+        return tenantId == null || tenantId.equals(this.tenantId);
+    }
+
+    private static Layer layerOf(EnvironmentConfig row, UUID tenantId, String environmentName) {
+        String rowEnvironment = row.getEnvironmentName() != null
+                ? row.getEnvironmentName().toLowerCase(Locale.ROOT) : null;
+        boolean isDefault = DEFAULT_ENVIRONMENT.equals(rowEnvironment);
+        boolean isEnvironment = environmentName.toLowerCase(Locale.ROOT).equals(rowEnvironment);
+        if (!isDefault && !isEnvironment) {
+            return null;
+        }
+        if (row.getTenantId() == null) {
+            return isEnvironment ? Layer.GLOBAL_ENVIRONMENT : Layer.GLOBAL_DEFAULT;
+        }
+        if (row.getTenantId().equals(tenantId)) {
+            return isEnvironment ? Layer.TENANT_ENVIRONMENT : Layer.TENANT_DEFAULT;
+        }
+        return null;
+    }
+
+    private static String hash(Map<String, String> values, Map<String, String> secretReferences) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        update(digest, 'v', values);
+        update(digest, 's', secretReferences);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, char kind, Map<String, String> entries) {
+        // Length-prefixed fields keep "a=bc" and "ab=c" apart
+        entries.forEach((key, value) -> {
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+            digest.update((byte) kind);
+            digest.update(intBytes(keyBytes.length));
+            digest.update(keyBytes);
+            digest.update(intBytes(valueBytes.length));
+            digest.update(valueBytes);
+        });
+    }
+
+    private static byte[] intBytes(int value) {
+        return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+}
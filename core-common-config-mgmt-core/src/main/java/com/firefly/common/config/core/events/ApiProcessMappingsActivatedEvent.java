@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.events;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * In-process notification that
+ * {@link com.firefly.common.config.core.routing.ApiProcessMappingIndex} swapped
+ * in a new generation, either after a reload or at an effective-date
+ * boundary. Resolutions cached from an earlier generation are stale.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Value
+public class ApiProcessMappingsActivatedEvent {
+
+    Instant activatedAt;
+
+    /**
+     * Next effective-date boundary, or null if none is known.
+     */
+    Instant validUntil;
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.events;
+
+import lombok.Value;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-process notification that a configuration entity was written.
+ *
+ * <p>Services publish this through Spring's {@code ApplicationEventPublisher}
+ * once a save or delete has committed, so that compiled, in-memory views of
+ * the configuration can rebuild the affected entries without polling the
+ * database. The same change is recorded in the {@code config_outbox} table by
+ * {@link com.firefly.common.config.core.outbox.ChangeEventOutbox} for delivery
+ * to other services.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Value
+public class ConfigurationChangedEvent {
+
+    /**
+     * Kind of write that produced the event.
+     */
+    public enum Action {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * Entity simple name, e.g. {@code "TenantSettings"}.
+     */
+    String entityType;
+
+    UUID entityId;
+
+    /**
+     * Owning tenant, or null for global entities.
+     */
+    UUID tenantId;
+
+    Action action;
+
+    /**
+     * Entity properties changed by a partial update; empty when the whole
+     * entity was written, created or deleted.
+     */
+    Set<String> changedFields;
+
+    public static ConfigurationChangedEvent created(String entityType, UUID entityId, UUID tenantId) {
+        return new ConfigurationChangedEvent(entityType, entityId, tenantId, Action.CREATED, Set.of());
+    }
+
+    public static ConfigurationChangedEvent updated(String entityType, UUID entityId, UUID tenantId) {
+        return new ConfigurationChangedEvent(entityType, entityId, tenantId, Action.UPDATED, Set.of());
+    }
+
+    public static ConfigurationChangedEvent updated(String entityType, UUID entityId, UUID tenantId,
+                                                    Set<String> changedFields) {
+        return new ConfigurationChangedEvent(entityType, entityId, tenantId, Action.UPDATED, Set.copyOf(changedFields));
+    }
+
+    public static ConfigurationChangedEvent deleted(String entityType, UUID entityId, UUID tenantId) {
+        return new ConfigurationChangedEvent(entityType, entityId, tenantId, Action.DELETED, Set.of());
+    }
+
+    /**
+     * @param type the entity class
+     * @return true if this event concerns the given entity type
+     */
+    public boolean isFor(Class<?> type) {
+        return type.getSimpleName().equals(entityType);
+    }
+}
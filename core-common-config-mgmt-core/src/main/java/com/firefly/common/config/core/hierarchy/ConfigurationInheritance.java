@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.hierarchy;
+
+import com.firefly.common.config.models.entities.TenantSettings;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Resolves inherited configuration along a tenant lineage: the tenant's own
+ * value wins over its parent's, the parent's over the grandparent's, and any
+ * tenant's over a global (tenant-less) value.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class ConfigurationInheritance {
+
+    /**
+     * Identity, lifecycle and audit properties of a settings row, which
+     * describe the row rather than the configuration and are never inherited.
+     */
+    private static final Set<String> NOT_INHERITED =
+            Set.of("class", "id", "tenantId", "active", "version", "createdAt", "updatedAt");
+
+    private static final List<String> INHERITED_SETTINGS = inheritedProperties(TenantSettings.class);
+
+    private ConfigurationInheritance() {
+    }
+
+    /**
+     * Merges settings rows column by column: each nullable setting takes the
+     * first non-null value along the lineage.
+     *
+     * @param lineage the tenant followed by its ancestors, nearest first
+     * @param rows the settings rows of tenants in the lineage, in any order
+     * @return the effective settings of the first tenant of the lineage, or null if no tenant has settings
+     */
+    public static TenantSettings inheritSettings(List<UUID> lineage, Collection<TenantSettings> rows) {
+        Map<UUID, TenantSettings> byTenant = new HashMap<>();
+        for (TenantSettings row : rows) {
+            byTenant.putIfAbsent(row.getTenantId(), row);
+        }
+        List<BeanWrapper> ordered = new ArrayList<>(lineage.size());
+        for (UUID tenantId : lineage) {
+            TenantSettings row = byTenant.get(tenantId);
+            if (row != null) {
+                ordered.add(PropertyAccessorFactory.forBeanPropertyAccess(row));
+            }
+        }
+        if (ordered.isEmpty()) {
+            return null;
+        }
+
+        TenantSettings own = byTenant.get(lineage.get(0));
+        TenantSettings effective = TenantSettings.builder()
+                .id(own != null ? own.getId() : null)
+                .tenantId(lineage.get(0))
+                .active(true)
+                .version(own != null ? own.getVersion() : null)
+                .createdAt(own != null ? own.getCreatedAt() : null)
+                .updatedAt(own != null ? own.getUpdatedAt() : null)
+                .build();
+        BeanWrapper target = PropertyAccessorFactory.forBeanPropertyAccess(effective);
+        for (String property : INHERITED_SETTINGS) {
+            for (BeanWrapper source : ordered) {
+                Object value = source.getPropertyValue(property);
+                if (value != null) {
+                    target.setPropertyValue(property, value);
+                    break;
+                }
+            }
+        }
+        return effective;
+    }
+
+    /**
+     * Picks, for every key, the row owned by the nearest tenant of the
+     * lineage, falling back to a global row (null owner).
+     *
+     * @param lineage the tenant followed by its ancestors, nearest first
+     * @param rows candidate rows of tenants in the lineage and global rows
+     * @param ownerOf the owning tenant of a row, null for global rows
+     * @param keyOf what a row configures, e.g. a feature key
+     * @return one row per key, in first-seen key order
+     */
+    public static <T> List<T> resolveByKey(List<UUID> lineage, Collection<T> rows,
+                                           Function<T, UUID> ownerOf, Function<T, ?> keyOf) {
+        Map<UUID, Integer> rank = new HashMap<>(lineage.size() * 2);
+        for (int i = 0; i < lineage.size(); i++) {
+            rank.putIfAbsent(lineage.get(i), i);
+        }
+        int globalRank = lineage.size();
+
+        Map<Object, T> winners = new LinkedHashMap<>();
+        Map<Object, Integer> winnerRanks = new HashMap<>();
+        for (T row : rows) {
+            UUID owner = ownerOf.apply(row);
+            Integer rowRank = owner == null ? Integer.valueOf(globalRank) : rank.get(owner);
+            if (rowRank == null) {
+                continue;
+            }
+            Object key = keyOf.apply(row);
+            Integer current = winnerRanks.get(key);
+            if (current == null || rowRank < current) {
+                winners.put(key, row);
+                winnerRanks.put(key, rowRank);
+            }
+        }
+        return new ArrayList<>(winners.values());
+    }
+
+    private static List<String> inheritedProperties(Class<?> type) {
+        List<String> properties = new ArrayList<>();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+            if (!NOT_INHERITED.contains(descriptor.getName())
+                    && descriptor.getReadMethod() != null && descriptor.getWriteMethod() != null) {
+                properties.add(descriptor.getName());
+            }
+        }
+        return List.copyOf(properties);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.hierarchy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable in-memory view of the tenant hierarchy built from
+ * {@code tenants.parent_tenant_id}.
+ *
+ * <p>Every node points at its parent, so walking the lineage of a tenant is
+ * O(depth) and needs no recursive SQL; descendants are collected from child
+ * lists in time proportional to the subtree. Parent links that would close a
+ * cycle are ignored (the tenant is treated as a root) and reported by
+ * {@link #getBrokenLinks()}. Tenants the tree does not know are treated as
+ * roots without children.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class TenantTree {
+
+    private static final TenantTree EMPTY = new TenantTree(Map.of(), List.of());
+
+    private final Map<UUID, Node> nodes;
+    private final List<UUID> brokenLinks;
+
+    private TenantTree(Map<UUID, Node> nodes, List<UUID> brokenLinks) {
+        this.nodes = nodes;
+        this.brokenLinks = brokenLinks;
+    }
+
+    /**
+     * @return a tree without tenants
+     */
+    public static TenantTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a tree from parent links.
+     *
+     * @param parentLinks parent ID by tenant ID; a null value or an unknown parent makes the tenant a root
+     * @return the tree
+     */
+    public static TenantTree build(Map<UUID, UUID> parentLinks) {
+        Map<UUID, UUID> links = new HashMap<>(parentLinks);
+        links.replaceAll((id, parent) -> parent != null && links.containsKey(parent) ? parent : null);
+        List<UUID> broken = breakCycles(links);
+
+        Map<UUID, List<UUID>> childIds = new HashMap<>();
+        List<UUID> roots = new ArrayList<>();
+        for (Map.Entry<UUID, UUID> link : links.entrySet()) {
+            if (link.getValue() == null) {
+                roots.add(link.getKey());
+            } else {
+                childIds.computeIfAbsent(link.getValue(), parent -> new ArrayList<>()).add(link.getKey());
+            }
+        }
+
+        // Breadth-first from the roots so every parent node exists before its children
+        Map<UUID, Node> nodes = new HashMap<>(links.size() * 2);
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        for (UUID root : roots) {
+            Node node = new Node(root, null);
+            nodes.put(root, node);
+            queue.add(node);
+        }
+        while (!queue.isEmpty()) {
+            Node parent = queue.poll();
+            for (UUID childId : childIds.getOrDefault(parent.id, List.of())) {
+                Node child = new Node(childId, parent);
+                parent.children.add(child);
+                nodes.put(childId, child);
+                queue.add(child);
+            }
+        }
+        return new TenantTree(Collections.unmodifiableMap(nodes), List.copyOf(broken));
+    }
+
+    /**
+     * Cuts one link of every cycle. Each tenant has at most one parent, so a
+     * walk up from any tenant either ends at a root, joins a finished walk,
+     * or returns to a tenant of the current walk, which closes a cycle.
+     */
+    private static List<UUID> breakCycles(Map<UUID, UUID> links) {
+        Map<UUID, Boolean> finished = new HashMap<>(links.size() * 2);
+        List<UUID> broken = new ArrayList<>();
+        for (UUID start : links.keySet()) {
+            List<UUID> walk = new ArrayList<>();
+            UUID current = start;
+            while (current != null && !finished.containsKey(current)) {
+                finished.put(current, Boolean.FALSE);
+                walk.add(current);
+                current = links.get(current);
+            }
+            if (current != null && Boolean.FALSE.equals(finished.get(current))) {
+                links.put(current, null);
+                broken.add(current);
+            }
+            for (UUID visited : walk) {
+                finished.put(visited, Boolean.TRUE);
+            }
+        }
+        return broken;
+    }
+
+    /**
+     * @param tenantId the tenant ID
+     * @return true if the tenant is part of the tree
+     */
+    public boolean contains(UUID tenantId) {
+        return nodes.containsKey(tenantId);
+    }
+
+    /**
+     * @return the number of tenants
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * @param tenantId the tenant ID
+     * @return the parent ID, or null for roots and unknown tenants
+     */
+    public UUID parentOf(UUID tenantId) {
+        Node node = nodes.get(tenantId);
+        return node != null && node.parent != null ? node.parent.id : null;
+    }
+
+    /**
+     * @param tenantId the tenant ID
+     * @return the number of ancestors (0 for roots and unknown tenants)
+     */
+    public int depthOf(UUID tenantId) {
+        Node node = nodes.get(tenantId);
+        return node != null ? node.depth : 0;
+    }
+
+    /**
+     * The tenant followed by its ancestors, nearest first: the order in which
+     * inherited configuration is resolved.
+     *
+     * @param tenantId the tenant ID
+     * @return the lineage, starting with the tenant itself
+     */
+    public List<UUID> lineageOf(UUID tenantId) {
+        Node node = nodes.get(tenantId);
+        if (node == null) {
+            return List.of(tenantId);
+        }
+        List<UUID> lineage = new ArrayList<>(node.depth + 1);
+        for (Node current = node; current != null; current = current.parent) {
+            lineage.add(current.id);
+        }
+        return Collections.unmodifiableList(lineage);
+    }
+
+    /**
+     * @param tenantId the tenant ID
+     * @return the ancestors, nearest first
+     */
+    public List<UUID> ancestorsOf(UUID tenantId) {
+        List<UUID> lineage = lineageOf(tenantId);
+        return lineage.subList(1, lineage.size());
+    }
+
+    /**
+     * @param tenantId the tenant ID
+     * @return the direct children
+     */
+    public List<UUID> childrenOf(UUID tenantId) {
+        Node node = nodes.get(tenantId);
+        if (node == null) {
+            return List.of();
+        }
+        List<UUID> children = new ArrayList<>(node.children.size());
+        for (Node child : node.children) {
+            children.add(child.id);
+        }
+        return Collections.unmodifiableList(children);
+    }
+
+    /**
+     * @param tenantId the tenant ID
+     * @return all descendants in breadth-first order, excluding the tenant itself
+     */
+    public List<UUID> descendantsOf(UUID tenantId) {
+        Node node = nodes.get(tenantId);
+        if (node == null) {
+            return List.of();
+        }
+        List<UUID> descendants = new ArrayList<>();
+        ArrayDeque<Node> queue = new ArrayDeque<>(node.children);
+        while (!queue.isEmpty()) {
+            Node current = queue.poll();
+            descendants.add(current.id);
+            queue.addAll(current.children);
+        }
+        return Collections.unmodifiableList(descendants);
+    }
+
+    /**
+     * @return tenants whose parent link was ignored because it closed a cycle
+     */
+    public List<UUID> getBrokenLinks() {
+        return brokenLinks;
+    }
+
+    private static final class Node {
+
+        private final UUID id;
+        private final Node parent;
+        private final int depth;
+        private final List<Node> children = new ArrayList<>(0);
+
+        private Node(UUID id, Node parent) {
+            this.id = id;
+            this.parent = parent;
+            this.depth = parent != null ? parent.depth + 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.index;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bidirectional code-to-ID index of one entity type.
+ *
+ * <p>Lookups in either direction are lock-free hash reads. Writes are
+ * serialized so that the two maps never disagree for longer than one
+ * write, and a renamed code is dropped together with its old entry.
+ * {@link #replaceAll(Collection)} upserts the new entries before removing
+ * stale ones, so a reload never exposes an empty index.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class CodeIndex {
+
+    private final Map<UUID, IndexedCode> byId = new ConcurrentHashMap<>();
+    private final Map<String, IndexedCode> byCode = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    /**
+     * @param code the business code
+     * @return the entry, or null if the code is not indexed
+     */
+    public IndexedCode findByCode(String code) {
+        return code != null ? byCode.get(code) : null;
+    }
+
+    /**
+     * @param id the entity ID
+     * @return the entry, or null if the ID is not indexed
+     */
+    public IndexedCode findById(UUID id) {
+        return id != null ? byId.get(id) : null;
+    }
+
+    /**
+     * @param code the business code
+     * @return the entity ID, or null if the code is not indexed
+     */
+    public UUID idOf(String code) {
+        IndexedCode entry = findByCode(code);
+        return entry != null ? entry.getId() : null;
+    }
+
+    /**
+     * @param id the entity ID
+     * @return the business code, or null if the ID is not indexed
+     */
+    public String codeOf(UUID id) {
+        IndexedCode entry = findById(id);
+        return entry != null ? entry.getCode() : null;
+    }
+
+    /**
+     * Adds or replaces the entry of an entity.
+     *
+     * @param entry the entry
+     */
+    public synchronized void put(IndexedCode entry) {
+        IndexedCode previous = byId.put(entry.getId(), entry);
+        if (previous != null && previous.getCode() != null && !previous.getCode().equals(entry.getCode())) {
+            byCode.remove(previous.getCode(), previous);
+        }
+        if (entry.getCode() != null) {
+            byCode.put(entry.getCode(), entry);
+        }
+    }
+
+    /**
+     * Removes the entry of an entity.
+     *
+     * @param id the entity ID
+     */
+    public synchronized void remove(UUID id) {
+        IndexedCode previous = byId.remove(id);
+        if (previous != null && previous.getCode() != null) {
+            byCode.remove(previous.getCode(), previous);
+        }
+    }
+
+    /**
+     * Replaces the whole index with a freshly loaded set of entries and
+     * marks it as loaded.
+     *
+     * @param entries every entity of the type
+     */
+    public synchronized void replaceAll(Collection<IndexedCode> entries) {
+        Set<UUID> current = new HashSet<>(entries.size() * 2);
+        for (IndexedCode entry : entries) {
+            put(entry);
+            current.add(entry.getId());
+        }
+        for (UUID id : Set.copyOf(byId.keySet())) {
+            if (!current.contains(id)) {
+                remove(id);
+            }
+        }
+        loaded = true;
+    }
+
+    /**
+     * @return true once the index was filled from the database
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+}
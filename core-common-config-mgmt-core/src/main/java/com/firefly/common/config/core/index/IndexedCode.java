@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.index;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * An entity's ID, business code and the few attributes needed to route a
+ * request without reading the full row.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Value
+public class IndexedCode {
+
+    UUID id;
+    String code;
+    boolean active;
+
+    /**
+     * Status of a tenant or provider; null for lookup entities.
+     */
+    UUID statusId;
+
+    /**
+     * Type of a provider; null for other entities.
+     */
+    UUID typeId;
+
+    public static IndexedCode of(UUID id, String code, Boolean active) {
+        return new IndexedCode(id, code, active == null || active, null, null);
+    }
+
+    public static IndexedCode of(UUID id, String code, Boolean active, UUID statusId, UUID typeId) {
+        return new IndexedCode(id, code, active == null || active, statusId, typeId);
+    }
+}
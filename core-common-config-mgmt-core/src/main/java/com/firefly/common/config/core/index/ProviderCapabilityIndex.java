@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.index;
+
+import com.firefly.common.config.core.policy.PolicyValues;
+import com.firefly.common.config.interfaces.dtos.ProviderSearchDTO;
+import com.firefly.common.config.models.projections.ProviderCapabilities;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable bitmap index of provider capabilities.
+ *
+ * <p>Every provider gets a slot (in code order) and every country, currency,
+ * language, certification, category, type, status and capability flag gets
+ * a {@link BitSet} of the providers that have it, parsed once from the
+ * free-text list columns. Certifications are names that may contain spaces
+ * ({@code "PCI DSS"}), so their list is split on commas and semicolons only.
+ * A search is then the intersection of one bitset per criterion, independent
+ * of how the columns are written. The index is rebuilt whole when a provider
+ * changes; providers are few and rarely written.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class ProviderCapabilityIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final ProviderCapabilityIndex EMPTY = build(List.of());
+
+    private final UUID[] slots;
+    private final BitSet all;
+    private final Map<UUID, BitSet> types = new HashMap<>();
+    private final Map<UUID, BitSet> statuses = new HashMap<>();
+    private final Map<String, BitSet> categories = new HashMap<>();
+    private final Map<String, BitSet> countries = new HashMap<>();
+    private final Map<String, BitSet> currencies = new HashMap<>();
+    private final Map<String, BitSet> languages = new HashMap<>();
+    private final Map<String, BitSet> certifications = new HashMap<>();
+    private final BitSet active = new BitSet();
+    private final BitSet sandbox = new BitSet();
+    private final BitSet webhook = new BitSet();
+    private final BitSet batchProcessing = new BitSet();
+    private final BitSet realTimeProcessing = new BitSet();
+
+    private ProviderCapabilityIndex(List<? extends ProviderCapabilities> providers) {
+        this.slots = new UUID[providers.size()];
+        this.all = new BitSet(providers.size());
+        all.set(0, providers.size());
+        for (int slot = 0; slot < providers.size(); slot++) {
+            ProviderCapabilities provider = providers.get(slot);
+            slots[slot] = provider.getId();
+            mark(types, provider.getProviderTypeId(), slot);
+            mark(statuses, provider.getProviderStatusId(), slot);
+            mark(categories, normalize(provider.getProviderCategory()), slot);
+            markAll(countries, provider.getSupportedCountries(), slot);
+            markAll(currencies, provider.getSupportedCurrencies(), slot);
+            markAll(languages, provider.getSupportedLanguages(), slot);
+            for (String certification : PolicyValues.splitNames(provider.getComplianceCertifications())) {
+                mark(certifications, normalize(certification), slot);
+            }
+            mark(certifications, normalize(provider.getCertificationLevel()), slot);
+            // Rows without an active flag are active, like everywhere else
+            active.set(slot, provider.getActive() == null || provider.getActive());
+            sandbox.set(slot, PolicyValues.isTrue(provider.getSupportsSandbox()));
+            webhook.set(slot, PolicyValues.isTrue(provider.getWebhookSupport()));
+            batchProcessing.set(slot, PolicyValues.isTrue(provider.getBatchProcessingSupport()));
+            realTimeProcessing.set(slot, PolicyValues.isTrue(provider.getRealTimeProcessingSupport()));
+        }
+    }
+
+    /**
+     * @return an index without providers
+     */
+    public static ProviderCapabilityIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds an index.
+     *
+     * @param providers the capabilities of every provider
+     * @return the index
+     */
+    public static ProviderCapabilityIndex build(Collection<? extends ProviderCapabilities> providers) {
+        List<ProviderCapabilities> ordered = new ArrayList<>(providers);
+        ordered.sort(Comparator.comparing(ProviderCapabilities::getCode, Comparator.nullsLast(Comparator.naturalOrder())));
+        return new ProviderCapabilityIndex(ordered);
+    }
+
+    /**
+     * Finds the providers matching every criterion that is set.
+     *
+     * @param criteria the search criteria
+     * @return the matching provider IDs in code order
+     */
+    public List<UUID> search(ProviderSearchDTO criteria) {
+        BitSet result = (BitSet) all.clone();
+        restrict(result, types, criteria.getProviderTypeId());
+        restrict(result, statuses, criteria.getProviderStatusId());
+        if (criteria.getProviderCategory() != null) {
+            restrict(result, categories, normalize(criteria.getProviderCategory()));
+        }
+        restrictAll(result, countries, criteria.getCountries());
+        restrictAll(result, currencies, criteria.getCurrencies());
+        restrictAll(result, languages, criteria.getLanguages());
+        restrictAll(result, certifications, criteria.getCertifications());
+        require(result, active, criteria.getActive());
+        require(result, sandbox, criteria.getSupportsSandbox());
+        require(result, webhook, criteria.getWebhookSupport());
+        require(result, batchProcessing, criteria.getBatchProcessingSupport());
+        require(result, realTimeProcessing, criteria.getRealTimeProcessingSupport());
+
+        List<UUID> ids = new ArrayList<>(result.cardinality());
+        for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+            ids.add(slots[slot]);
+        }
+        return ids;
+    }
+
+    public int size() {
+        return slots.length;
+    }
+
+    private static <K> void restrict(BitSet result, Map<K, BitSet> index, K key) {
+        if (key == null) {
+            return;
+        }
+        BitSet matching = index.get(key);
+        if (matching == null) {
+            result.clear();
+        } else {
+            result.and(matching);
+        }
+    }
+
+    private static void restrictAll(BitSet result, Map<String, BitSet> index, List<String> values) {
+        if (values == null) {
+            return;
+        }
+        for (String value : values) {
+            String key = normalize(value);
+            if (key != null) {
+                restrict(result, index, key);
+            }
+        }
+    }
+
+    private static void require(BitSet result, BitSet flag, Boolean required) {
+        if (required == null) {
+            return;
+        }
+        if (required) {
+            result.and(flag);
+        } else {
+            result.andNot(flag);
+        }
+    }
+
+    private static <K> void mark(Map<K, BitSet> index, K key, int slot) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new BitSet()).set(slot);
+        }
+    }
+
+    private static void markAll(Map<String, BitSet> index, String rawList, int slot) {
+        for (String entry : PolicyValues.splitList(rawList)) {
+            mark(index, normalize(entry), slot);
+        }
+    }
+
+    /**
+     * Codes and names are matched case-insensitively and regardless of
+     * spacing, as the list columns are free text.
+     */
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return WHITESPACE.matcher(value.trim()).replaceAll(" ").toUpperCase(Locale.ROOT);
+    }
+}
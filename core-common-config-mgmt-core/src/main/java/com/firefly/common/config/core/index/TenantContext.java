@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.index;
+
+import lombok.Value;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * The tenant a request was made for, resolved once at the edge from the
+ * tenant header.
+ *
+ * <p>The tenant context web filter stores it both as an exchange attribute
+ * and in the Reactor context, so handlers and services can read it without
+ * another lookup.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Value
+public class TenantContext {
+
+    /**
+     * Exchange attribute holding the resolved context.
+     */
+    public static final String ATTRIBUTE = TenantContext.class.getName();
+
+    UUID tenantId;
+    String code;
+    boolean active;
+    UUID statusId;
+
+    /**
+     * Code of the tenant status, or null if the tenant has no status.
+     */
+    String statusCode;
+
+    /**
+     * @return Mono of the tenant of the current request, empty outside a tenant request
+     */
+    public static Mono<TenantContext> current() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(context.getOrEmpty(TenantContext.class)));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.maintenance;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Daily recurring maintenance window such as a channel's
+ * {@code maintenance_window_start}/{@code maintenance_window_end}.
+ *
+ * <p>The window is {@code [start, end)} in local time and may wrap past
+ * midnight (e.g. 23:00-02:00). Transitions are computed in the configured
+ * zone, so DST shifts are honoured.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class DailyMaintenanceWindow implements MaintenanceRule {
+
+    private final LocalTime start;
+    private final LocalTime end;
+    private final ZoneId zone;
+
+    public DailyMaintenanceWindow(LocalTime start, LocalTime end, ZoneId zone) {
+        if (start == null || end == null || start.equals(end)) {
+            throw new IllegalArgumentException("Maintenance window needs distinct start and end times");
+        }
+        this.start = start;
+        this.end = end;
+        this.zone = zone;
+    }
+
+    /**
+     * @param start the window start (may be null)
+     * @param end the window end (may be null)
+     * @return true if the two times describe a usable window
+     */
+    public static boolean isDefined(LocalTime start, LocalTime end) {
+        return start != null && end != null && !start.equals(end);
+    }
+
+    @Override
+    public boolean isActiveAt(Instant instant) {
+        LocalTime time = instant.atZone(zone).toLocalTime();
+        if (start.isBefore(end)) {
+            return !time.isBefore(start) && time.isBefore(end);
+        }
+        return !time.isBefore(start) || time.isBefore(end);
+    }
+
+    @Override
+    public Instant nextTransitionAfter(Instant instant) {
+        LocalDate today = instant.atZone(zone).toLocalDate();
+        Instant next = null;
+        for (int day = 0; day <= 1; day++) {
+            LocalDate date = today.plusDays(day);
+            next = earliestAfter(instant, next, ZonedDateTime.of(date, start, zone).toInstant());
+            next = earliestAfter(instant, next, ZonedDateTime.of(date, end, zone).toInstant());
+        }
+        return next;
+    }
+
+    private static Instant earliestAfter(Instant reference, Instant current, Instant candidate) {
+        if (!candidate.isAfter(reference)) {
+            return current;
+        }
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+}
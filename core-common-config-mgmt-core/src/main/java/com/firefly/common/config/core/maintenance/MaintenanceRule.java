@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.maintenance;
+
+import java.time.Instant;
+
+/**
+ * A compiled maintenance schedule that can say whether it is active at an
+ * instant and when its state next changes.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface MaintenanceRule {
+
+    /**
+     * @param instant the instant to evaluate
+     * @return true if maintenance is in effect at the instant
+     */
+    boolean isActiveAt(Instant instant);
+
+    /**
+     * @param instant the reference instant
+     * @return the first instant strictly after the reference at which the
+     *         state flips, or null if it never changes again
+     */
+    Instant nextTransitionAfter(Instant instant);
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.maintenance;
+
+import com.firefly.common.config.models.entities.TenantSettings;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Maintenance rule for a tenant: the {@code maintenance_mode_enabled} switch
+ * arms an optional {@code [maintenance_start_time, maintenance_end_time)}
+ * window. With the switch on and no window, the tenant is in maintenance
+ * until the switch is turned off.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class TenantMaintenanceRule implements MaintenanceRule {
+
+    private final boolean enabled;
+    private final Instant start;
+    private final Instant end;
+
+    private TenantMaintenanceRule(boolean enabled, Instant start, Instant end) {
+        this.enabled = enabled;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * @param settings the tenant settings
+     * @param zone the zone the stored timestamps are expressed in
+     * @return the compiled rule
+     */
+    public static TenantMaintenanceRule of(TenantSettings settings, ZoneId zone) {
+        return new TenantMaintenanceRule(
+                Boolean.TRUE.equals(settings.getMaintenanceModeEnabled()),
+                settings.getMaintenanceStartTime() != null
+                        ? settings.getMaintenanceStartTime().atZone(zone).toInstant() : null,
+                settings.getMaintenanceEndTime() != null
+                        ? settings.getMaintenanceEndTime().atZone(zone).toInstant() : null);
+    }
+
+    @Override
+    public boolean isActiveAt(Instant instant) {
+        return enabled
+                && (start == null || !instant.isBefore(start))
+                && (end == null || instant.isBefore(end));
+    }
+
+    @Override
+    public Instant nextTransitionAfter(Instant instant) {
+        if (!enabled) {
+            return null;
+        }
+        if (start != null && instant.isBefore(start)) {
+            return start;
+        }
+        if (end != null && instant.isBefore(end)) {
+            return end;
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the rule can ever be active
+     */
+    public boolean isArmed() {
+        return enabled && (end == null || start == null || start.isBefore(end));
+    }
+}
@@ -25,7 +25,7 @@ import org.mapstruct.Mapping;
 /**
  * Mapper for ChannelConfig entity and DTO
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = ColumnValueMapper.class)
 public interface ChannelConfigMapper {
 
     ChannelConfigDTO toDTO(ChannelConfig entity);
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.mappers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.r2dbc.postgresql.codec.Json;
+import org.mapstruct.Named;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Conversions between the string fields of the DTOs and the native
+ * {@code JSONB} and {@code TEXT[]} column types of the entities, used by the
+ * entity mappers so the API keeps its string representation.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class ColumnValueMapper {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+    private static final Pattern SEPARATOR = Pattern.compile("[,;]");
+
+    private ColumnValueMapper() {
+    }
+
+    /**
+     * Converts a JSON field to its column value. Text that is not a JSON
+     * document is stored as a JSON string, as the V5 migration did with
+     * {@code to_jsonb} for values written before the column became JSONB.
+     *
+     * @param value a JSON document or plain text, or null
+     * @return the JSONB value, or null for a null or blank value
+     */
+    public static Json toJson(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            OBJECT_MAPPER.readTree(trimmed);
+            return Json.of(trimmed);
+        } catch (JsonProcessingException e) {
+            return Json.of(TextNode.valueOf(value).toString());
+        }
+    }
+
+    /**
+     * Converts a JSONB column value back to the field. A JSON string is
+     * returned as its text, so plain text round-trips unchanged.
+     *
+     * @param json the column value, or null
+     * @return the JSON document or text, or null
+     */
+    public static String fromJson(Json json) {
+        if (json == null) {
+            return null;
+        }
+        String document = json.asString();
+        if (!document.startsWith("\"")) {
+            return document;
+        }
+        try {
+            return OBJECT_MAPPER.readTree(document).textValue();
+        } catch (JsonProcessingException e) {
+            return document;
+        }
+    }
+
+    /**
+     * Parses a list field, given either as a JSON array of strings or as a
+     * comma or semicolon separated list.
+     *
+     * @param value the list field, or null
+     * @return the trimmed, non-empty entries, or null for a null field
+     * @throws IllegalArgumentException if a JSON array cannot be parsed
+     */
+    public static List<String> toList(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.startsWith("[")) {
+            try {
+                List<String> parsed = OBJECT_MAPPER.readValue(trimmed, STRING_LIST);
+                return parsed.stream()
+                        .filter(entry -> entry != null && !entry.isBlank())
+                        .map(String::trim)
+                        .toList();
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid JSON array: " + trimmed, e);
+            }
+        }
+        List<String> entries = new ArrayList<>();
+        for (String entry : SEPARATOR.split(trimmed)) {
+            if (!entry.isBlank()) {
+                entries.add(entry.trim());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * @param values the column entries, or null
+     * @return the entries as a comma-separated list, or null
+     */
+    public static String fromList(List<String> values) {
+        return values != null ? String.join(",", values) : null;
+    }
+
+    /**
+     * @param values the column entries, or null
+     * @return the entries as a JSON array of strings, or null
+     */
+    @Named("jsonArray")
+    public static String toJsonArray(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize list column", e);
+        }
+    }
+}
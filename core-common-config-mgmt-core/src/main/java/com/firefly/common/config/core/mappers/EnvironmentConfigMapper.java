@@ -25,7 +25,7 @@ import org.mapstruct.Mapping;
 /**
  * Mapper for EnvironmentConfig entity and DTO
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = ColumnValueMapper.class)
 public interface EnvironmentConfigMapper {
 
     EnvironmentConfigDTO toDTO(EnvironmentConfig entity);
@@ -25,9 +25,10 @@ import org.mapstruct.Mapping;
 /**
  * Mapper for FeatureFlag entity and DTO
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = ColumnValueMapper.class)
 public interface FeatureFlagMapper {
 
+    @Mapping(target = "targetUserSegments", qualifiedByName = "jsonArray")
     FeatureFlagDTO toDTO(FeatureFlag entity);
 
     @Mapping(target = "createdAt", ignore = true)
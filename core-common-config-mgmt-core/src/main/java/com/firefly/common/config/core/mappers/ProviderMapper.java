@@ -25,7 +25,7 @@ import org.mapstruct.Mapping;
 /**
  * Mapper for Provider entity and DTO
  */
-@Mapper(componentModel = "spring", uses = {ProviderTypeMapper.class, ProviderStatusMapper.class})
+@Mapper(componentModel = "spring", uses = {ProviderTypeMapper.class, ProviderStatusMapper.class, ColumnValueMapper.class})
 public interface ProviderMapper {
 
     /**
@@ -25,7 +25,7 @@ import org.mapstruct.Mapping;
 /**
  * Mapper for ProviderTenant entity and DTO
  */
-@Mapper(componentModel = "spring", uses = {ProviderMapper.class, TenantMapper.class})
+@Mapper(componentModel = "spring", uses = {ProviderMapper.class, TenantMapper.class, ColumnValueMapper.class})
 public interface ProviderTenantMapper {
 
     /**
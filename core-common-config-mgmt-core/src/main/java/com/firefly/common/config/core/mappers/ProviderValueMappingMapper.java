@@ -25,7 +25,7 @@ import org.mapstruct.Mapping;
 /**
  * Mapper for ProviderValueMapping entity and DTO
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = ColumnValueMapper.class)
 public interface ProviderValueMappingMapper {
 
     /**
@@ -25,7 +25,7 @@ import org.mapstruct.Mapping;
 /**
  * Mapper for Tenant entity and DTO
  */
-@Mapper(componentModel = "spring", uses = {TenantStatusMapper.class})
+@Mapper(componentModel = "spring", uses = {TenantStatusMapper.class, ColumnValueMapper.class})
 public interface TenantMapper {
 
     /**
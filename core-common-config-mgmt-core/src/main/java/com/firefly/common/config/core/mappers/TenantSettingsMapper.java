@@ -25,7 +25,7 @@ import org.mapstruct.Mapping;
 /**
  * Mapper for TenantSettings entity and DTO
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = ColumnValueMapper.class)
 public interface TenantSettingsMapper {
 
     TenantSettingsDTO toDTO(TenantSettings entity);
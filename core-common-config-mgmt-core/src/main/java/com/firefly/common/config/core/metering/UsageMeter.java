@@ -0,0 +1,419 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.metering;
+
+import com.firefly.common.config.interfaces.enums.UsageDenialReason;
+import com.firefly.common.config.models.entities.ProviderTenant;
+import com.firefly.common.config.models.entities.ProviderTenantUsage;
+import lombok.Getter;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory usage counters of one provider-tenant relationship.
+ *
+ * <p>Each billing month has a period holding the month's known totals, which
+ * admission checks read, and the usage recorded since the last flush. When
+ * the relationship has a limit, usage is reserved against the total with a
+ * compare-and-set, so concurrent events on this node never overshoot it;
+ * otherwise it is added unconditionally. Usage pending a flush is kept in
+ * {@link LongAdder}s, which stripe contended updates across cells, and is
+ * taken with {@link #drain()}. After each flush {@link #sync} folds in what
+ * other nodes flushed meanwhile, so limits are exact per node and converge
+ * across nodes within one flush interval.</p>
+ *
+ * <p>Failed transactions count as requests and failures, but not against the
+ * monthly limits. Volumes are kept in cents.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class UsageMeter {
+
+    @Getter
+    private final UUID providerTenantId;
+
+    @Getter
+    private final UUID tenantId;
+
+    @Getter
+    private final UUID providerId;
+
+    @Getter
+    private volatile Limits limits;
+
+    private final Map<LocalDate, Period> periods = new ConcurrentHashMap<>();
+    private final AtomicReference<Period> current;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timedRequests = new LongAdder();
+    private final LongAdder responseTimeSumMs = new LongAdder();
+    private final LongAccumulator lastUsedMillis = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * @param providerTenantId the relationship ID
+     * @param tenantId the tenant ID
+     * @param providerId the provider ID
+     * @param limits the relationship's limits
+     * @param periodStart the first day of the current month
+     * @param transactions the month's stored transaction count
+     * @param volumeCents the month's stored volume
+     */
+    public UsageMeter(UUID providerTenantId, UUID tenantId, UUID providerId, Limits limits,
+                      LocalDate periodStart, long transactions, long volumeCents) {
+        this.providerTenantId = providerTenantId;
+        this.tenantId = tenantId;
+        this.providerId = providerId;
+        this.limits = limits;
+        Period period = new Period(periodStart);
+        period.transactions.set(transactions);
+        period.volumeCents.set(volumeCents);
+        period.syncedTransactions = transactions;
+        period.syncedVolumeCents = volumeCents;
+        this.periods.put(periodStart, period);
+        this.current = new AtomicReference<>(period);
+    }
+
+    /**
+     * @param relationship the provider-tenant relationship
+     * @param periodStart the first day of the current month
+     * @param usage the month's stored usage, or null if none was flushed yet
+     * @return a meter starting from the stored usage
+     */
+    public static UsageMeter create(ProviderTenant relationship, LocalDate periodStart, ProviderTenantUsage usage) {
+        return new UsageMeter(relationship.getId(), relationship.getTenantId(), relationship.getProviderId(),
+                Limits.of(relationship), periodStart,
+                usage != null && usage.getTransactionCount() != null ? usage.getTransactionCount() : 0L,
+                usage != null && usage.getVolume() != null ? toCents(usage.getVolume()) : 0L);
+    }
+
+    /**
+     * Replaces the limits after the relationship was updated.
+     */
+    public void updateLimits(Limits limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * Records usage if the relationship is enabled and, for successful
+     * transactions, the month's limits allow it. Refused usage is not counted.
+     *
+     * @param periodStart the first day of the current month; a later month starts a new period
+     * @param transactions the number of transactions
+     * @param volumeCents their total volume in cents
+     * @param success whether they succeeded
+     * @param responseTimeMs their average response time, or a negative value if not reported
+     * @param timestampMillis when they happened, in epoch milliseconds
+     * @return null if the usage was recorded, otherwise why it was refused
+     */
+    public UsageDenialReason record(LocalDate periodStart, long transactions, long volumeCents, boolean success,
+                                    long responseTimeMs, long timestampMillis) {
+        Limits limits = this.limits;
+        if (!limits.isEnabled()) {
+            return UsageDenialReason.PROVIDER_TENANT_DISABLED;
+        }
+        Period period = period(periodStart);
+        if (success) {
+            if (!reserve(period.transactions, transactions, limits.getMaxTransactions())) {
+                return UsageDenialReason.MONTHLY_TRANSACTION_LIMIT_EXCEEDED;
+            }
+            if (!reserve(period.volumeCents, volumeCents, limits.getMaxVolumeCents())) {
+                period.transactions.addAndGet(-transactions);
+                return UsageDenialReason.MONTHLY_VOLUME_LIMIT_EXCEEDED;
+            }
+            period.pendingTransactions.add(transactions);
+            period.pendingVolumeCents.add(volumeCents);
+        } else {
+            period.pendingFailures.add(transactions);
+            failures.add(transactions);
+        }
+        requests.add(transactions);
+        if (responseTimeMs >= 0) {
+            timedRequests.add(transactions);
+            responseTimeSumMs.add(responseTimeMs * transactions);
+        }
+        lastUsedMillis.accumulate(timestampMillis);
+        return null;
+    }
+
+    /**
+     * @param periodStart the first day of the current month
+     * @return the month's known totals, including usage not flushed yet
+     */
+    public Usage usage(LocalDate periodStart) {
+        Period period = period(periodStart);
+        return new Usage(period.start, period.transactions.get(), period.volumeCents.get());
+    }
+
+    /**
+     * Takes the usage recorded since the last drain. Each counter is read
+     * and reset in one step, so usage recorded concurrently goes either into
+     * this delta or the next one.
+     *
+     * @return the usage to flush; hand it back with {@link #restore} if the flush fails
+     */
+    public Delta drain() {
+        LocalDate currentStart = current.get().start;
+        List<PeriodDelta> periodDeltas = new ArrayList<>(1);
+        for (Period period : periods.values()) {
+            PeriodDelta delta = period.drain();
+            if (!delta.isEmpty()) {
+                period.idle = false;
+                periodDeltas.add(delta);
+            } else if (period.start.isBefore(currentStart)) {
+                // A past month is dropped on its second empty drain, once no
+                // event that read it before the rollover can still be adding to it
+                if (period.idle) {
+                    periods.remove(period.start, period);
+                }
+                period.idle = true;
+            }
+        }
+        return new Delta(providerTenantId, periodDeltas, requests.sumThenReset(), failures.sumThenReset(),
+                timedRequests.sumThenReset(), responseTimeSumMs.sumThenReset(), lastUsedMillis.getThenReset());
+    }
+
+    /**
+     * Puts back a delta whose flush failed, to be retried with the next one.
+     */
+    public void restore(Delta delta) {
+        for (PeriodDelta periodDelta : delta.getPeriods()) {
+            Period period = periods.computeIfAbsent(periodDelta.getPeriodStart(), Period::new);
+            period.pendingTransactions.add(periodDelta.getTransactions());
+            period.pendingFailures.add(periodDelta.getFailures());
+            period.pendingVolumeCents.add(periodDelta.getVolumeCents());
+        }
+        requests.add(delta.getRequests());
+        failures.add(delta.getFailures());
+        timedRequests.add(delta.getTimedRequests());
+        responseTimeSumMs.add(delta.getResponseTimeSumMs());
+        lastUsedMillis.accumulate(delta.getLastUsedMillis());
+    }
+
+    /**
+     * Brings a month's totals in line with the database after a flush. What
+     * the database gained beyond the flushed delta since the last sync was
+     * flushed by other nodes and is added to the local totals.
+     *
+     * @param flushed the delta that was just flushed
+     * @param storedTransactions the month's transaction count after the flush
+     * @param storedVolumeCents the month's volume after the flush
+     */
+    public void sync(PeriodDelta flushed, long storedTransactions, long storedVolumeCents) {
+        Period period = periods.get(flushed.getPeriodStart());
+        if (period != null) {
+            period.sync(flushed, storedTransactions, storedVolumeCents);
+        }
+    }
+
+    private Period period(LocalDate periodStart) {
+        Period period = current.get();
+        while (periodStart.isAfter(period.start)) {
+            Period next = periods.computeIfAbsent(periodStart, Period::new);
+            if (current.compareAndSet(period, next)) {
+                return next;
+            }
+            period = current.get();
+        }
+        // Events stamped just before a rollover count towards the new month
+        return period;
+    }
+
+    private static boolean reserve(AtomicLong total, long amount, long limit) {
+        if (limit < 0) {
+            total.addAndGet(amount);
+            return true;
+        }
+        long used;
+        do {
+            used = total.get();
+            if (used + amount > limit) {
+                return false;
+            }
+        } while (!total.compareAndSet(used, used + amount));
+        return true;
+    }
+
+    /**
+     * @param amount an amount in currency units
+     * @return the amount in cents, rounded half up
+     * @throws ArithmeticException if it does not fit in a long
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * One billing month. The totals are read and reserved by every event;
+     * the pending adders only by {@link #drain()}; the synced totals are only
+     * touched by the flush.
+     */
+    private static final class Period {
+
+        private final LocalDate start;
+        private final AtomicLong transactions = new AtomicLong();
+        private final AtomicLong volumeCents = new AtomicLong();
+        private final LongAdder pendingTransactions = new LongAdder();
+        private final LongAdder pendingFailures = new LongAdder();
+        private final LongAdder pendingVolumeCents = new LongAdder();
+        private long syncedTransactions;
+        private long syncedVolumeCents;
+        private volatile boolean idle;
+
+        private Period(LocalDate start) {
+            this.start = start;
+        }
+
+        private PeriodDelta drain() {
+            return new PeriodDelta(start, pendingTransactions.sumThenReset(), pendingFailures.sumThenReset(),
+                    pendingVolumeCents.sumThenReset());
+        }
+
+        private synchronized void sync(PeriodDelta flushed, long storedTransactions, long storedVolumeCents) {
+            transactions.addAndGet(storedTransactions - syncedTransactions - flushed.getTransactions());
+            volumeCents.addAndGet(storedVolumeCents - syncedVolumeCents - flushed.getVolumeCents());
+            syncedTransactions = storedTransactions;
+            syncedVolumeCents = storedVolumeCents;
+        }
+    }
+
+    /**
+     * Limits of a relationship, resolved once per configuration change.
+     */
+    @Getter
+    public static final class Limits {
+
+        private final boolean enabled;
+        private final Integer transactionLimit;
+        private final BigDecimal volumeLimit;
+        private final BigDecimal costPerTransaction;
+
+        /**
+         * Monthly transaction limit, or -1 for none.
+         */
+        private final long maxTransactions;
+
+        /**
+         * Monthly volume limit in cents, or -1 for none.
+         */
+        private final long maxVolumeCents;
+
+        public Limits(boolean enabled, Integer transactionLimit, BigDecimal volumeLimit,
+                      BigDecimal costPerTransaction) {
+            this.enabled = enabled;
+            this.transactionLimit = transactionLimit;
+            this.volumeLimit = volumeLimit;
+            this.costPerTransaction = costPerTransaction;
+            this.maxTransactions = transactionLimit != null && transactionLimit >= 0 ? transactionLimit : -1L;
+            this.maxVolumeCents = volumeLimit != null && volumeLimit.signum() >= 0 ? centsOrUnlimited(volumeLimit) : -1L;
+        }
+
+        /**
+         * A relationship meters usage while it is both enabled and active;
+         * null limits mean unlimited.
+         */
+        public static Limits of(ProviderTenant relationship) {
+            return new Limits(
+                    !Boolean.FALSE.equals(relationship.getEnabled()) && !Boolean.FALSE.equals(relationship.getActive()),
+                    relationship.getMonthlyTransactionLimit(),
+                    relationship.getMonthlyVolumeLimit(),
+                    relationship.getCostPerTransaction());
+        }
+
+        /**
+         * @param transactions a number of transactions
+         * @return what they cost, or zero without a cost per transaction
+         */
+        public BigDecimal costOf(long transactions) {
+            return costPerTransaction != null
+                    ? costPerTransaction.multiply(BigDecimal.valueOf(transactions))
+                    : BigDecimal.ZERO;
+        }
+
+        private static long centsOrUnlimited(BigDecimal amount) {
+            try {
+                return toCents(amount);
+            } catch (ArithmeticException e) {
+                return -1L;
+            }
+        }
+    }
+
+    /**
+     * A month's known totals.
+     */
+    @Value
+    public static class Usage {
+        LocalDate periodStart;
+        long transactions;
+        long volumeCents;
+    }
+
+    /**
+     * Usage of one month recorded since the last drain.
+     */
+    @Value
+    public static class PeriodDelta {
+        LocalDate periodStart;
+        long transactions;
+        long failures;
+        long volumeCents;
+
+        public boolean isEmpty() {
+            return transactions == 0 && failures == 0 && volumeCents == 0;
+        }
+    }
+
+    /**
+     * Usage recorded since the last drain.
+     */
+    @Value
+    public static class Delta {
+        UUID providerTenantId;
+        List<PeriodDelta> periods;
+        long requests;
+        long failures;
+        long timedRequests;
+        long responseTimeSumMs;
+
+        /**
+         * Epoch milliseconds of the latest request, or 0 if there was none.
+         */
+        long lastUsedMillis;
+
+        public boolean isEmpty() {
+            return requests == 0 && periods.isEmpty();
+        }
+    }
+}
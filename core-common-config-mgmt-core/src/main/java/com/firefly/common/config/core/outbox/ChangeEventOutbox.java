@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.outbox;
+
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.models.entities.ConfigOutboxMessage;
+import com.firefly.common.config.models.repositories.ConfigOutboxRepository;
+import com.firefly.common.config.models.routing.PrimaryTransactions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Records configuration changes in the {@code config_outbox} table in the
+ * same transaction as the change itself.
+ *
+ * <p>A write pipeline is wrapped with {@link #record(Function)}: the write and
+ * its outbox row commit or roll back together, and the in-process
+ * {@link ConfigurationChangedEvent} is published only after the commit, so
+ * neither in-process listeners nor the {@link OutboxRelay} ever see a change
+ * that did not happen, and a crash after the commit cannot lose the
+ * event. Rows carry {@link #NODE_ID}, and other nodes replay them through the
+ * {@link OutboxChangeFeed}.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeEventOutbox {
+
+    /**
+     * Partition of entities that belong to no tenant.
+     */
+    public static final String GLOBAL_PARTITION = "global";
+
+    /**
+     * Identifies this process as the origin of the rows it writes. Its own
+     * events are published in-process; the change feed skips them.
+     */
+    public static final String NODE_ID = UUID.randomUUID().toString();
+
+    private final ConfigOutboxRepository repository;
+    private final PrimaryTransactions transactions;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Runs a write pipeline in one transaction together with an outbox row per
+     * emitted value, and publishes the events after the commit. Use with
+     * {@code Mono.transform}.
+     *
+     * @param toEvent describes the change made by an emitted value
+     * @return the transactional pipeline
+     */
+    public <T> Function<Mono<T>, Mono<T>> record(Function<? super T, ConfigurationChangedEvent> toEvent) {
+        return write -> transactions.execute(write.flatMap(value -> {
+                    ConfigurationChangedEvent event = toEvent.apply(value);
+                    return append(event).thenReturn(new Recorded<>(value, event));
+                }))
+                .map(recorded -> {
+                    eventPublisher.publishEvent(recorded.event());
+                    return recorded.value();
+                });
+    }
+
+    /**
+     * Appends an outbox row in the caller's transaction without publishing
+     * anything; for writers that manage the transaction and the in-process
+     * event themselves.
+     *
+     * @param event the change
+     * @return completion once the row is written
+     */
+    public Mono<Void> append(ConfigurationChangedEvent event) {
+        return repository.save(toMessage(event)).then();
+    }
+
+    static ConfigOutboxMessage toMessage(ConfigurationChangedEvent event) {
+        return ConfigOutboxMessage.builder()
+                .partitionKey(event.getTenantId() != null ? event.getTenantId().toString() : GLOBAL_PARTITION)
+                .entityType(event.getEntityType())
+                .entityId(event.getEntityId())
+                .tenantId(event.getTenantId())
+                .action(event.getAction().name())
+                .changedFields(event.getChangedFields().stream().sorted().toList())
+                .createdAt(LocalDateTime.now())
+                .attempts(0)
+                .origin(NODE_ID)
+                .build();
+    }
+
+    static ConfigurationChangedEvent toEvent(ConfigOutboxMessage message) {
+        return new ConfigurationChangedEvent(message.getEntityType(), message.getEntityId(), message.getTenantId(),
+                ConfigurationChangedEvent.Action.valueOf(message.getAction()),
+                message.getChangedFields() != null ? Set.copyOf(message.getChangedFields()) : Set.of());
+    }
+
+    private record Recorded<T>(T value, ConfigurationChangedEvent event) {
+    }
+}
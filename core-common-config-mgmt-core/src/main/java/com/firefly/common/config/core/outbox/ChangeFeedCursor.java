@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.outbox;
+
+import com.firefly.common.config.models.entities.ConfigOutboxMessage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Position of a change feed reader in the {@code config_outbox} ID sequence.
+ *
+ * <p>Outbox IDs are drawn before commit, so rows become visible out of ID
+ * order: when a page is read, a row with a lower ID than the last one
+ * returned may still be in flight. Such a row belongs to a transaction at or
+ * above the snapshot xmin read before the page, so each poll also re-reads
+ * the rows up to the position whose transaction is at or above the previous
+ * xmin, and this cursor drops those it has already returned. Returned rows
+ * are remembered only until the xmin passes their transaction.</p>
+ *
+ * <p>Not thread-safe; a feed polls with one cursor at a time.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+final class ChangeFeedCursor {
+
+    private long lastId;
+    private long xmin;
+
+    /**
+     * Returned rows the next late-commit read can return again: ID to xid
+     */
+    private final Map<Long, Long> recent = new HashMap<>();
+
+    /**
+     * @param lastId the last ID to skip; read after {@code xmin}
+     * @param xmin the snapshot xmin read first
+     */
+    ChangeFeedCursor(long lastId, long xmin) {
+        this.lastId = lastId;
+        this.xmin = xmin;
+    }
+
+    long lastId() {
+        return lastId;
+    }
+
+    long xmin() {
+        return xmin;
+    }
+
+    /**
+     * Moves past one poll.
+     *
+     * @param snapshotXmin the xmin read before both queries
+     * @param lateCommits rows up to {@link #lastId()} at or above {@link #xmin()}
+     * @param page the rows after {@link #lastId()}
+     * @return the rows not returned before, in ID order
+     */
+    List<ConfigOutboxMessage> advance(long snapshotXmin, List<ConfigOutboxMessage> lateCommits,
+                                      List<ConfigOutboxMessage> page) {
+        List<ConfigOutboxMessage> fresh = new ArrayList<>(lateCommits.size() + page.size());
+        for (ConfigOutboxMessage message : lateCommits) {
+            if (!recent.containsKey(message.getId())) {
+                fresh.add(message);
+            }
+        }
+        fresh.addAll(page);
+        if (!page.isEmpty()) {
+            lastId = page.get(page.size() - 1).getId();
+        }
+        xmin = snapshotXmin;
+        recent.values().removeIf(xid -> xid < snapshotXmin);
+        for (ConfigOutboxMessage message : fresh) {
+            if (message.getXid() >= snapshotXmin) {
+                recent.put(message.getId(), message.getXid());
+            }
+        }
+        return fresh;
+    }
+}
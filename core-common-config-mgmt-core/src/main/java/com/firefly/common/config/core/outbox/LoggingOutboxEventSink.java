@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.outbox;
+
+import com.firefly.common.config.models.entities.ConfigOutboxMessage;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Sink that only logs the relayed events. Used when the deployment does not
+ * define an {@link OutboxEventSink}, so the outbox is still drained and
+ * purged.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+    @Override
+    public Mono<Void> deliver(List<ConfigOutboxMessage> messages) {
+        return Mono.fromRunnable(() -> {
+            if (log.isDebugEnabled()) {
+                for (ConfigOutboxMessage message : messages) {
+                    log.debug("Configuration change #{}: {} {} {} (tenant {})", message.getId(),
+                            message.getAction(), message.getEntityType(), message.getEntityId(),
+                            message.getTenantId());
+                }
+            }
+        });
+    }
+}
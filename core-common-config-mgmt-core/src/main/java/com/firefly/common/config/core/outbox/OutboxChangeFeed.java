@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.outbox;
+
+import com.firefly.common.config.core.config.OutboxProperties;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.models.entities.ConfigOutboxMessage;
+import com.firefly.common.config.models.repositories.ConfigOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applies configuration changes written by other nodes to this node's
+ * in-memory views.
+ *
+ * <p>Every node follows {@code config_outbox} in ID order with a
+ * {@link ChangeFeedCursor}, which also picks up rows that commit out of ID
+ * order, and publishes a {@link ConfigurationChangedEvent} in-process for
+ * each row written by another node; its own rows were published when they
+ * committed. Listeners re-read the entity, so a replayed change is
+ * harmless. Unlike the {@link OutboxRelay} the feed claims nothing, and it
+ * sees rows whether or not they have been relayed.</p>
+ *
+ * <p>The starting position is taken when the context is refreshed, before
+ * the views preload on {@link ApplicationReadyEvent}, so a change committed
+ * in between is replayed rather than missed.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxChangeFeed implements DisposableBean {
+
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ConfigOutboxRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxProperties properties;
+
+    private final LongAdder applied = new LongAdder();
+
+    private volatile ChangeFeedCursor cursor;
+    private volatile Disposable feed;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void open() {
+        if (!properties.isFeedEnabled() || cursor != null) {
+            return;
+        }
+        try {
+            cursor = startPosition().block(START_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.warn("Could not read the outbox position at startup, the change feed starts from the end " +
+                    "of the outbox once ready: {}", e.toString());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isFeedEnabled()) {
+            log.info("Outbox change feed disabled on this node");
+            return;
+        }
+        feed = Mono.defer(this::catchUp)
+                .then(Mono.delay(properties.getFeedPollInterval()))
+                .repeat()
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, properties.getFeedPollInterval())
+                        .maxBackoff(properties.getMaxBackoff())
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> log.warn("Outbox change feed failed ({} in a row): {}",
+                                signal.totalRetriesInARow() + 1, signal.failure().toString())))
+                .subscribe();
+        log.info("Outbox change feed started on node {}: poll interval {}",
+                ChangeEventOutbox.NODE_ID, properties.getFeedPollInterval());
+    }
+
+    @Override
+    public void destroy() {
+        if (feed != null) {
+            feed.dispose();
+        }
+    }
+
+    /**
+     * Reads pages until one comes back short of {@code batch-size}.
+     *
+     * @return the number of events published for other nodes' changes
+     */
+    public Mono<Long> catchUp() {
+        ChangeFeedCursor current = cursor;
+        if (current == null) {
+            return startPosition().doOnNext(opened -> cursor = opened).thenReturn(0L);
+        }
+        return poll(current)
+                .expand(page -> page.full() ? poll(current) : Mono.empty())
+                .reduce(0L, (total, page) -> total + page.published());
+    }
+
+    /**
+     * @return events published for other nodes' changes since startup
+     */
+    public long getAppliedCount() {
+        return applied.sum();
+    }
+
+    /**
+     * The end of the outbox. The xmin is read first, so rows below the last
+     * ID that are still in flight are picked up as late commits.
+     */
+    private Mono<ChangeFeedCursor> startPosition() {
+        return repository.loadSnapshotXmin()
+                .flatMap(xmin -> repository.loadLastId().map(lastId -> new ChangeFeedCursor(lastId, xmin)));
+    }
+
+    private Mono<Page> poll(ChangeFeedCursor current) {
+        int pageSize = properties.getBatchSize();
+        return repository.loadSnapshotXmin()
+                .flatMap(xmin -> repository.loadLateCommits(current.lastId(), current.xmin()).collectList()
+                        .zipWith(repository.loadAfter(current.lastId(), pageSize).collectList())
+                        .map(rows -> new Page(rows.getT2().size() >= pageSize,
+                                publish(current.advance(xmin, rows.getT1(), rows.getT2())))));
+    }
+
+    private int publish(List<ConfigOutboxMessage> messages) {
+        int published = 0;
+        for (ConfigOutboxMessage message : messages) {
+            if (ChangeEventOutbox.NODE_ID.equals(message.getOrigin())) {
+                continue;
+            }
+            try {
+                eventPublisher.publishEvent(ChangeEventOutbox.toEvent(message));
+                published++;
+            } catch (RuntimeException e) {
+                log.warn("Failed to apply outbox message #{} ({} {} {}) from node {}: {}", message.getId(),
+                        message.getAction(), message.getEntityType(), message.getEntityId(), message.getOrigin(),
+                        e.toString());
+            }
+        }
+        applied.add(published);
+        return published;
+    }
+
+    private record Page(boolean full, int published) {
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.outbox;
+
+import com.firefly.common.config.models.entities.ConfigOutboxMessage;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Destination of the configuration change events drained by {@link OutboxRelay},
+ * e.g. a message broker producer.
+ *
+ * <p>Delivery is at least once: a batch is marked published only after
+ * {@link #deliver(List)} completes, and a failed or interrupted batch is
+ * delivered again in full. Consumers should deduplicate by message ID.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface OutboxEventSink {
+
+    /**
+     * Delivers a batch of messages. Messages of the same partition appear in
+     * the order they must be applied, and every earlier message of their
+     * partition has already been delivered.
+     *
+     * @param messages the batch, in ID order
+     * @return completion once every message has been accepted downstream
+     */
+    Mono<Void> deliver(List<ConfigOutboxMessage> messages);
+}
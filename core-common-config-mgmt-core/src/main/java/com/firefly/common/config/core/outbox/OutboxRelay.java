@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.outbox;
+
+import com.firefly.common.config.core.config.OutboxProperties;
+import com.firefly.common.config.models.repositories.ConfigOutboxRepository;
+import com.firefly.common.config.models.routing.PrimaryTransactions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drains the {@code config_outbox} table into the {@link OutboxEventSink}.
+ *
+ * <p>Each batch is one transaction: claim up to {@code batch-size} rows with
+ * {@code FOR UPDATE SKIP LOCKED}, deliver them partition by partition, mark
+ * the delivered ones published. Any number of nodes can run the relay; they
+ * claim disjoint batches, and a row is held back while an earlier row of its
+ * partition is in another node's batch, so each tenant's events are delivered
+ * in order. Full batches are followed immediately by the next one; once the
+ * outbox is drained the relay polls every {@code poll-interval}.</p>
+ *
+ * <p>A delivery failure only affects its own partition. The partition's
+ * messages are retried one by one to find the failing message; those before
+ * it are published, and it records the attempt and error and waits for an
+ * exponential backoff (starting at {@code poll-interval}, capped at
+ * {@code max-backoff}) with the rest of its partition behind it. After
+ * {@code max-attempts} failures it is dead-lettered and its partition moves
+ * on. Database errors fail the whole batch, which rolls back and is retried
+ * with the same backoff.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay implements DisposableBean {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ConfigOutboxRepository repository;
+    private final PrimaryTransactions transactions;
+    private final OutboxEventSink sink;
+    private final OutboxProperties properties;
+
+    private final LongAdder delivered = new LongAdder();
+
+    private volatile Disposable relay;
+    private volatile Disposable cleanup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isRelayEnabled()) {
+            log.info("Outbox relay disabled on this node");
+            return;
+        }
+        relay = drain()
+                .then(Mono.delay(properties.getPollInterval()))
+                .repeat()
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, properties.getPollInterval())
+                        .maxBackoff(properties.getMaxBackoff())
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> log.warn("Outbox relay failed ({} in a row): {}",
+                                signal.totalRetriesInARow() + 1, signal.failure().toString())))
+                .subscribe();
+        cleanup = Flux.interval(properties.getCleanupInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> purge()
+                        .onErrorResume(error -> {
+                            log.warn("Failed to purge published outbox messages: {}", error.toString());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+        log.info("Outbox relay started: batch size {}, poll interval {}",
+                properties.getBatchSize(), properties.getPollInterval());
+    }
+
+    @Override
+    public void destroy() {
+        dispose(relay);
+        dispose(cleanup);
+    }
+
+    /**
+     * Relays batches until one comes back short of {@code batch-size}.
+     *
+     * @return the number of messages delivered
+     */
+    public Mono<Long> drain() {
+        return Mono.defer(this::relayBatch)
+                .expand(batch -> batch.claimed() >= properties.getBatchSize() ? relayBatch() : Mono.empty())
+                .reduce(0L, (total, batch) -> total + batch.delivered());
+    }
+
+    /**
+     * Deletes published messages older than the retention period.
+     * Dead-lettered messages are kept.
+     *
+     * @return the number of deleted messages
+     */
+    public Mono<Integer> purge() {
+        return repository.deletePublishedOlderThan(properties.getRetention().toSeconds())
+                .doOnNext(count -> {
+                    if (count > 0) {
+                        log.debug("Purged {} published outbox messages", count);
+                    }
+                });
+    }
+
+    /**
+     * @return messages delivered by this node since startup
+     */
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    private Mono<BatchResult> relayBatch() {
+        return transactions.execute(repository.claimBatch(properties.getBatchSize(), properties.getMaxAttempts())
+                        .collectList()
+                        .flatMap(batch -> batch.isEmpty()
+                                ? Mono.just(new BatchResult(0, 0))
+                                : Flux.fromIterable(byPartition(batch))
+                                        .concatMap(this::deliverPartition)
+                                        .collectList()
+                                        .flatMap(results -> complete(batch.size(), results))))
+                .doOnNext(batch -> delivered.add(batch.delivered()));
+    }
+
+    /**
+     * Delivers a partition's messages in one call, falling back to one call
+     * per message to isolate a failure.
+     */
+    private Mono<PartitionResult> deliverPartition(List<ConfigOutboxMessage> messages) {
+        return Mono.defer(() -> sink.deliver(messages))
+                .then(Mono.fromSupplier(() -> new PartitionResult(messages, null, null)))
+                .onErrorResume(error -> messages.size() == 1
+                        ? Mono.just(new PartitionResult(List.of(), messages.get(0), error))
+                        : deliverEach(messages, 0));
+    }
+
+    private Mono<PartitionResult> deliverEach(List<ConfigOutboxMessage> messages, int index) {
+        if (index == messages.size()) {
+            return Mono.just(new PartitionResult(messages, null, null));
+        }
+        ConfigOutboxMessage message = messages.get(index);
+        return Mono.defer(() -> sink.deliver(List.of(message)))
+                .then(Mono.defer(() -> deliverEach(messages, index + 1)))
+                .onErrorResume(error -> Mono.just(new PartitionResult(messages.subList(0, index), message, error)));
+    }
+
+    private Mono<BatchResult> complete(int claimed, List<PartitionResult> results) {
+        List<Long> published = new ArrayList<>(claimed);
+        for (PartitionResult result : results) {
+            result.delivered().forEach(message -> published.add(message.getId()));
+        }
+        double backoffSeconds = properties.getPollInterval().toMillis() / 1000.0;
+        double maxBackoffSeconds = properties.getMaxBackoff().toMillis() / 1000.0;
+        return (published.isEmpty() ? Mono.<Integer>empty() : repository.markPublished(published))
+                .thenMany(Flux.fromIterable(results)
+                        .filter(result -> result.failed() != null)
+                        .concatMap(result -> repository.markFailed(List.of(result.failed().getId()),
+                                        describe(result.error()), properties.getMaxAttempts(),
+                                        backoffSeconds, maxBackoffSeconds)))
+                .doOnNext(OutboxRelay::logFailure)
+                .then(Mono.fromSupplier(() -> new BatchResult(claimed, published.size())));
+    }
+
+    private static void logFailure(ConfigOutboxMessage message) {
+        if (message.getDeadLetteredAt() != null) {
+            log.error("Dead-lettered outbox message #{} ({} {} {}, partition {}) after {} failed deliveries: {}",
+                    message.getId(), message.getAction(), message.getEntityType(), message.getEntityId(),
+                    message.getPartitionKey(), message.getAttempts(), message.getLastError());
+        } else {
+            log.warn("Failed to deliver outbox message #{} (attempt {}), partition {} waits until {}: {}",
+                    message.getId(), message.getAttempts(), message.getPartitionKey(),
+                    message.getNextAttemptAt(), message.getLastError());
+        }
+    }
+
+    /**
+     * Splits a batch by partition, keeping the ID order within each.
+     */
+    private static Collection<List<ConfigOutboxMessage>> byPartition(List<ConfigOutboxMessage> batch) {
+        Map<String, List<ConfigOutboxMessage>> partitions = new LinkedHashMap<>();
+        for (ConfigOutboxMessage message : batch) {
+            partitions.computeIfAbsent(message.getPartitionKey(), key -> new ArrayList<>()).add(message);
+        }
+        return partitions.values();
+    }
+
+    private static String describe(Throwable error) {
+        String text = error.toString();
+        return text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) : text;
+    }
+
+    private static void dispose(Disposable disposable) {
+        if (disposable != null) {
+            disposable.dispose();
+        }
+    }
+
+    private record BatchResult(int claimed, int delivered) {
+    }
+
+    /**
+     * Outcome of a partition: the messages delivered and, if delivery
+     * stopped early, the message that failed.
+     */
+    private record PartitionResult(List<ConfigOutboxMessage> delivered, ConfigOutboxMessage failed, Throwable error) {
+    }
+}
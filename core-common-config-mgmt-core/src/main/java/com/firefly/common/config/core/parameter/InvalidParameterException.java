@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.parameter;
+
+import com.firefly.common.config.interfaces.dtos.ParameterViolationDTO;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Thrown when a parameter is written with a value that does not match its
+ * type, validation regex or required flag.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Getter
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidParameterException extends IllegalArgumentException {
+
+    private final List<ParameterViolationDTO> violations;
+
+    public InvalidParameterException(List<ParameterViolationDTO> violations) {
+        super(violations.stream()
+                .map(violation -> violation.getParameterName() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; ", "Invalid parameter: ", "")));
+        this.violations = List.copyOf(violations);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.parameter;
+
+import com.firefly.common.config.interfaces.dtos.ChannelConfigParameterDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderParameterDTO;
+import com.firefly.common.config.models.entities.ChannelConfigParameter;
+import com.firefly.common.config.models.entities.ProviderParameter;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The columns of one EAV parameter row that decoding needs, independent of
+ * whether it is a provider or a channel parameter.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Value
+@Builder
+public class ParameterDefinition {
+
+    String name;
+    String type;
+    String value;
+    String defaultValue;
+    String validationRegex;
+    boolean required;
+
+    /**
+     * Vault reference of a secret whose value is not stored in the row.
+     */
+    String credentialVaultId;
+
+    public static ParameterDefinition of(ProviderParameter parameter) {
+        return ParameterDefinition.builder()
+                .name(parameter.getParameterName())
+                .type(parameter.getParameterType())
+                .value(parameter.getParameterValue())
+                .defaultValue(parameter.getDefaultValue())
+                .validationRegex(parameter.getValidationRegex())
+                .required(Boolean.TRUE.equals(parameter.getIsRequired()))
+                .credentialVaultId(parameter.getCredentialVaultId())
+                .build();
+    }
+
+    public static ParameterDefinition of(ProviderParameterDTO parameter) {
+        return ParameterDefinition.builder()
+                .name(parameter.getParameterName())
+                .type(parameter.getParameterType())
+                .value(parameter.getParameterValue())
+                .defaultValue(parameter.getDefaultValue())
+                .validationRegex(parameter.getValidationRegex())
+                .required(Boolean.TRUE.equals(parameter.getIsRequired()))
+                .credentialVaultId(parameter.getCredentialVaultId())
+                .build();
+    }
+
+    public static ParameterDefinition of(ChannelConfigParameter parameter) {
+        return ParameterDefinition.builder()
+                .name(parameter.getParameterKey())
+                .type(parameter.getParameterType())
+                .value(parameter.getParameterValue())
+                .defaultValue(parameter.getDefaultValue())
+                .validationRegex(parameter.getValidationRegex())
+                .required(Boolean.TRUE.equals(parameter.getIsRequired()))
+                .build();
+    }
+
+    public static ParameterDefinition of(ChannelConfigParameterDTO parameter) {
+        return ParameterDefinition.builder()
+                .name(parameter.getParameterKey())
+                .type(parameter.getParameterType())
+                .value(parameter.getParameterValue())
+                .defaultValue(parameter.getDefaultValue())
+                .validationRegex(parameter.getValidationRegex())
+                .required(Boolean.TRUE.equals(parameter.getIsRequired()))
+                .build();
+    }
+}
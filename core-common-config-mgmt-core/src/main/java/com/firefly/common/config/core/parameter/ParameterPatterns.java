@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.parameter;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Process-wide cache of compiled {@code validation_regex} patterns. Parameter
+ * sets share a handful of distinct expressions, so each one is compiled once;
+ * expressions that do not compile are cached as such too.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class ParameterPatterns {
+
+    /**
+     * Upper bound on cached expressions; the cache is cleared when it is
+     * reached, which only happens if expressions are generated dynamically.
+     */
+    private static final int MAX_PATTERNS = 1024;
+
+    private static final Map<String, Optional<Pattern>> PATTERNS = new ConcurrentHashMap<>();
+
+    private ParameterPatterns() {
+    }
+
+    /**
+     * @param regex the expression
+     * @return the compiled pattern, or empty if the expression is invalid
+     */
+    public static Optional<Pattern> compile(String regex) {
+        Optional<Pattern> pattern = PATTERNS.get(regex);
+        if (pattern != null) {
+            return pattern;
+        }
+        if (PATTERNS.size() >= MAX_PATTERNS) {
+            PATTERNS.clear();
+        }
+        return PATTERNS.computeIfAbsent(regex, ParameterPatterns::tryCompile);
+    }
+
+    /**
+     * @return the number of cached expressions
+     */
+    public static int size() {
+        return PATTERNS.size();
+    }
+
+    private static Optional<Pattern> tryCompile(String regex) {
+        try {
+            return Optional.of(Pattern.compile(regex));
+        } catch (PatternSyntaxException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.parameter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.common.config.interfaces.dtos.ParameterViolationDTO;
+import com.firefly.common.config.interfaces.enums.ParameterViolationReason;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Typed, immutable view of a set of EAV parameters.
+ *
+ * <p>Every value is parsed once, according to its {@code parameter_type},
+ * when the set is decoded; defaults are applied to blank values and
+ * {@code validation_regex} patterns come from {@link ParameterPatterns}.
+ * Parameters that fail validation are left out of the view and reported as
+ * violations. Secrets held in the vault ({@code credential_vault_id} without
+ * a value) are not part of the view; their references are listed by
+ * {@link #getSecretReferences()} for batch resolution.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class ParameterSet {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ParameterSet EMPTY = new ParameterSet(Map.of(), Map.of(), List.of());
+
+    private final Map<String, Entry> entries;
+    private final Map<String, String> secretReferences;
+    private final List<ParameterViolationDTO> violations;
+
+    private ParameterSet(Map<String, Entry> entries, Map<String, String> secretReferences,
+                         List<ParameterViolationDTO> violations) {
+        this.entries = entries;
+        this.secretReferences = secretReferences;
+        this.violations = violations;
+    }
+
+    public static ParameterSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Decodes parameters, letting later definitions of a name replace earlier
+     * ones (e.g. tenant overrides listed after provider-level parameters).
+     *
+     * @param definitions the parameters
+     * @return the decoded set
+     */
+    public static ParameterSet decode(Collection<ParameterDefinition> definitions) {
+        return decode(definitions, false);
+    }
+
+    /**
+     * Validates parameters that are to be written together, additionally
+     * rejecting names that appear more than once.
+     *
+     * @param definitions the parameters
+     * @return the violations, in input order (empty if all are valid)
+     */
+    public static List<ParameterViolationDTO> validate(Collection<ParameterDefinition> definitions) {
+        return decode(definitions, true).violations;
+    }
+
+    private static ParameterSet decode(Collection<ParameterDefinition> definitions, boolean rejectDuplicates) {
+        if (definitions.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, Entry> entries = new LinkedHashMap<>(definitions.size() * 2);
+        Map<String, String> secretReferences = new LinkedHashMap<>();
+        List<ParameterViolationDTO> violations = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (ParameterDefinition definition : definitions) {
+            String name = definition.getName();
+            if (name == null || name.isBlank()) {
+                violations.add(violation(name, ParameterViolationReason.MISSING_NAME, "Parameter name is required"));
+                continue;
+            }
+            if (!seen.add(name)) {
+                if (rejectDuplicates) {
+                    violations.add(violation(name, ParameterViolationReason.DUPLICATE_NAME,
+                            "Parameter is defined more than once"));
+                    continue;
+                }
+                entries.remove(name);
+                secretReferences.remove(name);
+            }
+            if (!hasText(definition.getValue()) && hasText(definition.getCredentialVaultId())) {
+                secretReferences.put(name, definition.getCredentialVaultId().trim());
+                continue;
+            }
+            Entry entry = decode(definition, violations);
+            if (entry != null) {
+                entries.put(name, entry);
+            }
+        }
+        return new ParameterSet(Collections.unmodifiableMap(entries), Collections.unmodifiableMap(secretReferences),
+                List.copyOf(violations));
+    }
+
+    private static Entry decode(ParameterDefinition definition, List<ParameterViolationDTO> violations) {
+        String name = definition.getName();
+        ParameterType type = ParameterType.of(definition.getType());
+        if (type == null) {
+            violations.add(violation(name, ParameterViolationReason.UNKNOWN_TYPE,
+                    "Unknown parameter type: " + definition.getType()));
+            return null;
+        }
+        Pattern pattern = null;
+        String regex = definition.getValidationRegex();
+        if (regex != null && !regex.isBlank()) {
+            Optional<Pattern> compiled = ParameterPatterns.compile(regex);
+            if (compiled.isEmpty()) {
+                violations.add(violation(name, ParameterViolationReason.INVALID_REGEX,
+                        "Validation regex does not compile"));
+            } else {
+                pattern = compiled.get();
+            }
+        }
+
+        Object defaultValue = null;
+        if (hasText(definition.getDefaultValue())) {
+            defaultValue = parse(type, pattern, definition.getDefaultValue());
+            if (defaultValue == null) {
+                violations.add(violation(name, ParameterViolationReason.INVALID_DEFAULT_VALUE,
+                        "Default value is not a valid " + type + describe(pattern)));
+            }
+        }
+
+        if (hasText(definition.getValue())) {
+            Object value = parse(type, pattern, definition.getValue());
+            if (value == null) {
+                boolean typeMismatch = parse(type, null, definition.getValue()) == null;
+                violations.add(typeMismatch
+                        ? violation(name, ParameterViolationReason.INVALID_VALUE, "Value is not a valid " + type)
+                        : violation(name, ParameterViolationReason.PATTERN_MISMATCH,
+                                "Value does not match the validation regex"));
+                return null;
+            }
+            return new Entry(type, definition.getValue(), value, false);
+        }
+        if (defaultValue != null) {
+            return new Entry(type, definition.getDefaultValue(), defaultValue, true);
+        }
+        if (definition.isRequired() && !hasText(definition.getDefaultValue())) {
+            violations.add(violation(name, ParameterViolationReason.MISSING_REQUIRED_VALUE,
+                    "Required parameter has no value or default"));
+        }
+        return null;
+    }
+
+    /**
+     * @return the parsed value, or null if it is not a valid value of the type or does not match the pattern
+     */
+    private static Object parse(ParameterType type, Pattern pattern, String raw) {
+        if (pattern != null && !pattern.matcher(raw).matches()) {
+            return null;
+        }
+        String text = raw.trim();
+        try {
+            return switch (type) {
+                case STRING -> raw;
+                case INTEGER -> Long.parseLong(text);
+                case DECIMAL -> new BigDecimal(text);
+                case BOOLEAN -> "true".equalsIgnoreCase(text) ? Boolean.TRUE
+                        : "false".equalsIgnoreCase(text) ? Boolean.FALSE : null;
+                case JSON -> OBJECT_MAPPER.readTree(text);
+            };
+        } catch (NumberFormatException | JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static String describe(Pattern pattern) {
+        return pattern != null ? " matching the validation regex" : "";
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static ParameterViolationDTO violation(String name, ParameterViolationReason reason, String message) {
+        return ParameterViolationDTO.builder()
+                .parameterName(name)
+                .reason(reason)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * @return the decoded parameter names, in definition order
+     */
+    public Set<String> names() {
+        return entries.keySet();
+    }
+
+    public boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @param name the parameter name
+     * @return the type of a decoded parameter, or null if it is not in the set
+     */
+    public ParameterType typeOf(String name) {
+        Entry entry = entries.get(name);
+        return entry != null ? entry.type : null;
+    }
+
+    /**
+     * @param name the parameter name
+     * @return true if the parameter's value is its default value
+     */
+    public boolean isDefaulted(String name) {
+        Entry entry = entries.get(name);
+        return entry != null && entry.defaulted;
+    }
+
+    /**
+     * @param name the parameter name
+     * @return the parameter's text as stored, of any type, or null if it is not in the set
+     */
+    public String getString(String name) {
+        Entry entry = entries.get(name);
+        return entry != null ? entry.raw : null;
+    }
+
+    /**
+     * @param name an {@code INTEGER} parameter
+     * @return its value, or null if it is not in the set
+     * @throws IllegalStateException if the parameter has another type
+     */
+    public Long getLong(String name) {
+        return typed(name, ParameterType.INTEGER, Long.class);
+    }
+
+    public long getLong(String name, long defaultValue) {
+        Long value = getLong(name);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * @throws IllegalStateException if the parameter has another type or does not fit in an int
+     */
+    public int getInt(String name, int defaultValue) {
+        Long value = getLong(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Parameter " + name + " does not fit in an int");
+        }
+        return value.intValue();
+    }
+
+    /**
+     * @param name a {@code DECIMAL} or {@code INTEGER} parameter
+     * @return its value, or null if it is not in the set
+     * @throws IllegalStateException if the parameter has another type
+     */
+    public BigDecimal getDecimal(String name) {
+        Entry entry = entries.get(name);
+        if (entry != null && entry.type == ParameterType.INTEGER) {
+            return BigDecimal.valueOf((Long) entry.value);
+        }
+        return typed(name, ParameterType.DECIMAL, BigDecimal.class);
+    }
+
+    /**
+     * @param name a {@code BOOLEAN} parameter
+     * @throws IllegalStateException if the parameter has another type
+     */
+    public boolean getBoolean(String name, boolean defaultValue) {
+        Boolean value = typed(name, ParameterType.BOOLEAN, Boolean.class);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * @param name a {@code JSON} parameter
+     * @return its parsed document (shared; do not modify), or null if it is not in the set
+     * @throws IllegalStateException if the parameter has another type
+     */
+    public JsonNode getJson(String name) {
+        return typed(name, ParameterType.JSON, JsonNode.class);
+    }
+
+    /**
+     * @return the vault credential IDs of secrets without a stored value, by parameter name
+     */
+    public Map<String, String> getSecretReferences() {
+        return secretReferences;
+    }
+
+    /**
+     * @return the parameters that were left out of the set, with the reason
+     */
+    public List<ParameterViolationDTO> getViolations() {
+        return violations;
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    private <T> T typed(String name, ParameterType expected, Class<T> valueType) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.type != expected) {
+            throw new IllegalStateException("Parameter " + name + " is " + entry.type + ", not " + expected);
+        }
+        return valueType.cast(entry.value);
+    }
+
+    private record Entry(ParameterType type, String raw, Object value, boolean defaulted) {
+    }
+}
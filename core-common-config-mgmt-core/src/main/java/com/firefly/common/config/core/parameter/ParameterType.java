@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.parameter;
+
+import java.util.Locale;
+
+/**
+ * Value types of EAV parameters ({@code parameter_type} column).
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public enum ParameterType {
+    STRING,
+    INTEGER,
+    DECIMAL,
+    BOOLEAN,
+    JSON;
+
+    /**
+     * @param value the raw column value
+     * @return the type, {@link #STRING} for a null or blank column, or null if the type is unknown
+     */
+    public static ParameterType of(String value) {
+        if (value == null || value.isBlank()) {
+            return STRING;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.patch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.models.entities.ConfigurationAudit;
+import com.firefly.common.config.models.repositories.ConfigurationAuditRepository;
+import com.firefly.common.config.models.repositories.PatchResult;
+import com.firefly.common.config.models.routing.PrimaryTransactions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Applies JSON Merge Patch (RFC 7386) documents to configuration entities.
+ *
+ * <p>The top-level members of the patch are the fields to write: each one is
+ * read into the DTO, mapped to the entity and written with a single narrow
+ * {@code UPDATE} of just those columns; a {@code null} member clears the
+ * field. {@code id} is taken from the path and {@code version}, when present,
+ * is the expected version for optimistic locking. A target's validator sees
+ * the merged row before the commit, so a patch cannot store what a full
+ * update would reject. Entity DTOs are flat, so an
+ * object-valued member replaces the field rather than being merged into it.</p>
+ *
+ * <p>Columns whose stored value actually changed are reported in one
+ * {@link ConfigurationChangedEvent} and recorded as one
+ * {@link ConfigurationAudit} row each, with old and new values; values of
+ * sensitive fields are masked. The update, its audit rows and its outbox row
+ * commit in one transaction, and the event is published after the commit. A
+ * patch that changes nothing publishes and records nothing.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MergePatchExecutor {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private static final String ID = "id";
+    private static final String VERSION = "version";
+    private static final String MASK = "******";
+    private static final Pattern SENSITIVE_NAME =
+            Pattern.compile("(?i).*(secret|password|token|credential|apikey|privatekey).*");
+
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConfigurationAuditRepository auditRepository;
+    private final ChangeEventOutbox outbox;
+    private final PrimaryTransactions transactions;
+
+    /**
+     * Applies a merge patch to the entity with the given ID.
+     *
+     * @param id the entity ID
+     * @param patch the merge patch document
+     * @param target how to map, write and report the entity
+     * @return the updated DTO, or empty if no entity has the ID
+     */
+    public <E, D> Mono<D> apply(UUID id, JsonNode patch, MergePatchTarget<E, D> target) {
+        if (patch == null || !patch.isObject()) {
+            return Mono.error(new InvalidMergePatchException("A merge patch must be a JSON object"));
+        }
+        ObjectNode document = ((ObjectNode) patch).deepCopy();
+        JsonNode version = document.remove(VERSION);
+        document.remove(ID);
+        List<String> fields = new ArrayList<>(document.size());
+        document.fieldNames().forEachRemaining(fields::add);
+
+        document.put(ID, id.toString());
+        if (version != null && !version.isNull()) {
+            document.set(VERSION, version);
+        }
+        D dto;
+        try {
+            dto = objectMapper.treeToValue(document, target.getDtoType());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return Mono.error(new InvalidMergePatchException("Invalid merge patch: " + e.getMessage()));
+        }
+
+        Mono<PatchResult<E>> write = target.getRepository().patchReturning(target.getToEntity().apply(dto), fields)
+                .onErrorMap(e -> e instanceof IllegalArgumentException && !(e instanceof InvalidMergePatchException),
+                        e -> new InvalidMergePatchException(e.getMessage()))
+                .doOnNext(result -> validate(result, target))
+                .flatMap(result -> record(id, result, target).thenReturn(result));
+        return transactions.execute(write)
+                .doOnNext(result -> publish(id, result, target))
+                .map(result -> target.getToDTO().apply(result.getEntity()));
+    }
+
+    private static <E, D> void validate(PatchResult<E> result, MergePatchTarget<E, D> target) {
+        if (result.isChanged() && target.getValidator() != null) {
+            target.getValidator().accept(result.getEntity());
+        }
+    }
+
+    private <E, D> Mono<Void> record(UUID id, PatchResult<E> result, MergePatchTarget<E, D> target) {
+        if (!result.isChanged()) {
+            return Mono.empty();
+        }
+        E entity = result.getEntity();
+        String entityType = entity.getClass().getSimpleName();
+        UUID tenantId = target.getTenantId().apply(entity);
+
+        String auditType = toAuditType(entityType);
+        List<ConfigurationAudit> audits = new ArrayList<>(result.getChanges().size());
+        for (Map.Entry<String, PatchResult.Change> change : result.getChanges().entrySet()) {
+            boolean sensitive = target.getSensitiveProperties().contains(change.getKey())
+                    || SENSITIVE_NAME.matcher(change.getKey()).matches();
+            audits.add(ConfigurationAudit.builder()
+                    .tenantId(tenantId)
+                    .entityType(auditType)
+                    .entityId(id)
+                    .action("UPDATE")
+                    .fieldName(change.getKey())
+                    .oldValue(sensitive ? MASK : stringValue(change.getValue().getOldValue()))
+                    .newValue(sensitive ? MASK : stringValue(change.getValue().getNewValue()))
+                    .changeCategory("CONFIGURATION")
+                    .build());
+        }
+        return auditRepository.saveAll(audits)
+                .then(outbox.append(changedEvent(id, result, target)))
+                .doOnSuccess(done -> log.debug("Patched {} {}: {}", entityType, id, result.getChanges().keySet()));
+    }
+
+    /**
+     * Publishes the change in-process once the transaction has committed.
+     */
+    private <E, D> void publish(UUID id, PatchResult<E> result, MergePatchTarget<E, D> target) {
+        if (!result.isChanged()) {
+            return;
+        }
+        ConfigurationChangedEvent event = changedEvent(id, result, target);
+        if (target.getOnChanged() != null) {
+            target.getOnChanged().accept(event);
+        } else {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private static <E, D> ConfigurationChangedEvent changedEvent(UUID id, PatchResult<E> result,
+                                                                  MergePatchTarget<E, D> target) {
+        E entity = result.getEntity();
+        return ConfigurationChangedEvent.updated(entity.getClass().getSimpleName(), id,
+                target.getTenantId().apply(entity), result.getChanges().keySet());
+    }
+
+    private static String stringValue(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * {@code TenantSettings} becomes {@code TENANT_SETTINGS}, the style used by audit records.
+     */
+    static String toAuditType(String simpleName) {
+        return simpleName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.patch;
+
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.models.repositories.VersionedUpdateRepository;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Describes how {@link MergePatchExecutor} reads, writes and reports one
+ * entity type.
+ *
+ * @param <E> the entity type
+ * @param <D> the DTO type
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Value
+@Builder
+public class MergePatchTarget<E, D> {
+
+    @NonNull
+    Class<D> dtoType;
+
+    @NonNull
+    VersionedUpdateRepository<E> repository;
+
+    @NonNull
+    Function<D, E> toEntity;
+
+    @NonNull
+    Function<E, D> toDTO;
+
+    /**
+     * Owning tenant of a stored entity, used for events and audits; null for global rows.
+     */
+    @NonNull
+    Function<E, UUID> tenantId;
+
+    /**
+     * Checks the patched entity, as stored by the update, before the
+     * transaction commits; an exception rolls the patch back and is passed
+     * to the caller unchanged. Optional.
+     */
+    Consumer<E> validator;
+
+    /**
+     * Receives the change event instead of the application event publisher,
+     * for services that invalidate local state before publishing.
+     */
+    Consumer<ConfigurationChangedEvent> onChanged;
+
+    /**
+     * Properties whose values are masked in audit records, in addition to
+     * names that look like secrets.
+     */
+    @Singular
+    Set<String> sensitiveProperties;
+}
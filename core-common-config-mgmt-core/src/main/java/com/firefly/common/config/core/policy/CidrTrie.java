@@ -0,0 +1,252 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.policy;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable binary trie of IPv4 and IPv6 CIDR ranges.
+ *
+ * <p>Ranges are parsed once when the trie is built; a lookup walks at most
+ * 32 (IPv4) or 128 (IPv6) nodes and stops at the first terminal prefix, so the
+ * cost of a membership check is bounded by the address length and does not
+ * depend on how many ranges were configured.</p>
+ *
+ * <p>Input accepts the two formats found in settings columns: a plain
+ * comma-separated list ({@code 10.0.0.0/8, 192.168.1.10}) and a JSON array of
+ * strings ({@code ["10.0.0.0/8","192.168.1.10"]}). A bare address is treated as
+ * a full-length prefix. Malformed entries are skipped and reported through
+ * {@link #getRejectedEntries()}.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class CidrTrie {
+
+    private static final CidrTrie EMPTY = new CidrTrie(new Node(), new Node(), List.of(), List.of());
+
+    private final Node ipv4Root;
+    private final Node ipv6Root;
+    private final List<String> ranges;
+    private final List<String> rejectedEntries;
+
+    private CidrTrie(Node ipv4Root, Node ipv6Root, List<String> ranges, List<String> rejectedEntries) {
+        this.ipv4Root = ipv4Root;
+        this.ipv6Root = ipv6Root;
+        this.ranges = ranges;
+        this.rejectedEntries = rejectedEntries;
+    }
+
+    /**
+     * Returns a trie that matches no address.
+     *
+     * @return the empty trie
+     */
+    public static CidrTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Parses a comma-separated list or JSON array of CIDR ranges.
+     *
+     * @param rawList the raw column value (may be null or blank)
+     * @return the compiled trie
+     */
+    public static CidrTrie parse(String rawList) {
+        List<String> entries = PolicyValues.splitList(rawList);
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+
+        Node ipv4Root = new Node();
+        Node ipv6Root = new Node();
+        List<String> accepted = new ArrayList<>(entries.size());
+        List<String> rejected = new ArrayList<>();
+
+        for (String entry : entries) {
+            int slash = entry.indexOf('/');
+            String addressPart = slash < 0 ? entry : entry.substring(0, slash);
+            byte[] address = parseAddress(addressPart);
+            if (address == null) {
+                rejected.add(entry);
+                continue;
+            }
+            int maxBits = address.length * 8;
+            int prefixLength = maxBits;
+            if (slash >= 0) {
+                try {
+                    prefixLength = Integer.parseInt(entry.substring(slash + 1).trim());
+                } catch (NumberFormatException e) {
+                    rejected.add(entry);
+                    continue;
+                }
+                if (prefixLength < 0 || prefixLength > maxBits) {
+                    rejected.add(entry);
+                    continue;
+                }
+            }
+            insert(address.length == 4 ? ipv4Root : ipv6Root, address, prefixLength);
+            accepted.add(addressPart + "/" + prefixLength);
+        }
+
+        return new CidrTrie(ipv4Root, ipv6Root,
+                Collections.unmodifiableList(accepted),
+                Collections.unmodifiableList(rejected));
+    }
+
+    /**
+     * Checks whether the given address literal falls in any configured range.
+     * Host names are never resolved; anything that is not an IP literal is
+     * reported as not matching.
+     *
+     * @param ipAddress the IPv4 or IPv6 literal
+     * @return true if a configured range contains the address
+     */
+    public boolean contains(String ipAddress) {
+        if (isEmpty()) {
+            return false;
+        }
+        byte[] address = parseAddress(ipAddress);
+        return address != null && contains(address);
+    }
+
+    /**
+     * Checks whether the given raw address falls in any configured range.
+     *
+     * @param address 4 or 16 address bytes
+     * @return true if a configured range contains the address
+     */
+    public boolean contains(byte[] address) {
+        Node node = address.length == 4 ? ipv4Root : ipv6Root;
+        int maxBits = address.length * 8;
+        for (int bit = 0; ; bit++) {
+            if (node.terminal) {
+                return true;
+            }
+            if (bit == maxBits) {
+                return false;
+            }
+            node = ((address[bit >>> 3] >>> (7 - (bit & 7))) & 1) == 0 ? node.zero : node.one;
+            if (node == null) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return true if no range was configured
+     */
+    public boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    /**
+     * @return the normalized ranges ({@code address/prefix}) in input order
+     */
+    public List<String> getRanges() {
+        return ranges;
+    }
+
+    /**
+     * @return the raw entries that could not be parsed
+     */
+    public List<String> getRejectedEntries() {
+        return rejectedEntries;
+    }
+
+    private static void insert(Node root, byte[] address, int prefixLength) {
+        Node node = root;
+        for (int bit = 0; bit < prefixLength && !node.terminal; bit++) {
+            if (((address[bit >>> 3] >>> (7 - (bit & 7))) & 1) == 0) {
+                if (node.zero == null) {
+                    node.zero = new Node();
+                }
+                node = node.zero;
+            } else {
+                if (node.one == null) {
+                    node.one = new Node();
+                }
+                node = node.one;
+            }
+        }
+        // A shorter prefix already covers everything below it
+        node.terminal = true;
+        node.zero = null;
+        node.one = null;
+    }
+
+    /**
+     * Parses an IP literal without ever triggering a DNS lookup.
+     *
+     * @param literal the IPv4 dotted quad or IPv6 literal
+     * @return the address bytes, or null if the literal is malformed
+     */
+    static byte[] parseAddress(String literal) {
+        if (literal == null) {
+            return null;
+        }
+        String value = literal.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (value.indexOf(':') < 0) {
+            return parseIpv4(value);
+        }
+        if (value.startsWith("[") && value.endsWith("]")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return InetAddress.ofLiteral(value).getAddress();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static byte[] parseIpv4(String value) {
+        byte[] result = new byte[4];
+        int octet = 0;
+        int current = -1;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                current = (current < 0 ? 0 : current * 10) + (c - '0');
+                if (current > 255) {
+                    return null;
+                }
+            } else if (c == '.' && current >= 0 && octet < 3) {
+                result[octet++] = (byte) current;
+                current = -1;
+            } else {
+                return null;
+            }
+        }
+        if (octet != 3 || current < 0) {
+            return null;
+        }
+        result[3] = (byte) current;
+        return result;
+    }
+
+    private static final class Node {
+        private Node zero;
+        private Node one;
+        private boolean terminal;
+    }
+}
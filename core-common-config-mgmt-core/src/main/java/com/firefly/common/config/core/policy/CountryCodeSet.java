@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.policy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable bitset of ISO 3166-1 alpha-2 country codes.
+ *
+ * <p>Every two-letter code maps to one of 676 bits, so membership is a single
+ * array read regardless of how many codes were configured.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class CountryCodeSet {
+
+    private static final int SIZE = 26 * 26;
+    private static final CountryCodeSet EMPTY = new CountryCodeSet(new long[(SIZE + 63) >>> 6], 0);
+
+    private final long[] bits;
+    private final int cardinality;
+
+    private CountryCodeSet(long[] bits, int cardinality) {
+        this.bits = bits;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * @return a set containing no country
+     */
+    public static CountryCodeSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Parses a delimited list of alpha-2 codes; entries that are not two
+     * letters are ignored.
+     *
+     * @param rawList the raw column value (may be null or blank)
+     * @return the compiled set
+     */
+    public static CountryCodeSet parse(String rawList) {
+        List<String> entries = PolicyValues.splitList(rawList);
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+        long[] bits = new long[EMPTY.bits.length];
+        int cardinality = 0;
+        for (String entry : entries) {
+            int index = indexOf(entry);
+            if (index >= 0 && (bits[index >>> 6] & (1L << index)) == 0) {
+                bits[index >>> 6] |= 1L << index;
+                cardinality++;
+            }
+        }
+        return cardinality == 0 ? EMPTY : new CountryCodeSet(bits, cardinality);
+    }
+
+    /**
+     * @param countryCode an alpha-2 code in any case
+     * @return true if the code is in the set
+     */
+    public boolean contains(String countryCode) {
+        int index = indexOf(countryCode);
+        return index >= 0 && (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @return true if the set contains no country
+     */
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * @return the number of countries in the set
+     */
+    public int size() {
+        return cardinality;
+    }
+
+    /**
+     * @return the upper-case codes in alphabetical order
+     */
+    public List<String> toList() {
+        List<String> codes = new ArrayList<>(cardinality);
+        for (int index = 0; index < SIZE; index++) {
+            if ((bits[index >>> 6] & (1L << index)) != 0) {
+                codes.add(new String(new char[]{(char) ('A' + index / 26), (char) ('A' + index % 26)}));
+            }
+        }
+        return Collections.unmodifiableList(codes);
+    }
+
+    private static int indexOf(String code) {
+        if (code == null || code.length() != 2) {
+            return -1;
+        }
+        int first = Character.toUpperCase(code.charAt(0)) - 'A';
+        int second = Character.toUpperCase(code.charAt(1)) - 'A';
+        if (first < 0 || first >= 26 || second < 0 || second >= 26) {
+            return -1;
+        }
+        return first * 26 + second;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.policy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Helpers for turning nullable settings columns into primitive policy values.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class PolicyValues {
+
+    private PolicyValues() {
+    }
+
+    /**
+     * Splits a delimited list column into trimmed, non-empty entries.
+     * Accepts comma, semicolon or whitespace separators and tolerates a JSON
+     * array of strings ({@code ["a","b"]}), which is how some list columns are
+     * documented.
+     *
+     * @param raw the raw column value
+     * @return the entries in input order (never null)
+     */
+    public static List<String> splitList(String raw) {
+        return split(raw, true);
+    }
+
+    /**
+     * Splits a delimited list of free-text names, such as certifications,
+     * into trimmed, non-empty entries. Only comma and semicolon separate
+     * entries, so {@code "PCI DSS, ISO 27001"} yields two names; runs of
+     * whitespace inside a name become one space. JSON arrays of strings are
+     * tolerated as in {@link #splitList(String)}.
+     *
+     * @param raw the raw column value
+     * @return the entries in input order (never null)
+     */
+    public static List<String> splitNames(String raw) {
+        return split(raw, false);
+    }
+
+    private static List<String> split(String raw, boolean whitespaceSeparates) {
+        if (raw == null || raw.isBlank()) {
+            return List.of();
+        }
+        List<String> entries = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == ',' || c == ';' || (whitespaceSeparates && Character.isWhitespace(c))) {
+                flush(current, entries);
+            } else if (Character.isWhitespace(c)) {
+                if (current.length() > 0 && current.charAt(current.length() - 1) != ' ') {
+                    current.append(' ');
+                }
+            } else if (c != '[' && c != ']' && c != '"' && c != '\'') {
+                current.append(c);
+            }
+        }
+        flush(current, entries);
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * @param value a nullable boolean column
+     * @return true only if the column is explicitly true
+     */
+    public static boolean isTrue(Boolean value) {
+        return Boolean.TRUE.equals(value);
+    }
+
+    /**
+     * @param value a nullable integer column
+     * @param defaultValue the value to use when the column is null
+     * @return the primitive value
+     */
+    public static int intOrDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private static void flush(StringBuilder current, List<String> entries) {
+        String entry = current.toString().strip();
+        if (!entry.isEmpty()) {
+            entries.add(entry);
+        }
+        current.setLength(0);
+    }
+}
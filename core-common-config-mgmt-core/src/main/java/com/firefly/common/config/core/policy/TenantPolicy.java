@@ -0,0 +1,250 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.policy;
+
+import com.firefly.common.config.interfaces.enums.TwoFactorAuthMethod;
+import com.firefly.common.config.models.entities.TenantSettings;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.firefly.common.config.core.policy.PolicyValues.intOrDefault;
+import static com.firefly.common.config.core.policy.PolicyValues.isTrue;
+
+/**
+ * Compiled, immutable view of a tenant's {@link TenantSettings} row.
+ *
+ * <p>Nullable columns are collapsed to primitives (absent flags are false,
+ * absent limits are 0 meaning "not configured"), list columns are parsed into
+ * {@link CidrTrie}, {@link CountryCodeSet} and {@link EnumSet} instances, and
+ * the result is built once per settings change so request-path checks do no
+ * parsing at all.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Value
+@Builder
+public class TenantPolicy {
+
+    UUID tenantId;
+    UUID settingsId;
+    long version;
+    Instant compiledAt;
+    boolean active;
+
+    // Rate limiting
+    int apiRateLimitPerMinute;
+    int apiRateLimitPerHour;
+    int apiRateLimitPerDay;
+
+    // Password policy
+    int passwordMinLength;
+    boolean passwordRequireUppercase;
+    boolean passwordRequireLowercase;
+    boolean passwordRequireNumbers;
+    boolean passwordRequireSpecialChars;
+    int passwordExpiryDays;
+    int passwordHistoryCount;
+
+    // Authentication
+    boolean mfaEnabled;
+    boolean mfaRequired;
+    Set<TwoFactorAuthMethod> twoFactorAuthMethods;
+    int sessionTimeoutMinutes;
+    int sessionIdleTimeoutMinutes;
+    int concurrentSessionsLimit;
+    int maxLoginAttempts;
+    int accountLockoutDurationMinutes;
+    boolean forcePasswordChangeOnFirstLogin;
+    int apiKeyRotationDays;
+
+    // Network
+    CidrTrie ipAllowList;
+    CidrTrie ipBlockList;
+    boolean geoBlockingEnabled;
+    CountryCodeSet allowedCountries;
+    CountryCodeSet blockedCountries;
+
+    // Compliance
+    boolean gdprEnabled;
+    boolean pciDssEnabled;
+    boolean soxComplianceEnabled;
+    boolean hipaaComplianceEnabled;
+    boolean iso27001ComplianceEnabled;
+    String dataResidencyCountry;
+
+    // Fraud detection
+    boolean fraudDetectionEnabled;
+    int fraudScoreThreshold;
+    boolean transactionMonitoringEnabled;
+    boolean amlScreeningEnabled;
+    boolean sanctionsScreeningEnabled;
+    boolean kycVerificationRequired;
+    int kycRefreshIntervalDays;
+
+    // Circuit breaker
+    boolean circuitBreakerEnabled;
+    int circuitBreakerFailureThreshold;
+    int circuitBreakerTimeoutSeconds;
+    int circuitBreakerResetTimeoutSeconds;
+
+    // Maintenance
+    boolean maintenanceModeEnabled;
+    LocalDateTime maintenanceStartTime;
+    LocalDateTime maintenanceEndTime;
+    String maintenanceMessage;
+
+    // Audit
+    boolean auditEnabled;
+    boolean sensitiveDataMaskingEnabled;
+
+    // Disaster recovery
+    boolean crossRegionReplicationEnabled;
+    List<String> replicationRegions;
+
+    /**
+     * Compiles a settings row into a policy.
+     *
+     * @param settings the persisted settings
+     * @return the compiled policy
+     */
+    public static TenantPolicy compile(TenantSettings settings) {
+        return TenantPolicy.builder()
+                .tenantId(settings.getTenantId())
+                .settingsId(settings.getId())
+                .version(settings.getVersion() != null ? settings.getVersion() : 0L)
+                .compiledAt(Instant.now())
+                .active(settings.getActive() == null || settings.getActive())
+                .apiRateLimitPerMinute(intOrDefault(settings.getApiRateLimitPerMinute(), 0))
+                .apiRateLimitPerHour(intOrDefault(settings.getApiRateLimitPerHour(), 0))
+                .apiRateLimitPerDay(intOrDefault(settings.getApiRateLimitPerDay(), 0))
+                .passwordMinLength(intOrDefault(settings.getPasswordMinLength(), 0))
+                .passwordRequireUppercase(isTrue(settings.getPasswordRequireUppercase()))
+                .passwordRequireLowercase(isTrue(settings.getPasswordRequireLowercase()))
+                .passwordRequireNumbers(isTrue(settings.getPasswordRequireNumbers()))
+                .passwordRequireSpecialChars(isTrue(settings.getPasswordRequireSpecialChars()))
+                .passwordExpiryDays(intOrDefault(settings.getPasswordExpiryDays(), 0))
+                .passwordHistoryCount(intOrDefault(settings.getPasswordHistoryCount(), 0))
+                .mfaEnabled(isTrue(settings.getMfaEnabled()))
+                .mfaRequired(isTrue(settings.getMfaRequired()))
+                .twoFactorAuthMethods(parseMethods(settings.getTwoFactorAuthMethods()))
+                .sessionTimeoutMinutes(intOrDefault(settings.getSessionTimeoutMinutes(), 0))
+                .sessionIdleTimeoutMinutes(intOrDefault(settings.getSessionIdleTimeoutMinutes(), 0))
+                .concurrentSessionsLimit(intOrDefault(settings.getConcurrentSessionsLimit(), 0))
+                .maxLoginAttempts(intOrDefault(settings.getMaxLoginAttempts(), 0))
+                .accountLockoutDurationMinutes(intOrDefault(settings.getAccountLockoutDurationMinutes(), 0))
+                .forcePasswordChangeOnFirstLogin(isTrue(settings.getForcePasswordChangeOnFirstLogin()))
+                .apiKeyRotationDays(intOrDefault(settings.getApiKeyRotationDays(), 0))
+                .ipAllowList(CidrTrie.parse(settings.getIpWhitelist()))
+                .ipBlockList(CidrTrie.parse(settings.getIpBlacklist()))
+                .geoBlockingEnabled(isTrue(settings.getGeoBlockingEnabled()))
+                .allowedCountries(CountryCodeSet.parse(settings.getAllowedCountries()))
+                .blockedCountries(CountryCodeSet.parse(settings.getBlockedCountries()))
+                .gdprEnabled(isTrue(settings.getGdprEnabled()))
+                .pciDssEnabled(isTrue(settings.getPciDssEnabled()))
+                .soxComplianceEnabled(isTrue(settings.getSoxComplianceEnabled()))
+                .hipaaComplianceEnabled(isTrue(settings.getHipaaComplianceEnabled()))
+                .iso27001ComplianceEnabled(isTrue(settings.getIso27001ComplianceEnabled()))
+                .dataResidencyCountry(settings.getDataResidencyCountry())
+                .fraudDetectionEnabled(isTrue(settings.getFraudDetectionEnabled()))
+                .fraudScoreThreshold(intOrDefault(settings.getFraudScoreThreshold(), 0))
+                .transactionMonitoringEnabled(isTrue(settings.getTransactionMonitoringEnabled()))
+                .amlScreeningEnabled(isTrue(settings.getAmlScreeningEnabled()))
+                .sanctionsScreeningEnabled(isTrue(settings.getSanctionsScreeningEnabled()))
+                .kycVerificationRequired(isTrue(settings.getKycVerificationRequired()))
+                .kycRefreshIntervalDays(intOrDefault(settings.getKycRefreshIntervalDays(), 0))
+                .circuitBreakerEnabled(isTrue(settings.getCircuitBreakerEnabled()))
+                .circuitBreakerFailureThreshold(intOrDefault(settings.getCircuitBreakerFailureThreshold(), 0))
+                .circuitBreakerTimeoutSeconds(intOrDefault(settings.getCircuitBreakerTimeoutSeconds(), 0))
+                .circuitBreakerResetTimeoutSeconds(intOrDefault(settings.getCircuitBreakerResetTimeoutSeconds(), 0))
+                .maintenanceModeEnabled(isTrue(settings.getMaintenanceModeEnabled()))
+                .maintenanceStartTime(settings.getMaintenanceStartTime())
+                .maintenanceEndTime(settings.getMaintenanceEndTime())
+                .maintenanceMessage(settings.getMaintenanceMessage())
+                .auditEnabled(isTrue(settings.getAuditEnabled()))
+                .sensitiveDataMaskingEnabled(isTrue(settings.getSensitiveDataMaskingEnabled()))
+                .crossRegionReplicationEnabled(isTrue(settings.getCrossRegionReplicationEnabled()))
+                .replicationRegions(PolicyValues.splitList(settings.getReplicationRegions()))
+                .build();
+    }
+
+    /**
+     * Checks an IP literal against the block list and then the allow list.
+     * A blocked address is always rejected; when no allow list is configured
+     * every non-blocked address is accepted.
+     *
+     * @param ipAddress the client IP literal
+     * @return true if the address may access the tenant
+     */
+    public boolean isIpAllowed(String ipAddress) {
+        if (ipAllowList.isEmpty() && ipBlockList.isEmpty()) {
+            return true;
+        }
+        byte[] address = CidrTrie.parseAddress(ipAddress);
+        if (address == null) {
+            return false;
+        }
+        if (ipBlockList.contains(address)) {
+            return false;
+        }
+        return ipAllowList.isEmpty() || ipAllowList.contains(address);
+    }
+
+    /**
+     * Checks a country code against the geo-blocking lists. Always true when
+     * geo-blocking is disabled.
+     *
+     * @param countryCode the ISO 3166-1 alpha-2 code
+     * @return true if the country may access the tenant
+     */
+    public boolean isCountryAllowed(String countryCode) {
+        if (!geoBlockingEnabled) {
+            return true;
+        }
+        if (blockedCountries.contains(countryCode)) {
+            return false;
+        }
+        return allowedCountries.isEmpty() || allowedCountries.contains(countryCode);
+    }
+
+    /**
+     * @param method the second-factor method
+     * @return true if the tenant allows the method
+     */
+    public boolean allowsTwoFactorMethod(TwoFactorAuthMethod method) {
+        return method != null && twoFactorAuthMethods.contains(method);
+    }
+
+    private static Set<TwoFactorAuthMethod> parseMethods(String rawList) {
+        EnumSet<TwoFactorAuthMethod> methods = EnumSet.noneOf(TwoFactorAuthMethod.class);
+        for (String entry : PolicyValues.splitList(rawList)) {
+            TwoFactorAuthMethod method = TwoFactorAuthMethod.fromValue(entry);
+            if (method != null) {
+                methods.add(method);
+            }
+        }
+        return Collections.unmodifiableSet(methods);
+    }
+}
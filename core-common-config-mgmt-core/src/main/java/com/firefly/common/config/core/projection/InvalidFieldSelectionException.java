@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.projection;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a {@code fields} parameter is empty or names a field the
+ * resource does not expose.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFieldSelectionException extends IllegalArgumentException {
+
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.projection;
+
+import com.firefly.common.config.core.mappers.ColumnValueMapper;
+import io.r2dbc.postgresql.codec.Json;
+import lombok.RequiredArgsConstructor;
+import org.fireflyframework.core.filters.FilterRequest;
+import org.fireflyframework.core.queries.PaginationResponse;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs sparse-fieldset reads ({@code ?fields=id,name,code}) for list and
+ * detail views that need a handful of columns from wide entities.
+ *
+ * <p>The requested fields become the column list of the {@code SELECT}, so
+ * the database ships and the converter reads only those columns; the result
+ * is a map of just the requested fields, in request order, which skips the
+ * DTO mapping step and serializes to exactly what was asked for. Selectable
+ * fields are the DTO properties that are also persistent entity properties.</p>
+ *
+ * <p>In a projected filter each non-null property of the filter DTO is
+ * matched by equality; pagination and sorting come from the request as
+ * usual. {@code JSONB} and {@code TEXT[]} columns are converted with
+ * {@link ColumnValueMapper} in both directions, so filter values and
+ * projected fields have the same string form as the DTOs: a JSON filter
+ * matches documents equal to it, and a list filter matches the same entries
+ * in the same order.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectionExecutor {
+
+    /**
+     * Name of the request parameter carrying the comma-separated field list.
+     */
+    public static final String FIELDS_PARAM = "fields";
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final R2dbcEntityTemplate template;
+
+    private final Map<SelectableKey, Map<String, RelationalPersistentProperty>> selectable = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the requested fields of one entity.
+     *
+     * @param entityType the entity class
+     * @param dtoType the DTO class whose properties may be selected
+     * @param id the entity ID
+     * @param fields the comma-separated field list
+     * @return the requested fields, or empty if no entity has the ID
+     */
+    public <E> Mono<Map<String, Object>> findById(Class<E> entityType, Class<?> dtoType, UUID id, String fields) {
+        return Mono.defer(() -> {
+            RelationalPersistentEntity<E> entity = persistentEntity(entityType);
+            List<RelationalPersistentProperty> selected = select(entity, dtoType, fields);
+            Query query = Query.query(Criteria.where(entity.getRequiredIdProperty().getName()).is(id))
+                    .columns(columnsOf(selected));
+            return template.select(entityType)
+                    .matching(query)
+                    .one()
+                    .map(row -> toMap(entity, row, selected));
+        });
+    }
+
+    /**
+     * Reads one page of the requested fields of the entities matching a
+     * filter request.
+     *
+     * @param entityType the entity class
+     * @param dtoType the DTO class whose properties may be selected and filtered on
+     * @param filterRequest the filter criteria and pagination
+     * @param fields the comma-separated field list
+     * @return the page of projected entities
+     */
+    public <E, D> Mono<PaginationResponse<Map<String, Object>>> filter(Class<E> entityType, Class<D> dtoType,
+                                                                       FilterRequest<D> filterRequest, String fields) {
+        return Mono.defer(() -> {
+            RelationalPersistentEntity<E> entity = persistentEntity(entityType);
+            List<RelationalPersistentProperty> selected = select(entity, dtoType, fields);
+            Criteria criteria = criteriaOf(entity, dtoType, filterRequest.getFilters());
+            Pageable pageable = filterRequest.getPagination() != null
+                    ? filterRequest.getPagination().toPageable()
+                    : PageRequest.of(0, DEFAULT_PAGE_SIZE);
+
+            Mono<List<Map<String, Object>>> content = template.select(entityType)
+                    .matching(Query.query(criteria).columns(columnsOf(selected)).with(pageable))
+                    .all()
+                    .map(row -> toMap(entity, row, selected))
+                    .collectList();
+            Mono<Long> total = template.count(Query.query(criteria), entityType);
+
+            return Mono.zip(content, total).map(page -> PaginationResponse.<Map<String, Object>>builder()
+                    .content(page.getT1())
+                    .totalElements(page.getT2())
+                    .totalPages(pageable.getPageSize() > 0
+                            ? (int) ((page.getT2() + pageable.getPageSize() - 1) / pageable.getPageSize())
+                            : 1)
+                    .currentPage(pageable.getPageNumber())
+                    .build());
+        });
+    }
+
+    List<RelationalPersistentProperty> select(RelationalPersistentEntity<?> entity, Class<?> dtoType,
+                                                      String fields) {
+        Map<String, RelationalPersistentProperty> available = selectableProperties(entity, dtoType);
+        Set<String> names = new LinkedHashSet<>();
+        if (fields != null) {
+            for (String field : fields.split(",")) {
+                if (!field.isBlank()) {
+                    names.add(field.trim());
+                }
+            }
+        }
+        if (names.isEmpty()) {
+            throw new InvalidFieldSelectionException("At least one field must be selected");
+        }
+        List<RelationalPersistentProperty> selected = new ArrayList<>(names.size());
+        for (String name : names) {
+            RelationalPersistentProperty property = available.get(name);
+            if (property == null) {
+                throw new InvalidFieldSelectionException(
+                        "Unknown field '" + name + "' for " + dtoType.getSimpleName());
+            }
+            selected.add(property);
+        }
+        return selected;
+    }
+
+    private Map<String, RelationalPersistentProperty> selectableProperties(RelationalPersistentEntity<?> entity,
+                                                                           Class<?> dtoType) {
+        return selectable.computeIfAbsent(new SelectableKey(entity.getType(), dtoType), key -> {
+            Map<String, RelationalPersistentProperty> properties = new LinkedHashMap<>();
+            for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(dtoType)) {
+                RelationalPersistentProperty property = entity.getPersistentProperty(descriptor.getName());
+                if (property != null && !property.isTransient()) {
+                    properties.put(property.getName(), property);
+                }
+            }
+            return Collections.unmodifiableMap(properties);
+        });
+    }
+
+    Criteria criteriaOf(RelationalPersistentEntity<?> entity, Class<?> dtoType, Object filters) {
+        Criteria criteria = Criteria.empty();
+        if (filters == null) {
+            return criteria;
+        }
+        BeanWrapper values = PropertyAccessorFactory.forBeanPropertyAccess(filters);
+        Map<String, RelationalPersistentProperty> properties = selectableProperties(entity, dtoType);
+        for (String name : properties.keySet()) {
+            Object value = values.isReadableProperty(name) ? values.getPropertyValue(name) : null;
+            Object columnValue = value != null ? toColumnValue(properties.get(name), value) : null;
+            if (columnValue != null) {
+                criteria = criteria.and(name).is(columnValue);
+            }
+        }
+        return criteria;
+    }
+
+    private static SqlIdentifier[] columnsOf(List<RelationalPersistentProperty> properties) {
+        SqlIdentifier[] columns = new SqlIdentifier[properties.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = properties.get(i).getColumnName();
+        }
+        return columns;
+    }
+
+    static <E> Map<String, Object> toMap(RelationalPersistentEntity<E> entity, E row,
+                                                 List<RelationalPersistentProperty> selected) {
+        PersistentPropertyAccessor<E> accessor = entity.getPropertyAccessor(row);
+        Map<String, Object> projected = new LinkedHashMap<>(selected.size() * 2);
+        for (RelationalPersistentProperty property : selected) {
+            projected.put(property.getName(), toFieldValue(accessor.getProperty(property)));
+        }
+        return projected;
+    }
+
+    /**
+     * Converts a DTO filter value to the column type, as the entity mappers
+     * do: JSON text to {@code JSONB} and list text to {@code TEXT[]}. A blank
+     * JSON value matches nothing specific and is ignored.
+     */
+    private static Object toColumnValue(RelationalPersistentProperty property, Object value) {
+        if (!(value instanceof String text)) {
+            return value;
+        }
+        if (Json.class.equals(property.getType())) {
+            return ColumnValueMapper.toJson(text);
+        }
+        if (property.isCollectionLike()) {
+            return ColumnValueMapper.toList(text).toArray(String[]::new);
+        }
+        return value;
+    }
+
+    /**
+     * Converts a column value to the DTO representation: {@code JSONB} as
+     * JSON text and {@code TEXT[]} as a comma-separated list.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object toFieldValue(Object value) {
+        if (value instanceof Json json) {
+            return ColumnValueMapper.fromJson(json);
+        }
+        if (value instanceof List<?> list) {
+            return ColumnValueMapper.fromList((List<String>) list);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    <E> RelationalPersistentEntity<E> persistentEntity(Class<E> entityType) {
+        return (RelationalPersistentEntity<E>) template.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(entityType);
+    }
+
+    /**
+     * Selectable fields depend on both classes: the same entity can be read
+     * through several DTOs.
+     */
+    private record SelectableKey(Class<?> entityType, Class<?> dtoType) {
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.routing;
+
+import com.firefly.common.config.core.events.ApiProcessMappingsActivatedEvent;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.support.HashedTimerWheel;
+import com.firefly.common.config.models.entities.ApiProcessMapping;
+import com.firefly.common.config.models.repositories.ApiProcessMappingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory index of the currently effective {@link ApiProcessMapping}s, used
+ * to resolve requests without a database round trip.
+ *
+ * <p>Mappings with an {@code apiPath} are compiled into a {@link RouteTrie};
+ * all mappings are also indexed by {@code operationId}. Active rows are loaded
+ * from the repository whenever a mapping changes; from those, a
+ * {@link Snapshot} holding only the rows effective at the activation instant
+ * is built and swapped in with a single volatile write, so readers always see
+ * one complete generation. Concurrent change events collapse into at most one
+ * extra reload.</p>
+ *
+ * <p>Each snapshot records the next {@code effectiveFrom}/{@code effectiveTo}
+ * boundary among the loaded rows and the shared {@link HashedTimerWheel}
+ * re-activates the loaded rows at that instant, so lookups never evaluate
+ * effective dates and a snapshot is exact until {@link Snapshot#validUntil()}.
+ * Re-activation is in-memory only and does not touch the database.</p>
+ *
+ * <p>Every swap publishes an {@link ApiProcessMappingsActivatedEvent} so that
+ * caches of resolved mappings can be dropped with the generation they were
+ * resolved against.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiProcessMappingIndex {
+
+    /**
+     * Candidate ordering: most specific route, then tenant, product, channel
+     * and method specificity, then the mapping's own priority (lower first).
+     */
+    static final Comparator<Candidate> RANKING = Comparator
+            .comparingLong(Candidate::routeSpecificity).reversed()
+            .thenComparing(candidate -> candidate.mapping().getTenantId() == null)
+            .thenComparing(candidate -> candidate.mapping().getProductId() == null)
+            .thenComparing(candidate -> candidate.mapping().getChannelType() == null)
+            .thenComparing(candidate -> isAnyMethod(candidate.mapping().getHttpMethod()))
+            .thenComparingInt(candidate -> priorityOf(candidate.mapping()));
+
+    /**
+     * Operation ordering, identical to {@code findBestMatch}: tenant, product
+     * and channel specificity, then priority (lower first).
+     */
+    static final Comparator<ApiProcessMapping> OPERATION_RANKING = Comparator
+            .comparing((ApiProcessMapping mapping) -> mapping.getTenantId() == null)
+            .thenComparing(mapping -> mapping.getProductId() == null)
+            .thenComparing(mapping -> mapping.getChannelType() == null)
+            .thenComparingInt(ApiProcessMappingIndex::priorityOf);
+
+    private final ApiProcessMappingRepository repository;
+    private final HashedTimerWheel timerWheel;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // Guarded by this; written on reload and by the timer worker
+    private List<ApiProcessMapping> loaded = List.of();
+    private HashedTimerWheel.Timeout activation;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        requestRebuild();
+    }
+
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (event.isFor(ApiProcessMapping.class)) {
+            requestRebuild();
+        }
+    }
+
+    /**
+     * Reloads the active mappings from the repository and activates the ones
+     * currently in effect.
+     *
+     * @return the number of indexed (currently effective) mappings
+     */
+    public Mono<Integer> rebuild() {
+        return repository.findByIsActiveTrue()
+                .collectList()
+                .map(mappings -> load(mappings, Instant.now()))
+                .doOnNext(this::publishActivated)
+                .map(Snapshot::size);
+    }
+
+    /**
+     * Resolves the best mapping for a concrete request path.
+     *
+     * @param httpMethod the request method
+     * @param path the concrete request path
+     * @param tenantId the tenant, or null for vanilla only
+     * @param productId the product, or null
+     * @param channelType the channel type, or null
+     * @return the best candidate, if any mapping matches
+     */
+    public Optional<Candidate> resolveRoute(String httpMethod, String path, UUID tenantId,
+                                            UUID productId, String channelType) {
+        Candidate best = null;
+        for (RouteTrie.Match<ApiProcessMapping> match : snapshot.routes().match(path)) {
+            ApiProcessMapping mapping = match.value();
+            if (!matchesMethod(mapping, httpMethod)
+                    || !matchesContext(mapping, tenantId, productId, channelType)) {
+                continue;
+            }
+            Candidate candidate = new Candidate(mapping, match.template());
+            if (best == null || RANKING.compare(candidate, best) < 0) {
+                best = candidate;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Resolves the best mapping for an operation, falling back to the vanilla
+     * mapping when no tenant-specific mapping matches.
+     *
+     * @param tenantId the tenant, or null for vanilla only
+     * @param operationId the operation ID
+     * @param productId the product, or null
+     * @param channelType the channel type, or null
+     * @return the best mapping, if any
+     */
+    public Optional<ApiProcessMapping> resolveOperation(UUID tenantId, String operationId,
+                                                        UUID productId, String channelType) {
+        return resolveOperation(snapshot, tenantId, operationId, productId, channelType);
+    }
+
+    /**
+     * Resolves an operation against a given snapshot, so a batch of lookups
+     * sees one consistent generation.
+     *
+     * @param snapshot the snapshot to resolve against
+     * @param tenantId the tenant, or null for vanilla only
+     * @param operationId the operation ID
+     * @param productId the product, or null
+     * @param channelType the channel type, or null
+     * @return the best mapping, if any
+     */
+    public static Optional<ApiProcessMapping> resolveOperation(Snapshot snapshot, UUID tenantId, String operationId,
+                                                        UUID productId, String channelType) {
+        if (operationId == null) {
+            return Optional.empty();
+        }
+        List<ApiProcessMapping> mappings = snapshot.byOperation().getOrDefault(operationId, List.of());
+        ApiProcessMapping best = null;
+        for (ApiProcessMapping mapping : mappings) {
+            if (matchesContext(mapping, tenantId, productId, channelType)
+                    && (best == null || OPERATION_RANKING.compare(mapping, best) < 0)) {
+                best = mapping;
+            }
+        }
+        if (best == null) {
+            // Same fallback as findVanillaMapping: any vanilla mapping, lowest priority first
+            for (ApiProcessMapping mapping : mappings) {
+                if (mapping.isVanilla() && (best == null || priorityOf(mapping) < priorityOf(best))) {
+                    best = mapping;
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * @return the current index generation
+     */
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    /**
+     * @return true if the index has been loaded at least once
+     */
+    public boolean isLoaded() {
+        return snapshot != Snapshot.EMPTY;
+    }
+
+    static boolean matchesContext(ApiProcessMapping mapping, UUID tenantId, UUID productId, String channelType) {
+        return (mapping.getTenantId() == null || mapping.getTenantId().equals(tenantId))
+                && (mapping.getProductId() == null || mapping.getProductId().equals(productId))
+                && (mapping.getChannelType() == null || mapping.getChannelType().equals(channelType));
+    }
+
+    /**
+     * Same window as the repository queries: {@code effectiveFrom} inclusive,
+     * {@code effectiveTo} exclusive.
+     */
+    static boolean isEffectiveAt(ApiProcessMapping mapping, Instant now) {
+        if (mapping.getEffectiveFrom() != null && now.isBefore(mapping.getEffectiveFrom().toInstant())) {
+            return false;
+        }
+        return mapping.getEffectiveTo() == null || now.isBefore(mapping.getEffectiveTo().toInstant());
+    }
+
+    /**
+     * @return the first effective-date boundary strictly after {@code now}, or null if none
+     */
+    static Instant nextTransitionAfter(Collection<ApiProcessMapping> mappings, Instant now) {
+        Instant next = null;
+        for (ApiProcessMapping mapping : mappings) {
+            next = earliestAfter(next, mapping.getEffectiveFrom() != null ? mapping.getEffectiveFrom().toInstant() : null, now);
+            next = earliestAfter(next, mapping.getEffectiveTo() != null ? mapping.getEffectiveTo().toInstant() : null, now);
+        }
+        return next;
+    }
+
+    private static Instant earliestAfter(Instant current, Instant candidate, Instant now) {
+        if (candidate == null || !candidate.isAfter(now)) {
+            return current;
+        }
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
+    private synchronized Snapshot load(List<ApiProcessMapping> mappings, Instant now) {
+        loaded = List.copyOf(mappings);
+        return activate(now);
+    }
+
+    private synchronized Snapshot activate(Instant now) {
+        if (activation != null) {
+            activation.cancel();
+            activation = null;
+        }
+        List<ApiProcessMapping> effective = new ArrayList<>(loaded.size());
+        for (ApiProcessMapping mapping : loaded) {
+            if (isEffectiveAt(mapping, now)) {
+                effective.add(mapping);
+            }
+        }
+        Instant validUntil = nextTransitionAfter(loaded, now);
+        Snapshot activated = Snapshot.build(effective, now, validUntil);
+        snapshot = activated;
+        if (validUntil != null) {
+            // The wheel never fires early, but the boundary itself is the activation instant
+            activation = timerWheel.schedule(() -> onBoundary(validUntil), validUntil);
+        }
+        log.debug("Activated {} of {} API process mappings (valid until {})",
+                activated.size(), loaded.size(), validUntil);
+        return activated;
+    }
+
+    private void onBoundary(Instant boundary) {
+        Instant now = Instant.now();
+        publishActivated(activate(now.isBefore(boundary) ? boundary : now));
+    }
+
+    private void publishActivated(Snapshot activated) {
+        eventPublisher.publishEvent(
+                new ApiProcessMappingsActivatedEvent(activated.activatedAt(), activated.validUntil()));
+    }
+
+    private static boolean matchesMethod(ApiProcessMapping mapping, String httpMethod) {
+        return isAnyMethod(mapping.getHttpMethod()) || mapping.getHttpMethod().equalsIgnoreCase(httpMethod);
+    }
+
+    private static boolean isAnyMethod(String httpMethod) {
+        return httpMethod == null || httpMethod.isBlank() || "*".equals(httpMethod);
+    }
+
+    private static int priorityOf(ApiProcessMapping mapping) {
+        return mapping.getPriority() != null ? mapping.getPriority() : 0;
+    }
+
+    private void requestRebuild() {
+        dirty.set(true);
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        dirty.set(false);
+        rebuild()
+                .doFinally(signal -> {
+                    rebuilding.set(false);
+                    if (dirty.get()) {
+                        requestRebuild();
+                    }
+                })
+                .subscribe(
+                        count -> log.info("Indexed {} API process mappings", count),
+                        error -> log.error("Failed to rebuild API process mapping index", error));
+    }
+
+    /**
+     * A mapping that matched a request, with the template it matched through.
+     */
+    public record Candidate(ApiProcessMapping mapping, PathTemplate template) {
+
+        long routeSpecificity() {
+            return template != null ? template.getSpecificity() : 0L;
+        }
+    }
+
+    /**
+     * One immutable generation of the index.
+     */
+    public record Snapshot(RouteTrie<ApiProcessMapping> routes,
+                           Map<String, List<ApiProcessMapping>> byOperation,
+                           int size,
+                           Instant activatedAt,
+                           Instant validUntil) {
+
+        static final Snapshot EMPTY = new Snapshot(
+                RouteTrie.<ApiProcessMapping>builder().build(), Map.of(), 0, Instant.EPOCH, null);
+
+        /**
+         * @param now the instant to test
+         * @return true if no effective-date boundary has passed since activation
+         */
+        public boolean isValidAt(Instant now) {
+            return validUntil == null || now.isBefore(validUntil);
+        }
+
+        /**
+         * Builds an unscheduled snapshot from mappings that are already known
+         * to be effective, e.g. the result of a one-off query.
+         *
+         * @param mappings the effective mappings
+         * @param activatedAt the instant they were selected
+         * @return the snapshot
+         */
+        public static Snapshot of(Collection<ApiProcessMapping> mappings, Instant activatedAt) {
+            return build(mappings, activatedAt, null);
+        }
+
+        static Snapshot build(Collection<ApiProcessMapping> mappings, Instant activatedAt, Instant validUntil) {
+            RouteTrie.Builder<ApiProcessMapping> routes = RouteTrie.builder();
+            Map<String, List<ApiProcessMapping>> byOperation = new HashMap<>();
+            for (ApiProcessMapping mapping : mappings) {
+                if (mapping.getOperationId() != null) {
+                    byOperation.computeIfAbsent(mapping.getOperationId(), key -> new ArrayList<>()).add(mapping);
+                }
+                if (mapping.getApiPath() == null || mapping.getApiPath().isBlank()) {
+                    continue;
+                }
+                try {
+                    routes.add(PathTemplate.parse(mapping.getApiPath()), mapping);
+                } catch (IllegalArgumentException e) {
+                    log.warn("Skipping API process mapping {} with invalid path: {}", mapping.getId(), e.getMessage());
+                }
+            }
+            byOperation.replaceAll((operationId, list) -> List.copyOf(list));
+            return new Snapshot(routes.build(), Map.copyOf(byOperation), mappings.size(), activatedAt, validUntil);
+        }
+    }
+}
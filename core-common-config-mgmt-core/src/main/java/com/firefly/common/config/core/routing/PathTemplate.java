@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parsed API path template such as {@code /api/v1/accounts/{accountId}/balance}.
+ *
+ * <p>Segments are matched as follows:</p>
+ * <ul>
+ *   <li>{@code {name}} matches exactly one segment</li>
+ *   <li>{@code *} matches exactly one segment</li>
+ *   <li>{@code **} (last segment only) matches zero or more segments</li>
+ *   <li>anything else matches the same literal segment</li>
+ * </ul>
+ * <p>Empty segments are ignored, so leading, trailing and doubled slashes do
+ * not matter.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class PathTemplate {
+
+    /**
+     * Kind of template segment, most specific first.
+     */
+    public enum SegmentType {
+        LITERAL,
+        PARAMETER,
+        WILDCARD,
+        CATCH_ALL
+    }
+
+    private final String template;
+    private final List<String> segments;
+    private final List<SegmentType> types;
+    private final long specificity;
+
+    private PathTemplate(String template, List<String> segments, List<SegmentType> types) {
+        this.template = template;
+        this.segments = Collections.unmodifiableList(segments);
+        this.types = Collections.unmodifiableList(types);
+        this.specificity = computeSpecificity(types);
+    }
+
+    /**
+     * @param template the template string
+     * @return the parsed template
+     * @throws IllegalArgumentException if {@code **} is not the last segment or a
+     *         parameter is malformed
+     */
+    public static PathTemplate parse(String template) {
+        List<String> segments = split(template);
+        List<SegmentType> types = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            SegmentType type = typeOf(segment);
+            if (type == SegmentType.CATCH_ALL && i != segments.size() - 1) {
+                throw new IllegalArgumentException("'**' must be the last segment: " + template);
+            }
+            if (type == SegmentType.LITERAL && (segment.indexOf('{') >= 0 || segment.indexOf('}') >= 0)) {
+                throw new IllegalArgumentException("Malformed path parameter '" + segment + "' in: " + template);
+            }
+            types.add(type);
+        }
+        return new PathTemplate(template, segments, types);
+    }
+
+    /**
+     * Splits a concrete request path into segments, dropping any query string.
+     *
+     * @param path the path
+     * @return the non-empty segments
+     */
+    public static List<String> split(String path) {
+        List<String> segments = new ArrayList<>();
+        if (path == null) {
+            return segments;
+        }
+        int end = path.indexOf('?');
+        if (end < 0) {
+            end = path.length();
+        }
+        int start = 0;
+        for (int i = 0; i <= end; i++) {
+            if (i == end || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public List<String> getSegments() {
+        return segments;
+    }
+
+    public List<SegmentType> getTypes() {
+        return types;
+    }
+
+    /**
+     * Ordering key for overlapping templates: more literal segments win, then
+     * more parameters, then more single-segment wildcards, then templates
+     * without a trailing catch-all.
+     *
+     * @return the specificity, higher is more specific
+     */
+    public long getSpecificity() {
+        return specificity;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private static SegmentType typeOf(String segment) {
+        if ("**".equals(segment)) {
+            return SegmentType.CATCH_ALL;
+        }
+        if ("*".equals(segment)) {
+            return SegmentType.WILDCARD;
+        }
+        if (segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}'
+                && segment.indexOf('{', 1) < 0 && segment.indexOf('}') == segment.length() - 1) {
+            return SegmentType.PARAMETER;
+        }
+        return SegmentType.LITERAL;
+    }
+
+    private static long computeSpecificity(List<SegmentType> types) {
+        long literals = 0;
+        long parameters = 0;
+        long wildcards = 0;
+        long exact = 1;
+        for (SegmentType type : types) {
+            switch (type) {
+                case LITERAL -> literals++;
+                case PARAMETER -> parameters++;
+                case WILDCARD -> wildcards++;
+                case CATCH_ALL -> exact = 0;
+            }
+        }
+        return (literals << 36) | (parameters << 24) | (wildcards << 12) | exact;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable trie of {@link PathTemplate}s whose edges are whole path segments.
+ *
+ * <p>Every node has a map of literal children plus at most one parameter, one
+ * wildcard and one catch-all branch. A lookup walks the request path once,
+ * advancing the set of live nodes segment by segment (literal, parameter and
+ * wildcard branches are followed side by side), so it never backtracks and
+ * returns every template that matches. Choosing among overlapping matches is
+ * left to the caller, typically by {@link PathTemplate#getSpecificity()}.</p>
+ *
+ * @param <T> the value stored per template
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class RouteTrie<T> {
+
+    private final Node<T> root;
+    private final int size;
+
+    private RouteTrie(Node<T> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Finds every template that matches a concrete path.
+     *
+     * @param path the request path (a query string is ignored)
+     * @return the matches, in no particular order
+     */
+    public List<Match<T>> match(String path) {
+        List<String> segments = PathTemplate.split(path);
+        List<Match<T>> matches = new ArrayList<>();
+        List<Node<T>> live = new ArrayList<>();
+        List<Node<T>> next = new ArrayList<>();
+        live.add(root);
+
+        for (String segment : segments) {
+            next.clear();
+            for (Node<T> node : live) {
+                // A catch-all matches whatever remains, including this segment
+                node.collectCatchAll(matches);
+                Node<T> literal = node.literals.get(segment);
+                if (literal != null) {
+                    next.add(literal);
+                }
+                if (node.parameter != null) {
+                    next.add(node.parameter);
+                }
+                if (node.wildcard != null) {
+                    next.add(node.wildcard);
+                }
+            }
+            if (next.isEmpty()) {
+                return matches;
+            }
+            List<Node<T>> swap = live;
+            live = next;
+            next = swap;
+        }
+        for (Node<T> node : live) {
+            node.collectCatchAll(matches);
+            node.collectTerminal(matches);
+        }
+        return matches;
+    }
+
+    /**
+     * @return the number of values stored
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A matched template and one of its values.
+     */
+    public record Match<T>(PathTemplate template, T value) {
+    }
+
+    /**
+     * Mutable builder; {@link #build()} freezes the trie.
+     */
+    public static final class Builder<T> {
+
+        private final Node<T> root = new Node<>();
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a value under a template. Several values may share a template.
+         *
+         * @param template the template
+         * @param value the value
+         * @return this builder
+         */
+        public Builder<T> add(PathTemplate template, T value) {
+            Node<T> node = root;
+            List<String> segments = template.getSegments();
+            List<PathTemplate.SegmentType> types = template.getTypes();
+            for (int i = 0; i < segments.size(); i++) {
+                switch (types.get(i)) {
+                    case LITERAL -> node = node.literals.computeIfAbsent(segments.get(i), key -> new Node<>());
+                    case PARAMETER -> node = node.parameter != null ? node.parameter : (node.parameter = new Node<>());
+                    case WILDCARD -> node = node.wildcard != null ? node.wildcard : (node.wildcard = new Node<>());
+                    case CATCH_ALL -> {
+                        node.catchAll.add(new Match<>(template, value));
+                        size++;
+                        return this;
+                    }
+                }
+            }
+            node.terminal.add(new Match<>(template, value));
+            size++;
+            return this;
+        }
+
+        public RouteTrie<T> build() {
+            root.freeze();
+            return new RouteTrie<>(root, size);
+        }
+    }
+
+    private static final class Node<T> {
+
+        private Map<String, Node<T>> literals = new HashMap<>();
+        private Node<T> parameter;
+        private Node<T> wildcard;
+        private List<Match<T>> terminal = new ArrayList<>();
+        private List<Match<T>> catchAll = new ArrayList<>();
+
+        private void collectTerminal(List<Match<T>> matches) {
+            matches.addAll(terminal);
+        }
+
+        private void collectCatchAll(List<Match<T>> matches) {
+            matches.addAll(catchAll);
+        }
+
+        private void freeze() {
+            literals.values().forEach(Node::freeze);
+            if (parameter != null) {
+                parameter.freeze();
+            }
+            if (wildcard != null) {
+                wildcard.freeze();
+            }
+            literals = literals.isEmpty() ? Collections.emptyMap() : Map.copyOf(literals);
+            terminal = List.copyOf(terminal);
+            catchAll = List.copyOf(catchAll);
+        }
+    }
+}
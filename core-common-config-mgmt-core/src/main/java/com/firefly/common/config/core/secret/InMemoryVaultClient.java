@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.secret;
+
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local {@link VaultClient} stand-in for tests and development, holding
+ * credentials in memory, optionally loaded from a properties file of
+ * {@code credentialId=value} lines. Not for production use.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public class InMemoryVaultClient implements VaultClient {
+
+    private final Map<String, byte[]> credentials = new ConcurrentHashMap<>();
+    private final AtomicLong fetchCount = new AtomicLong();
+
+    /**
+     * @param file a properties file of {@code credentialId=value} lines
+     * @return a client holding the file's credentials
+     * @throws IOException if the file cannot be read
+     */
+    public static InMemoryVaultClient load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        InMemoryVaultClient client = new InMemoryVaultClient();
+        properties.stringPropertyNames().forEach(id -> client.put(id, properties.getProperty(id)));
+        return client;
+    }
+
+    public void put(String credentialId, String value) {
+        credentials.put(credentialId, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void remove(String credentialId) {
+        credentials.remove(credentialId);
+    }
+
+    /**
+     * @return the number of {@link #fetch} calls made
+     */
+    public long getFetchCount() {
+        return fetchCount.get();
+    }
+
+    public int size() {
+        return credentials.size();
+    }
+
+    @Override
+    public Mono<Map<String, byte[]>> fetch(Collection<String> credentialIds) {
+        return Mono.fromCallable(() -> {
+            fetchCount.incrementAndGet();
+            Map<String, byte[]> found = new HashMap<>(credentialIds.size() * 2);
+            for (String id : credentialIds) {
+                byte[] material = credentials.get(id);
+                if (material != null) {
+                    found.put(id, material.clone());
+                }
+            }
+            return found;
+        });
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.secret;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Decrypted credential material held in a byte array that is zero-filled by
+ * {@link #destroy()}. Each caller receives its own copy and should destroy it
+ * as soon as the secret has been used.
+ *
+ * <p>{@link #toString()} never reveals the value, so a secret that ends up in
+ * a log statement is masked.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class SecretValue implements AutoCloseable {
+
+    private final byte[] material;
+    private boolean destroyed;
+
+    private SecretValue(byte[] material) {
+        this.material = material;
+    }
+
+    /**
+     * @param material the secret bytes; ownership passes to the returned value
+     * @return the secret
+     */
+    public static SecretValue wrap(byte[] material) {
+        return new SecretValue(material);
+    }
+
+    /**
+     * @return a copy of the secret bytes, which the caller should zero after use
+     * @throws IllegalStateException if the secret was destroyed
+     */
+    public synchronized byte[] getBytes() {
+        checkNotDestroyed();
+        return material.clone();
+    }
+
+    /**
+     * @return the secret decoded as UTF-8, which the caller should zero after use
+     * @throws IllegalStateException if the secret was destroyed
+     */
+    public synchronized char[] getChars() {
+        checkNotDestroyed();
+        CharBuffer decoded = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(material));
+        char[] chars = Arrays.copyOfRange(decoded.array(), decoded.position(), decoded.limit());
+        Arrays.fill(decoded.array(), '\0');
+        return chars;
+    }
+
+    /**
+     * Decodes the secret into a {@link String}, for APIs that accept nothing
+     * else. The string cannot be zeroed; prefer {@link #getChars()}.
+     *
+     * @return the secret decoded as UTF-8
+     * @throws IllegalStateException if the secret was destroyed
+     */
+    public synchronized String asString() {
+        checkNotDestroyed();
+        return new String(material, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return an independent copy, or null if this secret was destroyed
+     */
+    public synchronized SecretValue copy() {
+        return destroyed ? null : new SecretValue(material.clone());
+    }
+
+    public synchronized int length() {
+        checkNotDestroyed();
+        return material.length;
+    }
+
+    /**
+     * Zero-fills the secret. Further reads fail.
+     */
+    public synchronized void destroy() {
+        Arrays.fill(material, (byte) 0);
+        destroyed = true;
+    }
+
+    public synchronized boolean isDestroyed() {
+        return destroyed;
+    }
+
+    @Override
+    public void close() {
+        destroy();
+    }
+
+    @Override
+    public String toString() {
+        return "SecretValue[******]";
+    }
+
+    private void checkNotDestroyed() {
+        if (destroyed) {
+            throw new IllegalStateException("Secret has been destroyed");
+        }
+    }
+}
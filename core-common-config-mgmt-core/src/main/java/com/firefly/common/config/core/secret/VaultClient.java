@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.secret;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Source of decrypted credential material, keyed by the vault credential IDs
+ * stored in {@code credential_vault_id}.
+ *
+ * <p>Deployments provide an implementation backed by the security vault;
+ * without one, the {@link InMemoryVaultClient} stand-in is used.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface VaultClient {
+
+    /**
+     * Fetches several credentials in one call.
+     *
+     * @param credentialIds the credential IDs, without duplicates
+     * @return the decrypted material of the credentials that exist, by ID.
+     *         Ownership of the arrays passes to the caller, which zeroes them.
+     */
+    Mono<Map<String, byte[]>> fetch(Collection<String> credentialIds);
+}
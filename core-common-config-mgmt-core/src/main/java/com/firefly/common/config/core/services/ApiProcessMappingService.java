@@ -16,12 +16,17 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.ApiProcessMappingBatchResolveRequestDTO;
+import com.firefly.common.config.interfaces.dtos.ApiProcessMappingBatchResolveResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ApiProcessMappingDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -43,6 +48,13 @@ public interface ApiProcessMappingService {
      */
     Mono<ApiProcessMappingDTO> getById(UUID id);
 
+    /**
+     * Get several api process mappings by ID with a single query
+     * @param ids Api process mapping IDs
+     * @return Api process mapping DTOs in request order, plus the IDs that were not found
+     */
+    Mono<BatchGetResponseDTO<ApiProcessMappingDTO>> getByIds(List<UUID> ids);
+
     /**
      * Filters mappings based on the filter request.
      * 
@@ -68,6 +80,14 @@ public interface ApiProcessMappingService {
      */
     Mono<ApiProcessMappingDTO> update(UUID id, ApiProcessMappingDTO dto);
 
+    /**
+     * Applies a JSON Merge Patch (RFC 7386), writing only the fields present in the patch.
+     * @param id Api process mapping ID
+     * @param patch Merge patch document
+     * @return Updated api process mapping DTO
+     */
+    Mono<ApiProcessMappingDTO> patch(UUID id, JsonNode patch);
+
     /**
      * Deletes a mapping.
      * 
@@ -91,6 +111,42 @@ public interface ApiProcessMappingService {
             UUID productId, 
             String channelType);
 
+    /**
+     * Resolves several operations for one tenant at once.
+     *
+     * <p>Every operation is resolved with the same rules as
+     * {@link #resolveMapping}, against a single consistent view of the
+     * mappings: one pass over the in-memory index, or one set-based query
+     * before the index has loaded.</p>
+     *
+     * @param request the tenant and the operations to resolve
+     * @return Mono of the resolutions, in request order
+     */
+    Mono<ApiProcessMappingBatchResolveResponseDTO> resolveBatch(ApiProcessMappingBatchResolveRequestDTO request);
+
+    /**
+     * Resolves the best matching mapping for a concrete HTTP request.
+     *
+     * <p>Matches the path against the {@code apiPath} templates of all active
+     * mappings (literal segments, {@code {param}}, {@code *} and a trailing
+     * {@code **}) using the in-memory route index, without querying the
+     * database. Among matching mappings the most specific template wins, then
+     * tenant, product, channel and method specificity, then priority.</p>
+     *
+     * @param httpMethod the HTTP method
+     * @param path the concrete request path
+     * @param tenantId the tenant ID (optional)
+     * @param productId the product ID (optional)
+     * @param channelType the channel type (optional)
+     * @return Mono of the best matching mapping
+     */
+    Mono<ApiProcessMappingDTO> resolveRoute(
+            String httpMethod,
+            String path,
+            UUID tenantId,
+            UUID productId,
+            String channelType);
+
     /**
      * Gets all mappings for a tenant.
      * 
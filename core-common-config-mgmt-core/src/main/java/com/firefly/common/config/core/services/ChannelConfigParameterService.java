@@ -17,11 +17,14 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ChannelConfigParameterDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -34,6 +37,13 @@ public interface ChannelConfigParameterService {
      */
     Mono<ChannelConfigParameterDTO> getById(UUID id);
 
+    /**
+     * Get several channel config parameters by ID with a single query
+     * @param ids Channel config parameter IDs
+     * @return Channel config parameter DTOs in request order, plus the IDs that were not found
+     */
+    Mono<BatchGetResponseDTO<ChannelConfigParameterDTO>> getByIds(List<UUID> ids);
+
     /**
      * Filter channel config parameters with pagination
      */
@@ -49,6 +59,14 @@ public interface ChannelConfigParameterService {
      */
     Mono<ChannelConfigParameterDTO> update(UUID id, ChannelConfigParameterDTO dto);
 
+    /**
+     * Applies a JSON Merge Patch (RFC 7386), writing only the fields present in the patch.
+     * @param id Channel config parameter ID
+     * @param patch Merge patch document
+     * @return Updated channel config parameter DTO
+     */
+    Mono<ChannelConfigParameterDTO> patch(UUID id, JsonNode patch);
+
     /**
      * Delete a channel config parameter (soft delete)
      */
@@ -17,10 +17,15 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
+import com.firefly.common.config.interfaces.dtos.ChannelConfigAggregateDTO;
 import com.firefly.common.config.interfaces.dtos.ChannelConfigDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -30,12 +35,26 @@ public interface ChannelConfigService {
 
     Mono<ChannelConfigDTO> getById(UUID id);
 
+    Mono<BatchGetResponseDTO<ChannelConfigDTO>> getByIds(List<UUID> ids);
+
     Mono<PaginationResponse<ChannelConfigDTO>> filter(FilterRequest<ChannelConfigDTO> filterRequest);
 
     Mono<ChannelConfigDTO> create(ChannelConfigDTO channelConfigDTO);
 
     Mono<ChannelConfigDTO> update(UUID id, ChannelConfigDTO channelConfigDTO);
 
+    Mono<ChannelConfigDTO> patch(UUID id, JsonNode patch);
+
     Mono<Void> delete(UUID id);
+
+    /**
+     * Get an active channel config with its active parameters grouped by category, in a single query
+     */
+    Mono<ChannelConfigAggregateDTO> getAggregate(UUID tenantId, String channelCode);
+
+    /**
+     * Get all active channel configs of a tenant with their active parameters, in a single query
+     */
+    Flux<ChannelConfigAggregateDTO> getAggregatesByTenant(UUID tenantId);
 }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services;
+
+import com.firefly.common.config.core.channel.ChannelPolicy;
+import com.firefly.common.config.interfaces.dtos.ChannelServeDecisionDTO;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Service evaluating channel availability, client and limit restrictions
+ * against compiled channel policies.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface ChannelPolicyService {
+
+    /**
+     * Get the compiled policy for a tenant channel
+     */
+    Mono<ChannelPolicy> getCompiledPolicy(UUID tenantId, String channelCode);
+
+    /**
+     * Decides whether a tenant channel can serve a request, following
+     * {@code failoverChannelId} links when it cannot. Omitted inputs are not
+     * checked.
+     *
+     * @param tenantId the tenant ID
+     * @param channelCode the requested channel code
+     * @param platform the client platform
+     * @param appVersion the client app version
+     * @param countryCode the request country
+     * @param amount the transaction amount
+     * @return the decision
+     */
+    Mono<ChannelServeDecisionDTO> canServe(UUID tenantId, String channelCode, String platform,
+                                           String appVersion, String countryCode, BigDecimal amount);
+
+    /**
+     * Recompile a tenant channel policy from the database
+     */
+    Mono<ChannelPolicy> refresh(UUID tenantId, String channelCode);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services;
+
+import com.firefly.common.config.core.index.CodeIndex;
+import com.firefly.common.config.core.index.IndexedCode;
+import com.firefly.common.config.core.index.TenantContext;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service translating business codes of tenants, providers, provider types
+ * and statuses to IDs and back from memory.
+ *
+ * <p>The indexes are loaded at startup and kept current from configuration
+ * change events. A code that is not indexed yet (for example one written
+ * through another instance) is read from the database once and added.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface CodeIndexService {
+
+    CodeIndex getTenants();
+
+    CodeIndex getTenantStatuses();
+
+    CodeIndex getProviders();
+
+    CodeIndex getProviderTypes();
+
+    CodeIndex getProviderStatuses();
+
+    /**
+     * Resolves a tenant code, reading the database only if it is not indexed.
+     *
+     * @param code the tenant code
+     * @return Mono of the entry, empty if no tenant has the code
+     */
+    Mono<IndexedCode> resolveTenant(String code);
+
+    /**
+     * Resolves a provider code, reading the database only if it is not indexed.
+     *
+     * @param code the provider code
+     * @return Mono of the entry, empty if no provider has the code
+     */
+    Mono<IndexedCode> resolveProvider(String code);
+
+    /**
+     * Resolves the value of a tenant header, which may carry either the
+     * tenant code or its ID.
+     *
+     * @param codeOrId the header value
+     * @return Mono of the tenant context, empty if no tenant matches
+     */
+    Mono<TenantContext> resolveTenantContext(String codeOrId);
+
+    /**
+     * Re-read all indexes from the database
+     *
+     * @return Mono of the number of indexed entities
+     */
+    Mono<Long> reload();
+}
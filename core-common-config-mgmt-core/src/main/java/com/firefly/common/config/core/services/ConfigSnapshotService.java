@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services;
+
+import com.firefly.common.config.interfaces.dtos.ConfigSnapshotDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Service producing the resolver snapshots downloaded by embedded SDK clients.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface ConfigSnapshotService {
+
+    /**
+     * Returns the changes since a client's version, or a full snapshot when the
+     * version is absent, unknown or too old.
+     *
+     * @param tenantId the tenant to scope the snapshot to (null for all tenants)
+     * @param sinceVersion the version the client already holds (optional)
+     * @return Mono of the full or delta snapshot
+     */
+    Mono<ConfigSnapshotDTO> getSnapshot(UUID tenantId, String sinceVersion);
+}
@@ -17,10 +17,12 @@
 
 package com.firefly.common.config.core.services;
 
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ConfigurationAuditDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -30,6 +32,8 @@ public interface ConfigurationAuditService {
 
     Mono<ConfigurationAuditDTO> getById(UUID id);
 
+    Mono<BatchGetResponseDTO<ConfigurationAuditDTO>> getByIds(List<UUID> ids);
+
     Mono<PaginationResponse<ConfigurationAuditDTO>> filter(FilterRequest<ConfigurationAuditDTO> filterRequest);
 
     Mono<ConfigurationAuditDTO> create(ConfigurationAuditDTO configurationAuditDTO);
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.services;
+
+import com.firefly.common.config.core.parameter.ParameterSet;
+import com.firefly.common.config.core.secret.SecretValue;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Resolves vault credential references to decrypted material, fetching all
+ * references of a request in batched vault calls and caching the material
+ * for a limited time.
+ *
+ * <p>Every returned {@link SecretValue} is the caller's own copy and should be
+ * destroyed after use. Secret values are never logged.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface CredentialResolutionService {
+
+    /**
+     * @param credentialIds vault credential IDs
+     * @return the secrets that exist, by credential ID
+     */
+    Mono<Map<String, SecretValue>> resolve(Collection<String> credentialIds);
+
+    /**
+     * @param references vault credential IDs by name, e.g. parameter name or config key
+     * @return the secrets that exist, by name
+     */
+    Mono<Map<String, SecretValue>> resolveReferences(Map<String, String> references);
+
+    /**
+     * @param parameters a decoded parameter set
+     * @return the set's vault-backed secrets that exist, by parameter name
+     */
+    Mono<Map<String, SecretValue>> resolve(ParameterSet parameters);
+
+    /**
+     * Zeroes and evicts a cached credential, e.g. after it was rotated.
+     *
+     * @param credentialId the vault credential ID
+     */
+    void invalidate(String credentialId);
+
+    /**
+     * Zeroes and evicts every cached credential.
+     */
+    void invalidateAll();
+}
@@ -17,10 +17,14 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
+import com.firefly.common.config.interfaces.dtos.EnvironmentConfigBundleDTO;
 import com.firefly.common.config.interfaces.dtos.EnvironmentConfigDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -30,12 +34,27 @@ public interface EnvironmentConfigService {
 
     Mono<EnvironmentConfigDTO> getById(UUID id);
 
+    Mono<BatchGetResponseDTO<EnvironmentConfigDTO>> getByIds(List<UUID> ids);
+
     Mono<PaginationResponse<EnvironmentConfigDTO>> filter(FilterRequest<EnvironmentConfigDTO> filterRequest);
 
     Mono<EnvironmentConfigDTO> create(EnvironmentConfigDTO environmentConfigDTO);
 
     Mono<EnvironmentConfigDTO> update(UUID id, EnvironmentConfigDTO environmentConfigDTO);
 
+    Mono<EnvironmentConfigDTO> patch(UUID id, JsonNode patch);
+
     Mono<Void> delete(UUID id);
+
+    /**
+     * Get the resolved configuration bundle of a tenant environment.
+     * Bundles are materialized once and cached until a contributing row changes.
+     */
+    Mono<EnvironmentConfigBundleDTO> getBundle(UUID tenantId, String environmentName);
+
+    /**
+     * Get only the content hash of a tenant environment bundle, for cheap revalidation
+     */
+    Mono<String> getBundleHash(UUID tenantId, String environmentName);
 }
 
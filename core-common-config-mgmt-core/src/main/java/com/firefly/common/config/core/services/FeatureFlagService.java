@@ -17,10 +17,13 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.FeatureFlagDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -30,12 +33,16 @@ public interface FeatureFlagService {
 
     Mono<FeatureFlagDTO> getById(UUID id);
 
+    Mono<BatchGetResponseDTO<FeatureFlagDTO>> getByIds(List<UUID> ids);
+
     Mono<PaginationResponse<FeatureFlagDTO>> filter(FilterRequest<FeatureFlagDTO> filterRequest);
 
     Mono<FeatureFlagDTO> create(FeatureFlagDTO featureFlagDTO);
 
     Mono<FeatureFlagDTO> update(UUID id, FeatureFlagDTO featureFlagDTO);
 
+    Mono<FeatureFlagDTO> patch(UUID id, JsonNode patch);
+
     Mono<Void> delete(UUID id);
 }
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services;
+
+import com.firefly.common.config.interfaces.dtos.MaintenanceStatusDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Service answering "is this tenant or channel in maintenance?" from memory.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface MaintenanceService {
+
+    /**
+     * Returns the maintenance status of a tenant or, when a channel code is
+     * given, of that tenant channel. Tenant-wide maintenance takes precedence.
+     * This method never touches the database.
+     *
+     * @param tenantId the tenant ID
+     * @param channelCode the channel code, or null for the tenant only
+     * @return the current status
+     */
+    MaintenanceStatusDTO getStatus(UUID tenantId, String channelCode);
+
+    /**
+     * Get the maintenance status of a tenant
+     */
+    Mono<MaintenanceStatusDTO> getTenantStatus(UUID tenantId);
+
+    /**
+     * Get the maintenance status of a tenant channel
+     */
+    Mono<MaintenanceStatusDTO> getChannelStatus(UUID tenantId, String channelCode);
+
+    /**
+     * List every tenant and channel currently in maintenance
+     */
+    Flux<MaintenanceStatusDTO> getActiveMaintenance();
+
+    /**
+     * Re-read maintenance settings and channel windows from the database
+     */
+    Mono<Long> reload();
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.services;
+
+import com.firefly.common.config.core.parameter.ParameterSet;
+import com.firefly.common.config.interfaces.dtos.ChannelConfigParameterDTO;
+import com.firefly.common.config.interfaces.dtos.ParameterValidationResultDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderParameterDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Typed views of provider and channel parameters, decoded once and cached
+ * until a parameter changes, and bulk validation of parameter sets.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface ParameterSetService {
+
+    /**
+     * @param providerId the provider
+     * @param tenantId the tenant whose overrides apply, or null for provider-level parameters only
+     * @return the active provider-level parameters, overridden by the tenant's
+     */
+    Mono<ParameterSet> getProviderParameters(UUID providerId, UUID tenantId);
+
+    /**
+     * @param channelConfigId the channel configuration
+     * @return its active parameters
+     */
+    Mono<ParameterSet> getChannelParameters(UUID channelConfigId);
+
+    /**
+     * Validates provider parameters that are to be written together.
+     *
+     * @param parameters the parameters
+     * @return every violation found, in input order
+     */
+    Mono<ParameterValidationResultDTO> validateProviderParameters(List<ProviderParameterDTO> parameters);
+
+    /**
+     * Validates channel parameters that are to be written together.
+     *
+     * @param parameters the parameters
+     * @return every violation found, in input order
+     */
+    Mono<ParameterValidationResultDTO> validateChannelParameters(List<ChannelConfigParameterDTO> parameters);
+}
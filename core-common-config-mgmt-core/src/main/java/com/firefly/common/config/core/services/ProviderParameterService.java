@@ -17,10 +17,13 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderParameterDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -30,12 +33,16 @@ public interface ProviderParameterService {
 
     Mono<ProviderParameterDTO> getById(UUID id);
 
+    Mono<BatchGetResponseDTO<ProviderParameterDTO>> getByIds(List<UUID> ids);
+
     Mono<PaginationResponse<ProviderParameterDTO>> filter(FilterRequest<ProviderParameterDTO> filterRequest);
 
     Mono<ProviderParameterDTO> create(ProviderParameterDTO providerParameterDTO);
 
     Mono<ProviderParameterDTO> update(UUID id, ProviderParameterDTO providerParameterDTO);
 
+    Mono<ProviderParameterDTO> patch(UUID id, JsonNode patch);
+
     Mono<Void> delete(UUID id);
 }
 
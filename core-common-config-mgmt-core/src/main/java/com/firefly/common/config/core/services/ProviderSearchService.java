@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services;
+
+import com.firefly.common.config.core.index.ProviderCapabilityIndex;
+import com.firefly.common.config.interfaces.dtos.ProviderDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderSearchDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Service searching providers by capability (countries, currencies,
+ * languages, certifications and processing flags) from an in-memory
+ * {@link ProviderCapabilityIndex}.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface ProviderSearchService {
+
+    /**
+     * Gets the current capability index for in-process consumers.
+     *
+     * @return Mono of the index
+     */
+    Mono<ProviderCapabilityIndex> getIndex();
+
+    /**
+     * Finds the providers matching every criterion that is set. Matching
+     * runs in memory; only the matching providers are read.
+     *
+     * @param criteria the search criteria
+     * @return Mono of the matching providers in code order
+     */
+    Mono<List<ProviderDTO>> search(ProviderSearchDTO criteria);
+
+    /**
+     * Re-read the capabilities of all providers from the database
+     *
+     * @return Mono of the number of indexed providers
+     */
+    Mono<Integer> reload();
+}
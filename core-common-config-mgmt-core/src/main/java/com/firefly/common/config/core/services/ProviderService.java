@@ -17,10 +17,14 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -35,6 +39,21 @@ public interface ProviderService {
      */
     Mono<ProviderDTO> getById(UUID id);
 
+    /**
+     * Get several providers by ID with a single query
+     * @param ids Provider IDs
+     * @return Provider DTOs in request order, plus the IDs that were not found
+     */
+    Mono<BatchGetResponseDTO<ProviderDTO>> getByIds(List<UUID> ids);
+
+    /**
+     * Get only the requested fields of a provider
+     * @param id Provider ID
+     * @param fields Comma-separated field names
+     * @return Map of the requested fields, in request order
+     */
+    Mono<Map<String, Object>> getById(UUID id, String fields);
+
     /**
      * Filter providers based on criteria
      * @param filterRequest Filter criteria
@@ -42,6 +61,14 @@ public interface ProviderService {
      */
     Mono<PaginationResponse<ProviderDTO>> filter(FilterRequest<ProviderDTO> filterRequest);
 
+    /**
+     * Filter providers, returning only the requested fields
+     * @param filterRequest Filter criteria
+     * @param fields Comma-separated field names
+     * @return Paginated list of projected providers
+     */
+    Mono<PaginationResponse<Map<String, Object>>> filter(FilterRequest<ProviderDTO> filterRequest, String fields);
+
     /**
      * Create a new provider
      * @param providerDTO Provider DTO
@@ -57,6 +84,14 @@ public interface ProviderService {
      */
     Mono<ProviderDTO> update(UUID id, ProviderDTO providerDTO);
 
+    /**
+     * Applies a JSON Merge Patch (RFC 7386), writing only the fields present in the patch.
+     * @param id Provider ID
+     * @param patch Merge patch document
+     * @return Updated provider DTO
+     */
+    Mono<ProviderDTO> patch(UUID id, JsonNode patch);
+
     /**
      * Delete a provider
      * @param id Provider ID
@@ -17,10 +17,13 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderStatusDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -35,6 +38,13 @@ public interface ProviderStatusService {
      */
     Mono<ProviderStatusDTO> getById(UUID id);
 
+    /**
+     * Get several provider statuss by ID with a single query
+     * @param ids Provider status IDs
+     * @return Provider status DTOs in request order, plus the IDs that were not found
+     */
+    Mono<BatchGetResponseDTO<ProviderStatusDTO>> getByIds(List<UUID> ids);
+
     /**
      * Filter provider statuses based on criteria
      * @param filterRequest Filter criteria
@@ -57,6 +67,14 @@ public interface ProviderStatusService {
      */
     Mono<ProviderStatusDTO> update(UUID id, ProviderStatusDTO providerStatusDTO);
 
+    /**
+     * Applies a JSON Merge Patch (RFC 7386), writing only the fields present in the patch.
+     * @param id Provider status ID
+     * @param patch Merge patch document
+     * @return Updated provider status DTO
+     */
+    Mono<ProviderStatusDTO> patch(UUID id, JsonNode patch);
+
     /**
      * Delete a provider status
      * @param id Provider status ID
@@ -17,10 +17,13 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderTenantDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -35,6 +38,13 @@ public interface ProviderTenantService {
      */
     Mono<ProviderTenantDTO> getById(UUID id);
 
+    /**
+     * Get several provider tenants by ID with a single query
+     * @param ids Provider tenant IDs
+     * @return Provider tenant DTOs in request order, plus the IDs that were not found
+     */
+    Mono<BatchGetResponseDTO<ProviderTenantDTO>> getByIds(List<UUID> ids);
+
     /**
      * Filter provider-tenant relationships based on criteria
      * @param filterRequest Filter criteria
@@ -57,6 +67,14 @@ public interface ProviderTenantService {
      */
     Mono<ProviderTenantDTO> update(UUID id, ProviderTenantDTO providerTenantDTO);
 
+    /**
+     * Applies a JSON Merge Patch (RFC 7386), writing only the fields present in the patch.
+     * @param id Provider tenant ID
+     * @param patch Merge patch document
+     * @return Updated provider tenant DTO
+     */
+    Mono<ProviderTenantDTO> patch(UUID id, JsonNode patch);
+
     /**
      * Delete a provider-tenant relationship
      * @param id Provider-Tenant relationship ID
@@ -17,10 +17,13 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderTypeDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -35,6 +38,13 @@ public interface ProviderTypeService {
      */
     Mono<ProviderTypeDTO> getById(UUID id);
 
+    /**
+     * Get several provider types by ID with a single query
+     * @param ids Provider type IDs
+     * @return Provider type DTOs in request order, plus the IDs that were not found
+     */
+    Mono<BatchGetResponseDTO<ProviderTypeDTO>> getByIds(List<UUID> ids);
+
     /**
      * Filter provider types based on criteria
      * @param filterRequest Filter criteria
@@ -57,6 +67,14 @@ public interface ProviderTypeService {
      */
     Mono<ProviderTypeDTO> update(UUID id, ProviderTypeDTO providerTypeDTO);
 
+    /**
+     * Applies a JSON Merge Patch (RFC 7386), writing only the fields present in the patch.
+     * @param id Provider type ID
+     * @param patch Merge patch document
+     * @return Updated provider type DTO
+     */
+    Mono<ProviderTypeDTO> patch(UUID id, JsonNode patch);
+
     /**
      * Delete a provider type
      * @param id Provider type ID
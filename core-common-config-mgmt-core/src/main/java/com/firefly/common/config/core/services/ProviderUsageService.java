@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services;
+
+import com.firefly.common.config.interfaces.dtos.ProviderUsageBatchResultDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderUsageDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderUsageDecisionDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderUsageEventDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Service metering provider usage per tenant and enforcing the monthly
+ * limits of the provider-tenant relationship.
+ *
+ * <p>Usage is counted in memory and flushed to the database periodically,
+ * so recording an event never waits for a write.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface ProviderUsageService {
+
+    /**
+     * Records a usage event unless the relationship is unknown or disabled,
+     * or a monthly limit would be exceeded.
+     *
+     * @param event the usage event
+     * @return the decision, with the month's usage after the event
+     */
+    Mono<ProviderUsageDecisionDTO> record(ProviderUsageEventDTO event);
+
+    /**
+     * Records a stream of usage events in order, e.g. an NDJSON upload.
+     * Invalid events are counted and skipped rather than failing the batch.
+     *
+     * @param events the usage events
+     * @return the counts of accepted, denied and invalid events
+     */
+    Mono<ProviderUsageBatchResultDTO> recordAll(Flux<ProviderUsageEventDTO> events);
+
+    /**
+     * Get the current month's usage of a tenant's provider
+     */
+    Mono<ProviderUsageDTO> getUsage(UUID tenantId, UUID providerId);
+
+    /**
+     * Writes the usage recorded since the last flush to the database.
+     *
+     * @return the number of relationships flushed
+     */
+    Mono<Long> flush();
+}
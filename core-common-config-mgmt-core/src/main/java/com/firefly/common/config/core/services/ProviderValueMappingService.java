@@ -17,10 +17,13 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderValueMappingDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -30,12 +33,16 @@ public interface ProviderValueMappingService {
 
     Mono<ProviderValueMappingDTO> getById(UUID id);
 
+    Mono<BatchGetResponseDTO<ProviderValueMappingDTO>> getByIds(List<UUID> ids);
+
     Mono<PaginationResponse<ProviderValueMappingDTO>> filter(FilterRequest<ProviderValueMappingDTO> filterRequest);
 
     Mono<ProviderValueMappingDTO> create(ProviderValueMappingDTO providerValueMappingDTO);
 
     Mono<ProviderValueMappingDTO> update(UUID id, ProviderValueMappingDTO providerValueMappingDTO);
 
+    Mono<ProviderValueMappingDTO> patch(UUID id, JsonNode patch);
+
     Mono<Void> delete(UUID id);
 }
 
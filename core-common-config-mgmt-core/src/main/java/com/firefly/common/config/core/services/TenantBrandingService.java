@@ -17,10 +17,13 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.TenantBrandingDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -30,6 +33,8 @@ public interface TenantBrandingService {
 
     Mono<TenantBrandingDTO> getById(UUID id);
 
+    Mono<BatchGetResponseDTO<TenantBrandingDTO>> getByIds(List<UUID> ids);
+
     Mono<TenantBrandingDTO> getByTenantId(UUID tenantId);
 
     Mono<PaginationResponse<TenantBrandingDTO>> filter(FilterRequest<TenantBrandingDTO> filterRequest);
@@ -38,6 +43,8 @@ public interface TenantBrandingService {
 
     Mono<TenantBrandingDTO> update(UUID id, TenantBrandingDTO tenantBrandingDTO);
 
+    Mono<TenantBrandingDTO> patch(UUID id, JsonNode patch);
+
     Mono<Void> delete(UUID id);
 }
 
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services;
+
+import com.firefly.common.config.core.hierarchy.TenantTree;
+import com.firefly.common.config.interfaces.dtos.FeatureFlagDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderParameterDTO;
+import com.firefly.common.config.interfaces.dtos.TenantHierarchyDTO;
+import com.firefly.common.config.interfaces.dtos.TenantSettingsDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service walking the tenant hierarchy and resolving inherited
+ * configuration: a tenant's own value overrides its parent's, which
+ * overrides a global value.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface TenantHierarchyService {
+
+    /**
+     * Gets the in-memory tenant tree for in-process consumers.
+     *
+     * @return Mono of the current tree
+     */
+    Mono<TenantTree> getTree();
+
+    /**
+     * Gets the position of a tenant in the hierarchy.
+     *
+     * @param tenantId the tenant ID
+     * @return Mono of the hierarchy DTO
+     */
+    Mono<TenantHierarchyDTO> getHierarchy(UUID tenantId);
+
+    /**
+     * Gets all tenants below a tenant.
+     *
+     * @param tenantId the tenant ID
+     * @return Mono of the descendant IDs in breadth-first order
+     */
+    Mono<List<UUID>> getDescendants(UUID tenantId);
+
+    /**
+     * Gets a tenant's settings with every unset column inherited from the
+     * nearest ancestor that sets it.
+     *
+     * @param tenantId the tenant ID
+     * @return Mono of the effective settings, or an error if no tenant in the lineage has settings
+     */
+    Mono<TenantSettingsDTO> getEffectiveSettings(UUID tenantId);
+
+    /**
+     * Gets the feature flags that apply to a tenant: for each feature key and
+     * environment, the flag of the nearest tenant in the lineage, else the
+     * global flag.
+     *
+     * @param tenantId the tenant ID
+     * @return Mono of the effective flags
+     */
+    Mono<List<FeatureFlagDTO>> getEffectiveFeatureFlags(UUID tenantId);
+
+    /**
+     * Gets the parameters of a provider that apply to a tenant: for each
+     * parameter name and environment, the parameter of the nearest tenant in
+     * the lineage, else the global parameter.
+     *
+     * @param tenantId the tenant ID
+     * @param providerId the provider ID
+     * @return Mono of the effective parameters
+     */
+    Mono<List<ProviderParameterDTO>> getEffectiveProviderParameters(UUID tenantId, UUID providerId);
+}
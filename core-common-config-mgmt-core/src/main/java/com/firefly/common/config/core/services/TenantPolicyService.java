@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services;
+
+import com.firefly.common.config.core.policy.TenantPolicy;
+import com.firefly.common.config.interfaces.dtos.TenantAccessCheckDTO;
+import com.firefly.common.config.interfaces.dtos.TenantPolicyDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Service serving compiled tenant policies.
+ *
+ * <p>Policies are compiled from {@code tenant_settings} once per change and
+ * kept in memory, so access checks never parse settings columns on the
+ * request path.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface TenantPolicyService {
+
+    /**
+     * Gets the compiled policy for in-process consumers.
+     *
+     * @param tenantId the tenant ID
+     * @return Mono of the compiled policy, or an error if the tenant has no settings
+     */
+    Mono<TenantPolicy> getCompiledPolicy(UUID tenantId);
+
+    /**
+     * Gets the API view of a tenant's compiled policy.
+     *
+     * @param tenantId the tenant ID
+     * @return Mono of the policy DTO
+     */
+    Mono<TenantPolicyDTO> getPolicy(UUID tenantId);
+
+    /**
+     * Checks a client IP and/or country code against a tenant's policy.
+     *
+     * @param tenantId the tenant ID
+     * @param ipAddress the client IP literal (optional)
+     * @param countryCode the ISO 3166-1 alpha-2 country code (optional)
+     * @return Mono of the check result
+     */
+    Mono<TenantAccessCheckDTO> checkAccess(UUID tenantId, String ipAddress, String countryCode);
+
+    /**
+     * Recompiles a tenant's policy from the database.
+     *
+     * @param tenantId the tenant ID
+     * @return Mono of the recompiled policy DTO
+     */
+    Mono<TenantPolicyDTO> refresh(UUID tenantId);
+}
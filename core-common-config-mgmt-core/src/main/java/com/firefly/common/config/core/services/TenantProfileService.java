@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services;
+
+import com.firefly.common.config.interfaces.dtos.TenantProfileDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Service assembling the aggregate profile of a tenant: the tenant, its
+ * status, branding, settings, enabled provider links and enabled channels.
+ *
+ * <p>Profiles are cached as a unit and dropped whenever any of their parts
+ * change.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface TenantProfileService {
+
+    /**
+     * Gets a tenant's profile, from the cache when present.
+     *
+     * @param tenantId the tenant ID
+     * @return Mono of the profile, or an error if the tenant does not exist
+     */
+    Mono<TenantProfileDTO> getProfile(UUID tenantId);
+
+    /**
+     * Drops a tenant's cached profile and assembles it again.
+     *
+     * @param tenantId the tenant ID
+     * @return Mono of the reassembled profile
+     */
+    Mono<TenantProfileDTO> refresh(UUID tenantId);
+}
@@ -17,10 +17,14 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.TenantDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -35,6 +39,21 @@ public interface TenantService {
      */
     Mono<TenantDTO> getById(UUID id);
 
+    /**
+     * Get several tenants by ID with a single query
+     * @param ids Tenant IDs
+     * @return Tenant DTOs in request order, plus the IDs that were not found
+     */
+    Mono<BatchGetResponseDTO<TenantDTO>> getByIds(List<UUID> ids);
+
+    /**
+     * Get only the requested fields of a tenant
+     * @param id Tenant ID
+     * @param fields Comma-separated field names
+     * @return Map of the requested fields, in request order
+     */
+    Mono<Map<String, Object>> getById(UUID id, String fields);
+
     /**
      * Filter tenants based on criteria
      * @param filterRequest Filter criteria
@@ -42,6 +61,14 @@ public interface TenantService {
      */
     Mono<PaginationResponse<TenantDTO>> filter(FilterRequest<TenantDTO> filterRequest);
 
+    /**
+     * Filter tenants, returning only the requested fields
+     * @param filterRequest Filter criteria
+     * @param fields Comma-separated field names
+     * @return Paginated list of projected tenants
+     */
+    Mono<PaginationResponse<Map<String, Object>>> filter(FilterRequest<TenantDTO> filterRequest, String fields);
+
     /**
      * Create a new tenant
      * @param tenantDTO Tenant DTO
@@ -57,6 +84,14 @@ public interface TenantService {
      */
     Mono<TenantDTO> update(UUID id, TenantDTO tenantDTO);
 
+    /**
+     * Applies a JSON Merge Patch (RFC 7386), writing only the fields present in the patch.
+     * @param id Tenant ID
+     * @param patch Merge patch document
+     * @return Updated tenant DTO
+     */
+    Mono<TenantDTO> patch(UUID id, JsonNode patch);
+
     /**
      * Delete a tenant
      * @param id Tenant ID
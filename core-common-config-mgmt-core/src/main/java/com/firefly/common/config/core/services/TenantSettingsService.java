@@ -17,10 +17,14 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.TenantSettingsDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -30,12 +34,20 @@ public interface TenantSettingsService {
 
     Mono<TenantSettingsDTO> getById(UUID id);
 
+    Mono<BatchGetResponseDTO<TenantSettingsDTO>> getByIds(List<UUID> ids);
+
+    Mono<Map<String, Object>> getById(UUID id, String fields);
+
     Mono<PaginationResponse<TenantSettingsDTO>> filter(FilterRequest<TenantSettingsDTO> filterRequest);
 
+    Mono<PaginationResponse<Map<String, Object>>> filter(FilterRequest<TenantSettingsDTO> filterRequest, String fields);
+
     Mono<TenantSettingsDTO> create(TenantSettingsDTO tenantSettingsDTO);
 
     Mono<TenantSettingsDTO> update(UUID id, TenantSettingsDTO tenantSettingsDTO);
 
+    Mono<TenantSettingsDTO> patch(UUID id, JsonNode patch);
+
     Mono<Void> delete(UUID id);
 }
 
@@ -17,10 +17,13 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.TenantStatusDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -35,6 +38,13 @@ public interface TenantStatusService {
      */
     Mono<TenantStatusDTO> getById(UUID id);
 
+    /**
+     * Get several tenant statuss by ID with a single query
+     * @param ids Tenant status IDs
+     * @return Tenant status DTOs in request order, plus the IDs that were not found
+     */
+    Mono<BatchGetResponseDTO<TenantStatusDTO>> getByIds(List<UUID> ids);
+
     /**
      * Filter tenant statuses based on criteria
      * @param filterRequest Filter criteria
@@ -57,6 +67,14 @@ public interface TenantStatusService {
      */
     Mono<TenantStatusDTO> update(UUID id, TenantStatusDTO tenantStatusDTO);
 
+    /**
+     * Applies a JSON Merge Patch (RFC 7386), writing only the fields present in the patch.
+     * @param id Tenant status ID
+     * @param patch Merge patch document
+     * @return Updated tenant status DTO
+     */
+    Mono<TenantStatusDTO> patch(UUID id, JsonNode patch);
+
     /**
      * Delete a tenant status
      * @param id Tenant status ID
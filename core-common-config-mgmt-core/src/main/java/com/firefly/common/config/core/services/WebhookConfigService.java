@@ -17,10 +17,13 @@
 
 package com.firefly.common.config.core.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.WebhookConfigDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -30,12 +33,16 @@ public interface WebhookConfigService {
 
     Mono<WebhookConfigDTO> getById(UUID id);
 
+    Mono<BatchGetResponseDTO<WebhookConfigDTO>> getByIds(List<UUID> ids);
+
     Mono<PaginationResponse<WebhookConfigDTO>> filter(FilterRequest<WebhookConfigDTO> filterRequest);
 
     Mono<WebhookConfigDTO> create(WebhookConfigDTO webhookConfigDTO);
 
     Mono<WebhookConfigDTO> update(UUID id, WebhookConfigDTO webhookConfigDTO);
 
+    Mono<WebhookConfigDTO> patch(UUID id, JsonNode patch);
+
     Mono<Void> delete(UUID id);
 }
 
@@ -16,9 +16,21 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ApiProcessMappingsActivatedEvent;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.ApiProcessMappingMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
+import com.firefly.common.config.core.routing.ApiProcessMappingIndex;
 import com.firefly.common.config.core.services.ApiProcessMappingService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.core.support.SingleFlight;
+import com.firefly.common.config.interfaces.dtos.ApiProcessMappingBatchResolveRequestDTO;
+import com.firefly.common.config.interfaces.dtos.ApiProcessMappingBatchResolveResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ApiProcessMappingDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.models.entities.ApiProcessMapping;
 import com.firefly.common.config.models.repositories.ApiProcessMappingRepository;
 import org.fireflyframework.core.filters.FilterRequest;
@@ -28,10 +40,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -49,9 +67,14 @@ import java.util.UUID;
 public class ApiProcessMappingServiceImpl implements ApiProcessMappingService {
 
     private static final String CACHE_NAME = "api-process-mappings";
+    private static final String ENTITY_TYPE = "ApiProcessMapping";
 
     private final ApiProcessMappingRepository repository;
     private final ApiProcessMappingMapper mapper;
+    private final ApiProcessMappingIndex index;
+    private final ChangeEventOutbox outbox;
+    private final SingleFlight singleFlight;
+    private final MergePatchExecutor mergePatch;
 
     @Override
     public Mono<ApiProcessMappingDTO> getById(UUID id) {
@@ -62,6 +85,11 @@ public class ApiProcessMappingServiceImpl implements ApiProcessMappingService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<ApiProcessMappingDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, ApiProcessMapping::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<ApiProcessMappingDTO>> filter(
             FilterRequest<ApiProcessMappingDTO> filterRequest) {
@@ -91,6 +119,8 @@ public class ApiProcessMappingServiceImpl implements ApiProcessMappingService {
         ApiProcessMapping entity = mapper.toEntity(dto);
         return repository.save(entity)
                 .doOnSuccess(saved -> log.info("Created API process mapping: id={}", saved.getId()))
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
@@ -99,23 +129,32 @@ public class ApiProcessMappingServiceImpl implements ApiProcessMappingService {
     public Mono<ApiProcessMappingDTO> update(UUID id, ApiProcessMappingDTO dto) {
         log.info("Updating API process mapping: id={}", id);
         
-        return repository.findById(id)
+        dto.setId(id);
+        // The creator is kept as stored; the DTO's version is the optimistic-locking guard
+        return repository.updateReturning(mapper.toEntity(dto), "createdBy")
                 .switchIfEmpty(Mono.error(new RuntimeException(
                         "ApiProcessMapping not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    // Preserve version for optimistic locking
-                    dto.setId(id);
-                    dto.setVersion(existingEntity.getVersion());
-                    
-                    // Use update method to preserve audit fields
-                    mapper.updateEntityFromDTO(dto, existingEntity);
-                    
-                    return repository.save(existingEntity);
-                })
                 .doOnSuccess(saved -> log.info("Updated API process mapping: id={}", saved.getId()))
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    @CacheEvict(value = CACHE_NAME, allEntries = true)
+    public Mono<ApiProcessMappingDTO> patch(UUID id, JsonNode patch) {
+        log.info("Patching API process mapping: id={}", id);
+        return mergePatch.apply(id, patch, MergePatchTarget.<ApiProcessMapping, ApiProcessMappingDTO>builder()
+                        .dtoType(ApiProcessMappingDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(ApiProcessMapping::getTenantId)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException(
+                        "ApiProcessMapping not found with id: " + id)));
+    }
+
     @Override
     @CacheEvict(value = CACHE_NAME, allEntries = true)
     public Mono<Void> delete(UUID id) {
@@ -124,7 +163,10 @@ public class ApiProcessMappingServiceImpl implements ApiProcessMappingService {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException(
                         "ApiProcessMapping not found with id: " + id)))
-                .flatMap(repository::delete)
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, id, deleted.getTenantId())))
+                .then()
                 .doOnSuccess(v -> log.info("Deleted API process mapping: id={}", id));
     }
 
@@ -139,19 +181,94 @@ public class ApiProcessMappingServiceImpl implements ApiProcessMappingService {
         log.debug("Resolving process mapping: tenantId={}, operationId={}, productId={}, channelType={}",
                 tenantId, operationId, productId, channelType);
         
-        // Use the repository's best match query which orders by specificity
-        return repository.findBestMatch(tenantId, operationId, productId, channelType)
-                .next()  // Get the first (best) match
-                .switchIfEmpty(
-                        // Fall back to vanilla mapping if no tenant-specific match
-                        repository.findVanillaMapping(operationId)
-                )
+        // Serve from the effective-date activated index once it has been loaded
+        Mono<ApiProcessMapping> resolved = index.isLoaded()
+                ? Mono.fromSupplier(() -> index.resolveOperation(tenantId, operationId, productId, channelType)
+                        .orElse(null))
+                // Use the repository's best match query which orders by specificity,
+                // merging identical concurrent lookups into one query
+                : singleFlight.execute("ApiProcessMappingService.resolveMapping",
+                        Arrays.asList(tenantId, operationId, productId, channelType),
+                        () -> repository.findBestMatch(tenantId, operationId, productId, channelType)
+                                .next()  // Get the first (best) match
+                                .switchIfEmpty(
+                                        // Fall back to vanilla mapping if no tenant-specific match
+                                        repository.findVanillaMapping(operationId)
+                                ));
+
+        return resolved
                 .doOnNext(mapping -> log.debug(
                         "Resolved mapping: operationId={} -> processId={} (tenant={}, vanilla={})",
                         operationId, mapping.getProcessId(), mapping.getTenantId(), mapping.isVanilla()))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<ApiProcessMappingBatchResolveResponseDTO> resolveBatch(ApiProcessMappingBatchResolveRequestDTO request) {
+        UUID tenantId = request.getTenantId();
+        List<ApiProcessMappingBatchResolveRequestDTO.OperationContext> operations = request.getOperations();
+
+        log.debug("Resolving {} operations in batch: tenantId={}", operations.size(), tenantId);
+
+        // One consistent view for the whole batch: the index, or one set-based query
+        Mono<ApiProcessMappingIndex.Snapshot> source = index.isLoaded()
+                ? Mono.fromSupplier(index::current)
+                : repository.findCandidatesForOperations(tenantId, operations.stream()
+                                .map(ApiProcessMappingBatchResolveRequestDTO.OperationContext::getOperationId)
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .toList())
+                        .collectList()
+                        .map(candidates -> ApiProcessMappingIndex.Snapshot.of(candidates, Instant.now()));
+
+        return source.map(snapshot -> {
+            List<ApiProcessMappingBatchResolveResponseDTO.Resolution> resolutions = new ArrayList<>(operations.size());
+            int unresolved = 0;
+            for (ApiProcessMappingBatchResolveRequestDTO.OperationContext operation : operations) {
+                ApiProcessMappingDTO mapping = ApiProcessMappingIndex.resolveOperation(snapshot, tenantId,
+                                operation.getOperationId(), operation.getProductId(), operation.getChannelType())
+                        .map(mapper::toDTO)
+                        .orElse(null);
+                if (mapping == null) {
+                    unresolved++;
+                }
+                resolutions.add(ApiProcessMappingBatchResolveResponseDTO.Resolution.builder()
+                        .operationId(operation.getOperationId())
+                        .productId(operation.getProductId())
+                        .channelType(operation.getChannelType())
+                        .resolved(mapping != null)
+                        .mapping(mapping)
+                        .build());
+            }
+            return ApiProcessMappingBatchResolveResponseDTO.builder()
+                    .tenantId(tenantId)
+                    .resolutions(resolutions)
+                    .unresolvedCount(unresolved)
+                    .build();
+        });
+    }
+
+    @Override
+    public Mono<ApiProcessMappingDTO> resolveRoute(
+            String httpMethod,
+            String path,
+            UUID tenantId,
+            UUID productId,
+            String channelType) {
+
+        log.debug("Resolving route: {} {} (tenantId={}, productId={}, channelType={})",
+                httpMethod, path, tenantId, productId, channelType);
+
+        return Mono.fromSupplier(() -> index.resolveRoute(httpMethod, path, tenantId, productId, channelType)
+                        .orElse(null))
+                .switchIfEmpty(Mono.error(new RuntimeException(
+                        "No mapping found for route: " + httpMethod + " " + path)))
+                .doOnNext(candidate -> log.debug(
+                        "Resolved route: {} {} -> processId={} (template={})",
+                        httpMethod, path, candidate.mapping().getProcessId(), candidate.template()))
+                .map(candidate -> mapper.toDTO(candidate.mapping()));
+    }
+
     @Override
     public Flux<ApiProcessMappingDTO> getByTenantId(UUID tenantId) {
         log.debug("Getting API process mappings for tenant: {}", tenantId);
@@ -173,6 +290,17 @@ public class ApiProcessMappingServiceImpl implements ApiProcessMappingService {
                 .map(mapper::toDTO);
     }
 
+    /**
+     * Drops cached resolutions whenever the index swaps generations, so an
+     * effective-date boundary or a peer's change takes effect immediately.
+     * Invoked through the proxy, which applies the eviction.
+     */
+    @EventListener
+    @CacheEvict(value = CACHE_NAME, allEntries = true)
+    public void onMappingsActivated(ApiProcessMappingsActivatedEvent event) {
+        log.debug("API process mapping index activated at {}; evicting cached resolutions", event.getActivatedAt());
+    }
+
     @Override
     @CacheEvict(value = CACHE_NAME, allEntries = true)
     public Mono<Void> invalidateCache(UUID tenantId) {
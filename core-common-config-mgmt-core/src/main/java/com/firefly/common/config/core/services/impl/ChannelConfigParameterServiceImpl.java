@@ -17,9 +17,20 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.ChannelConfigParameterMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.parameter.InvalidParameterException;
+import com.firefly.common.config.core.parameter.ParameterDefinition;
+import com.firefly.common.config.core.parameter.ParameterSet;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.ChannelConfigParameterService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ChannelConfigParameterDTO;
+import com.firefly.common.config.interfaces.dtos.ParameterViolationDTO;
 import com.firefly.common.config.models.entities.ChannelConfigParameter;
 import com.firefly.common.config.models.repositories.ChannelConfigParameterRepository;
 import org.fireflyframework.core.filters.FilterRequest;
@@ -30,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -40,8 +52,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ChannelConfigParameterServiceImpl implements ChannelConfigParameterService {
 
+    private static final String ENTITY_TYPE = "ChannelConfigParameter";
+
     private final ChannelConfigParameterRepository repository;
     private final ChannelConfigParameterMapper mapper;
+    private final ChangeEventOutbox outbox;
+    private final MergePatchExecutor mergePatch;
 
     @Override
     public Mono<ChannelConfigParameterDTO> getById(UUID id) {
@@ -51,6 +67,11 @@ public class ChannelConfigParameterServiceImpl implements ChannelConfigParameter
                 .switchIfEmpty(Mono.error(new RuntimeException("Channel config parameter not found with ID: " + id)));
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<ChannelConfigParameterDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, ChannelConfigParameter::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<ChannelConfigParameterDTO>> filter(FilterRequest<ChannelConfigParameterDTO> filterRequest) {
         log.debug("Filtering channel config parameters with request: {}", filterRequest);
@@ -63,9 +84,15 @@ public class ChannelConfigParameterServiceImpl implements ChannelConfigParameter
     @Override
     public Mono<ChannelConfigParameterDTO> create(ChannelConfigParameterDTO dto) {
         log.debug("Creating channel config parameter: {}", dto);
+        List<ParameterViolationDTO> violations = ParameterSet.validate(List.of(ParameterDefinition.of(dto)));
+        if (!violations.isEmpty()) {
+            return Mono.error(new InvalidParameterException(violations));
+        }
         ChannelConfigParameter entity = mapper.toEntity(dto);
         entity.setActive(true);
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), null)))
                 .map(mapper::toDTO)
                 .doOnSuccess(created -> log.info("Created channel config parameter with ID: {}", created.getId()));
     }
@@ -73,19 +100,34 @@ public class ChannelConfigParameterServiceImpl implements ChannelConfigParameter
     @Override
     public Mono<ChannelConfigParameterDTO> update(UUID id, ChannelConfigParameterDTO dto) {
         log.debug("Updating channel config parameter with ID: {}", id);
-        return repository.findById(id)
+        List<ParameterViolationDTO> violations = ParameterSet.validate(List.of(ParameterDefinition.of(dto)));
+        if (!violations.isEmpty()) {
+            return Mono.error(new InvalidParameterException(violations));
+        }
+        ChannelConfigParameter updated = mapper.toEntity(dto);
+        updated.setId(id);
+        return repository.updateReturning(updated)
                 .switchIfEmpty(Mono.error(new RuntimeException("Channel config parameter not found with ID: " + id)))
-                .flatMap(existing -> {
-                    ChannelConfigParameter updated = mapper.toEntity(dto);
-                    updated.setId(existing.getId());
-                    updated.setCreatedAt(existing.getCreatedAt());
-                    updated.setVersion(existing.getVersion());
-                    return repository.save(updated);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), null)))
                 .map(mapper::toDTO)
                 .doOnSuccess(updated -> log.info("Updated channel config parameter with ID: {}", id));
     }
 
+    @Override
+    public Mono<ChannelConfigParameterDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<ChannelConfigParameter, ChannelConfigParameterDTO>builder()
+                        .dtoType(ChannelConfigParameterDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(parameter -> null)
+                        .sensitiveProperty("parameterValue")
+                        .validator(ChannelConfigParameterServiceImpl::validate)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("Channel config parameter not found with ID: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         log.debug("Deleting channel config parameter with ID: {}", id);
@@ -95,8 +137,19 @@ public class ChannelConfigParameterServiceImpl implements ChannelConfigParameter
                     existing.setActive(false);
                     return repository.save(existing);
                 })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, saved.getId(), null)))
                 .doOnSuccess(deleted -> log.info("Deleted channel config parameter with ID: {}", id))
                 .then();
     }
-}
 
+    /**
+     * Applies the create and update checks to a patched parameter.
+     */
+    private static void validate(ChannelConfigParameter parameter) {
+        List<ParameterViolationDTO> violations = ParameterSet.validate(List.of(ParameterDefinition.of(parameter)));
+        if (!violations.isEmpty()) {
+            throw new InvalidParameterException(violations);
+        }
+    }
+}
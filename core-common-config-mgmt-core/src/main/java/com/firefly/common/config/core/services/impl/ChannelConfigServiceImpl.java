@@ -17,17 +17,34 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.ChannelConfigMapper;
+import com.firefly.common.config.core.mappers.ChannelConfigParameterMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.ChannelConfigService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
+import com.firefly.common.config.interfaces.dtos.ChannelConfigAggregateDTO;
 import com.firefly.common.config.interfaces.dtos.ChannelConfigDTO;
+import com.firefly.common.config.interfaces.dtos.ChannelConfigParameterDTO;
 import com.firefly.common.config.models.entities.ChannelConfig;
+import com.firefly.common.config.models.entities.ChannelConfigParameter;
+import com.firefly.common.config.models.projections.ChannelConfigWithParameters;
 import com.firefly.common.config.models.repositories.ChannelConfigRepository;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -36,12 +53,24 @@ import java.util.UUID;
 @Service
 public class ChannelConfigServiceImpl implements ChannelConfigService {
 
+    private static final String ENTITY_TYPE = "ChannelConfig";
+    private static final String UNCATEGORIZED = "UNCATEGORIZED";
+
     @Autowired
     private ChannelConfigRepository repository;
 
     @Autowired
     private ChannelConfigMapper mapper;
 
+    @Autowired
+    private ChannelConfigParameterMapper parameterMapper;
+
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
     @Override
     public Mono<ChannelConfigDTO> getById(UUID id) {
         return repository.findById(id)
@@ -49,6 +78,11 @@ public class ChannelConfigServiceImpl implements ChannelConfigService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<ChannelConfigDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, ChannelConfig::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<ChannelConfigDTO>> filter(FilterRequest<ChannelConfigDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -61,23 +95,33 @@ public class ChannelConfigServiceImpl implements ChannelConfigService {
     public Mono<ChannelConfigDTO> create(ChannelConfigDTO channelConfigDTO) {
         ChannelConfig entity = mapper.toEntity(channelConfigDTO);
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ChannelConfigDTO> update(UUID id, ChannelConfigDTO channelConfigDTO) {
-        return repository.findById(id)
+        channelConfigDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(channelConfigDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("ChannelConfig not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    ChannelConfig updatedEntity = mapper.toEntity(channelConfigDTO);
-                    updatedEntity.setId(existingEntity.getId());
-                    updatedEntity.setCreatedAt(existingEntity.getCreatedAt());
-                    updatedEntity.setVersion(existingEntity.getVersion());
-                    return repository.save(updatedEntity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<ChannelConfigDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<ChannelConfig, ChannelConfigDTO>builder()
+                        .dtoType(ChannelConfigDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(ChannelConfig::getTenantId)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("ChannelConfig not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
@@ -86,7 +130,37 @@ public class ChannelConfigServiceImpl implements ChannelConfigService {
                     entity.setActive(false);
                     return repository.save(entity);
                 })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .then();
     }
+
+    @Override
+    public Mono<ChannelConfigAggregateDTO> getAggregate(UUID tenantId, String channelCode) {
+        return repository.findAggregateByTenantIdAndChannelCode(tenantId, channelCode)
+                .switchIfEmpty(Mono.error(new RuntimeException(
+                        "ChannelConfig not found for tenant: " + tenantId + " and channel: " + channelCode)))
+                .map(this::toAggregateDTO);
+    }
+
+    @Override
+    public Flux<ChannelConfigAggregateDTO> getAggregatesByTenant(UUID tenantId) {
+        return repository.findAggregatesByTenantId(tenantId)
+                .map(this::toAggregateDTO);
+    }
+
+    private ChannelConfigAggregateDTO toAggregateDTO(ChannelConfigWithParameters aggregate) {
+        // Parameters arrive ordered by category, so insertion order is the category order
+        Map<String, List<ChannelConfigParameterDTO>> byCategory = new LinkedHashMap<>();
+        for (ChannelConfigParameter parameter : aggregate.getParameters()) {
+            String category = parameter.getCategory() != null ? parameter.getCategory() : UNCATEGORIZED;
+            byCategory.computeIfAbsent(category, key -> new ArrayList<>()).add(parameterMapper.toDTO(parameter));
+        }
+        return ChannelConfigAggregateDTO.builder()
+                .channelConfig(mapper.toDTO(aggregate.getChannelConfig()))
+                .parametersByCategory(byCategory)
+                .parameterCount(aggregate.getParameters().size())
+                .build();
+    }
 }
 
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.channel.ChannelPolicy;
+import com.firefly.common.config.core.config.MaintenanceProperties;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.services.ChannelPolicyService;
+import com.firefly.common.config.core.services.MaintenanceService;
+import com.firefly.common.config.interfaces.dtos.ChannelServeDecisionDTO;
+import com.firefly.common.config.interfaces.enums.ChannelDenialReason;
+import com.firefly.common.config.models.entities.ChannelConfig;
+import com.firefly.common.config.models.entities.ChannelConfigParameter;
+import com.firefly.common.config.models.repositories.ChannelConfigParameterRepository;
+import com.firefly.common.config.models.repositories.ChannelConfigRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Implementation of ChannelPolicyService backed by an in-memory map of
+ * compiled channel policies.
+ *
+ * <p>All active channel configurations are compiled with their parameters at
+ * startup and recompiled when a {@link ConfigurationChangedEvent} for
+ * {@link ChannelConfig} or {@link ChannelConfigParameter} arrives. Maintenance
+ * windows are taken from {@link MaintenanceService}, which already tracks
+ * them in memory.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChannelPolicyServiceImpl implements ChannelPolicyService {
+
+    /**
+     * Upper bound on failover hops, guarding against misconfigured chains.
+     */
+    private static final int MAX_FAILOVER_HOPS = 8;
+
+    private final ChannelConfigRepository channelConfigRepository;
+    private final ChannelConfigParameterRepository parameterRepository;
+    private final MaintenanceService maintenanceService;
+    private final MaintenanceProperties maintenanceProperties;
+
+    private final Map<UUID, ChannelPolicy> policies = new ConcurrentHashMap<>();
+    private final Map<String, UUID> configIdsByChannel = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        parameterRepository.findByActiveTrue()
+                .collectMultimap(ChannelConfigParameter::getChannelConfigId)
+                .flatMapMany(parameters -> channelConfigRepository.findByActiveTrue()
+                        .map(config -> compile(config, parameters.getOrDefault(config.getId(), List.of()))))
+                .doOnNext(this::store)
+                .count()
+                .subscribe(
+                        count -> log.info("Compiled {} channel policies", count),
+                        error -> log.error("Failed to preload channel policies", error));
+    }
+
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (event.getEntityId() == null) {
+            return;
+        }
+        Mono<UUID> configId;
+        if (event.isFor(ChannelConfig.class)) {
+            configId = Mono.just(event.getEntityId());
+        } else if (event.isFor(ChannelConfigParameter.class)) {
+            configId = parameterRepository.findById(event.getEntityId())
+                    .map(ChannelConfigParameter::getChannelConfigId);
+        } else {
+            return;
+        }
+        configId.flatMap(this::load)
+                .subscribe(
+                        policy -> log.debug("Recompiled channel policy: {}/{}", policy.getTenantId(), policy.getChannelCode()),
+                        error -> log.warn("Failed to recompile channel policy for {}: {}",
+                                event.getEntityType(), event.getEntityId(), error));
+    }
+
+    @Override
+    public Mono<ChannelPolicy> getCompiledPolicy(UUID tenantId, String channelCode) {
+        UUID configId = configIdsByChannel.get(channelKey(tenantId, channelCode));
+        ChannelPolicy policy = configId != null ? policies.get(configId) : null;
+        if (policy != null) {
+            return Mono.just(policy);
+        }
+        return refresh(tenantId, channelCode);
+    }
+
+    @Override
+    public Mono<ChannelServeDecisionDTO> canServe(UUID tenantId, String channelCode, String platform,
+                                                  String appVersion, String countryCode, BigDecimal amount) {
+        Instant now = Instant.now();
+        Function<ChannelPolicy, Set<ChannelDenialReason>> evaluator = policy -> {
+            Set<ChannelDenialReason> reasons = policy.evaluate(platform, appVersion, countryCode, amount, now);
+            if (maintenanceService.getStatus(policy.getTenantId(), policy.getChannelCode()).isInMaintenance()) {
+                reasons.add(ChannelDenialReason.IN_MAINTENANCE);
+            }
+            return reasons;
+        };
+        List<String> evaluated = new ArrayList<>();
+        Map<String, Set<ChannelDenialReason>> denials = new LinkedHashMap<>();
+
+        return getCompiledPolicy(tenantId, channelCode)
+                .flatMap(policy -> follow(policy, evaluator, new HashSet<>(), evaluated, denials))
+                .map(serving -> ChannelServeDecisionDTO.builder()
+                        .canServe(true)
+                        .servingChannelCode(serving.getChannelCode())
+                        .servingChannelConfigId(serving.getConfigId())
+                        .failedOver(!serving.getChannelCode().equals(channelCode)))
+                .defaultIfEmpty(ChannelServeDecisionDTO.builder().canServe(false))
+                .map(builder -> builder
+                        .tenantId(tenantId)
+                        .requestedChannelCode(channelCode)
+                        .evaluatedChannels(evaluated)
+                        .denialReasons(denials)
+                        .build());
+    }
+
+    @Override
+    public Mono<ChannelPolicy> refresh(UUID tenantId, String channelCode) {
+        return channelConfigRepository.findAggregateByTenantIdAndChannelCode(tenantId, channelCode)
+                .switchIfEmpty(Mono.error(new RuntimeException(
+                        "ChannelConfig not found for tenant: " + tenantId + " and channel: " + channelCode)))
+                .map(aggregate -> store(compile(aggregate.getChannelConfig(), aggregate.getParameters())));
+    }
+
+    /**
+     * Evaluates a channel and, while it cannot serve, its failover chain.
+     * Completes empty when no channel in the chain can serve.
+     */
+    private Mono<ChannelPolicy> follow(ChannelPolicy policy, Function<ChannelPolicy, Set<ChannelDenialReason>> evaluator,
+                                       Set<UUID> visited, List<String> evaluated,
+                                       Map<String, Set<ChannelDenialReason>> denials) {
+        visited.add(policy.getConfigId());
+        evaluated.add(policy.getChannelCode());
+        Set<ChannelDenialReason> reasons = evaluator.apply(policy);
+        if (reasons.isEmpty()) {
+            return Mono.just(policy);
+        }
+        denials.put(policy.getChannelCode(), reasons);
+
+        UUID failoverId = policy.getFailoverChannelId();
+        if (failoverId == null || visited.contains(failoverId) || visited.size() > MAX_FAILOVER_HOPS) {
+            return Mono.empty();
+        }
+        ChannelPolicy failover = policies.get(failoverId);
+        return (failover != null ? Mono.just(failover) : load(failoverId))
+                .filter(next -> next.getTenantId().equals(policy.getTenantId()))
+                .flatMap(next -> follow(next, evaluator, visited, evaluated, denials));
+    }
+
+    /**
+     * Loads and compiles a channel by config ID, dropping it from the cache
+     * when it no longer exists or was deactivated.
+     */
+    private Mono<ChannelPolicy> load(UUID configId) {
+        return channelConfigRepository.findById(configId)
+                .filter(config -> !Boolean.FALSE.equals(config.getActive()))
+                .flatMap(config -> parameterRepository.findByChannelConfigIdAndActiveTrue(configId)
+                        .collectList()
+                        .map(parameters -> store(compile(config, parameters))))
+                .switchIfEmpty(Mono.fromRunnable(() -> remove(configId)));
+    }
+
+    private ChannelPolicy compile(ChannelConfig config, Collection<ChannelConfigParameter> parameters) {
+        ChannelPolicy policy = ChannelPolicy.compile(config, parameters, ZoneId.of(maintenanceProperties.getZone()));
+        if (!policy.getRejectedEntries().isEmpty()) {
+            log.warn("Ignored invalid values in channel config {}: {}", config.getId(), policy.getRejectedEntries());
+        }
+        return policy;
+    }
+
+    private ChannelPolicy store(ChannelPolicy policy) {
+        ChannelPolicy previous = policies.put(policy.getConfigId(), policy);
+        if (previous != null && !previous.getChannelCode().equals(policy.getChannelCode())) {
+            configIdsByChannel.remove(channelKey(previous.getTenantId(), previous.getChannelCode()), previous.getConfigId());
+        }
+        configIdsByChannel.put(channelKey(policy.getTenantId(), policy.getChannelCode()), policy.getConfigId());
+        return policy;
+    }
+
+    private void remove(UUID configId) {
+        ChannelPolicy removed = policies.remove(configId);
+        if (removed != null) {
+            log.debug("Dropping channel policy: {}/{}", removed.getTenantId(), removed.getChannelCode());
+            configIdsByChannel.remove(channelKey(removed.getTenantId(), removed.getChannelCode()), configId);
+        }
+    }
+
+    private static String channelKey(UUID tenantId, String channelCode) {
+        return tenantId + "/" + channelCode;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.index.CodeIndex;
+import com.firefly.common.config.core.index.IndexedCode;
+import com.firefly.common.config.core.index.TenantContext;
+import com.firefly.common.config.core.services.CodeIndexService;
+import com.firefly.common.config.core.support.SingleFlight;
+import com.firefly.common.config.models.entities.Provider;
+import com.firefly.common.config.models.entities.ProviderStatus;
+import com.firefly.common.config.models.entities.ProviderType;
+import com.firefly.common.config.models.entities.Tenant;
+import com.firefly.common.config.models.entities.TenantStatus;
+import com.firefly.common.config.models.projections.CodeReference;
+import com.firefly.common.config.models.projections.ProviderCodeReference;
+import com.firefly.common.config.models.projections.TenantCodeReference;
+import com.firefly.common.config.models.repositories.ProviderRepository;
+import com.firefly.common.config.models.repositories.ProviderStatusRepository;
+import com.firefly.common.config.models.repositories.ProviderTypeRepository;
+import com.firefly.common.config.models.repositories.TenantRepository;
+import com.firefly.common.config.models.repositories.TenantStatusRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Implementation of CodeIndexService holding one {@link CodeIndex} per
+ * entity type.
+ *
+ * <p>Only the ID, code, active and status columns are read. A create or
+ * update event re-reads those columns for the written row and a delete
+ * event drops it, so the request path never needs {@code findByCode} for
+ * a known code.</p>
+ *
+ * <p>Once an index has been loaded it is authoritative: a miss is answered
+ * as not found without a query, so unknown codes cannot drive database load.
+ * Only before the first load do lookups fall back to the repository.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CodeIndexServiceImpl implements CodeIndexService {
+
+    private final TenantRepository tenantRepository;
+    private final TenantStatusRepository tenantStatusRepository;
+    private final ProviderRepository providerRepository;
+    private final ProviderTypeRepository providerTypeRepository;
+    private final ProviderStatusRepository providerStatusRepository;
+    private final SingleFlight singleFlight;
+
+    private final CodeIndex tenants = new CodeIndex();
+    private final CodeIndex tenantStatuses = new CodeIndex();
+    private final CodeIndex providers = new CodeIndex();
+    private final CodeIndex providerTypes = new CodeIndex();
+    private final CodeIndex providerStatuses = new CodeIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload().subscribe(
+                count -> log.info("Indexed {} tenant, provider, type and status codes", count),
+                error -> log.error("Failed to load code indexes", error));
+    }
+
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        UUID id = event.getEntityId();
+        if (event.isFor(Tenant.class)) {
+            refresh(tenants, event, tenantRepository.findCodeById(id).map(CodeIndexServiceImpl::toTenantEntry));
+        } else if (event.isFor(TenantStatus.class)) {
+            refresh(tenantStatuses, event, tenantStatusRepository.findCodeById(id).map(CodeIndexServiceImpl::toEntry));
+        } else if (event.isFor(Provider.class)) {
+            refresh(providers, event, providerRepository.findCodeById(id).map(CodeIndexServiceImpl::toProviderEntry));
+        } else if (event.isFor(ProviderType.class)) {
+            refresh(providerTypes, event, providerTypeRepository.findCodeById(id).map(CodeIndexServiceImpl::toEntry));
+        } else if (event.isFor(ProviderStatus.class)) {
+            refresh(providerStatuses, event, providerStatusRepository.findCodeById(id).map(CodeIndexServiceImpl::toEntry));
+        }
+    }
+
+    @Override
+    public CodeIndex getTenants() {
+        return tenants;
+    }
+
+    @Override
+    public CodeIndex getTenantStatuses() {
+        return tenantStatuses;
+    }
+
+    @Override
+    public CodeIndex getProviders() {
+        return providers;
+    }
+
+    @Override
+    public CodeIndex getProviderTypes() {
+        return providerTypes;
+    }
+
+    @Override
+    public CodeIndex getProviderStatuses() {
+        return providerStatuses;
+    }
+
+    @Override
+    public Mono<IndexedCode> resolveTenant(String code) {
+        IndexedCode entry = tenants.findByCode(code);
+        if (entry != null || code == null || tenants.isLoaded()) {
+            return Mono.justOrEmpty(entry);
+        }
+        return singleFlight.execute("CodeIndexService.resolveTenant", code, () -> tenantRepository.findByCode(code)
+                .map(tenant -> IndexedCode.of(tenant.getId(), tenant.getCode(), tenant.getActive(),
+                        tenant.getTenantStatusId(), null))
+                .doOnNext(tenants::put));
+    }
+
+    @Override
+    public Mono<IndexedCode> resolveProvider(String code) {
+        IndexedCode entry = providers.findByCode(code);
+        if (entry != null || code == null || providers.isLoaded()) {
+            return Mono.justOrEmpty(entry);
+        }
+        return singleFlight.execute("CodeIndexService.resolveProvider", code, () -> providerRepository.findByCode(code)
+                .map(provider -> IndexedCode.of(provider.getId(), provider.getCode(), provider.getActive(),
+                        provider.getProviderStatusId(), provider.getProviderTypeId()))
+                .doOnNext(providers::put));
+    }
+
+    @Override
+    public Mono<TenantContext> resolveTenantContext(String codeOrId) {
+        if (codeOrId == null || codeOrId.isBlank()) {
+            return Mono.empty();
+        }
+        String value = codeOrId.trim();
+        IndexedCode entry = tenants.findByCode(value);
+        if (entry != null) {
+            return Mono.just(toContext(entry));
+        }
+        UUID id = parseId(value);
+        if (id == null) {
+            return resolveTenant(value).map(this::toContext);
+        }
+        entry = tenants.findById(id);
+        if (entry != null || tenants.isLoaded()) {
+            return Mono.justOrEmpty(entry).map(this::toContext);
+        }
+        return singleFlight.execute("CodeIndexService.resolveTenantId", id, () -> tenantRepository.findCodeById(id)
+                        .map(CodeIndexServiceImpl::toTenantEntry)
+                        .doOnNext(tenants::put))
+                .map(this::toContext);
+    }
+
+    @Override
+    public Mono<Long> reload() {
+        return Flux.merge(
+                        load(tenants, tenantRepository.findAllCodesBy().map(CodeIndexServiceImpl::toTenantEntry)),
+                        load(tenantStatuses, tenantStatusRepository.findAllCodesBy().map(CodeIndexServiceImpl::toEntry)),
+                        load(providers, providerRepository.findAllCodesBy().map(CodeIndexServiceImpl::toProviderEntry)),
+                        load(providerTypes, providerTypeRepository.findAllCodesBy().map(CodeIndexServiceImpl::toEntry)),
+                        load(providerStatuses, providerStatusRepository.findAllCodesBy().map(CodeIndexServiceImpl::toEntry)))
+                .reduce(0L, Long::sum);
+    }
+
+    private static Mono<Long> load(CodeIndex index, Flux<IndexedCode> entries) {
+        return entries.collectList()
+                .doOnNext(index::replaceAll)
+                .map(loaded -> (long) loaded.size());
+    }
+
+    private static void refresh(CodeIndex index, ConfigurationChangedEvent event, Mono<IndexedCode> reread) {
+        UUID id = event.getEntityId();
+        if (event.getAction() == ConfigurationChangedEvent.Action.DELETED) {
+            index.remove(id);
+            return;
+        }
+        reread.switchIfEmpty(Mono.fromRunnable(() -> index.remove(id)))
+                .subscribe(index::put,
+                        error -> log.warn("Failed to update code index for {}: {}", event.getEntityType(), id, error));
+    }
+
+    private TenantContext toContext(IndexedCode tenant) {
+        return new TenantContext(tenant.getId(), tenant.getCode(), tenant.isActive(), tenant.getStatusId(),
+                tenantStatuses.codeOf(tenant.getStatusId()));
+    }
+
+    private static IndexedCode toEntry(CodeReference reference) {
+        return IndexedCode.of(reference.getId(), reference.getCode(), reference.getActive());
+    }
+
+    private static IndexedCode toTenantEntry(TenantCodeReference reference) {
+        return IndexedCode.of(reference.getId(), reference.getCode(), reference.getActive(),
+                reference.getTenantStatusId(), null);
+    }
+
+    private static IndexedCode toProviderEntry(ProviderCodeReference reference) {
+        return IndexedCode.of(reference.getId(), reference.getCode(), reference.getActive(),
+                reference.getProviderStatusId(), reference.getProviderTypeId());
+    }
+
+    private static UUID parseId(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
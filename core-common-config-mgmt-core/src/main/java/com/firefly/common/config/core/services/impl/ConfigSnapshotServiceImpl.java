@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.mappers.ApiProcessMappingMapper;
+import com.firefly.common.config.core.mappers.FeatureFlagMapper;
+import com.firefly.common.config.core.mappers.ProviderValueMappingMapper;
+import com.firefly.common.config.core.services.ConfigSnapshotService;
+import com.firefly.common.config.core.snapshot.ConfigSnapshotChangeLog;
+import com.firefly.common.config.interfaces.dtos.ConfigSnapshotDTO;
+import com.firefly.common.config.models.entities.ApiProcessMapping;
+import com.firefly.common.config.models.entities.FeatureFlag;
+import com.firefly.common.config.models.entities.ProviderValueMapping;
+import com.firefly.common.config.models.repositories.ApiProcessMappingRepository;
+import com.firefly.common.config.models.repositories.FeatureFlagRepository;
+import com.firefly.common.config.models.repositories.ProviderValueMappingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of ConfigSnapshotService.
+ *
+ * <p>The version is read before the data, so a change committed while a
+ * snapshot is being assembled is delivered again with the next delta; clients
+ * apply entries as upserts, so repeats are harmless. Versions come from the
+ * shared outbox, so a client may poll any instance.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConfigSnapshotServiceImpl implements ConfigSnapshotService {
+
+    private final ConfigSnapshotChangeLog changeLog;
+    private final ApiProcessMappingRepository apiProcessMappingRepository;
+    private final FeatureFlagRepository featureFlagRepository;
+    private final ProviderValueMappingRepository providerValueMappingRepository;
+    private final ApiProcessMappingMapper apiProcessMappingMapper;
+    private final FeatureFlagMapper featureFlagMapper;
+    private final ProviderValueMappingMapper providerValueMappingMapper;
+
+    @Override
+    public Mono<ConfigSnapshotDTO> getSnapshot(UUID tenantId, String sinceVersion) {
+        return changeLog.currentVersion()
+                .flatMap(version -> changeLog.changesSince(sinceVersion, version)
+                        .flatMap(changes -> delta(tenantId, version, changes))
+                        .switchIfEmpty(Mono.defer(() -> full(tenantId, version))));
+    }
+
+    private Mono<ConfigSnapshotDTO> full(UUID tenantId, String version) {
+        log.debug("Building full config snapshot: tenantId={}, version={}", tenantId, version);
+        return Mono.zip(
+                        apiProcessMappingRepository.findByIsActiveTrue()
+                                .filter(mapping -> inScope(mapping.getTenantId(), tenantId))
+                                .map(apiProcessMappingMapper::toDTO)
+                                .collectList(),
+                        featureFlagRepository.findByActiveTrue()
+                                .filter(flag -> inScope(flag.getTenantId(), tenantId))
+                                .map(featureFlagMapper::toDTO)
+                                .collectList(),
+                        providerValueMappingRepository.findByActiveTrue()
+                                .filter(mapping -> inScope(mapping.getTenantId(), tenantId))
+                                .map(providerValueMappingMapper::toDTO)
+                                .collectList())
+                .map(parts -> ConfigSnapshotDTO.builder()
+                        .version(version)
+                        .full(true)
+                        .tenantId(tenantId)
+                        .apiProcessMappings(parts.getT1())
+                        .featureFlags(parts.getT2())
+                        .providerValueMappings(parts.getT3())
+                        .removedIds(List.of())
+                        .generatedAt(Instant.now())
+                        .build());
+    }
+
+    private Mono<ConfigSnapshotDTO> delta(UUID tenantId, String version, ConfigSnapshotChangeLog.Changes changes) {
+        Set<UUID> removed = new HashSet<>();
+        return Mono.zip(
+                        changed(apiProcessMappingRepository.findAllById(changes.apiProcessMappingIds()),
+                                changes.apiProcessMappingIds(), ApiProcessMapping::getId,
+                                mapping -> Boolean.TRUE.equals(mapping.getIsActive())
+                                        && inScope(mapping.getTenantId(), tenantId),
+                                removed)
+                                .map(apiProcessMappingMapper::toDTO)
+                                .collectList(),
+                        changed(featureFlagRepository.findAllById(changes.featureFlagIds()),
+                                changes.featureFlagIds(), FeatureFlag::getId,
+                                flag -> Boolean.TRUE.equals(flag.getActive()) && inScope(flag.getTenantId(), tenantId),
+                                removed)
+                                .map(featureFlagMapper::toDTO)
+                                .collectList(),
+                        changed(providerValueMappingRepository.findAllById(changes.providerValueMappingIds()),
+                                changes.providerValueMappingIds(), ProviderValueMapping::getId,
+                                mapping -> Boolean.TRUE.equals(mapping.getActive())
+                                        && inScope(mapping.getTenantId(), tenantId),
+                                removed)
+                                .map(providerValueMappingMapper::toDTO)
+                                .collectList())
+                .map(parts -> ConfigSnapshotDTO.builder()
+                        .version(version)
+                        .full(false)
+                        .tenantId(tenantId)
+                        .apiProcessMappings(parts.getT1())
+                        .featureFlags(parts.getT2())
+                        .providerValueMappings(parts.getT3())
+                        .removedIds(new ArrayList<>(removed))
+                        .generatedAt(Instant.now())
+                        .build());
+    }
+
+    /**
+     * Emits the changed entities that are still visible and adds every other
+     * changed ID (deleted, deactivated or out of scope) to {@code removed}.
+     */
+    private <T> Flux<T> changed(Flux<T> found, Collection<UUID> changedIds, Function<T, UUID> idOf,
+                                Predicate<T> visible, Set<UUID> removed) {
+        if (changedIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return found
+                .filter(visible)
+                .collectList()
+                .flatMapMany(entities -> {
+                    Set<UUID> gone = new HashSet<>(changedIds);
+                    entities.forEach(entity -> gone.remove(idOf.apply(entity)));
+                    synchronized (removed) {
+                        removed.addAll(gone);
+                    }
+                    return Flux.fromIterable(entities);
+                });
+    }
+
+    private static boolean inScope(UUID entityTenantId, UUID tenantId) {
+        return tenantId == null || entityTenantId == null || tenantId.equals(entityTenantId);
+    }
+}
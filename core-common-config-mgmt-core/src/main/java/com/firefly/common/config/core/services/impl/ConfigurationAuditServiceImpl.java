@@ -19,6 +19,8 @@ package com.firefly.common.config.core.services.impl;
 
 import com.firefly.common.config.core.mappers.ConfigurationAuditMapper;
 import com.firefly.common.config.core.services.ConfigurationAuditService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ConfigurationAuditDTO;
 import com.firefly.common.config.models.entities.ConfigurationAudit;
 import com.firefly.common.config.models.repositories.ConfigurationAuditRepository;
@@ -28,6 +30,7 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -49,6 +52,11 @@ public class ConfigurationAuditServiceImpl implements ConfigurationAuditService
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<ConfigurationAuditDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, ConfigurationAudit::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<ConfigurationAuditDTO>> filter(FilterRequest<ConfigurationAuditDTO> filterRequest) {
         return FilterUtils.createFilter(
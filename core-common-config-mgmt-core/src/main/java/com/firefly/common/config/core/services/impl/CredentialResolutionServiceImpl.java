@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.config.SecretProperties;
+import com.firefly.common.config.core.parameter.ParameterSet;
+import com.firefly.common.config.core.secret.SecretValue;
+import com.firefly.common.config.core.secret.VaultClient;
+import com.firefly.common.config.core.services.CredentialResolutionService;
+import com.firefly.common.config.core.support.HashedTimerWheel;
+import com.firefly.common.config.core.support.SingleFlight;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of CredentialResolutionService over a {@link VaultClient}.
+ *
+ * <p>Decrypted material is cached in zeroable byte arrays rather than
+ * strings. Each entry is zeroed and evicted by the shared timer wheel when
+ * its TTL ends; reads after the refresh-ahead point still return the cached
+ * value and refresh it in the background. Cache misses of one request are
+ * fetched together, in batches of at most {@code max-batch-size} IDs, and
+ * identical concurrent fetches are coalesced.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CredentialResolutionServiceImpl implements CredentialResolutionService, DisposableBean {
+
+    private final VaultClient vaultClient;
+    private final SecretProperties properties;
+    private final HashedTimerWheel timerWheel;
+    private final SingleFlight singleFlight;
+
+    private final Map<String, CachedSecret> cache = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Mono<Map<String, SecretValue>> resolve(Collection<String> credentialIds) {
+        Map<String, String> references = new LinkedHashMap<>();
+        for (String id : credentialIds) {
+            references.put(id, id);
+        }
+        return resolveReferences(references);
+    }
+
+    @Override
+    public Mono<Map<String, SecretValue>> resolve(ParameterSet parameters) {
+        return resolveReferences(parameters.getSecretReferences());
+    }
+
+    @Override
+    public Mono<Map<String, SecretValue>> resolveReferences(Map<String, String> references) {
+        return Mono.defer(() -> {
+            long now = System.nanoTime();
+            Set<String> missing = new TreeSet<>();
+            Set<String> stale = new TreeSet<>();
+            for (String id : references.values()) {
+                if (id == null || id.isBlank()) {
+                    continue;
+                }
+                CachedSecret cached = cache.get(id);
+                if (cached == null || cached.isExpired(now)) {
+                    missing.add(id);
+                } else if (cached.isDueForRefresh(now) && refreshing.add(id)) {
+                    stale.add(id);
+                }
+            }
+            if (!stale.isEmpty()) {
+                refreshInBackground(stale);
+            }
+            Mono<Void> load = missing.isEmpty() ? Mono.empty()
+                    : singleFlight.execute("CredentialResolutionService.fetch", List.copyOf(missing),
+                            () -> fetch(missing));
+            return load.then(Mono.fromCallable(() -> copies(references)));
+        });
+    }
+
+    @Override
+    public void invalidate(String credentialId) {
+        CachedSecret cached = cache.remove(credentialId);
+        if (cached != null) {
+            cached.evict();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (String credentialId : List.copyOf(cache.keySet())) {
+            invalidate(credentialId);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        invalidateAll();
+    }
+
+    private void refreshInBackground(Set<String> credentialIds) {
+        fetch(credentialIds)
+                .doFinally(signal -> refreshing.removeAll(credentialIds))
+                .subscribe(
+                        null,
+                        error -> log.warn("Background refresh of {} credentials failed: {}",
+                                credentialIds.size(), error.toString()));
+    }
+
+    private Mono<Void> fetch(Set<String> credentialIds) {
+        return Flux.fromIterable(partition(credentialIds))
+                .concatMap(batch -> vaultClient.fetch(batch)
+                        .doOnNext(fetched -> store(batch, fetched)))
+                .then();
+    }
+
+    private void store(List<String> requested, Map<String, byte[]> fetched) {
+        log.debug("Fetched {} of {} credentials from the vault", fetched.size(), requested.size());
+        long now = System.nanoTime();
+        long ttlNanos = properties.getTtl().toNanos();
+        long refreshNanos = (long) (ttlNanos * Math.min(1.0, Math.max(0.0, properties.getRefreshAheadRatio())));
+        for (String id : requested) {
+            byte[] material = fetched.get(id);
+            if (material == null) {
+                // No longer in the vault: stop serving the cached copy
+                invalidate(id);
+                continue;
+            }
+            CachedSecret entry = new CachedSecret(SecretValue.wrap(material), now + refreshNanos, now + ttlNanos);
+            entry.timeout = timerWheel.schedule(() -> expire(id, entry), properties.getTtl());
+            CachedSecret previous = cache.put(id, entry);
+            if (previous != null) {
+                previous.evict();
+            }
+        }
+    }
+
+    private void expire(String credentialId, CachedSecret entry) {
+        if (cache.remove(credentialId, entry)) {
+            entry.evict();
+        }
+    }
+
+    private Map<String, SecretValue> copies(Map<String, String> references) {
+        Map<String, SecretValue> resolved = new LinkedHashMap<>(references.size() * 2);
+        references.forEach((name, id) -> {
+            SecretValue copy = id != null ? copy(id) : null;
+            if (copy != null) {
+                resolved.put(name, copy);
+            }
+        });
+        return resolved;
+    }
+
+    private SecretValue copy(String credentialId) {
+        while (true) {
+            CachedSecret cached = cache.get(credentialId);
+            if (cached == null) {
+                return null;
+            }
+            SecretValue copy = cached.value.copy();
+            // A null copy means the entry was just replaced by a refresh; read the new one
+            if (copy != null || cache.get(credentialId) == cached) {
+                return copy;
+            }
+        }
+    }
+
+    private List<List<String>> partition(Set<String> credentialIds) {
+        int batchSize = Math.max(1, properties.getMaxBatchSize());
+        List<List<String>> batches = new ArrayList<>(credentialIds.size() / batchSize + 1);
+        List<String> batch = new ArrayList<>(Math.min(batchSize, credentialIds.size()));
+        for (String id : credentialIds) {
+            batch.add(id);
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private static final class CachedSecret {
+
+        private final SecretValue value;
+        private final long refreshAt;
+        private final long expiresAt;
+        private volatile HashedTimerWheel.Timeout timeout;
+
+        private CachedSecret(SecretValue value, long refreshAt, long expiresAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isDueForRefresh(long now) {
+            return now - refreshAt >= 0;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        private void evict() {
+            HashedTimerWheel.Timeout scheduled = timeout;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            value.destroy();
+        }
+    }
+}
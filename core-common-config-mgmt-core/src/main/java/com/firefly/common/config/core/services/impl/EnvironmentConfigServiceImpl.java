@@ -17,8 +17,17 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.environment.EnvironmentConfigBundle;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.EnvironmentConfigMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.EnvironmentConfigService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
+import com.firefly.common.config.interfaces.dtos.EnvironmentConfigBundleDTO;
 import com.firefly.common.config.interfaces.dtos.EnvironmentConfigDTO;
 import com.firefly.common.config.models.entities.EnvironmentConfig;
 import com.firefly.common.config.models.repositories.EnvironmentConfigRepository;
@@ -26,9 +35,17 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementation of the EnvironmentConfigService interface
@@ -36,12 +53,33 @@ import java.util.UUID;
 @Service
 public class EnvironmentConfigServiceImpl implements EnvironmentConfigService {
 
+    private static final String ENTITY_TYPE = "EnvironmentConfig";
+
     @Autowired
     private EnvironmentConfigRepository repository;
 
     @Autowired
     private EnvironmentConfigMapper mapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
+    /**
+     * Materialized bundles by tenant and lower-cased environment name
+     */
+    private final Map<String, EnvironmentConfigBundle> bundles = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every invalidation so bundles built from rows read before a change are not cached
+     */
+    private final AtomicLong generation = new AtomicLong();
+
     @Override
     public Mono<EnvironmentConfigDTO> getById(UUID id) {
         return repository.findById(id)
@@ -49,6 +87,11 @@ public class EnvironmentConfigServiceImpl implements EnvironmentConfigService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<EnvironmentConfigDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, EnvironmentConfig::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<EnvironmentConfigDTO>> filter(FilterRequest<EnvironmentConfigDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -62,27 +105,127 @@ public class EnvironmentConfigServiceImpl implements EnvironmentConfigService {
         environmentConfigDTO.setId(null);
         EnvironmentConfig entity = mapper.toEntity(environmentConfigDTO);
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
+                .doOnNext(saved -> invalidate(saved.getTenantId()))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<EnvironmentConfigDTO> update(UUID id, EnvironmentConfigDTO environmentConfigDTO) {
-        return repository.findById(id)
+        environmentConfigDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(environmentConfigDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("EnvironmentConfig not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    environmentConfigDTO.setId(id);
-                    environmentConfigDTO.setVersion(existingEntity.getVersion());
-                    EnvironmentConfig entity = mapper.toEntity(environmentConfigDTO);
-                    return repository.save(entity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
+                // The previous tenant is not read back, and a tenant move can affect any bundle
+                .doOnNext(saved -> invalidate(null))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<EnvironmentConfigDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<EnvironmentConfig, EnvironmentConfigDTO>builder()
+                        .dtoType(EnvironmentConfigDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(EnvironmentConfig::getTenantId)
+                        .onChanged(this::patched)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("EnvironmentConfig not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("EnvironmentConfig not found with id: " + id)))
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, deleted.getId(), deleted.getTenantId())))
+                .doOnNext(deleted -> invalidate(deleted.getTenantId()))
+                .then();
+    }
+
+    @Override
+    public Mono<EnvironmentConfigBundleDTO> getBundle(UUID tenantId, String environmentName) {
+        return bundle(tenantId, environmentName).map(this::toBundleDTO);
+    }
+
+    @Override
+    public Mono<String> getBundleHash(UUID tenantId, String environmentName) {
+        return bundle(tenantId, environmentName).map(EnvironmentConfigBundle::getContentHash);
+    }
+
+    private Mono<EnvironmentConfigBundle> bundle(UUID tenantId, String environmentName) {
+        String key = bundleKey(tenantId, environmentName);
+        EnvironmentConfigBundle cached = bundles.get(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        long readGeneration = generation.get();
+        return repository.findBundleCandidates(tenantId, environmentName)
+                .collectList()
+                .map(rows -> EnvironmentConfigBundle.materialize(tenantId, environmentName, rows))
+                .doOnNext(bundle -> {
+                    if (generation.get() == readGeneration) {
+                        bundles.put(key, bundle);
+                    }
+                });
+    }
+
+    /**
+     * Drops the bundles a change can affect, including changes made on other
+     * nodes, which arrive through the outbox change feed.
+     */
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (!event.isFor(EnvironmentConfig.class)) {
+            return;
+        }
+        if (event.getAction() == ConfigurationChangedEvent.Action.UPDATED
+                && (event.getChangedFields().isEmpty() || event.getChangedFields().contains("tenantId"))) {
+            // A full update or a tenant move can affect the previous tenant's bundles too
+            invalidate(null);
+        } else {
+            invalidate(event.getTenantId());
+        }
+    }
+
+    private void patched(ConfigurationChangedEvent event) {
+        if (event.getChangedFields().contains("tenantId")) {
+            // The previous tenant's bundles may have included the row as well
+            invalidate(null);
+        }
+        invalidate(event.getTenantId());
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * Drops every cached bundle a change to the given tenant's rows can affect;
+     * a global row (null tenant) affects all bundles.
+     */
+    private void invalidate(UUID tenantId) {
+        generation.incrementAndGet();
+        bundles.values().removeIf(bundle -> bundle.dependsOn(tenantId));
+    }
+
+    private static String bundleKey(UUID tenantId, String environmentName) {
+        return tenantId + "|" + environmentName.toLowerCase(Locale.ROOT);
+    }
+
+    private EnvironmentConfigBundleDTO toBundleDTO(EnvironmentConfigBundle bundle) {
+        Map<String, String> sources = new LinkedHashMap<>();
+        bundle.getSources().forEach((key, layer) -> sources.put(key, layer.name()));
+        return EnvironmentConfigBundleDTO.builder()
+                .tenantId(bundle.getTenantId())
+                .environmentName(bundle.getEnvironmentName())
+                .values(bundle.getValues())
+                .secretReferences(bundle.getSecretReferences())
+                .sources(sources)
+                .contentHash(bundle.getContentHash())
+                .materializedAt(bundle.getMaterializedAt())
+                .build();
     }
 }
 
@@ -17,8 +17,15 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.FeatureFlagMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.FeatureFlagService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.FeatureFlagDTO;
 import com.firefly.common.config.models.entities.FeatureFlag;
 import com.firefly.common.config.models.repositories.FeatureFlagRepository;
@@ -28,6 +35,7 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,12 +44,20 @@ import java.util.UUID;
 @Service
 public class FeatureFlagServiceImpl implements FeatureFlagService {
 
+    private static final String ENTITY_TYPE = "FeatureFlag";
+
     @Autowired
     private FeatureFlagRepository repository;
 
     @Autowired
     private FeatureFlagMapper mapper;
 
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
     @Override
     public Mono<FeatureFlagDTO> getById(UUID id) {
         return repository.findById(id)
@@ -49,6 +65,11 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<FeatureFlagDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, FeatureFlag::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<FeatureFlagDTO>> filter(FilterRequest<FeatureFlagDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -62,27 +83,41 @@ public class FeatureFlagServiceImpl implements FeatureFlagService {
         featureFlagDTO.setId(null);
         FeatureFlag entity = mapper.toEntity(featureFlagDTO);
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<FeatureFlagDTO> update(UUID id, FeatureFlagDTO featureFlagDTO) {
-        return repository.findById(id)
+        featureFlagDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(featureFlagDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("FeatureFlag not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    featureFlagDTO.setId(id);
-                    featureFlagDTO.setVersion(existingEntity.getVersion());
-                    FeatureFlag entity = mapper.toEntity(featureFlagDTO);
-                    return repository.save(entity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<FeatureFlagDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<FeatureFlag, FeatureFlagDTO>builder()
+                        .dtoType(FeatureFlagDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(FeatureFlag::getTenantId)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("FeatureFlag not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("FeatureFlag not found with id: " + id)))
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, id, deleted.getTenantId())))
+                .then();
     }
 }
 
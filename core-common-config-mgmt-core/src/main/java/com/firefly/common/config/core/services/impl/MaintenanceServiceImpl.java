@@ -0,0 +1,356 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.config.MaintenanceProperties;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.maintenance.DailyMaintenanceWindow;
+import com.firefly.common.config.core.maintenance.MaintenanceRule;
+import com.firefly.common.config.core.maintenance.TenantMaintenanceRule;
+import com.firefly.common.config.core.services.MaintenanceService;
+import com.firefly.common.config.core.support.HashedTimerWheel;
+import com.firefly.common.config.interfaces.dtos.MaintenanceStatusDTO;
+import com.firefly.common.config.models.entities.ChannelConfig;
+import com.firefly.common.config.models.entities.TenantSettings;
+import com.firefly.common.config.models.repositories.ChannelConfigRepository;
+import com.firefly.common.config.models.repositories.TenantSettingsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of MaintenanceService backed by an in-memory calendar.
+ *
+ * <p>Each tenant with maintenance mode enabled and each active channel with a
+ * daily maintenance window gets an entry holding its current state and the
+ * instant of its next transition. A single timeout per entry on the shared
+ * {@link HashedTimerWheel} flips the state at that instant and schedules the
+ * following one, so lookups are plain map reads. Entries are rebuilt when a
+ * {@link ConfigurationChangedEvent} for {@link TenantSettings} or
+ * {@link ChannelConfig} arrives.</p>
+ *
+ * <p>Every change event takes a generation from a shared counter and records
+ * it for its tenant or channel config. Its re-read is only applied if no
+ * later event for the same key has been recorded meanwhile, so reads that
+ * complete out of order, or after a delete, cannot bring back an older
+ * state. A reload skips rows changed by an event after the reload began.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MaintenanceServiceImpl implements MaintenanceService {
+
+    private static final String SCOPE_TENANT = "TENANT";
+    private static final String SCOPE_CHANNEL = "CHANNEL";
+
+    private final TenantSettingsRepository tenantSettingsRepository;
+    private final ChannelConfigRepository channelConfigRepository;
+    private final HashedTimerWheel timerWheel;
+    private final MaintenanceProperties properties;
+
+    private final Map<UUID, Entry> tenants = new ConcurrentHashMap<>();
+    private final Map<String, Entry> channels = new ConcurrentHashMap<>();
+    private final Map<UUID, String> channelKeysByConfigId = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+    // Generation of the latest change event per tenant and per channel config
+    private final Map<UUID, Long> tenantGenerations = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> channelGenerations = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload().subscribe(
+                count -> log.info("Loaded {} maintenance calendar entries", count),
+                error -> log.error("Failed to load maintenance calendar", error));
+    }
+
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (event.isFor(TenantSettings.class) && event.getTenantId() != null) {
+            UUID tenantId = event.getTenantId();
+            long readGeneration = generation.incrementAndGet();
+            tenantGenerations.put(tenantId, readGeneration);
+            if (event.getAction() == ConfigurationChangedEvent.Action.DELETED) {
+                removeTenantIfCurrent(tenantId, readGeneration);
+                return;
+            }
+            tenantSettingsRepository.findByTenantId(tenantId)
+                    .subscribe(settings -> applyTenantIfCurrent(settings, readGeneration),
+                            error -> log.warn("Failed to refresh maintenance for tenant: {}", tenantId, error));
+        } else if (event.isFor(ChannelConfig.class) && event.getEntityId() != null) {
+            UUID configId = event.getEntityId();
+            long readGeneration = generation.incrementAndGet();
+            channelGenerations.put(configId, readGeneration);
+            if (event.getAction() == ConfigurationChangedEvent.Action.DELETED) {
+                removeChannelIfCurrent(configId, readGeneration);
+                return;
+            }
+            channelConfigRepository.findById(configId)
+                    .subscribe(config -> applyChannelIfCurrent(config, readGeneration),
+                            error -> log.warn("Failed to refresh maintenance for channel config: {}", configId, error));
+        }
+    }
+
+    @Override
+    public MaintenanceStatusDTO getStatus(UUID tenantId, String channelCode) {
+        Entry tenant = tenants.get(tenantId);
+        Entry channel = channelCode != null ? channels.get(channelKey(tenantId, channelCode)) : null;
+
+        MaintenanceStatusDTO.MaintenanceStatusDTOBuilder status = MaintenanceStatusDTO.builder()
+                .tenantId(tenantId)
+                .channelCode(channelCode);
+        if (tenant != null && tenant.active) {
+            return status.scope(SCOPE_TENANT)
+                    .inMaintenance(true)
+                    .message(tenant.message)
+                    .nextTransitionAt(tenant.nextTransition)
+                    .build();
+        }
+        if (channel != null && channel.active) {
+            return status.scope(SCOPE_CHANNEL)
+                    .inMaintenance(true)
+                    .message(channel.message)
+                    .nextTransitionAt(channel.nextTransition)
+                    .build();
+        }
+        return status.inMaintenance(false)
+                .nextTransitionAt(earliest(
+                        tenant != null ? tenant.nextTransition : null,
+                        channel != null ? channel.nextTransition : null))
+                .build();
+    }
+
+    @Override
+    public Mono<MaintenanceStatusDTO> getTenantStatus(UUID tenantId) {
+        return Mono.fromSupplier(() -> getStatus(tenantId, null));
+    }
+
+    @Override
+    public Mono<MaintenanceStatusDTO> getChannelStatus(UUID tenantId, String channelCode) {
+        return Mono.fromSupplier(() -> getStatus(tenantId, channelCode));
+    }
+
+    @Override
+    public Flux<MaintenanceStatusDTO> getActiveMaintenance() {
+        return Flux.defer(() -> {
+            List<MaintenanceStatusDTO> active = new ArrayList<>();
+            tenants.forEach((tenantId, entry) -> {
+                if (entry.active) {
+                    active.add(getStatus(tenantId, null));
+                }
+            });
+            channels.values().forEach(entry -> {
+                if (entry.active) {
+                    active.add(MaintenanceStatusDTO.builder()
+                            .tenantId(entry.tenantId)
+                            .channelCode(entry.channelCode)
+                            .scope(SCOPE_CHANNEL)
+                            .inMaintenance(true)
+                            .message(entry.message)
+                            .nextTransitionAt(entry.nextTransition)
+                            .build());
+                }
+            });
+            return Flux.fromIterable(active);
+        });
+    }
+
+    @Override
+    public Mono<Long> reload() {
+        return Mono.defer(() -> {
+            long readGeneration = generation.get();
+            Flux<Long> tenantCount = tenantSettingsRepository.findByMaintenanceModeEnabledTrue()
+                    .doOnNext(settings -> applyTenantIfUnchanged(settings, readGeneration))
+                    .count()
+                    .flux();
+            Flux<Long> channelCount = channelConfigRepository.findByActiveTrue()
+                    .filter(config -> DailyMaintenanceWindow.isDefined(
+                            config.getMaintenanceWindowStart(), config.getMaintenanceWindowEnd()))
+                    .doOnNext(config -> applyChannelIfUnchanged(config, readGeneration))
+                    .count()
+                    .flux();
+            return Flux.concat(tenantCount, channelCount).reduce(0L, Long::sum);
+        });
+    }
+
+    private synchronized void applyTenantIfCurrent(TenantSettings settings, long readGeneration) {
+        if (tenantGenerations.getOrDefault(settings.getTenantId(), 0L) == readGeneration) {
+            applyTenant(settings);
+        }
+    }
+
+    private synchronized void applyTenantIfUnchanged(TenantSettings settings, long readGeneration) {
+        if (tenantGenerations.getOrDefault(settings.getTenantId(), 0L) <= readGeneration) {
+            applyTenant(settings);
+        }
+    }
+
+    private synchronized void removeTenantIfCurrent(UUID tenantId, long readGeneration) {
+        if (tenantGenerations.getOrDefault(tenantId, 0L) == readGeneration) {
+            removeTenant(tenantId);
+        }
+    }
+
+    private synchronized void applyChannelIfCurrent(ChannelConfig config, long readGeneration) {
+        if (channelGenerations.getOrDefault(config.getId(), 0L) == readGeneration) {
+            applyChannel(config);
+        }
+    }
+
+    private synchronized void applyChannelIfUnchanged(ChannelConfig config, long readGeneration) {
+        if (channelGenerations.getOrDefault(config.getId(), 0L) <= readGeneration) {
+            applyChannel(config);
+        }
+    }
+
+    private synchronized void removeChannelIfCurrent(UUID configId, long readGeneration) {
+        if (channelGenerations.getOrDefault(configId, 0L) == readGeneration) {
+            removeChannel(configId);
+        }
+    }
+
+    private void applyTenant(TenantSettings settings) {
+        if (Boolean.FALSE.equals(settings.getActive())) {
+            removeTenant(settings.getTenantId());
+            return;
+        }
+        TenantMaintenanceRule rule = TenantMaintenanceRule.of(settings, zone());
+        if (!rule.isArmed()) {
+            removeTenant(settings.getTenantId());
+            return;
+        }
+        Entry entry = new Entry(settings.getTenantId(), null, rule, settings.getMaintenanceMessage());
+        replace(tenants.put(settings.getTenantId(), entry), entry);
+        log.debug("Scheduled tenant maintenance for: {} (inMaintenance={}, next={})",
+                settings.getTenantId(), entry.active, entry.nextTransition);
+    }
+
+    private void applyChannel(ChannelConfig config) {
+        removeChannel(config.getId());
+        if (Boolean.FALSE.equals(config.getActive())
+                || !DailyMaintenanceWindow.isDefined(config.getMaintenanceWindowStart(), config.getMaintenanceWindowEnd())) {
+            return;
+        }
+        MaintenanceRule rule = new DailyMaintenanceWindow(
+                config.getMaintenanceWindowStart(), config.getMaintenanceWindowEnd(), zone());
+        String key = channelKey(config.getTenantId(), config.getChannelCode());
+        Entry entry = new Entry(config.getTenantId(), config.getChannelCode(), rule, null);
+        channelKeysByConfigId.put(config.getId(), key);
+        replace(channels.put(key, entry), entry);
+        log.debug("Scheduled channel maintenance for: {} (inMaintenance={}, next={})",
+                key, entry.active, entry.nextTransition);
+    }
+
+    private void removeTenant(UUID tenantId) {
+        Entry removed = tenants.remove(tenantId);
+        if (removed != null) {
+            removed.retire();
+        }
+    }
+
+    private void removeChannel(UUID configId) {
+        String key = channelKeysByConfigId.remove(configId);
+        if (key != null) {
+            Entry removed = channels.remove(key);
+            if (removed != null) {
+                removed.retire();
+            }
+        }
+    }
+
+    private void replace(Entry previous, Entry current) {
+        if (previous != null) {
+            previous.retire();
+        }
+        current.advance(Instant.now());
+    }
+
+    private ZoneId zone() {
+        return ZoneId.of(properties.getZone());
+    }
+
+    private static String channelKey(UUID tenantId, String channelCode) {
+        return tenantId + "/" + channelCode;
+    }
+
+    private static Instant earliest(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * Calendar entry. The state fields are written by whoever last advanced
+     * the entry (the caller on creation, the timer worker afterwards) and read
+     * lock-free by lookups.
+     */
+    private final class Entry {
+
+        private final UUID tenantId;
+        private final String channelCode;
+        private final MaintenanceRule rule;
+        private final String message;
+
+        private volatile boolean active;
+        private volatile Instant nextTransition;
+        private volatile HashedTimerWheel.Timeout timeout;
+        private volatile boolean retired;
+
+        private Entry(UUID tenantId, String channelCode, MaintenanceRule rule, String message) {
+            this.tenantId = tenantId;
+            this.channelCode = channelCode;
+            this.rule = rule;
+            this.message = message;
+        }
+
+        private void advance(Instant now) {
+            active = rule.isActiveAt(now);
+            nextTransition = rule.nextTransitionAfter(now);
+            if (nextTransition != null && !retired) {
+                timeout = timerWheel.schedule(() -> advance(Instant.now()), nextTransition);
+                if (retired) {
+                    timeout.cancel();
+                }
+            }
+        }
+
+        private void retire() {
+            retired = true;
+            HashedTimerWheel.Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.parameter.ParameterDefinition;
+import com.firefly.common.config.core.parameter.ParameterSet;
+import com.firefly.common.config.core.services.ParameterSetService;
+import com.firefly.common.config.core.support.SingleFlight;
+import com.firefly.common.config.interfaces.dtos.ChannelConfigParameterDTO;
+import com.firefly.common.config.interfaces.dtos.ParameterValidationResultDTO;
+import com.firefly.common.config.interfaces.dtos.ParameterViolationDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderParameterDTO;
+import com.firefly.common.config.models.entities.ChannelConfigParameter;
+import com.firefly.common.config.models.entities.ProviderParameter;
+import com.firefly.common.config.models.repositories.ChannelConfigParameterRepository;
+import com.firefly.common.config.models.repositories.ProviderParameterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Implementation of ParameterSetService.
+ *
+ * <p>Decoded sets are cached per provider/tenant pair and per channel
+ * configuration. Any change to a provider or channel parameter clears the
+ * corresponding cache: a parameter row does not say which cached sets
+ * include it once it is deleted, and parameter writes are rare. A generation
+ * counter keeps a load that raced with a change from being cached.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParameterSetServiceImpl implements ParameterSetService {
+
+    /**
+     * Provider-level parameters first, so tenant overrides replace them.
+     */
+    private static final Comparator<ProviderParameter> PROVIDER_LEVEL_FIRST =
+            Comparator.comparing(parameter -> parameter.getTenantId() != null);
+
+    private final ProviderParameterRepository providerParameterRepository;
+    private final ChannelConfigParameterRepository channelParameterRepository;
+    private final SingleFlight singleFlight;
+
+    private final Map<ProviderKey, ParameterSet> providerSets = new ConcurrentHashMap<>();
+    private final Map<UUID, ParameterSet> channelSets = new ConcurrentHashMap<>();
+    private final AtomicLong providerGeneration = new AtomicLong();
+    private final AtomicLong channelGeneration = new AtomicLong();
+
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (event.isFor(ProviderParameter.class)) {
+            providerGeneration.incrementAndGet();
+            providerSets.clear();
+        } else if (event.isFor(ChannelConfigParameter.class)) {
+            channelGeneration.incrementAndGet();
+            channelSets.clear();
+        }
+    }
+
+    @Override
+    public Mono<ParameterSet> getProviderParameters(UUID providerId, UUID tenantId) {
+        ProviderKey key = new ProviderKey(providerId, tenantId);
+        ParameterSet cached = providerSets.get(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        long generation = providerGeneration.get();
+        return singleFlight.execute("ParameterSetService.getProviderParameters", key,
+                () -> providerParameterRepository.findByProviderId(providerId)
+                        .filter(parameter -> !Boolean.FALSE.equals(parameter.getActive()))
+                        .filter(parameter -> parameter.getTenantId() == null
+                                || parameter.getTenantId().equals(tenantId))
+                        .collectSortedList(PROVIDER_LEVEL_FIRST)
+                        .map(parameters -> decode(parameters, ParameterDefinition::of))
+                        .doOnNext(set -> {
+                            if (providerGeneration.get() == generation) {
+                                providerSets.put(key, set);
+                            }
+                        }));
+    }
+
+    @Override
+    public Mono<ParameterSet> getChannelParameters(UUID channelConfigId) {
+        ParameterSet cached = channelSets.get(channelConfigId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        long generation = channelGeneration.get();
+        return singleFlight.execute("ParameterSetService.getChannelParameters", channelConfigId,
+                () -> channelParameterRepository.findByChannelConfigIdAndActiveTrue(channelConfigId)
+                        .collectList()
+                        .map(parameters -> decode(parameters, ParameterDefinition::of))
+                        .doOnNext(set -> {
+                            if (channelGeneration.get() == generation) {
+                                channelSets.put(channelConfigId, set);
+                            }
+                        }));
+    }
+
+    @Override
+    public Mono<ParameterValidationResultDTO> validateProviderParameters(List<ProviderParameterDTO> parameters) {
+        return Mono.fromCallable(() -> validate(parameters, ParameterDefinition::of));
+    }
+
+    @Override
+    public Mono<ParameterValidationResultDTO> validateChannelParameters(List<ChannelConfigParameterDTO> parameters) {
+        return Mono.fromCallable(() -> validate(parameters, ParameterDefinition::of));
+    }
+
+    private static <T> ParameterSet decode(List<T> parameters, Function<T, ParameterDefinition> toDefinition) {
+        ParameterSet set = ParameterSet.decode(parameters.stream().map(toDefinition).toList());
+        if (!set.isValid()) {
+            log.warn("Ignoring {} invalid stored parameters: {}", set.getViolations().size(), set.getViolations());
+        }
+        return set;
+    }
+
+    private static <T> ParameterValidationResultDTO validate(List<T> parameters,
+                                                             Function<T, ParameterDefinition> toDefinition) {
+        List<ParameterViolationDTO> violations = ParameterSet.validate(parameters.stream()
+                .filter(Objects::nonNull)
+                .map(toDefinition)
+                .toList());
+        return ParameterValidationResultDTO.builder()
+                .valid(violations.isEmpty())
+                .parameterCount(parameters.size())
+                .violations(violations)
+                .build();
+    }
+
+    private record ProviderKey(UUID providerId, UUID tenantId) {
+    }
+}
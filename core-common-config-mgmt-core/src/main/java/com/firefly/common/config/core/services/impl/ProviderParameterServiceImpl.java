@@ -17,8 +17,19 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.ProviderParameterMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.parameter.InvalidParameterException;
+import com.firefly.common.config.core.parameter.ParameterDefinition;
+import com.firefly.common.config.core.parameter.ParameterSet;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.ProviderParameterService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
+import com.firefly.common.config.interfaces.dtos.ParameterViolationDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderParameterDTO;
 import com.firefly.common.config.models.entities.ProviderParameter;
 import com.firefly.common.config.models.repositories.ProviderParameterRepository;
@@ -28,17 +39,26 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class ProviderParameterServiceImpl implements ProviderParameterService {
 
+    private static final String ENTITY_TYPE = "ProviderParameter";
+
     @Autowired
     private ProviderParameterRepository repository;
 
     @Autowired
     private ProviderParameterMapper mapper;
 
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
     @Override
     public Mono<ProviderParameterDTO> getById(UUID id) {
         return repository.findById(id)
@@ -46,6 +66,11 @@ public class ProviderParameterServiceImpl implements ProviderParameterService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<ProviderParameterDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, ProviderParameter::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<ProviderParameterDTO>> filter(FilterRequest<ProviderParameterDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -57,29 +82,62 @@ public class ProviderParameterServiceImpl implements ProviderParameterService {
     @Override
     public Mono<ProviderParameterDTO> create(ProviderParameterDTO providerParameterDTO) {
         providerParameterDTO.setId(null);
+        List<ParameterViolationDTO> violations = ParameterSet.validate(List.of(ParameterDefinition.of(providerParameterDTO)));
+        if (!violations.isEmpty()) {
+            return Mono.error(new InvalidParameterException(violations));
+        }
         ProviderParameter entity = mapper.toEntity(providerParameterDTO);
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ProviderParameterDTO> update(UUID id, ProviderParameterDTO providerParameterDTO) {
-        return repository.findById(id)
+        providerParameterDTO.setId(id);
+        List<ParameterViolationDTO> violations = ParameterSet.validate(List.of(ParameterDefinition.of(providerParameterDTO)));
+        if (!violations.isEmpty()) {
+            return Mono.error(new InvalidParameterException(violations));
+        }
+        return repository.updateReturning(mapper.toEntity(providerParameterDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider parameter not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    providerParameterDTO.setId(id);
-                    ProviderParameter updatedEntity = mapper.toEntity(providerParameterDTO);
-                    updatedEntity.setCreatedAt(existingEntity.getCreatedAt());
-                    return repository.save(updatedEntity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<ProviderParameterDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<ProviderParameter, ProviderParameterDTO>builder()
+                        .dtoType(ProviderParameterDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(ProviderParameter::getTenantId)
+                        .sensitiveProperty("parameterValue")
+                        .validator(ProviderParameterServiceImpl::validate)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("Provider parameter not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider parameter not found with id: " + id)))
-                .flatMap(entity -> repository.delete(entity));
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, deleted.getId(), deleted.getTenantId())))
+                .then();
     }
-}
 
+    /**
+     * Applies the create and update checks to a patched parameter.
+     */
+    private static void validate(ProviderParameter parameter) {
+        List<ParameterViolationDTO> violations = ParameterSet.validate(List.of(ParameterDefinition.of(parameter)));
+        if (!violations.isEmpty()) {
+            throw new InvalidParameterException(violations);
+        }
+    }
+}
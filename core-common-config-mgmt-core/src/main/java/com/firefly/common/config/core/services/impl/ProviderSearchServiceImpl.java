@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.index.ProviderCapabilityIndex;
+import com.firefly.common.config.core.mappers.ProviderMapper;
+import com.firefly.common.config.core.services.ProviderSearchService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.core.support.SingleFlight;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderSearchDTO;
+import com.firefly.common.config.models.entities.Provider;
+import com.firefly.common.config.models.projections.ProviderCapabilities;
+import com.firefly.common.config.models.repositories.ProviderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of ProviderSearchService.
+ *
+ * <p>The capability columns of all providers are loaded at startup; every
+ * provider create, update or delete re-reads that provider's columns and
+ * rebuilds the index, so searches never scan the providers table.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProviderSearchServiceImpl implements ProviderSearchService {
+
+    private final ProviderRepository repository;
+    private final ProviderMapper mapper;
+    private final SingleFlight singleFlight;
+
+    /**
+     * Capabilities by provider ID; guarded by its own monitor
+     */
+    private final Map<UUID, ProviderCapabilities> providers = new HashMap<>();
+
+    private volatile ProviderCapabilityIndex index;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload().subscribe(
+                count -> log.info("Indexed capabilities of {} providers", count),
+                error -> log.error("Failed to load provider capability index", error));
+    }
+
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (!event.isFor(Provider.class) || index == null) {
+            // Before the first load there is nothing to update
+            return;
+        }
+        UUID providerId = event.getEntityId();
+        if (event.getAction() == ConfigurationChangedEvent.Action.DELETED) {
+            update(providerId, null);
+            return;
+        }
+        repository.findCapabilitiesById(providerId)
+                .switchIfEmpty(Mono.fromRunnable(() -> update(providerId, null)))
+                .subscribe(
+                        capabilities -> update(providerId, capabilities),
+                        error -> log.warn("Failed to update provider capability index for provider: {}",
+                                providerId, error));
+    }
+
+    @Override
+    public Mono<ProviderCapabilityIndex> getIndex() {
+        ProviderCapabilityIndex current = index;
+        if (current != null) {
+            return Mono.just(current);
+        }
+        return singleFlight.execute("ProviderSearchService.getIndex", "all", this::load);
+    }
+
+    @Override
+    public Mono<List<ProviderDTO>> search(ProviderSearchDTO criteria) {
+        return getIndex()
+                .map(current -> current.search(criteria))
+                .flatMap(ids -> BatchLookup.lookup(ids, repository::findAllById, Provider::getId, mapper::toDTO))
+                .map(BatchGetResponseDTO::getItems);
+    }
+
+    @Override
+    public Mono<Integer> reload() {
+        return load().map(ProviderCapabilityIndex::size);
+    }
+
+    private Mono<ProviderCapabilityIndex> load() {
+        return repository.findAllCapabilitiesBy()
+                .collectMap(ProviderCapabilities::getId)
+                .map(loaded -> {
+                    synchronized (providers) {
+                        providers.clear();
+                        providers.putAll(loaded);
+                        return rebuild();
+                    }
+                });
+    }
+
+    private void update(UUID providerId, ProviderCapabilities capabilities) {
+        synchronized (providers) {
+            if (capabilities != null) {
+                providers.put(providerId, capabilities);
+            } else {
+                providers.remove(providerId);
+            }
+            rebuild();
+        }
+    }
+
+    private ProviderCapabilityIndex rebuild() {
+        ProviderCapabilityIndex rebuilt = ProviderCapabilityIndex.build(providers.values());
+        index = rebuilt;
+        return rebuilt;
+    }
+}
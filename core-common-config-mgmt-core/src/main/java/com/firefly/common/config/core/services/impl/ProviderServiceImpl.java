@@ -17,8 +17,17 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.ProviderMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
+import com.firefly.common.config.core.projection.ProjectionExecutor;
 import com.firefly.common.config.core.services.ProviderService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.core.support.SingleFlight;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderDTO;
 import com.firefly.common.config.models.entities.Provider;
 import com.firefly.common.config.models.repositories.ProviderRepository;
@@ -28,6 +37,8 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -36,19 +47,44 @@ import java.util.UUID;
 @Service
 public class ProviderServiceImpl implements ProviderService {
 
+    private static final String ENTITY_TYPE = "Provider";
+
     @Autowired
     private ProviderRepository repository;
 
     @Autowired
     private ProviderMapper mapper;
 
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
+    @Autowired
+    private ProjectionExecutor projection;
+
     @Override
     public Mono<ProviderDTO> getById(UUID id) {
-        return repository.findById(id)
+        return singleFlight.execute("ProviderService.getById", id, () -> repository.findById(id))
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider not found with id: " + id)))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<ProviderDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, Provider::getId, mapper::toDTO);
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getById(UUID id, String fields) {
+        return projection.findById(Provider.class, ProviderDTO.class, id, fields)
+                .switchIfEmpty(Mono.error(new RuntimeException("Provider not found with id: " + id)));
+    }
+
     @Override
     public Mono<PaginationResponse<ProviderDTO>> filter(FilterRequest<ProviderDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -57,6 +93,11 @@ public class ProviderServiceImpl implements ProviderService {
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<PaginationResponse<Map<String, Object>>> filter(FilterRequest<ProviderDTO> filterRequest, String fields) {
+        return projection.filter(Provider.class, ProviderDTO.class, filterRequest, fields);
+    }
+
     @Override
     public Mono<ProviderDTO> create(ProviderDTO providerDTO) {
         // Set ID to null to ensure a new entity is created
@@ -67,33 +108,40 @@ public class ProviderServiceImpl implements ProviderService {
 
         // Save entity and return mapped DTO
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), null)))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ProviderDTO> update(UUID id, ProviderDTO providerDTO) {
-        return repository.findById(id)
+        providerDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(providerDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    // Set the ID from the path parameter
-                    providerDTO.setId(id);
-
-                    // Convert DTO to entity
-                    Provider updatedEntity = mapper.toEntity(providerDTO);
-
-                    // Preserve created date
-                    updatedEntity.setCreatedAt(existingEntity.getCreatedAt());
-
-                    // Save updated entity
-                    return repository.save(updatedEntity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), null)))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<ProviderDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<Provider, ProviderDTO>builder()
+                        .dtoType(ProviderDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(provider -> null)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("Provider not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider not found with id: " + id)))
-                .flatMap(entity -> repository.delete(entity));
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, deleted.getId(), null)))
+                .then();
     }
 }
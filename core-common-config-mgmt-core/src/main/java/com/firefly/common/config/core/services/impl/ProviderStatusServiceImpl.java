@@ -17,8 +17,15 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.ProviderStatusMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.ProviderStatusService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderStatusDTO;
 import com.firefly.common.config.models.entities.ProviderStatus;
 import com.firefly.common.config.models.repositories.ProviderStatusRepository;
@@ -28,6 +35,7 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,12 +44,20 @@ import java.util.UUID;
 @Service
 public class ProviderStatusServiceImpl implements ProviderStatusService {
 
+    private static final String ENTITY_TYPE = "ProviderStatus";
+
     @Autowired
     private ProviderStatusRepository repository;
 
     @Autowired
     private ProviderStatusMapper mapper;
 
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
     @Override
     public Mono<ProviderStatusDTO> getById(UUID id) {
         return repository.findById(id)
@@ -49,6 +65,11 @@ public class ProviderStatusServiceImpl implements ProviderStatusService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<ProviderStatusDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, ProviderStatus::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<ProviderStatusDTO>> filter(FilterRequest<ProviderStatusDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -67,33 +88,40 @@ public class ProviderStatusServiceImpl implements ProviderStatusService {
 
         // Save entity and return mapped DTO
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), null)))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ProviderStatusDTO> update(UUID id, ProviderStatusDTO providerStatusDTO) {
-        return repository.findById(id)
+        providerStatusDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(providerStatusDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider status not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    // Set the ID from the path parameter
-                    providerStatusDTO.setId(id);
-
-                    // Convert DTO to entity
-                    ProviderStatus updatedEntity = mapper.toEntity(providerStatusDTO);
-
-                    // Preserve created date
-                    updatedEntity.setCreatedAt(existingEntity.getCreatedAt());
-
-                    // Save updated entity
-                    return repository.save(updatedEntity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), null)))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<ProviderStatusDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<ProviderStatus, ProviderStatusDTO>builder()
+                        .dtoType(ProviderStatusDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(status -> null)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("Provider status not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider status not found with id: " + id)))
-                .flatMap(entity -> repository.delete(entity));
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, deleted.getId(), null)))
+                .then();
     }
 }
@@ -17,8 +17,15 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.ProviderTenantMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.ProviderTenantService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderTenantDTO;
 import com.firefly.common.config.models.entities.ProviderTenant;
 import com.firefly.common.config.models.repositories.ProviderTenantRepository;
@@ -28,6 +35,7 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,12 +44,22 @@ import java.util.UUID;
 @Service
 public class ProviderTenantServiceImpl implements ProviderTenantService {
 
+    private static final String ENTITY_TYPE = "ProviderTenant";
+    private static final String[] USAGE_PROPERTIES = {
+            "lastUsedAt", "totalRequestsCount", "totalFailuresCount", "averageResponseTimeMs"};
+
     @Autowired
     private ProviderTenantRepository repository;
 
     @Autowired
     private ProviderTenantMapper mapper;
 
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
     @Override
     public Mono<ProviderTenantDTO> getById(UUID id) {
         return repository.findById(id)
@@ -49,6 +67,11 @@ public class ProviderTenantServiceImpl implements ProviderTenantService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<ProviderTenantDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, ProviderTenant::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<ProviderTenantDTO>> filter(FilterRequest<ProviderTenantDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -67,34 +90,42 @@ public class ProviderTenantServiceImpl implements ProviderTenantService {
 
         // Save entity and return mapped DTO
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ProviderTenantDTO> update(UUID id, ProviderTenantDTO providerTenantDTO) {
-        return repository.findById(id)
+        providerTenantDTO.setId(id);
+        // Usage metrics are maintained by the usage meter's flushes, not by configuration updates
+        return repository.updateReturning(mapper.toEntity(providerTenantDTO), USAGE_PROPERTIES)
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider-Tenant relationship not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    // Set the ID from the path parameter
-                    providerTenantDTO.setId(id);
-
-                    // Convert DTO to entity
-                    ProviderTenant updatedEntity = mapper.toEntity(providerTenantDTO);
-
-                    // Preserve created date
-                    updatedEntity.setCreatedAt(existingEntity.getCreatedAt());
-
-                    // Save updated entity
-                    return repository.save(updatedEntity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<ProviderTenantDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<ProviderTenant, ProviderTenantDTO>builder()
+                        .dtoType(ProviderTenantDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(ProviderTenant::getTenantId)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("Provider-Tenant relationship not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider-Tenant relationship not found with id: " + id)))
-                .flatMap(entity -> repository.delete(entity));
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, deleted.getId(), deleted.getTenantId())))
+                .then();
     }
 }
 
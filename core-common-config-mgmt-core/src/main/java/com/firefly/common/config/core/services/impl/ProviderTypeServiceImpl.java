@@ -17,8 +17,15 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.ProviderTypeMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.ProviderTypeService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderTypeDTO;
 import com.firefly.common.config.models.entities.ProviderType;
 import com.firefly.common.config.models.repositories.ProviderTypeRepository;
@@ -28,6 +35,7 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,12 +44,20 @@ import java.util.UUID;
 @Service
 public class ProviderTypeServiceImpl implements ProviderTypeService {
 
+    private static final String ENTITY_TYPE = "ProviderType";
+
     @Autowired
     private ProviderTypeRepository repository;
 
     @Autowired
     private ProviderTypeMapper mapper;
 
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
     @Override
     public Mono<ProviderTypeDTO> getById(UUID id) {
         return repository.findById(id)
@@ -49,6 +65,11 @@ public class ProviderTypeServiceImpl implements ProviderTypeService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<ProviderTypeDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, ProviderType::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<ProviderTypeDTO>> filter(FilterRequest<ProviderTypeDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -67,33 +88,40 @@ public class ProviderTypeServiceImpl implements ProviderTypeService {
 
         // Save entity and return mapped DTO
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), null)))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ProviderTypeDTO> update(UUID id, ProviderTypeDTO providerTypeDTO) {
-        return repository.findById(id)
+        providerTypeDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(providerTypeDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider type not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    // Set the ID from the path parameter
-                    providerTypeDTO.setId(id);
-
-                    // Convert DTO to entity
-                    ProviderType updatedEntity = mapper.toEntity(providerTypeDTO);
-
-                    // Preserve created date
-                    updatedEntity.setCreatedAt(existingEntity.getCreatedAt());
-
-                    // Save updated entity
-                    return repository.save(updatedEntity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), null)))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<ProviderTypeDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<ProviderType, ProviderTypeDTO>builder()
+                        .dtoType(ProviderTypeDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(type -> null)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("Provider type not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider type not found with id: " + id)))
-                .flatMap(entity -> repository.delete(entity));
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, deleted.getId(), null)))
+                .then();
     }
 }
@@ -0,0 +1,424 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.config.MeteringProperties;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.metering.UsageMeter;
+import com.firefly.common.config.core.services.ProviderUsageService;
+import com.firefly.common.config.core.support.SingleFlight;
+import com.firefly.common.config.interfaces.dtos.ProviderUsageBatchResultDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderUsageDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderUsageDecisionDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderUsageEventDTO;
+import com.firefly.common.config.interfaces.enums.UsageDenialReason;
+import com.firefly.common.config.models.entities.ProviderTenant;
+import com.firefly.common.config.models.entities.ProviderTenantUsage;
+import com.firefly.common.config.models.repositories.ProviderTenantRepository;
+import com.firefly.common.config.models.routing.PrimaryTransactions;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of ProviderUsageService backed by one in-memory
+ * {@link UsageMeter} per provider-tenant relationship.
+ *
+ * <p>Meters for all active relationships are loaded with the current month's
+ * usage at startup; others are loaded on first use. Limits are refreshed
+ * when a {@link ConfigurationChangedEvent} for {@link ProviderTenant}
+ * arrives. Every {@code flush-interval} the usage recorded since the last
+ * flush is written with one transaction per relationship: an update of the
+ * lifetime metrics on the relationship row, which leaves its version alone,
+ * and an additive upsert of the month's row, whose totals are read back to
+ * pick up the usage flushed by other nodes. A failed flush is retried with
+ * the next one. Usage flushes are not configuration changes and are not
+ * recorded in the outbox.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProviderUsageServiceImpl implements ProviderUsageService, DisposableBean {
+
+    /**
+     * Relationships flushed concurrently, each in its own transaction.
+     */
+    private static final int FLUSH_CONCURRENCY = 8;
+
+    /**
+     * Bound on remembered unknown tenant/provider pairs, so events for random IDs cannot grow it without limit.
+     */
+    private static final int MAX_UNKNOWN_PAIRS = 100_000;
+
+    private final ProviderTenantRepository repository;
+    private final PrimaryTransactions transactions;
+    private final SingleFlight singleFlight;
+    private final MeteringProperties properties;
+
+    private final Map<UUID, UsageMeter> meters = new ConcurrentHashMap<>();
+    private final Map<String, UUID> meterIdsByPair = new ConcurrentHashMap<>();
+
+    /**
+     * Tenant/provider pairs without a relationship; cleared on every relationship change
+     */
+    private final Set<String> unknownPairs = ConcurrentHashMap.newKeySet();
+
+    private volatile Disposable flushLoop;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        LocalDate period = currentPeriod();
+        repository.loadPeriodUsage(period)
+                .collectMap(ProviderTenantUsage::getProviderTenantId)
+                .flatMapMany(usage -> repository.findByActiveTrue()
+                        .map(relationship -> UsageMeter.create(relationship, period, usage.get(relationship.getId()))))
+                .doOnNext(this::store)
+                .count()
+                .subscribe(
+                        count -> log.info("Loaded usage meters for {} provider-tenant relationships", count),
+                        error -> log.error("Failed to preload usage meters", error));
+        flushLoop = Flux.interval(properties.getFlushInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> flush()
+                        .onErrorResume(error -> {
+                            log.warn("Failed to flush provider usage: {}", error.toString());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        Disposable loop = flushLoop;
+        if (loop != null) {
+            loop.dispose();
+        }
+        try {
+            Long flushed = flush().block(properties.getShutdownFlushTimeout());
+            log.info("Flushed usage of {} provider-tenant relationships at shutdown", flushed);
+        } catch (RuntimeException e) {
+            log.warn("Final usage flush did not complete: {}", e.toString());
+        }
+    }
+
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (!event.isFor(ProviderTenant.class) || event.getEntityId() == null) {
+            return;
+        }
+        // A created or re-pointed relationship may resolve a pair remembered as unknown
+        unknownPairs.clear();
+        if (event.getAction() == ConfigurationChangedEvent.Action.DELETED) {
+            remove(event.getEntityId());
+            return;
+        }
+        repository.findById(event.getEntityId())
+                .subscribe(
+                        this::refresh,
+                        error -> log.warn("Failed to refresh usage limits of provider-tenant relationship {}",
+                                event.getEntityId(), error));
+    }
+
+    @Override
+    public Mono<ProviderUsageDecisionDTO> record(ProviderUsageEventDTO event) {
+        if (!isValid(event)) {
+            return Mono.error(new IllegalArgumentException("Invalid usage event for tenant: " + event.getTenantId()
+                    + " and provider: " + event.getProviderId()));
+        }
+        LocalDate period = currentPeriod();
+        return apply(event, period)
+                .map(outcome -> toDecision(event, outcome, period));
+    }
+
+    @Override
+    public Mono<ProviderUsageBatchResultDTO> recordAll(Flux<ProviderUsageEventDTO> events) {
+        return Mono.defer(() -> {
+            ZoneId zone = ZoneId.of(properties.getZone());
+            BatchTally tally = new BatchTally();
+            return events
+                    .concatMap(event -> {
+                        tally.received++;
+                        if (!isValid(event)) {
+                            tally.invalid++;
+                            return Mono.empty();
+                        }
+                        LocalDate period = currentPeriod(zone);
+                        return apply(event, period)
+                                .doOnNext(outcome -> tally.add(event, outcome, period));
+                    })
+                    .then(Mono.fromSupplier(tally::toDTO));
+        });
+    }
+
+    @Override
+    public Mono<ProviderUsageDTO> getUsage(UUID tenantId, UUID providerId) {
+        LocalDate period = currentPeriod();
+        return meterFor(tenantId, providerId)
+                .switchIfEmpty(Mono.error(new RuntimeException(
+                        "Provider-Tenant relationship not found for tenant: " + tenantId + " and provider: " + providerId)))
+                .map(meter -> toDTO(meter, period));
+    }
+
+    @Override
+    public Mono<Long> flush() {
+        return Flux.defer(() -> Flux.fromIterable(meters.values()))
+                .flatMap(meter -> {
+                    UsageMeter.Delta delta = meter.drain();
+                    return delta.isEmpty() ? Mono.<UUID>empty() : write(meter, delta).thenReturn(meter.getProviderTenantId());
+                }, FLUSH_CONCURRENCY)
+                .count();
+    }
+
+    private Mono<Outcome> apply(ProviderUsageEventDTO event, LocalDate period) {
+        long transactions = event.getTransactions() != null ? event.getTransactions() : 1L;
+        long volumeCents = event.getVolume() != null ? UsageMeter.toCents(event.getVolume()) : 0L;
+        boolean success = !Boolean.FALSE.equals(event.getSuccess());
+        long responseTimeMs = event.getResponseTimeMs() != null ? event.getResponseTimeMs() : -1L;
+        return meterFor(event.getTenantId(), event.getProviderId())
+                .map(meter -> new Outcome(meter, meter.record(period, transactions, volumeCents, success,
+                        responseTimeMs, System.currentTimeMillis())))
+                .switchIfEmpty(Mono.fromSupplier(() -> new Outcome(null, UsageDenialReason.UNKNOWN_PROVIDER_TENANT)));
+    }
+
+    private Mono<UsageMeter> meterFor(UUID tenantId, UUID providerId) {
+        String pair = pairKey(tenantId, providerId);
+        UUID id = meterIdsByPair.get(pair);
+        UsageMeter meter = id != null ? meters.get(id) : null;
+        if (meter != null) {
+            return Mono.just(meter);
+        }
+        if (unknownPairs.contains(pair)) {
+            return Mono.empty();
+        }
+        return singleFlight.execute("ProviderUsageService.meterFor", pair, () -> load(tenantId, providerId, pair));
+    }
+
+    private Mono<UsageMeter> load(UUID tenantId, UUID providerId, String pair) {
+        LocalDate period = currentPeriod();
+        return repository.findByProviderIdAndTenantId(providerId, tenantId)
+                .flatMap(relationship -> repository.loadPeriodUsage(relationship.getId(), period)
+                        .map(usage -> UsageMeter.create(relationship, period, usage))
+                        .switchIfEmpty(Mono.fromSupplier(() -> UsageMeter.create(relationship, period, null))))
+                .map(this::store)
+                .switchIfEmpty(Mono.fromRunnable(() -> {
+                    if (unknownPairs.size() >= MAX_UNKNOWN_PAIRS) {
+                        unknownPairs.clear();
+                    }
+                    unknownPairs.add(pair);
+                }));
+    }
+
+    /**
+     * Writes one relationship's delta. A relationship deleted elsewhere
+     * updates no row; its meter is dropped along with the delta.
+     */
+    private Mono<Void> write(UsageMeter meter, UsageMeter.Delta delta) {
+        UUID id = meter.getProviderTenantId();
+        UsageMeter.Limits limits = meter.getLimits();
+        return transactions.execute(repository.addUsageMetrics(id, delta.getRequests(), delta.getFailures(),
+                                delta.getTimedRequests(), delta.getResponseTimeSumMs(),
+                                LocalDateTime.ofInstant(Instant.ofEpochMilli(delta.getLastUsedMillis()), ZoneId.systemDefault()))
+                        .filter(updated -> updated > 0)
+                        .flatMap(updated -> Flux.fromIterable(delta.getPeriods())
+                                .concatMap(period -> repository.addPeriodUsage(id, period.getPeriodStart(),
+                                        period.getTransactions(), period.getFailures(),
+                                        UsageMeter.fromCents(period.getVolumeCents()),
+                                        limits.costOf(period.getTransactions())))
+                                .collectList()))
+                .doOnNext(stored -> {
+                    for (int i = 0; i < stored.size(); i++) {
+                        ProviderTenantUsage usage = stored.get(i);
+                        meter.sync(delta.getPeriods().get(i), usage.getTransactionCount(),
+                                UsageMeter.toCents(usage.getVolume()));
+                    }
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> {
+                    log.info("Provider-tenant relationship {} no longer exists; dropping its usage meter", id);
+                    remove(id);
+                }))
+                // A cancelled flush has rolled back
+                .doOnCancel(() -> meter.restore(delta))
+                .onErrorResume(error -> {
+                    log.warn("Failed to flush usage of provider-tenant relationship {}, retrying with the next flush: {}",
+                            id, error.toString());
+                    meter.restore(delta);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void refresh(ProviderTenant relationship) {
+        UsageMeter meter = meters.get(relationship.getId());
+        if (meter == null) {
+            return;
+        }
+        if (meter.getTenantId().equals(relationship.getTenantId())
+                && meter.getProviderId().equals(relationship.getProviderId())) {
+            meter.updateLimits(UsageMeter.Limits.of(relationship));
+        } else {
+            // Re-pointed to another tenant or provider; reloaded under its new pair on next use
+            remove(relationship.getId());
+        }
+    }
+
+    private UsageMeter store(UsageMeter meter) {
+        UsageMeter existing = meters.putIfAbsent(meter.getProviderTenantId(), meter);
+        UsageMeter stored = existing != null ? existing : meter;
+        meterIdsByPair.put(pairKey(stored.getTenantId(), stored.getProviderId()), stored.getProviderTenantId());
+        return stored;
+    }
+
+    /**
+     * Drops a meter, flushing what it recorded since the last flush.
+     */
+    private void remove(UUID providerTenantId) {
+        UsageMeter removed = meters.remove(providerTenantId);
+        if (removed == null) {
+            return;
+        }
+        meterIdsByPair.remove(pairKey(removed.getTenantId(), removed.getProviderId()), providerTenantId);
+        UsageMeter.Delta delta = removed.drain();
+        if (!delta.isEmpty()) {
+            write(removed, delta).subscribe();
+        }
+    }
+
+    private ProviderUsageDecisionDTO toDecision(ProviderUsageEventDTO event, Outcome outcome, LocalDate period) {
+        return ProviderUsageDecisionDTO.builder()
+                .tenantId(event.getTenantId())
+                .providerId(event.getProviderId())
+                .allowed(outcome.getDenialReason() == null)
+                .denialReason(outcome.getDenialReason())
+                .usage(outcome.getMeter() != null ? toDTO(outcome.getMeter(), period) : null)
+                .build();
+    }
+
+    private static ProviderUsageDTO toDTO(UsageMeter meter, LocalDate period) {
+        UsageMeter.Usage usage = meter.usage(period);
+        UsageMeter.Limits limits = meter.getLimits();
+        return ProviderUsageDTO.builder()
+                .tenantId(meter.getTenantId())
+                .providerId(meter.getProviderId())
+                .providerTenantId(meter.getProviderTenantId())
+                .period(YearMonth.from(usage.getPeriodStart()).toString())
+                .transactions(usage.getTransactions())
+                .transactionLimit(limits.getTransactionLimit())
+                .volume(UsageMeter.fromCents(usage.getVolumeCents()))
+                .volumeLimit(limits.getVolumeLimit())
+                .cost(limits.costOf(usage.getTransactions()))
+                .build();
+    }
+
+    private static boolean isValid(ProviderUsageEventDTO event) {
+        if (event.getTenantId() == null || event.getProviderId() == null) {
+            return false;
+        }
+        if (event.getTransactions() != null && event.getTransactions() < 1) {
+            return false;
+        }
+        if (event.getResponseTimeMs() != null && event.getResponseTimeMs() < 0) {
+            return false;
+        }
+        BigDecimal volume = event.getVolume();
+        if (volume == null) {
+            return true;
+        }
+        try {
+            UsageMeter.toCents(volume);
+        } catch (ArithmeticException e) {
+            return false;
+        }
+        return volume.signum() >= 0;
+    }
+
+    private LocalDate currentPeriod() {
+        return currentPeriod(ZoneId.of(properties.getZone()));
+    }
+
+    private static LocalDate currentPeriod(ZoneId zone) {
+        return LocalDate.now(zone).withDayOfMonth(1);
+    }
+
+    private static String pairKey(UUID tenantId, UUID providerId) {
+        return tenantId + "/" + providerId;
+    }
+
+    /**
+     * Result of applying one event; the meter is null for unknown relationships.
+     */
+    @Value
+    private static class Outcome {
+        UsageMeter meter;
+        UsageDenialReason denialReason;
+    }
+
+    /**
+     * Counts of a batch; only touched by the batch's serial {@code concatMap}.
+     */
+    private final class BatchTally {
+
+        private long received;
+        private long accepted;
+        private long denied;
+        private long invalid;
+        private final List<ProviderUsageDecisionDTO> denials = new ArrayList<>();
+
+        private void add(ProviderUsageEventDTO event, Outcome outcome, LocalDate period) {
+            if (outcome.getDenialReason() == null) {
+                accepted++;
+                return;
+            }
+            denied++;
+            if (denials.size() < ProviderUsageBatchResultDTO.MAX_DENIALS) {
+                denials.add(toDecision(event, outcome, period));
+            }
+        }
+
+        private ProviderUsageBatchResultDTO toDTO() {
+            return ProviderUsageBatchResultDTO.builder()
+                    .received(received)
+                    .accepted(accepted)
+                    .denied(denied)
+                    .invalid(invalid)
+                    .denials(denials)
+                    .build();
+        }
+    }
+}
@@ -17,8 +17,15 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.ProviderValueMappingMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.ProviderValueMappingService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderValueMappingDTO;
 import com.firefly.common.config.models.entities.ProviderValueMapping;
 import com.firefly.common.config.models.repositories.ProviderValueMappingRepository;
@@ -28,17 +35,26 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class ProviderValueMappingServiceImpl implements ProviderValueMappingService {
 
+    private static final String ENTITY_TYPE = "ProviderValueMapping";
+
     @Autowired
     private ProviderValueMappingRepository repository;
 
     @Autowired
     private ProviderValueMappingMapper mapper;
 
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
     @Override
     public Mono<ProviderValueMappingDTO> getById(UUID id) {
         return repository.findById(id)
@@ -46,6 +62,11 @@ public class ProviderValueMappingServiceImpl implements ProviderValueMappingServ
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<ProviderValueMappingDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, ProviderValueMapping::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<ProviderValueMappingDTO>> filter(FilterRequest<ProviderValueMappingDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -59,27 +80,41 @@ public class ProviderValueMappingServiceImpl implements ProviderValueMappingServ
         providerValueMappingDTO.setId(null);
         ProviderValueMapping entity = mapper.toEntity(providerValueMappingDTO);
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<ProviderValueMappingDTO> update(UUID id, ProviderValueMappingDTO providerValueMappingDTO) {
-        return repository.findById(id)
+        providerValueMappingDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(providerValueMappingDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider value mapping not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    providerValueMappingDTO.setId(id);
-                    ProviderValueMapping updatedEntity = mapper.toEntity(providerValueMappingDTO);
-                    updatedEntity.setCreatedAt(existingEntity.getCreatedAt());
-                    return repository.save(updatedEntity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<ProviderValueMappingDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<ProviderValueMapping, ProviderValueMappingDTO>builder()
+                        .dtoType(ProviderValueMappingDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(ProviderValueMapping::getTenantId)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("Provider value mapping not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("Provider value mapping not found with id: " + id)))
-                .flatMap(entity -> repository.delete(entity));
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, id, deleted.getTenantId())))
+                .then();
     }
 }
 
@@ -17,8 +17,15 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.TenantBrandingMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.TenantBrandingService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.TenantBrandingDTO;
 import com.firefly.common.config.models.entities.TenantBranding;
 import com.firefly.common.config.models.repositories.TenantBrandingRepository;
@@ -28,17 +35,26 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class TenantBrandingServiceImpl implements TenantBrandingService {
 
+    private static final String ENTITY_TYPE = "TenantBranding";
+
     @Autowired
     private TenantBrandingRepository repository;
 
     @Autowired
     private TenantBrandingMapper mapper;
 
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
     @Override
     public Mono<TenantBrandingDTO> getById(UUID id) {
         return repository.findById(id)
@@ -46,6 +62,11 @@ public class TenantBrandingServiceImpl implements TenantBrandingService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<TenantBrandingDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, TenantBranding::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<TenantBrandingDTO> getByTenantId(UUID tenantId) {
         return repository.findByTenantId(tenantId)
@@ -66,27 +87,41 @@ public class TenantBrandingServiceImpl implements TenantBrandingService {
         tenantBrandingDTO.setId(null);
         TenantBranding entity = mapper.toEntity(tenantBrandingDTO);
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<TenantBrandingDTO> update(UUID id, TenantBrandingDTO tenantBrandingDTO) {
-        return repository.findById(id)
+        tenantBrandingDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(tenantBrandingDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Tenant branding not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    tenantBrandingDTO.setId(id);
-                    TenantBranding updatedEntity = mapper.toEntity(tenantBrandingDTO);
-                    updatedEntity.setCreatedAt(existingEntity.getCreatedAt());
-                    return repository.save(updatedEntity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<TenantBrandingDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<TenantBranding, TenantBrandingDTO>builder()
+                        .dtoType(TenantBrandingDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(TenantBranding::getTenantId)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("Tenant branding not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("Tenant branding not found with id: " + id)))
-                .flatMap(entity -> repository.delete(entity));
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, deleted.getId(), deleted.getTenantId())))
+                .then();
     }
 }
 
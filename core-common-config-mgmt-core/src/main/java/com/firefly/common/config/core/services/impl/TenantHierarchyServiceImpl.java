@@ -0,0 +1,310 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.hierarchy.ConfigurationInheritance;
+import com.firefly.common.config.core.hierarchy.TenantTree;
+import com.firefly.common.config.core.mappers.FeatureFlagMapper;
+import com.firefly.common.config.core.mappers.ProviderParameterMapper;
+import com.firefly.common.config.core.mappers.TenantSettingsMapper;
+import com.firefly.common.config.core.services.TenantHierarchyService;
+import com.firefly.common.config.core.support.SingleFlight;
+import com.firefly.common.config.interfaces.dtos.FeatureFlagDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderParameterDTO;
+import com.firefly.common.config.interfaces.dtos.TenantHierarchyDTO;
+import com.firefly.common.config.interfaces.dtos.TenantSettingsDTO;
+import com.firefly.common.config.models.entities.FeatureFlag;
+import com.firefly.common.config.models.entities.ProviderParameter;
+import com.firefly.common.config.models.entities.Tenant;
+import com.firefly.common.config.models.entities.TenantSettings;
+import com.firefly.common.config.models.repositories.FeatureFlagRepository;
+import com.firefly.common.config.models.repositories.ProviderParameterRepository;
+import com.firefly.common.config.models.repositories.TenantRepository;
+import com.firefly.common.config.models.repositories.TenantSettingsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Implementation of TenantHierarchyService backed by an in-memory
+ * {@link TenantTree}.
+ *
+ * <p>The parent links of all tenants are loaded once at startup (two columns
+ * per tenant) and the tree is rebuilt from them whenever a tenant is created,
+ * re-parented or deleted. Effective settings and feature flags are cached per
+ * tenant; a change to a tenant's own settings or flags, or to its position in
+ * the tree, drops the cached entries of the tenant and all of its
+ * descendants, and a change to a global flag, or an update that may have
+ * moved a row to another tenant, drops them all.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TenantHierarchyServiceImpl implements TenantHierarchyService {
+
+    private static final String TENANT_ID = "tenantId";
+
+    private final TenantRepository tenantRepository;
+    private final TenantSettingsRepository tenantSettingsRepository;
+    private final FeatureFlagRepository featureFlagRepository;
+    private final ProviderParameterRepository providerParameterRepository;
+    private final TenantSettingsMapper tenantSettingsMapper;
+    private final FeatureFlagMapper featureFlagMapper;
+    private final ProviderParameterMapper providerParameterMapper;
+    private final SingleFlight singleFlight;
+
+    /**
+     * Parent ID by tenant ID (null values for roots); guarded by its own monitor
+     */
+    private final Map<UUID, UUID> links = new HashMap<>();
+
+    private volatile TenantTree tree;
+
+    private final Map<UUID, TenantSettingsDTO> effectiveSettings = new ConcurrentHashMap<>();
+    private final Map<UUID, List<FeatureFlagDTO>> effectiveFlags = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every invalidation so values resolved from rows read before a change are not cached
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        getTree().subscribe(
+                loaded -> log.info("Loaded tenant hierarchy with {} tenants", loaded.size()),
+                error -> log.error("Failed to load tenant hierarchy", error));
+    }
+
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (event.isFor(Tenant.class)) {
+            onTenantChanged(event);
+        } else if (event.isFor(TenantSettings.class) || event.isFor(FeatureFlag.class)) {
+            // A row moved to another tenant may have been inherited anywhere
+            invalidate(mayHaveMoved(event) ? null : event.getTenantId());
+        }
+    }
+
+    /**
+     * The event carries only the new owner, so an update that wrote the
+     * tenant ID, or wrote the whole row (a full update lists no changed
+     * fields), may have taken the row away from another subtree.
+     */
+    private static boolean mayHaveMoved(ConfigurationChangedEvent event) {
+        return event.getAction() == ConfigurationChangedEvent.Action.UPDATED
+                && (event.getChangedFields().isEmpty() || event.getChangedFields().contains(TENANT_ID));
+    }
+
+    @Override
+    public Mono<TenantTree> getTree() {
+        TenantTree current = tree;
+        if (current != null) {
+            return Mono.just(current);
+        }
+        return singleFlight.execute("TenantHierarchyService.getTree", "all", this::loadTree);
+    }
+
+    @Override
+    public Mono<TenantHierarchyDTO> getHierarchy(UUID tenantId) {
+        return getTree().flatMap(current -> {
+            if (!current.contains(tenantId)) {
+                return Mono.error(new RuntimeException("Tenant not found with id: " + tenantId));
+            }
+            return Mono.just(TenantHierarchyDTO.builder()
+                    .tenantId(tenantId)
+                    .parentTenantId(current.parentOf(tenantId))
+                    .depth(current.depthOf(tenantId))
+                    .ancestorIds(current.ancestorsOf(tenantId))
+                    .childIds(current.childrenOf(tenantId))
+                    .descendantCount(current.descendantsOf(tenantId).size())
+                    .build());
+        });
+    }
+
+    @Override
+    public Mono<List<UUID>> getDescendants(UUID tenantId) {
+        return getTree().map(current -> current.descendantsOf(tenantId));
+    }
+
+    @Override
+    public Mono<TenantSettingsDTO> getEffectiveSettings(UUID tenantId) {
+        TenantSettingsDTO cached = effectiveSettings.get(tenantId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        long readGeneration = generation.get();
+        return getTree()
+                .flatMap(current -> {
+                    List<UUID> lineage = current.lineageOf(tenantId);
+                    return tenantSettingsRepository.findByTenantIdInAndActiveTrue(lineage)
+                            .collectList()
+                            .flatMap(rows -> Mono.justOrEmpty(ConfigurationInheritance.inheritSettings(lineage, rows)));
+                })
+                .switchIfEmpty(Mono.error(new RuntimeException("TenantSettings not found for tenant: " + tenantId)))
+                .map(tenantSettingsMapper::toDTO)
+                .doOnNext(settings -> cacheIfCurrent(effectiveSettings, tenantId, settings, readGeneration));
+    }
+
+    @Override
+    public Mono<List<FeatureFlagDTO>> getEffectiveFeatureFlags(UUID tenantId) {
+        List<FeatureFlagDTO> cached = effectiveFlags.get(tenantId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        long readGeneration = generation.get();
+        return getTree()
+                .flatMap(current -> {
+                    List<UUID> lineage = current.lineageOf(tenantId);
+                    return Flux.concat(
+                                    featureFlagRepository.findByTenantIdInAndActiveTrue(lineage),
+                                    featureFlagRepository.findByTenantIdIsNullAndActiveTrue())
+                            .collectList()
+                            .map(rows -> ConfigurationInheritance.resolveByKey(lineage, rows, FeatureFlag::getTenantId,
+                                    flag -> Arrays.asList(flag.getFeatureKey(), flag.getEnvironment())));
+                })
+                .map(flags -> toDTOs(flags, featureFlagMapper::toDTO))
+                .doOnNext(flags -> cacheIfCurrent(effectiveFlags, tenantId, flags, readGeneration));
+    }
+
+    @Override
+    public Mono<List<ProviderParameterDTO>> getEffectiveProviderParameters(UUID tenantId, UUID providerId) {
+        return getTree().flatMap(current -> {
+            List<UUID> lineage = current.lineageOf(tenantId);
+            return Flux.concat(
+                            providerParameterRepository.findByProviderIdAndTenantIdInAndActiveTrue(providerId, lineage),
+                            providerParameterRepository.findByProviderIdAndTenantIdIsNullAndActiveTrue(providerId))
+                    .collectList()
+                    .map(rows -> ConfigurationInheritance.resolveByKey(lineage, rows, ProviderParameter::getTenantId,
+                            parameter -> Arrays.asList(parameter.getParameterName(), parameter.getEnvironment())))
+                    .map(parameters -> toDTOs(parameters, providerParameterMapper::toDTO));
+        });
+    }
+
+    private Mono<TenantTree> loadTree() {
+        return tenantRepository.findAllLinksBy()
+                .collect(HashMap<UUID, UUID>::new, (loaded, link) -> loaded.put(link.getId(), link.getParentTenantId()))
+                .map(loaded -> {
+                    synchronized (links) {
+                        links.clear();
+                        links.putAll(loaded);
+                        return rebuild();
+                    }
+                });
+    }
+
+    private void onTenantChanged(ConfigurationChangedEvent event) {
+        if (tree == null) {
+            // Not loaded yet; the first load reads the current links
+            return;
+        }
+        UUID tenantId = event.getEntityId();
+        if (event.getAction() == ConfigurationChangedEvent.Action.DELETED) {
+            synchronized (links) {
+                // The foreign key sets the children's parent to null
+                for (UUID child : tree.childrenOf(tenantId)) {
+                    links.put(child, null);
+                }
+                List<UUID> affected = new ArrayList<>(tree.descendantsOf(tenantId));
+                affected.add(tenantId);
+                links.remove(tenantId);
+                rebuild();
+                invalidateAll(affected);
+            }
+            return;
+        }
+        tenantRepository.findById(tenantId).subscribe(
+                tenant -> {
+                    synchronized (links) {
+                        boolean moved = !links.containsKey(tenantId)
+                                || !Objects.equals(links.get(tenantId), tenant.getParentTenantId());
+                        if (moved) {
+                            links.put(tenantId, tenant.getParentTenantId());
+                            rebuild();
+                            invalidate(tenantId);
+                        }
+                    }
+                },
+                error -> log.warn("Failed to update tenant hierarchy for tenant: {}", tenantId, error));
+    }
+
+    private TenantTree rebuild() {
+        TenantTree rebuilt = TenantTree.build(links);
+        if (!rebuilt.getBrokenLinks().isEmpty()) {
+            log.warn("Ignoring parent links that form cycles for tenants: {}", rebuilt.getBrokenLinks());
+        }
+        tree = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * Drops the cached values of a tenant and its descendants; a null tenant
+     * (a global row changed) drops everything.
+     */
+    private void invalidate(UUID tenantId) {
+        generation.incrementAndGet();
+        if (tenantId == null) {
+            effectiveSettings.clear();
+            effectiveFlags.clear();
+            return;
+        }
+        TenantTree current = tree;
+        List<UUID> affected = new ArrayList<>(current != null ? current.descendantsOf(tenantId) : List.of());
+        affected.add(tenantId);
+        invalidateAll(affected);
+    }
+
+    private void invalidateAll(List<UUID> tenantIds) {
+        generation.incrementAndGet();
+        for (UUID tenantId : tenantIds) {
+            effectiveSettings.remove(tenantId);
+            effectiveFlags.remove(tenantId);
+        }
+    }
+
+    private <V> void cacheIfCurrent(Map<UUID, V> cache, UUID tenantId, V value, long readGeneration) {
+        if (generation.get() == readGeneration) {
+            cache.put(tenantId, value);
+        }
+    }
+
+    private static <E, D> List<D> toDTOs(List<E> entities, Function<E, D> mapper) {
+        List<D> dtos = new ArrayList<>(entities.size());
+        for (E entity : entities) {
+            dtos.add(mapper.apply(entity));
+        }
+        return List.copyOf(dtos);
+    }
+}
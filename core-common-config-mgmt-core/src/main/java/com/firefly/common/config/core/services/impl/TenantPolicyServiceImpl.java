@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.policy.TenantPolicy;
+import com.firefly.common.config.core.services.TenantPolicyService;
+import com.firefly.common.config.interfaces.dtos.TenantAccessCheckDTO;
+import com.firefly.common.config.interfaces.dtos.TenantPolicyDTO;
+import com.firefly.common.config.models.entities.TenantSettings;
+import com.firefly.common.config.models.repositories.TenantSettingsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of TenantPolicyService backed by an in-memory map of
+ * compiled policies.
+ *
+ * <p>All active settings are compiled at startup; afterwards a policy is
+ * recompiled only when a {@link ConfigurationChangedEvent} for
+ * {@link TenantSettings} arrives. Tenants that were not preloaded are compiled
+ * lazily on first access.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TenantPolicyServiceImpl implements TenantPolicyService {
+
+    private final TenantSettingsRepository repository;
+
+    private final Map<UUID, TenantPolicy> policies = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        repository.findByActiveTrue()
+                .map(TenantPolicy::compile)
+                .doOnNext(this::store)
+                .count()
+                .subscribe(
+                        count -> log.info("Compiled {} tenant policies", count),
+                        error -> log.error("Failed to preload tenant policies", error));
+    }
+
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (!event.isFor(TenantSettings.class) || event.getTenantId() == null) {
+            return;
+        }
+        if (event.getAction() == ConfigurationChangedEvent.Action.DELETED) {
+            log.debug("Dropping compiled policy for tenant: {}", event.getTenantId());
+            policies.remove(event.getTenantId());
+            return;
+        }
+        refresh(event.getTenantId()).subscribe(
+                policy -> log.debug("Recompiled policy for tenant: {} (version={})",
+                        policy.getTenantId(), policy.getSettingsVersion()),
+                error -> log.warn("Failed to recompile policy for tenant: {}", event.getTenantId(), error));
+    }
+
+    @Override
+    public Mono<TenantPolicy> getCompiledPolicy(UUID tenantId) {
+        TenantPolicy policy = policies.get(tenantId);
+        if (policy != null) {
+            return Mono.just(policy);
+        }
+        return load(tenantId);
+    }
+
+    @Override
+    public Mono<TenantPolicyDTO> getPolicy(UUID tenantId) {
+        return getCompiledPolicy(tenantId).map(this::toDTO);
+    }
+
+    @Override
+    public Mono<TenantAccessCheckDTO> checkAccess(UUID tenantId, String ipAddress, String countryCode) {
+        return getCompiledPolicy(tenantId)
+                .map(policy -> {
+                    boolean ipAllowed = ipAddress == null || ipAddress.isBlank() || policy.isIpAllowed(ipAddress);
+                    boolean countryAllowed = countryCode == null || countryCode.isBlank()
+                            || policy.isCountryAllowed(countryCode);
+                    return TenantAccessCheckDTO.builder()
+                            .tenantId(tenantId)
+                            .ipAddress(ipAddress)
+                            .countryCode(countryCode)
+                            .ipAllowed(ipAllowed)
+                            .countryAllowed(countryAllowed)
+                            .allowed(ipAllowed && countryAllowed)
+                            .build();
+                });
+    }
+
+    @Override
+    public Mono<TenantPolicyDTO> refresh(UUID tenantId) {
+        return load(tenantId).map(this::toDTO);
+    }
+
+    private Mono<TenantPolicy> load(UUID tenantId) {
+        return repository.findByTenantId(tenantId)
+                .switchIfEmpty(Mono.error(new RuntimeException(
+                        "TenantSettings not found for tenant: " + tenantId)))
+                .map(TenantPolicy::compile)
+                .map(this::store);
+    }
+
+    /**
+     * Stores a compiled policy unless a newer version is already present,
+     * which can happen when a lazy load races with a change event.
+     */
+    private TenantPolicy store(TenantPolicy policy) {
+        return policies.merge(policy.getTenantId(), policy,
+                (current, candidate) -> candidate.getVersion() >= current.getVersion() ? candidate : current);
+    }
+
+    private TenantPolicyDTO toDTO(TenantPolicy policy) {
+        List<String> rejected = new ArrayList<>(policy.getIpAllowList().getRejectedEntries());
+        rejected.addAll(policy.getIpBlockList().getRejectedEntries());
+        return TenantPolicyDTO.builder()
+                .tenantId(policy.getTenantId())
+                .settingsVersion(policy.getVersion())
+                .compiledAt(policy.getCompiledAt())
+                .active(policy.isActive())
+                .apiRateLimitPerMinute(policy.getApiRateLimitPerMinute())
+                .apiRateLimitPerHour(policy.getApiRateLimitPerHour())
+                .apiRateLimitPerDay(policy.getApiRateLimitPerDay())
+                .mfaEnabled(policy.isMfaEnabled())
+                .mfaRequired(policy.isMfaRequired())
+                .twoFactorAuthMethods(policy.getTwoFactorAuthMethods())
+                .passwordMinLength(policy.getPasswordMinLength())
+                .sessionTimeoutMinutes(policy.getSessionTimeoutMinutes())
+                .maxLoginAttempts(policy.getMaxLoginAttempts())
+                .ipAllowList(policy.getIpAllowList().getRanges())
+                .ipBlockList(policy.getIpBlockList().getRanges())
+                .geoBlockingEnabled(policy.isGeoBlockingEnabled())
+                .allowedCountries(policy.getAllowedCountries().toList())
+                .blockedCountries(policy.getBlockedCountries().toList())
+                .rejectedEntries(rejected)
+                .pciDssEnabled(policy.isPciDssEnabled())
+                .gdprEnabled(policy.isGdprEnabled())
+                .dataResidencyCountry(policy.getDataResidencyCountry())
+                .fraudDetectionEnabled(policy.isFraudDetectionEnabled())
+                .fraudScoreThreshold(policy.getFraudScoreThreshold())
+                .circuitBreakerEnabled(policy.isCircuitBreakerEnabled())
+                .circuitBreakerFailureThreshold(policy.getCircuitBreakerFailureThreshold())
+                .maintenanceModeEnabled(policy.isMaintenanceModeEnabled())
+                .replicationRegions(policy.getReplicationRegions())
+                .build();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.mappers.ChannelConfigMapper;
+import com.firefly.common.config.core.mappers.ProviderTenantMapper;
+import com.firefly.common.config.core.mappers.TenantBrandingMapper;
+import com.firefly.common.config.core.mappers.TenantMapper;
+import com.firefly.common.config.core.mappers.TenantSettingsMapper;
+import com.firefly.common.config.core.mappers.TenantStatusMapper;
+import com.firefly.common.config.core.services.TenantProfileService;
+import com.firefly.common.config.core.support.SingleFlight;
+import com.firefly.common.config.interfaces.dtos.ChannelConfigDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderTenantDTO;
+import com.firefly.common.config.interfaces.dtos.TenantProfileDTO;
+import com.firefly.common.config.models.entities.ChannelConfig;
+import com.firefly.common.config.models.entities.ProviderTenant;
+import com.firefly.common.config.models.entities.Tenant;
+import com.firefly.common.config.models.entities.TenantBranding;
+import com.firefly.common.config.models.entities.TenantSettings;
+import com.firefly.common.config.models.entities.TenantStatus;
+import com.firefly.common.config.models.repositories.ChannelConfigRepository;
+import com.firefly.common.config.models.repositories.ProviderTenantRepository;
+import com.firefly.common.config.models.repositories.TenantBrandingRepository;
+import com.firefly.common.config.models.repositories.TenantRepository;
+import com.firefly.common.config.models.repositories.TenantSettingsRepository;
+import com.firefly.common.config.models.repositories.TenantStatusRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of TenantProfileService.
+ *
+ * <p>The six parts are read with concurrent queries, each on its own pooled
+ * connection, so assembling a profile costs one round trip of latency. A
+ * change event for any part drops every cached profile that contains the
+ * changed row as well as the profile of the tenant named by the event, which
+ * covers rows moved between tenants and global rows such as statuses.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TenantProfileServiceImpl implements TenantProfileService {
+
+    private static final Set<Class<?>> PARTS = Set.of(
+            Tenant.class, TenantStatus.class, TenantBranding.class, TenantSettings.class,
+            ProviderTenant.class, ChannelConfig.class);
+
+    private final TenantRepository tenantRepository;
+    private final TenantStatusRepository tenantStatusRepository;
+    private final TenantBrandingRepository tenantBrandingRepository;
+    private final TenantSettingsRepository tenantSettingsRepository;
+    private final ProviderTenantRepository providerTenantRepository;
+    private final ChannelConfigRepository channelConfigRepository;
+    private final TenantMapper tenantMapper;
+    private final TenantStatusMapper tenantStatusMapper;
+    private final TenantBrandingMapper tenantBrandingMapper;
+    private final TenantSettingsMapper tenantSettingsMapper;
+    private final ProviderTenantMapper providerTenantMapper;
+    private final ChannelConfigMapper channelConfigMapper;
+    private final SingleFlight singleFlight;
+
+    private final Map<UUID, TenantProfileDTO> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every invalidation so profiles assembled from rows read before a change are not cached
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @EventListener
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (PARTS.stream().noneMatch(event::isFor)) {
+            return;
+        }
+        generation.incrementAndGet();
+        if (event.getTenantId() != null) {
+            profiles.remove(event.getTenantId());
+        }
+        profiles.values().removeIf(profile -> references(profile, event.getEntityId()));
+    }
+
+    @Override
+    public Mono<TenantProfileDTO> getProfile(UUID tenantId) {
+        TenantProfileDTO cached = profiles.get(tenantId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return singleFlight.execute("TenantProfileService.getProfile", tenantId, () -> assemble(tenantId));
+    }
+
+    @Override
+    public Mono<TenantProfileDTO> refresh(UUID tenantId) {
+        generation.incrementAndGet();
+        profiles.remove(tenantId);
+        return assemble(tenantId);
+    }
+
+    private Mono<TenantProfileDTO> assemble(UUID tenantId) {
+        long readGeneration = generation.get();
+        return Mono.zip(
+                        tenantRepository.findById(tenantId)
+                                .switchIfEmpty(Mono.error(new RuntimeException("Tenant not found with id: " + tenantId))),
+                        optional(tenantStatusRepository.findStatusOfTenant(tenantId)),
+                        optional(tenantBrandingRepository.findByTenantId(tenantId)),
+                        optional(tenantSettingsRepository.findByTenantId(tenantId)),
+                        providerTenantRepository.findByTenantIdAndEnabledTrueAndActiveTrue(tenantId)
+                                .map(providerTenantMapper::toDTO)
+                                .collectList(),
+                        channelConfigRepository.findByTenantIdAndEnabledTrueAndActiveTrueOrderByPriorityAsc(tenantId)
+                                .map(channelConfigMapper::toDTO)
+                                .collectList())
+                .map(parts -> TenantProfileDTO.builder()
+                        .tenant(tenantMapper.toDTO(parts.getT1()))
+                        .status(parts.getT2().map(tenantStatusMapper::toDTO).orElse(null))
+                        .branding(parts.getT3().map(tenantBrandingMapper::toDTO).orElse(null))
+                        .settings(parts.getT4().map(tenantSettingsMapper::toDTO).orElse(null))
+                        .providers(parts.getT5())
+                        .channels(parts.getT6())
+                        .assembledAt(Instant.now())
+                        .build())
+                .doOnNext(profile -> {
+                    if (generation.get() == readGeneration) {
+                        profiles.put(tenantId, profile);
+                    } else {
+                        log.debug("Not caching profile of tenant {}: configuration changed while assembling", tenantId);
+                    }
+                });
+    }
+
+    private static <T> Mono<Optional<T>> optional(Mono<T> part) {
+        return part.map(Optional::of).defaultIfEmpty(Optional.empty());
+    }
+
+    private static boolean references(TenantProfileDTO profile, UUID entityId) {
+        if (entityId == null) {
+            return false;
+        }
+        if (entityId.equals(profile.getTenant().getId())
+                || (profile.getStatus() != null && entityId.equals(profile.getStatus().getId()))
+                || (profile.getBranding() != null && entityId.equals(profile.getBranding().getId()))
+                || (profile.getSettings() != null && entityId.equals(profile.getSettings().getId()))) {
+            return true;
+        }
+        for (ProviderTenantDTO provider : profile.getProviders()) {
+            if (entityId.equals(provider.getId())) {
+                return true;
+            }
+        }
+        for (ChannelConfigDTO channel : profile.getChannels()) {
+            if (entityId.equals(channel.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
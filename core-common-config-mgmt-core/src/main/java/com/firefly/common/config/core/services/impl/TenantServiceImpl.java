@@ -17,8 +17,17 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.TenantMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
+import com.firefly.common.config.core.projection.ProjectionExecutor;
 import com.firefly.common.config.core.services.TenantService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.core.support.SingleFlight;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.TenantDTO;
 import com.firefly.common.config.models.entities.Tenant;
 import com.firefly.common.config.models.repositories.TenantRepository;
@@ -28,6 +37,8 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -36,19 +47,44 @@ import java.util.UUID;
 @Service
 public class TenantServiceImpl implements TenantService {
 
+    private static final String ENTITY_TYPE = "Tenant";
+
     @Autowired
     private TenantRepository repository;
 
     @Autowired
     private TenantMapper mapper;
 
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
+    @Autowired
+    private ProjectionExecutor projection;
+
     @Override
     public Mono<TenantDTO> getById(UUID id) {
-        return repository.findById(id)
+        return singleFlight.execute("TenantService.getById", id, () -> repository.findById(id))
                 .switchIfEmpty(Mono.error(new RuntimeException("Tenant not found with id: " + id)))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<TenantDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, Tenant::getId, mapper::toDTO);
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getById(UUID id, String fields) {
+        return projection.findById(Tenant.class, TenantDTO.class, id, fields)
+                .switchIfEmpty(Mono.error(new RuntimeException("Tenant not found with id: " + id)));
+    }
+
     @Override
     public Mono<PaginationResponse<TenantDTO>> filter(FilterRequest<TenantDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -57,6 +93,11 @@ public class TenantServiceImpl implements TenantService {
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<PaginationResponse<Map<String, Object>>> filter(FilterRequest<TenantDTO> filterRequest, String fields) {
+        return projection.filter(Tenant.class, TenantDTO.class, filterRequest, fields);
+    }
+
     @Override
     public Mono<TenantDTO> create(TenantDTO tenantDTO) {
         // Set ID to null to ensure a new entity is created
@@ -67,34 +108,41 @@ public class TenantServiceImpl implements TenantService {
 
         // Save entity and return mapped DTO
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), saved.getId())))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<TenantDTO> update(UUID id, TenantDTO tenantDTO) {
-        return repository.findById(id)
+        tenantDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(tenantDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Tenant not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    // Set the ID from the path parameter
-                    tenantDTO.setId(id);
-
-                    // Convert DTO to entity
-                    Tenant updatedEntity = mapper.toEntity(tenantDTO);
-
-                    // Preserve created date
-                    updatedEntity.setCreatedAt(existingEntity.getCreatedAt());
-
-                    // Save updated entity
-                    return repository.save(updatedEntity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), saved.getId())))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<TenantDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<Tenant, TenantDTO>builder()
+                        .dtoType(TenantDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(Tenant::getId)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("Tenant not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("Tenant not found with id: " + id)))
-                .flatMap(entity -> repository.delete(entity));
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, deleted.getId(), deleted.getId())))
+                .then();
     }
 }
 
@@ -17,8 +17,16 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.TenantSettingsMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
+import com.firefly.common.config.core.projection.ProjectionExecutor;
 import com.firefly.common.config.core.services.TenantSettingsService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.TenantSettingsDTO;
 import com.firefly.common.config.models.entities.TenantSettings;
 import com.firefly.common.config.models.repositories.TenantSettingsRepository;
@@ -28,6 +36,8 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -36,12 +46,23 @@ import java.util.UUID;
 @Service
 public class TenantSettingsServiceImpl implements TenantSettingsService {
 
+    private static final String ENTITY_TYPE = "TenantSettings";
+
     @Autowired
     private TenantSettingsRepository repository;
 
     @Autowired
     private TenantSettingsMapper mapper;
 
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
+    @Autowired
+    private ProjectionExecutor projection;
+
     @Override
     public Mono<TenantSettingsDTO> getById(UUID id) {
         return repository.findById(id)
@@ -49,6 +70,17 @@ public class TenantSettingsServiceImpl implements TenantSettingsService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<TenantSettingsDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, TenantSettings::getId, mapper::toDTO);
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getById(UUID id, String fields) {
+        return projection.findById(TenantSettings.class, TenantSettingsDTO.class, id, fields)
+                .switchIfEmpty(Mono.error(new RuntimeException("TenantSettings not found with id: " + id)));
+    }
+
     @Override
     public Mono<PaginationResponse<TenantSettingsDTO>> filter(FilterRequest<TenantSettingsDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -57,32 +89,51 @@ public class TenantSettingsServiceImpl implements TenantSettingsService {
         ).filter(filterRequest);
     }
 
+    @Override
+    public Mono<PaginationResponse<Map<String, Object>>> filter(FilterRequest<TenantSettingsDTO> filterRequest, String fields) {
+        return projection.filter(TenantSettings.class, TenantSettingsDTO.class, filterRequest, fields);
+    }
+
     @Override
     public Mono<TenantSettingsDTO> create(TenantSettingsDTO tenantSettingsDTO) {
         tenantSettingsDTO.setId(null);
         TenantSettings entity = mapper.toEntity(tenantSettingsDTO);
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<TenantSettingsDTO> update(UUID id, TenantSettingsDTO tenantSettingsDTO) {
-        return repository.findById(id)
+        tenantSettingsDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(tenantSettingsDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("TenantSettings not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    tenantSettingsDTO.setId(id);
-                    tenantSettingsDTO.setVersion(existingEntity.getVersion());
-                    TenantSettings entity = mapper.toEntity(tenantSettingsDTO);
-                    return repository.save(entity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<TenantSettingsDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<TenantSettings, TenantSettingsDTO>builder()
+                        .dtoType(TenantSettingsDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(TenantSettings::getTenantId)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("TenantSettings not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("TenantSettings not found with id: " + id)))
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, deleted.getId(), deleted.getTenantId())))
+                .then();
     }
 }
 
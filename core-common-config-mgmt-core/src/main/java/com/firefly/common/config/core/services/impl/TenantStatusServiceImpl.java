@@ -17,8 +17,15 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.TenantStatusMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.TenantStatusService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.TenantStatusDTO;
 import com.firefly.common.config.models.entities.TenantStatus;
 import com.firefly.common.config.models.repositories.TenantStatusRepository;
@@ -28,6 +35,7 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,12 +44,20 @@ import java.util.UUID;
 @Service
 public class TenantStatusServiceImpl implements TenantStatusService {
 
+    private static final String ENTITY_TYPE = "TenantStatus";
+
     @Autowired
     private TenantStatusRepository repository;
 
     @Autowired
     private TenantStatusMapper mapper;
 
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
     @Override
     public Mono<TenantStatusDTO> getById(UUID id) {
         return repository.findById(id)
@@ -49,6 +65,11 @@ public class TenantStatusServiceImpl implements TenantStatusService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<TenantStatusDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, TenantStatus::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<TenantStatusDTO>> filter(FilterRequest<TenantStatusDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -67,34 +88,41 @@ public class TenantStatusServiceImpl implements TenantStatusService {
 
         // Save entity and return mapped DTO
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), null)))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<TenantStatusDTO> update(UUID id, TenantStatusDTO tenantStatusDTO) {
-        return repository.findById(id)
+        tenantStatusDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(tenantStatusDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Tenant status not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    // Set the ID from the path parameter
-                    tenantStatusDTO.setId(id);
-
-                    // Convert DTO to entity
-                    TenantStatus updatedEntity = mapper.toEntity(tenantStatusDTO);
-
-                    // Preserve created date
-                    updatedEntity.setCreatedAt(existingEntity.getCreatedAt());
-
-                    // Save updated entity
-                    return repository.save(updatedEntity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), null)))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<TenantStatusDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<TenantStatus, TenantStatusDTO>builder()
+                        .dtoType(TenantStatusDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(status -> null)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("Tenant status not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("Tenant status not found with id: " + id)))
-                .flatMap(entity -> repository.delete(entity));
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, deleted.getId(), null)))
+                .then();
     }
 }
 
@@ -17,8 +17,15 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
 import com.firefly.common.config.core.mappers.WebhookConfigMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.patch.MergePatchTarget;
 import com.firefly.common.config.core.services.WebhookConfigService;
+import com.firefly.common.config.core.support.BatchLookup;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.WebhookConfigDTO;
 import com.firefly.common.config.models.entities.WebhookConfig;
 import com.firefly.common.config.models.repositories.WebhookConfigRepository;
@@ -28,6 +35,7 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,12 +44,20 @@ import java.util.UUID;
 @Service
 public class WebhookConfigServiceImpl implements WebhookConfigService {
 
+    private static final String ENTITY_TYPE = "WebhookConfig";
+
     @Autowired
     private WebhookConfigRepository repository;
 
     @Autowired
     private WebhookConfigMapper mapper;
 
+    @Autowired
+    private ChangeEventOutbox outbox;
+
+    @Autowired
+    private MergePatchExecutor mergePatch;
+
     @Override
     public Mono<WebhookConfigDTO> getById(UUID id) {
         return repository.findById(id)
@@ -49,6 +65,11 @@ public class WebhookConfigServiceImpl implements WebhookConfigService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<BatchGetResponseDTO<WebhookConfigDTO>> getByIds(List<UUID> ids) {
+        return BatchLookup.lookup(ids, repository::findAllById, WebhookConfig::getId, mapper::toDTO);
+    }
+
     @Override
     public Mono<PaginationResponse<WebhookConfigDTO>> filter(FilterRequest<WebhookConfigDTO> filterRequest) {
         return FilterUtils.createFilter(
@@ -62,27 +83,41 @@ public class WebhookConfigServiceImpl implements WebhookConfigService {
         webhookConfigDTO.setId(null);
         WebhookConfig entity = mapper.toEntity(webhookConfigDTO);
         return repository.save(entity)
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.created(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
     @Override
     public Mono<WebhookConfigDTO> update(UUID id, WebhookConfigDTO webhookConfigDTO) {
-        return repository.findById(id)
+        webhookConfigDTO.setId(id);
+        return repository.updateReturning(mapper.toEntity(webhookConfigDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("WebhookConfig not found with id: " + id)))
-                .flatMap(existingEntity -> {
-                    webhookConfigDTO.setId(id);
-                    webhookConfigDTO.setVersion(existingEntity.getVersion());
-                    WebhookConfig entity = mapper.toEntity(webhookConfigDTO);
-                    return repository.save(entity);
-                })
+                .transform(outbox.record(saved ->
+                        ConfigurationChangedEvent.updated(ENTITY_TYPE, saved.getId(), saved.getTenantId())))
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Mono<WebhookConfigDTO> patch(UUID id, JsonNode patch) {
+        return mergePatch.apply(id, patch, MergePatchTarget.<WebhookConfig, WebhookConfigDTO>builder()
+                        .dtoType(WebhookConfigDTO.class)
+                        .repository(repository)
+                        .toEntity(mapper::toEntity)
+                        .toDTO(mapper::toDTO)
+                        .tenantId(WebhookConfig::getTenantId)
+                        .build())
+                .switchIfEmpty(Mono.error(new RuntimeException("WebhookConfig not found with id: " + id)));
+    }
+
     @Override
     public Mono<Void> delete(UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("WebhookConfig not found with id: " + id)))
-                .flatMap(repository::delete);
+                .flatMap(entity -> repository.delete(entity).thenReturn(entity))
+                .transform(outbox.record(deleted ->
+                        ConfigurationChangedEvent.deleted(ENTITY_TYPE, deleted.getId(), deleted.getTenantId())))
+                .then();
     }
 }
 
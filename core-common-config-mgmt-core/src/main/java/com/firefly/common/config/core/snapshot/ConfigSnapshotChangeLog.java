@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.snapshot;
+
+import com.firefly.common.config.core.config.OutboxProperties;
+import com.firefly.common.config.models.entities.ApiProcessMapping;
+import com.firefly.common.config.models.entities.ConfigOutboxMessage;
+import com.firefly.common.config.models.entities.FeatureFlag;
+import com.firefly.common.config.models.entities.ProviderValueMapping;
+import com.firefly.common.config.models.repositories.ConfigOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Versions and deltas of the resolver snapshot served to embedded SDK
+ * clients, derived from the {@code config_outbox} table.
+ *
+ * <p>Every write to an {@link ApiProcessMapping}, {@link FeatureFlag} or
+ * {@link ProviderValueMapping} appends an outbox row in its transaction, so
+ * the outbox is a durable change log shared by all instances. A version has
+ * the form {@code <lastId>-<xmin>-<takenAt>}: the highest outbox ID and the
+ * oldest running transaction when it was taken, and the time in epoch
+ * seconds. The changes after a version are the rows after {@code lastId}
+ * plus the rows of transactions at or above {@code xmin}, which may have
+ * committed after a higher ID; a version from any instance, or from before
+ * a restart, is therefore valid everywhere.</p>
+ *
+ * <p>Published rows are purged after the outbox retention, so a version older
+ * than half of it (the margin absorbs clock skew between instances), a
+ * version that cannot be parsed, or one with more than {@link #MAX_CHANGES}
+ * changes behind it needs a full snapshot instead.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ConfigSnapshotChangeLog {
+
+    static final int MAX_CHANGES = 4096;
+
+    static final List<String> TRACKED_TYPES = List.of(
+            ApiProcessMapping.class.getSimpleName(),
+            FeatureFlag.class.getSimpleName(),
+            ProviderValueMapping.class.getSimpleName());
+
+    private final ConfigOutboxRepository outboxRepository;
+    private final OutboxProperties outboxProperties;
+
+    /**
+     * Takes the version a snapshot read afterwards is at least as new as.
+     * The xmin is read before the last ID, so rows below it that are still in
+     * flight are included in the next delta.
+     *
+     * @return the current version
+     */
+    public Mono<String> currentVersion() {
+        return outboxRepository.loadSnapshotXmin()
+                .flatMap(xmin -> outboxRepository.loadLastId()
+                        .map(lastId -> new Version(lastId, xmin, Instant.now().getEpochSecond()).toString()));
+    }
+
+    /**
+     * Lists the entities changed after a client's version.
+     *
+     * @param sinceVersion the client's version
+     * @param currentVersion the version the response carries
+     * @return the changed entities, or empty if the client needs a full snapshot
+     */
+    public Mono<Changes> changesSince(String sinceVersion, String currentVersion) {
+        Version since = Version.parse(sinceVersion);
+        Version current = Version.parse(currentVersion);
+        Duration validity = outboxProperties.getRetention().dividedBy(2);
+        if (since == null || current == null || since.lastId() > current.lastId()
+                || current.takenAt() - since.takenAt() >= validity.toSeconds()) {
+            return Mono.empty();
+        }
+        return outboxRepository.loadChanges(since.lastId(), since.xmin(), TRACKED_TYPES, MAX_CHANGES + 1)
+                .collectList()
+                .filter(rows -> rows.size() <= MAX_CHANGES)
+                .map(ConfigSnapshotChangeLog::group);
+    }
+
+    private static Changes group(List<ConfigOutboxMessage> rows) {
+        Set<UUID> mappings = new LinkedHashSet<>();
+        Set<UUID> flags = new LinkedHashSet<>();
+        Set<UUID> valueMappings = new LinkedHashSet<>();
+        for (ConfigOutboxMessage row : rows) {
+            switch (row.getEntityType()) {
+                case "ApiProcessMapping" -> mappings.add(row.getEntityId());
+                case "FeatureFlag" -> flags.add(row.getEntityId());
+                default -> valueMappings.add(row.getEntityId());
+            }
+        }
+        return new Changes(mappings, flags, valueMappings);
+    }
+
+    record Version(long lastId, long xmin, long takenAt) {
+
+        static Version parse(String version) {
+            if (version == null) {
+                return null;
+            }
+            String[] parts = version.split("-");
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                return new Version(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return lastId + "-" + xmin + "-" + takenAt;
+        }
+    }
+
+    /**
+     * Entity IDs changed since a version, by entity type.
+     */
+    public record Changes(Collection<UUID> apiProcessMappingIds,
+                          Collection<UUID> featureFlagIds,
+                          Collection<UUID> providerValueMappingIds) {
+    }
+}
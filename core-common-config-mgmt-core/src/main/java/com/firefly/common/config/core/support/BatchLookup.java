@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.support;
+
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Multi-get helper: loads a set of entities with one {@code WHERE id IN (...)}
+ * query and answers in request order, listing the IDs that matched nothing
+ * instead of failing.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class BatchLookup {
+
+    private BatchLookup() {
+    }
+
+    /**
+     * @param ids the requested IDs; duplicates are looked up and returned once
+     * @param loader loads the entities with the given IDs in one query, e.g. {@code repository::findAllById}
+     * @param idOf extracts the ID of a loaded entity
+     * @param toDTO maps a loaded entity
+     * @return the DTOs in request order and the missing IDs
+     */
+    public static <E, D> Mono<BatchGetResponseDTO<D>> lookup(Collection<UUID> ids,
+                                                             Function<Collection<UUID>, Flux<E>> loader,
+                                                             Function<E, UUID> idOf,
+                                                             Function<E, D> toDTO) {
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        if (requested.isEmpty()) {
+            return Mono.just(new BatchGetResponseDTO<>(List.of(), List.of()));
+        }
+        return loader.apply(requested)
+                .collect(() -> new HashMap<UUID, E>(requested.size() * 2),
+                        (found, entity) -> found.put(idOf.apply(entity), entity))
+                .map(found -> {
+                    List<D> items = new ArrayList<>(found.size());
+                    List<UUID> missing = new ArrayList<>();
+                    for (UUID id : requested) {
+                        E entity = found.get(id);
+                        if (entity != null) {
+                            items.add(toDTO.apply(entity));
+                        } else {
+                            missing.add(id);
+                        }
+                    }
+                    return new BatchGetResponseDTO<>(items, missing);
+                });
+    }
+}
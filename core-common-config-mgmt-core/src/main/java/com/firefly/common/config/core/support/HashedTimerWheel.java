@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashed timer wheel for large numbers of coarse-grained, mostly-cancelled
+ * timeouts such as configuration state transitions.
+ *
+ * <p>Scheduling and cancelling are O(1) and never block: new timeouts are
+ * queued and moved into their bucket by a single worker thread on the next
+ * tick. A timeout never fires before its deadline; it fires at most one tick
+ * late. Tasks run on the worker thread and must therefore be short and
+ * non-blocking (subscribe to reactive work rather than waiting on it).</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+public final class HashedTimerWheel {
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final ArrayDeque<Task>[] wheel;
+    private final int mask;
+    private final Queue<Task> pending = new ConcurrentLinkedQueue<>();
+    private final long startNanos;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    // Accessed by the worker thread only
+    private long tick;
+
+    /**
+     * Creates and starts a timer wheel.
+     *
+     * @param name the worker thread name
+     * @param tickDuration the wheel resolution
+     * @param wheelSize the number of buckets (rounded up to a power of two)
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(String name, Duration tickDuration, int wheelSize) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.mask = size - 1;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules a task to run at the given wall-clock instant.
+     *
+     * @param task the task to run
+     * @param deadline when to run it (past instants run on the next tick)
+     * @return a handle to cancel the timeout
+     */
+    public Timeout schedule(Runnable task, Instant deadline) {
+        return schedule(task, Duration.between(Instant.now(), deadline));
+    }
+
+    /**
+     * Schedules a task to run after the given delay.
+     *
+     * @param task the task to run
+     * @param delay the delay (negative delays run on the next tick)
+     * @return a handle to cancel the timeout
+     */
+    public Timeout schedule(Runnable task, Duration delay) {
+        long delayNanos;
+        try {
+            delayNanos = Math.max(0L, delay.toNanos());
+        } catch (ArithmeticException e) {
+            delayNanos = Long.MAX_VALUE / 2;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        long deadline = elapsed + delayNanos < 0 ? Long.MAX_VALUE : elapsed + delayNanos;
+        Task timeout = new Task(task, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return the number of timeouts waiting to be moved into the wheel
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Stops the worker thread. Outstanding timeouts are discarded.
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+            transferPending();
+            expire(wheel[(int) (tick & mask)], deadline);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long current = System.nanoTime() - startNanos;
+            long sleepMillis = (deadline - current + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return current;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Task timeout = pending.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.cancelled) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // Deadlines already in the past go into the current bucket
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Task> bucket, long deadline) {
+        for (int i = bucket.size(); i > 0; i--) {
+            Task timeout = bucket.poll();
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+                bucket.add(timeout);
+            }
+        }
+    }
+
+    /**
+     * Handle to a scheduled task.
+     */
+    public interface Timeout {
+
+        /**
+         * Cancels the timeout. Has no effect if it already fired.
+         */
+        void cancel();
+
+        boolean isCancelled();
+
+        boolean isExpired();
+    }
+
+    private static final class Task implements Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+        private volatile boolean expired;
+
+        private Task(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return expired;
+        }
+
+        private void expire() {
+            expired = true;
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn("Timer task failed", t);
+            }
+        }
+    }
+}
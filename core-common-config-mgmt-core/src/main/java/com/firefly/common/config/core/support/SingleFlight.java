@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.support;
+
+import com.firefly.common.config.models.routing.ReadRouting;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Merges concurrent identical reads into one in-flight {@link Mono}.
+ *
+ * <p>Calls are keyed by an operation name (typically {@code Service.method}),
+ * the call's arguments and the caller's {@link ReadRouting} target and
+ * session. The shared load runs with the first caller's routing, so a caller
+ * that requires the primary, or whose read-your-writes session must not see
+ * a lagging replica, only joins loads routed the same way. The first caller for a key subscribes to the
+ * loader; callers arriving while it is in flight receive the same result
+ * instead of issuing their own query. The key is released as soon as the
+ * load terminates, so nothing is cached beyond the flight itself and errors
+ * are not remembered. It is also released once every caller has cancelled:
+ * the abandoned load runs to completion but later callers start a fresh
+ * one instead of joining it. Share entities rather than mutable DTOs: map per
+ * subscriber after the shared call.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class SingleFlight {
+
+    private final Map<Key, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> operationListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Runs a read, or joins the identical read already in flight.
+     *
+     * @param operation the operation name, e.g. {@code "TenantService.getById"}
+     * @param arguments the call arguments identifying identical reads
+     * @param loader supplies the read; only invoked by the first caller
+     * @param <T> the result type
+     * @return a Mono of the shared result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String operation, Object arguments, Supplier<Mono<T>> loader) {
+        return Mono.deferContextual(context -> {
+            Key key = new Key(operation, arguments, ReadRouting.targetOf(context),
+                    ReadRouting.sessionOf(context).orElse(null));
+            Statistics stats = statisticsFor(operation);
+            stats.requests.increment();
+
+            Flight flight = new Flight();
+            flight.result = Mono.defer(loader)
+                    .doFinally(signal -> {
+                        inFlight.remove(key, flight);
+                        stats.inFlight.decrementAndGet();
+                    })
+                    .cache();
+            Flight existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                stats.coalesced.increment();
+                return (Mono<T>) existing.join(key);
+            }
+            stats.inFlight.incrementAndGet();
+            return (Mono<T>) flight.join(key);
+        });
+    }
+
+    /**
+     * @return statistics per operation name
+     */
+    public Map<String, Statistics> getStatistics() {
+        return Map.copyOf(statistics);
+    }
+
+    /**
+     * Registers a callback invoked once for every operation name, including
+     * those already seen, e.g. to bind metrics.
+     *
+     * @param listener the callback
+     */
+    public void onOperation(Consumer<String> listener) {
+        operationListeners.add(listener);
+        statistics.keySet().forEach(listener);
+    }
+
+    /**
+     * @param operation the operation name
+     * @return the statistics of the operation
+     */
+    public Statistics statisticsFor(String operation) {
+        Statistics existing = statistics.get(operation);
+        if (existing != null) {
+            return existing;
+        }
+        Statistics created = new Statistics();
+        existing = statistics.putIfAbsent(operation, created);
+        if (existing != null) {
+            return existing;
+        }
+        operationListeners.forEach(listener -> listener.accept(operation));
+        return created;
+    }
+
+    /**
+     * Counters of one operation.
+     */
+    public static final class Statistics {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        /**
+         * @return all calls, including coalesced ones
+         */
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        /**
+         * @return calls answered by joining a read already in flight
+         */
+        public long getCoalesced() {
+            return coalesced.sum();
+        }
+
+        /**
+         * @return reads currently executing
+         */
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        /**
+         * @return the share of calls that did not reach the loader, between 0 and 1
+         */
+        public double getCoalescingRatio() {
+            long total = getRequests();
+            return total == 0 ? 0.0 : (double) getCoalesced() / total;
+        }
+    }
+
+    private final class Flight {
+        private final AtomicInteger subscribers = new AtomicInteger();
+        private Mono<?> result;
+
+        private Mono<?> join(Key key) {
+            return result
+                    .doOnSubscribe(subscription -> subscribers.incrementAndGet())
+                    .doOnCancel(() -> {
+                        if (subscribers.decrementAndGet() == 0) {
+                            inFlight.remove(key, this);
+                        }
+                    });
+        }
+    }
+
+    private record Key(String operation, Object arguments, ReadRouting.Target target, String session) {
+
+        private Key {
+            Objects.requireNonNull(operation, "operation");
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.channel;
+
+import com.firefly.common.config.interfaces.enums.ChannelDenialReason;
+import com.firefly.common.config.models.entities.ChannelConfig;
+import com.firefly.common.config.models.entities.ChannelConfigParameter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ChannelPolicy Tests")
+class ChannelPolicyTest {
+
+    // 2025-01-06 is a Monday
+    private static final Instant MONDAY_NOON = Instant.parse("2025-01-06T12:00:00Z");
+
+    private ChannelConfig.ChannelConfigBuilder config() {
+        return ChannelConfig.builder()
+                .id(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .channelCode("MOBILE_BANKING")
+                .enabled(true)
+                .active(true);
+    }
+
+    @Nested
+    @DisplayName("Semantic Version Tests")
+    class SemanticVersionTests {
+
+        @Test
+        @DisplayName("Should compare numerically and ignore suffixes")
+        void shouldCompareNumerically() {
+            assertTrue(SemanticVersion.parse("2.10.0").isAtLeast(SemanticVersion.parse("2.9")));
+            assertTrue(SemanticVersion.parse("v2.5").isAtLeast(SemanticVersion.parse("2.5.0")));
+            assertTrue(SemanticVersion.parse("2.5.0-beta.1").isAtLeast(SemanticVersion.parse("2.5.0")));
+            assertFalse(SemanticVersion.parse("2.4.9").isAtLeast(SemanticVersion.parse("2.5")));
+            assertEquals(SemanticVersion.parse("3"), SemanticVersion.parse("3.0.0"));
+            assertNull(SemanticVersion.parse("latest"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Availability Schedule Tests")
+    class AvailabilityScheduleTests {
+
+        @Test
+        @DisplayName("Should open only during listed ranges")
+        void shouldOpenDuringListedRanges() {
+            AvailabilitySchedule schedule = AvailabilitySchedule.parse(
+                    "{\"days\":{\"WEEKDAYS\":[\"08:00-20:00\"],\"SAT\":\"09:00-14:00\"}}", ZoneOffset.UTC);
+
+            assertTrue(schedule.isAvailableAt(Instant.parse("2025-01-06T08:00:00Z")));
+            assertFalse(schedule.isAvailableAt(Instant.parse("2025-01-06T20:00:00Z")));
+            assertTrue(schedule.isAvailableAt(Instant.parse("2025-01-11T13:59:00Z")));
+            assertFalse(schedule.isAvailableAt(Instant.parse("2025-01-12T12:00:00Z")));
+        }
+
+        @Test
+        @DisplayName("Should carry ranges past midnight into the next day")
+        void shouldWrapPastMidnight() {
+            AvailabilitySchedule schedule = AvailabilitySchedule.parse(
+                    "{\"timezone\":\"UTC\",\"days\":{\"SUNDAY\":\"22:00-02:00\"}}", ZoneOffset.UTC);
+
+            assertTrue(schedule.isAvailableAt(Instant.parse("2025-01-05T23:00:00Z")));
+            assertTrue(schedule.isAvailableAt(Instant.parse("2025-01-06T01:59:00Z")));
+            assertFalse(schedule.isAvailableAt(Instant.parse("2025-01-06T02:00:00Z")));
+        }
+
+        @Test
+        @DisplayName("Should stay open when the schedule is absent or malformed")
+        void shouldStayOpenWhenMalformed() {
+            assertTrue(AvailabilitySchedule.parse(null, ZoneOffset.UTC).isAlwaysAvailable());
+            assertTrue(AvailabilitySchedule.parse("24/7", ZoneOffset.UTC).isAlwaysAvailable());
+
+            AvailabilitySchedule malformed = AvailabilitySchedule.parse("{not json", ZoneOffset.UTC);
+            assertTrue(malformed.isAvailableAt(MONDAY_NOON));
+            assertEquals(1, malformed.getRejectedEntries().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Evaluation Tests")
+    class EvaluationTests {
+
+        @Test
+        @DisplayName("Should serve a request that meets every restriction")
+        void shouldServeValidRequest() {
+            ChannelPolicy policy = ChannelPolicy.compile(config()
+                    .supportedPlatforms(List.of("iOS", "Android"))
+                    .minAppVersion("2.5.0")
+                    .maxTransactionAmount(new BigDecimal("1000"))
+                    .geoRestrictionsEnabled(true)
+                    .allowedCountries("US,CA")
+                    .build(), List.of(), ZoneOffset.UTC);
+
+            assertTrue(policy.evaluate("ios", "2.6", "us", new BigDecimal("999.99"), MONDAY_NOON).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should report every failed restriction")
+        void shouldReportAllReasons() {
+            ChannelPolicy policy = ChannelPolicy.compile(config()
+                    .enabled(false)
+                    .supportedPlatforms(List.of("iOS"))
+                    .minAppVersion("2.5.0")
+                    .maxTransactionAmount(new BigDecimal("1000"))
+                    .geoRestrictionsEnabled(true)
+                    .blockedCountries("KP")
+                    .build(), List.of(), ZoneOffset.UTC);
+
+            Set<ChannelDenialReason> reasons = policy.evaluate("Web", "2.4.9", "KP", new BigDecimal("1000.01"), MONDAY_NOON);
+
+            assertEquals(Set.of(
+                    ChannelDenialReason.CHANNEL_DISABLED,
+                    ChannelDenialReason.PLATFORM_NOT_SUPPORTED,
+                    ChannelDenialReason.UNSUPPORTED_APP_VERSION,
+                    ChannelDenialReason.COUNTRY_NOT_ALLOWED,
+                    ChannelDenialReason.AMOUNT_EXCEEDS_TRANSACTION_LIMIT), reasons);
+        }
+
+        @Test
+        @DisplayName("Should let active parameters override columns")
+        void shouldApplyParameterOverrides() {
+            ChannelConfig channel = config()
+                    .maxTransactionAmount(new BigDecimal("1000"))
+                    .build();
+            List<ChannelConfigParameter> parameters = List.of(
+                    ChannelConfigParameter.builder()
+                            .parameterKey("max_transaction_amount").parameterValue("50").active(true).build(),
+                    ChannelConfigParameter.builder()
+                            .parameterKey("min_app_version").parameterValue("9.0").active(false).build());
+
+            ChannelPolicy policy = ChannelPolicy.compile(channel, parameters, ZoneOffset.UTC);
+
+            assertEquals(new BigDecimal("50"), policy.getMaxTransactionAmount());
+            assertNull(policy.getMinAppVersion());
+            assertEquals(Set.of(ChannelDenialReason.AMOUNT_EXCEEDS_TRANSACTION_LIMIT),
+                    policy.evaluate(null, null, null, new BigDecimal("51"), MONDAY_NOON));
+        }
+    }
+}
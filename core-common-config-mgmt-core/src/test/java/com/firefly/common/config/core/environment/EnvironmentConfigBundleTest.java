@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.environment;
+
+import com.firefly.common.config.models.entities.EnvironmentConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EnvironmentConfigBundle Tests")
+class EnvironmentConfigBundleTest {
+
+    private static final UUID TENANT_ID = UUID.randomUUID();
+
+    private EnvironmentConfig row(UUID tenantId, String environment, String key, String value) {
+        return EnvironmentConfig.builder()
+                .id(UUID.randomUUID())
+                .tenantId(tenantId)
+                .environmentName(environment)
+                .configKey(key)
+                .configValue(value)
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should let the most specific layer win for each key")
+    void shouldResolveLayers() {
+        EnvironmentConfigBundle bundle = EnvironmentConfigBundle.materialize(TENANT_ID, "production", List.of(
+                row(TENANT_ID, "production", "timeout", "30"),
+                row(null, "default", "timeout", "10"),
+                row(null, "default", "region", "eu"),
+                row(null, "PRODUCTION", "region", "eu-west"),
+                row(TENANT_ID, "default", "currency", "EUR"),
+                row(UUID.randomUUID(), "production", "currency", "USD"),
+                row(TENANT_ID, "staging", "timeout", "99")));
+
+        assertEquals(Map.of("timeout", "30", "region", "eu-west", "currency", "EUR"), bundle.getValues());
+        assertEquals(EnvironmentConfigBundle.Layer.TENANT_ENVIRONMENT, bundle.getSources().get("timeout"));
+        assertEquals(EnvironmentConfigBundle.Layer.GLOBAL_ENVIRONMENT, bundle.getSources().get("region"));
+        assertEquals(EnvironmentConfigBundle.Layer.TENANT_DEFAULT, bundle.getSources().get("currency"));
+    }
+
+    @Test
+    @DisplayName("Should expose secrets as vault references only")
+    void shouldReferenceSecrets() {
+        EnvironmentConfig secret = row(TENANT_ID, "production", "db.password", "ignored");
+        secret.setIsSecret(true);
+        secret.setCredentialVaultId("vault-123");
+
+        EnvironmentConfigBundle bundle = EnvironmentConfigBundle.materialize(TENANT_ID, "production", List.of(secret));
+
+        assertTrue(bundle.getValues().isEmpty());
+        assertEquals(Map.of("db.password", "vault-123"), bundle.getSecretReferences());
+    }
+
+    @Test
+    @DisplayName("Should produce order-independent, content-sensitive hashes")
+    void shouldHashContent() {
+        EnvironmentConfig a = row(null, "default", "a", "bc");
+        EnvironmentConfig b = row(null, "default", "b", "1");
+
+        String hash = EnvironmentConfigBundle.materialize(TENANT_ID, "production", List.of(a, b)).getContentHash();
+
+        assertEquals(hash, EnvironmentConfigBundle.materialize(TENANT_ID, "production", List.of(b, a)).getContentHash());
+        assertNotEquals(hash, EnvironmentConfigBundle.materialize(TENANT_ID, "production",
+                List.of(row(null, "default", "ab", "c"), b)).getContentHash());
+        assertThrows(UnsupportedOperationException.class,
+                () -> EnvironmentConfigBundle.materialize(TENANT_ID, "production", List.of(a)).getValues().put("x", "y"));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.hierarchy;
+
+import com.firefly.common.config.models.entities.FeatureFlag;
+import com.firefly.common.config.models.entities.TenantSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tenant Hierarchy Tests")
+class TenantHierarchyTest {
+
+    private final UUID root = UUID.randomUUID();
+    private final UUID child = UUID.randomUUID();
+    private final UUID sibling = UUID.randomUUID();
+    private final UUID grandchild = UUID.randomUUID();
+
+    private Map<UUID, UUID> links() {
+        Map<UUID, UUID> links = new HashMap<>();
+        links.put(root, null);
+        links.put(child, root);
+        links.put(sibling, root);
+        links.put(grandchild, child);
+        return links;
+    }
+
+    @Nested
+    @DisplayName("Tenant Tree Tests")
+    class TenantTreeTests {
+
+        @Test
+        @DisplayName("Should walk the lineage nearest first")
+        void shouldWalkLineage() {
+            TenantTree tree = TenantTree.build(links());
+
+            assertEquals(List.of(grandchild, child, root), tree.lineageOf(grandchild));
+            assertEquals(List.of(child, root), tree.ancestorsOf(grandchild));
+            assertEquals(2, tree.depthOf(grandchild));
+            assertEquals(child, tree.parentOf(grandchild));
+        }
+
+        @Test
+        @DisplayName("Should collect descendants breadth first")
+        void shouldCollectDescendants() {
+            TenantTree tree = TenantTree.build(links());
+
+            List<UUID> descendants = tree.descendantsOf(root);
+            assertEquals(3, descendants.size());
+            assertEquals(grandchild, descendants.get(2));
+            assertEquals(List.of(grandchild), tree.descendantsOf(child));
+            assertTrue(tree.descendantsOf(sibling).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should break cycles and treat unknown tenants as roots")
+        void shouldBreakCycles() {
+            Map<UUID, UUID> links = links();
+            links.put(root, grandchild);
+
+            TenantTree tree = TenantTree.build(links);
+
+            assertEquals(1, tree.getBrokenLinks().size());
+            assertEquals(4, tree.size());
+            UUID unknown = UUID.randomUUID();
+            assertEquals(List.of(unknown), tree.lineageOf(unknown));
+            assertTrue(tree.descendantsOf(unknown).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration Inheritance Tests")
+    class InheritanceTests {
+
+        @Test
+        @DisplayName("Should let child settings override parent settings column by column")
+        void shouldInheritSettingsColumnByColumn() {
+            TenantSettings parent = TenantSettings.builder()
+                    .tenantId(root).apiRateLimitPerMinute(100).mfaRequired(true).build();
+            TenantSettings own = TenantSettings.builder()
+                    .id(UUID.randomUUID()).tenantId(child).apiRateLimitPerMinute(50).version(4L).build();
+
+            TenantSettings effective = ConfigurationInheritance.inheritSettings(
+                    List.of(grandchild, child, root), List.of(parent, own));
+
+            assertEquals(grandchild, effective.getTenantId());
+            assertNull(effective.getId());
+            assertEquals(50, effective.getApiRateLimitPerMinute());
+            assertTrue(effective.getMfaRequired());
+            assertNull(ConfigurationInheritance.inheritSettings(List.of(sibling), List.of(parent, own)));
+        }
+
+        @Test
+        @DisplayName("Should resolve keyed rows from the nearest tenant, then global")
+        void shouldResolveNearestRowPerKey() {
+            FeatureFlag global = FeatureFlag.builder().featureKey("payments").enabled(false).build();
+            FeatureFlag globalOnly = FeatureFlag.builder().featureKey("cards").enabled(true).build();
+            FeatureFlag inherited = FeatureFlag.builder().tenantId(root).featureKey("payments").enabled(true).build();
+            FeatureFlag foreign = FeatureFlag.builder().tenantId(sibling).featureKey("loans").enabled(true).build();
+
+            List<FeatureFlag> resolved = ConfigurationInheritance.resolveByKey(
+                    List.of(child, root), List.of(global, globalOnly, inherited, foreign),
+                    FeatureFlag::getTenantId, FeatureFlag::getFeatureKey);
+
+            assertEquals(List.of(inherited, globalOnly), resolved);
+        }
+    }
+}
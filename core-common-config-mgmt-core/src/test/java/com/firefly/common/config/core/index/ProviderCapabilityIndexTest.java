@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.index;
+
+import com.firefly.common.config.interfaces.dtos.ProviderSearchDTO;
+import com.firefly.common.config.models.projections.ProviderCapabilities;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProviderCapabilityIndex Tests")
+class ProviderCapabilityIndexTest {
+
+    private final UUID paymentType = UUID.randomUUID();
+    private final UUID kycType = UUID.randomUUID();
+
+    private final ProviderCapabilities stripe = provider("STRIPE", paymentType, Map.of(
+            "getSupportedCountries", "ES,FR,DE",
+            "getSupportedCurrencies", "[\"EUR\",\"USD\"]",
+            "getComplianceCertifications", "PCI_DSS, SOC2",
+            "getRealTimeProcessingSupport", true));
+    private final ProviderCapabilities adyen = provider("ADYEN", paymentType, Map.of(
+            "getSupportedCountries", "es;pt",
+            "getSupportedCurrencies", "EUR",
+            "getRealTimeProcessingSupport", false,
+            "getActive", false));
+    private final ProviderCapabilities onfido = provider("ONFIDO", kycType, Map.of(
+            "getSupportedCountries", "ES",
+            "getCertificationLevel", "ISO27001"));
+
+    private final ProviderCapabilityIndex index = ProviderCapabilityIndex.build(List.of(stripe, adyen, onfido));
+
+    private static ProviderCapabilities provider(String code, UUID typeId, Map<String, Object> columns) {
+        Map<String, Object> values = new HashMap<>(columns);
+        values.put("getId", UUID.randomUUID());
+        values.put("getCode", code);
+        values.put("getProviderTypeId", typeId);
+        return (ProviderCapabilities) Proxy.newProxyInstance(ProviderCapabilities.class.getClassLoader(),
+                new Class<?>[]{ProviderCapabilities.class}, (proxy, method, args) -> values.get(method.getName()));
+    }
+
+    @Test
+    @DisplayName("Should intersect type, country, currency and flag criteria")
+    void shouldIntersectCriteria() {
+        List<UUID> ids = index.search(ProviderSearchDTO.builder()
+                .providerTypeId(paymentType)
+                .countries(List.of("es"))
+                .currencies(List.of("EUR"))
+                .active(true)
+                .realTimeProcessingSupport(true)
+                .build());
+
+        assertEquals(List.of(stripe.getId()), ids);
+    }
+
+    @Test
+    @DisplayName("Should return every provider in code order when no criterion is set")
+    void shouldReturnAllInCodeOrder() {
+        assertEquals(List.of(adyen.getId(), onfido.getId(), stripe.getId()), index.search(new ProviderSearchDTO()));
+    }
+
+    @Test
+    @DisplayName("Should require every listed value and honour false flags")
+    void shouldRequireAllListedValues() {
+        assertEquals(List.of(stripe.getId()), index.search(ProviderSearchDTO.builder()
+                .countries(List.of("ES", "DE")).build()));
+        assertEquals(List.of(adyen.getId()), index.search(ProviderSearchDTO.builder()
+                .providerTypeId(paymentType).active(false).build()));
+        assertEquals(List.of(onfido.getId()), index.search(ProviderSearchDTO.builder()
+                .certifications(List.of("iso27001")).build()));
+        assertTrue(index.search(ProviderSearchDTO.builder().currencies(List.of("GBP")).build()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should match multi-word certifications whole, like the certification level")
+    void shouldMatchMultiWordCertifications() {
+        ProviderCapabilities worldline = provider("WORLDLINE", paymentType, Map.of(
+                "getComplianceCertifications", "PCI DSS; ISO 27001",
+                "getCertificationLevel", "PCI DSS Level 1"));
+        ProviderCapabilities veriff = provider("VERIFF", kycType, Map.of(
+                "getComplianceCertifications", "[\"ISO 9001\", \"SOC 2\"]"));
+        ProviderCapabilityIndex certified = ProviderCapabilityIndex.build(List.of(worldline, veriff));
+
+        assertEquals(List.of(worldline.getId()), certified.search(ProviderSearchDTO.builder()
+                .certifications(List.of("pci  dss", "ISO 27001")).build()));
+        assertEquals(List.of(worldline.getId()), certified.search(ProviderSearchDTO.builder()
+                .certifications(List.of("PCI DSS Level 1")).build()));
+        assertEquals(List.of(veriff.getId()), certified.search(ProviderSearchDTO.builder()
+                .certifications(List.of("SOC 2")).build()));
+        assertTrue(certified.search(ProviderSearchDTO.builder().certifications(List.of("ISO")).build()).isEmpty());
+        assertTrue(certified.search(ProviderSearchDTO.builder().certifications(List.of("DSS")).build()).isEmpty());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.maintenance;
+
+import com.firefly.common.config.models.entities.TenantSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Maintenance Rule Tests")
+class MaintenanceRuleTest {
+
+    private static final ZoneId UTC = ZoneOffset.UTC;
+
+    @Nested
+    @DisplayName("Daily Window Tests")
+    class DailyWindowTests {
+
+        @Test
+        @DisplayName("Should evaluate a same-day window and its next transitions")
+        void shouldEvaluateSameDayWindow() {
+            DailyMaintenanceWindow window = new DailyMaintenanceWindow(LocalTime.of(2, 0), LocalTime.of(4, 0), UTC);
+
+            assertFalse(window.isActiveAt(Instant.parse("2025-01-10T01:59:59Z")));
+            assertTrue(window.isActiveAt(Instant.parse("2025-01-10T02:00:00Z")));
+            assertFalse(window.isActiveAt(Instant.parse("2025-01-10T04:00:00Z")));
+            assertEquals(Instant.parse("2025-01-10T02:00:00Z"),
+                    window.nextTransitionAfter(Instant.parse("2025-01-10T01:00:00Z")));
+            assertEquals(Instant.parse("2025-01-10T04:00:00Z"),
+                    window.nextTransitionAfter(Instant.parse("2025-01-10T02:00:00Z")));
+            assertEquals(Instant.parse("2025-01-11T02:00:00Z"),
+                    window.nextTransitionAfter(Instant.parse("2025-01-10T04:00:00Z")));
+        }
+
+        @Test
+        @DisplayName("Should handle windows that wrap past midnight")
+        void shouldHandleMidnightWrap() {
+            DailyMaintenanceWindow window = new DailyMaintenanceWindow(LocalTime.of(23, 0), LocalTime.of(1, 0), UTC);
+
+            assertTrue(window.isActiveAt(Instant.parse("2025-01-10T23:30:00Z")));
+            assertTrue(window.isActiveAt(Instant.parse("2025-01-11T00:30:00Z")));
+            assertFalse(window.isActiveAt(Instant.parse("2025-01-11T01:00:00Z")));
+            assertEquals(Instant.parse("2025-01-11T01:00:00Z"),
+                    window.nextTransitionAfter(Instant.parse("2025-01-11T00:30:00Z")));
+            assertEquals(Instant.parse("2025-01-11T23:00:00Z"),
+                    window.nextTransitionAfter(Instant.parse("2025-01-11T01:00:00Z")));
+        }
+
+        @Test
+        @DisplayName("Should reject empty windows")
+        void shouldRejectEmptyWindows() {
+            assertFalse(DailyMaintenanceWindow.isDefined(LocalTime.NOON, LocalTime.NOON));
+            assertFalse(DailyMaintenanceWindow.isDefined(null, LocalTime.NOON));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new DailyMaintenanceWindow(LocalTime.NOON, LocalTime.NOON, UTC));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tenant Rule Tests")
+    class TenantRuleTests {
+
+        @Test
+        @DisplayName("Should be active inside a scheduled window only")
+        void shouldFollowScheduledWindow() {
+            TenantMaintenanceRule rule = TenantMaintenanceRule.of(TenantSettings.builder()
+                    .maintenanceModeEnabled(true)
+                    .maintenanceStartTime(LocalDateTime.of(2025, 1, 10, 22, 0))
+                    .maintenanceEndTime(LocalDateTime.of(2025, 1, 11, 2, 0))
+                    .build(), UTC);
+
+            Instant before = Instant.parse("2025-01-10T21:00:00Z");
+            Instant during = Instant.parse("2025-01-11T00:00:00Z");
+            Instant after = Instant.parse("2025-01-11T02:00:00Z");
+            assertFalse(rule.isActiveAt(before));
+            assertEquals(Instant.parse("2025-01-10T22:00:00Z"), rule.nextTransitionAfter(before));
+            assertTrue(rule.isActiveAt(during));
+            assertEquals(after, rule.nextTransitionAfter(during));
+            assertFalse(rule.isActiveAt(after));
+            assertNull(rule.nextTransitionAfter(after));
+        }
+
+        @Test
+        @DisplayName("Should stay active indefinitely when enabled without a window")
+        void shouldStayActiveWithoutWindow() {
+            TenantMaintenanceRule rule = TenantMaintenanceRule.of(TenantSettings.builder()
+                    .maintenanceModeEnabled(true)
+                    .build(), UTC);
+
+            assertTrue(rule.isArmed());
+            assertTrue(rule.isActiveAt(Instant.now()));
+            assertNull(rule.nextTransitionAfter(Instant.now()));
+        }
+
+        @Test
+        @DisplayName("Should never be active when the switch is off")
+        void shouldIgnoreWindowWhenDisabled() {
+            TenantMaintenanceRule rule = TenantMaintenanceRule.of(TenantSettings.builder()
+                    .maintenanceModeEnabled(false)
+                    .maintenanceStartTime(LocalDateTime.of(2025, 1, 10, 22, 0))
+                    .build(), UTC);
+
+            assertFalse(rule.isArmed());
+            assertFalse(rule.isActiveAt(Instant.parse("2025-01-11T00:00:00Z")));
+        }
+    }
+}
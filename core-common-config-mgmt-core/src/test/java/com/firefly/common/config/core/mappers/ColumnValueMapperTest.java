@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.mappers;
+
+import io.r2dbc.postgresql.codec.Json;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Column Value Mapper Tests")
+class ColumnValueMapperTest {
+
+    @Test
+    @DisplayName("Should store JSON documents as they are")
+    void shouldKeepJsonDocuments() {
+        assertEquals("{\"region\": \"eu\"}", ColumnValueMapper.toJson(" {\"region\": \"eu\"} ").asString());
+        assertEquals("[1, 2]", ColumnValueMapper.toJson("[1, 2]").asString());
+        assertEquals("42", ColumnValueMapper.toJson("42").asString());
+        assertNull(ColumnValueMapper.toJson("  "));
+        assertNull(ColumnValueMapper.toJson(null));
+    }
+
+    @Test
+    @DisplayName("Should store plain text as a JSON string and read it back unchanged")
+    void shouldWrapPlainText() {
+        Json wrapped = ColumnValueMapper.toJson("tier: \"gold\"");
+
+        assertEquals("\"tier: \\\"gold\\\"\"", wrapped.asString());
+        assertEquals("tier: \"gold\"", ColumnValueMapper.fromJson(wrapped));
+        assertEquals("\"{\\\"open\\\": \"", ColumnValueMapper.toJson("{\"open\": ").asString());
+        assertEquals("\"{} trailing\"", ColumnValueMapper.toJson("{} trailing").asString());
+    }
+
+    @Test
+    @DisplayName("Should read JSON documents back as text")
+    void shouldReadDocuments() {
+        assertEquals("{\"region\": \"eu\"}", ColumnValueMapper.fromJson(Json.of("{\"region\": \"eu\"}")));
+        assertNull(ColumnValueMapper.fromJson(null));
+    }
+
+    @Test
+    @DisplayName("Should parse list fields from JSON arrays and separated lists")
+    void shouldParseLists() {
+        assertEquals(List.of("IOS", "ANDROID"), ColumnValueMapper.toList("IOS, ANDROID"));
+        assertEquals(List.of("IOS", "ANDROID"), ColumnValueMapper.toList("IOS;;ANDROID"));
+        assertEquals(List.of("gold", "silver"), ColumnValueMapper.toList("[\"gold\", \" \", \"silver\"]"));
+        assertThrows(IllegalArgumentException.class, () -> ColumnValueMapper.toList("[\"gold\""));
+        assertEquals("IOS,ANDROID", ColumnValueMapper.fromList(List.of("IOS", "ANDROID")));
+        assertEquals("[\"gold\",\"silver\"]", ColumnValueMapper.toJsonArray(List.of("gold", "silver")));
+    }
+}
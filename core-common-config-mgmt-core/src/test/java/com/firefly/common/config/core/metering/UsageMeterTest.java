@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.metering;
+
+import com.firefly.common.config.interfaces.enums.UsageDenialReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UsageMeter Tests")
+class UsageMeterTest {
+
+    private static final LocalDate OCTOBER = LocalDate.of(2025, 10, 1);
+    private static final LocalDate NOVEMBER = LocalDate.of(2025, 11, 1);
+
+    private UsageMeter meter(Integer transactionLimit, String volumeLimit, long usedTransactions) {
+        UsageMeter.Limits limits = new UsageMeter.Limits(true, transactionLimit,
+                volumeLimit != null ? new BigDecimal(volumeLimit) : null, new BigDecimal("0.10"));
+        return new UsageMeter(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), limits,
+                OCTOBER, usedTransactions, 0L);
+    }
+
+    @Nested
+    @DisplayName("Limit Tests")
+    class LimitTests {
+
+        @Test
+        @DisplayName("Should refuse usage beyond the monthly transaction limit without counting it")
+        void shouldEnforceTransactionLimit() {
+            UsageMeter meter = meter(10, null, 8);
+
+            assertNull(meter.record(OCTOBER, 2, 0, true, -1, 1L));
+            assertEquals(UsageDenialReason.MONTHLY_TRANSACTION_LIMIT_EXCEEDED, meter.record(OCTOBER, 1, 0, true, -1, 2L));
+            assertEquals(10, meter.usage(OCTOBER).getTransactions());
+            assertEquals(2, meter.drain().getRequests());
+        }
+
+        @Test
+        @DisplayName("Should release the reserved transactions when the volume limit refuses usage")
+        void shouldEnforceVolumeLimit() {
+            UsageMeter meter = meter(100, "50.00", 0);
+
+            assertNull(meter.record(OCTOBER, 1, 4_000, true, -1, 1L));
+            assertEquals(UsageDenialReason.MONTHLY_VOLUME_LIMIT_EXCEEDED, meter.record(OCTOBER, 1, 1_001, true, -1, 2L));
+            assertEquals(1, meter.usage(OCTOBER).getTransactions());
+            assertEquals(4_000, meter.usage(OCTOBER).getVolumeCents());
+        }
+
+        @Test
+        @DisplayName("Should count failures without charging them against the limits")
+        void shouldNotChargeFailures() {
+            UsageMeter meter = meter(1, null, 1);
+
+            assertNull(meter.record(OCTOBER, 3, 0, false, 200, 1L));
+            UsageMeter.Delta delta = meter.drain();
+
+            assertEquals(1, meter.usage(OCTOBER).getTransactions());
+            assertEquals(3, delta.getRequests());
+            assertEquals(3, delta.getFailures());
+            assertEquals(600, delta.getResponseTimeSumMs());
+        }
+
+        @Test
+        @DisplayName("Should refuse all usage of a disabled relationship")
+        void shouldRefuseDisabledRelationship() {
+            UsageMeter meter = meter(null, null, 0);
+            meter.updateLimits(new UsageMeter.Limits(false, null, null, null));
+
+            assertEquals(UsageDenialReason.PROVIDER_TENANT_DISABLED, meter.record(OCTOBER, 1, 0, false, -1, 1L));
+            assertTrue(meter.drain().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Flush Tests")
+    class FlushTests {
+
+        @Test
+        @DisplayName("Should drain usage once and restore it after a failed flush")
+        void shouldDrainAndRestore() {
+            UsageMeter meter = meter(null, null, 0);
+            meter.record(OCTOBER, 2, 1_050, true, -1, 5L);
+
+            UsageMeter.Delta delta = meter.drain();
+            assertEquals(2, delta.getPeriods().get(0).getTransactions());
+            assertEquals(5L, delta.getLastUsedMillis());
+            assertTrue(meter.drain().isEmpty());
+
+            meter.restore(delta);
+            assertEquals(delta, meter.drain());
+        }
+
+        @Test
+        @DisplayName("Should add usage flushed by other nodes when syncing")
+        void shouldSyncOtherNodes() {
+            UsageMeter meter = meter(null, null, 100);
+            meter.record(OCTOBER, 5, 0, true, -1, 1L);
+            UsageMeter.PeriodDelta flushed = meter.drain().getPeriods().get(0);
+            meter.record(OCTOBER, 1, 0, true, -1, 2L);
+
+            // The database holds the stored 100, this node's 5 and 20 from another node
+            meter.sync(flushed, 125, 0);
+
+            assertEquals(126, meter.usage(OCTOBER).getTransactions());
+        }
+
+        @Test
+        @DisplayName("Should start a new period when the month rolls over")
+        void shouldRollOverPeriods() {
+            UsageMeter meter = meter(10, null, 10);
+            meter.record(OCTOBER, 1, 0, false, -1, 1L);
+
+            assertNull(meter.record(NOVEMBER, 4, 0, true, -1, 2L));
+            assertEquals(4, meter.usage(NOVEMBER).getTransactions());
+
+            UsageMeter.Delta delta = meter.drain();
+            assertEquals(2, delta.getPeriods().size());
+            assertEquals(5, delta.getRequests());
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.outbox;
+
+import com.firefly.common.config.core.config.OutboxProperties;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.models.entities.ConfigOutboxMessage;
+import com.firefly.common.config.models.entities.ProviderType;
+import com.firefly.common.config.models.repositories.ConfigOutboxRepository;
+import com.firefly.common.config.models.routing.PrimaryTransactions;
+import com.firefly.common.config.models.routing.ReadReplicaConnectionFactory;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the outbox queries against PostgreSQL with the service's migrations,
+ * holding one transaction open while a second one runs to observe the row
+ * locks and visibility the relay and change feed depend on.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Outbox PostgreSQL Tests")
+class OutboxPostgresTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static R2dbcEntityTemplate template;
+    private static ConfigOutboxRepository repository;
+    private static PrimaryTransactions transactions;
+
+    private final List<Object> published = new ArrayList<>();
+
+    @BeforeAll
+    static void setUpDatabase() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        PostgresqlConnectionFactory connectionFactory = new PostgresqlConnectionFactory(
+                PostgresqlConnectionConfiguration.builder()
+                        .host(POSTGRES.getHost())
+                        .port(POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT))
+                        .database(POSTGRES.getDatabaseName())
+                        .username(POSTGRES.getUsername())
+                        .password(POSTGRES.getPassword())
+                        .build());
+        template = new R2dbcEntityTemplate(connectionFactory);
+        repository = new R2dbcRepositoryFactory(template).getRepository(ConfigOutboxRepository.class);
+        transactions = new PrimaryTransactions(
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+                new DefaultListableBeanFactory().getBeanProvider(ReadReplicaConnectionFactory.class));
+    }
+
+    @BeforeEach
+    void setUp() {
+        template.getDatabaseClient().sql("TRUNCATE config_outbox").then().block(TIMEOUT);
+    }
+
+    private ConfigOutboxMessage append(String partitionKey) {
+        return repository.save(message(partitionKey)).block(TIMEOUT);
+    }
+
+    private static ConfigOutboxMessage message(String partitionKey) {
+        ConfigOutboxMessage message = ChangeEventOutbox.toMessage(
+                ConfigurationChangedEvent.updated("TenantSettings", UUID.randomUUID(), null));
+        message.setPartitionKey(partitionKey);
+        message.setOrigin("peer");
+        return message;
+    }
+
+    private static List<Long> ids(List<ConfigOutboxMessage> messages) {
+        return messages.stream().map(ConfigOutboxMessage::getId).toList();
+    }
+
+    private static long count(String sql, UUID id) {
+        return template.getDatabaseClient().sql(sql)
+                .bind("id", id)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block(TIMEOUT);
+    }
+
+    /**
+     * Runs {@code work} in a transaction that stays open until the returned
+     * handle is released; {@link Held#result()} is available once the work
+     * itself has finished.
+     */
+    private static <T> Held<T> holdOpen(Mono<T> work) {
+        Sinks.One<T> done = Sinks.one();
+        Sinks.Empty<Void> release = Sinks.empty();
+        CompletableFuture<T> committed = transactions.execute(work
+                        .doOnNext(done::tryEmitValue)
+                        .flatMap(value -> release.asMono().thenReturn(value)))
+                .toFuture();
+        return new Held<>(done.asMono().block(TIMEOUT), release, committed);
+    }
+
+    private record Held<T>(T result, Sinks.Empty<Void> release, CompletableFuture<T> committed) {
+
+        T commit() throws Exception {
+            release.tryEmitEmpty();
+            return committed.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should let concurrent claimers take disjoint batches")
+    void shouldClaimDisjointBatches() throws Exception {
+        List<Long> appended = List.of(append("a").getId(), append("b").getId(), append("c").getId(),
+                append("d").getId());
+
+        Held<List<ConfigOutboxMessage>> first = holdOpen(repository.claimBatch(2, 10).collectList());
+        List<ConfigOutboxMessage> second = transactions.execute(repository.claimBatch(2, 10).collectList())
+                .block(TIMEOUT);
+        first.commit();
+
+        assertEquals(appended.subList(0, 2), ids(first.result()));
+        assertEquals(appended.subList(2, 4), ids(second));
+    }
+
+    @Test
+    @DisplayName("Should hold back a partition while its earlier row is claimed elsewhere")
+    void shouldKeepPartitionOrderAcrossClaimers() throws Exception {
+        ConfigOutboxMessage a1 = append("a");
+        ConfigOutboxMessage a2 = append("a");
+        ConfigOutboxMessage b1 = append("b");
+
+        Held<List<ConfigOutboxMessage>> first = holdOpen(repository.claimBatch(1, 10).collectList()
+                .flatMap(batch -> repository.markPublished(ids(batch)).thenReturn(batch)));
+        List<ConfigOutboxMessage> second = transactions.execute(repository.claimBatch(10, 10).collectList())
+                .block(TIMEOUT);
+        first.commit();
+        List<ConfigOutboxMessage> third = transactions.execute(repository.claimBatch(10, 10).collectList())
+                .block(TIMEOUT);
+
+        assertEquals(List.of(a1.getId()), ids(first.result()));
+        assertEquals(List.of(b1.getId()), ids(second));
+        assertEquals(List.of(a2.getId(), b1.getId()), ids(third));
+    }
+
+    @Test
+    @DisplayName("Should hold back only the partition of a failed message until its retry")
+    void shouldHoldBackFailedPartition() {
+        ConfigOutboxMessage a1 = append("a");
+        append("a");
+        ConfigOutboxMessage b1 = append("b");
+
+        List<ConfigOutboxMessage> failed = repository.markFailed(List.of(a1.getId()), "rejected", 2, 60, 60)
+                .collectList().block(TIMEOUT);
+        List<ConfigOutboxMessage> claimed = transactions.execute(repository.claimBatch(10, 2).collectList())
+                .block(TIMEOUT);
+        List<ConfigOutboxMessage> deadLettered = repository.markFailed(List.of(a1.getId()), "rejected", 2, 60, 60)
+                .collectList().block(TIMEOUT);
+
+        assertEquals(1, failed.get(0).getAttempts());
+        assertNull(failed.get(0).getDeadLetteredAt());
+        assertEquals(List.of(b1.getId()), ids(claimed));
+        assertNotNull(deadLettered.get(0).getDeadLetteredAt());
+        assertEquals(2L, repository.countUnpublished().block(TIMEOUT));
+    }
+
+    @Test
+    @DisplayName("Should commit or roll back the outbox row with the write it records")
+    void shouldRecordInSameTransaction() {
+        ChangeEventOutbox outbox = new ChangeEventOutbox(repository, transactions, published::add);
+        ProviderType committed = providerType();
+        ProviderType rolledBack = providerType();
+
+        template.insert(committed)
+                .transform(outbox.record(type -> ConfigurationChangedEvent.created("ProviderType", type.getId(), null)))
+                .block(TIMEOUT);
+        // entity_type is VARCHAR(100): the outbox insert fails after the entity was written
+        String unrecordable = "ProviderType".repeat(10);
+        assertThrows(RuntimeException.class, () -> template.insert(rolledBack)
+                .transform(outbox.record(type -> ConfigurationChangedEvent.created(unrecordable, type.getId(), null)))
+                .block(TIMEOUT));
+
+        assertEquals(1, count("SELECT COUNT(*) FROM provider_types WHERE id = :id", committed.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM config_outbox WHERE entity_id = :id", committed.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM provider_types WHERE id = :id", rolledBack.getId()));
+        assertEquals(List.of(ConfigurationChangedEvent.created("ProviderType", committed.getId(), null)), published);
+    }
+
+    private static ProviderType providerType() {
+        return ProviderType.builder()
+                .id(UUID.randomUUID())
+                .code("PG-" + UUID.randomUUID().toString().substring(0, 8))
+                .name("Payment Gateway")
+                .active(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should feed a change that commits after a higher outbox ID")
+    void shouldFeedLateCommit() throws Exception {
+        OutboxChangeFeed feed = new OutboxChangeFeed(repository, published::add, new OutboxProperties());
+        assertEquals(0L, feed.catchUp().block(TIMEOUT));
+
+        Held<ConfigOutboxMessage> slow = holdOpen(repository.save(message("a")));
+        ConfigOutboxMessage fast = append("b");
+        assertTrue(slow.result().getId() < fast.getId());
+
+        assertEquals(1L, feed.catchUp().block(TIMEOUT));
+        slow.commit();
+        assertEquals(1L, feed.catchUp().block(TIMEOUT));
+        assertEquals(0L, feed.catchUp().block(TIMEOUT));
+
+        Set<UUID> fed = new HashSet<>();
+        published.forEach(event -> fed.add(((ConfigurationChangedEvent) event).getEntityId()));
+        assertEquals(Set.of(fast.getEntityId(), slow.result().getEntityId()), fed);
+        assertEquals(fast.getEntityId(), ((ConfigurationChangedEvent) published.get(0)).getEntityId());
+    }
+}
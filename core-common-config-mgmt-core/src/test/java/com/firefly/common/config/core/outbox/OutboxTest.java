@@ -0,0 +1,316 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.outbox;
+
+import com.firefly.common.config.core.config.OutboxProperties;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.models.entities.ConfigOutboxMessage;
+import com.firefly.common.config.models.repositories.ConfigOutboxRepository;
+import com.firefly.common.config.models.routing.PrimaryTransactions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Outbox Tests")
+class OutboxTest {
+
+    @Mock
+    private ConfigOutboxRepository repository;
+
+    @Mock
+    private PrimaryTransactions transactions;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactions.execute(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private ConfigOutboxMessage message(long id) {
+        return message(id, tenantId.toString());
+    }
+
+    private ConfigOutboxMessage message(long id, String partitionKey) {
+        return ConfigOutboxMessage.builder()
+                .id(id)
+                .partitionKey(partitionKey)
+                .entityType("TenantSettings")
+                .entityId(UUID.randomUUID())
+                .tenantId(tenantId)
+                .action("UPDATED")
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Recording Tests")
+    class RecordingTests {
+
+        private ChangeEventOutbox outbox;
+
+        @BeforeEach
+        void setUp() {
+            outbox = new ChangeEventOutbox(repository, transactions, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should append the outbox row and publish after the write")
+        void shouldAppendAndPublish() {
+            UUID entityId = UUID.randomUUID();
+            when(repository.save(any(ConfigOutboxMessage.class)))
+                    .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+            StepVerifier.create(Mono.just(entityId)
+                            .transform(outbox.record(id -> ConfigurationChangedEvent.created("Provider", id, tenantId))))
+                    .expectNext(entityId)
+                    .verifyComplete();
+
+            ArgumentCaptor<ConfigOutboxMessage> saved = ArgumentCaptor.forClass(ConfigOutboxMessage.class);
+            verify(repository).save(saved.capture());
+            assertEquals(tenantId.toString(), saved.getValue().getPartitionKey());
+            assertEquals("CREATED", saved.getValue().getAction());
+            assertEquals(entityId, saved.getValue().getEntityId());
+            verify(transactions).execute(any());
+            verify(eventPublisher).publishEvent(ConfigurationChangedEvent.created("Provider", entityId, tenantId));
+        }
+
+        @Test
+        @DisplayName("Should not publish when the outbox row cannot be written")
+        void shouldNotPublishWhenAppendFails() {
+            when(repository.save(any(ConfigOutboxMessage.class)))
+                    .thenReturn(Mono.error(new IllegalStateException("connection lost")));
+
+            StepVerifier.create(Mono.just(UUID.randomUUID())
+                            .transform(outbox.record(id -> ConfigurationChangedEvent.deleted("Provider", id, null))))
+                    .expectError(IllegalStateException.class)
+                    .verify();
+
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should partition tenant-less changes globally")
+        void shouldUseGlobalPartition() {
+            ConfigOutboxMessage message = ChangeEventOutbox.toMessage(ConfigurationChangedEvent.updated(
+                    "ProviderType", UUID.randomUUID(), null, Set.of("name", "code")));
+
+            assertEquals(ChangeEventOutbox.GLOBAL_PARTITION, message.getPartitionKey());
+            assertEquals(List.of("code", "name"), message.getChangedFields());
+            assertEquals(0, message.getAttempts());
+        }
+    }
+
+    @Nested
+    @DisplayName("Relay Tests")
+    class RelayTests {
+
+        private final List<List<ConfigOutboxMessage>> delivered = new ArrayList<>();
+        private final OutboxProperties properties = new OutboxProperties();
+
+        @BeforeEach
+        void setUp() {
+            properties.setBatchSize(2);
+        }
+
+        @Test
+        @DisplayName("Should relay full batches back to back and mark them published")
+        void shouldDrainInBatches() {
+            OutboxRelay relay = new OutboxRelay(repository, transactions,
+                    batch -> Mono.fromRunnable(() -> delivered.add(batch)), properties);
+            when(repository.claimBatch(2, 10)).thenReturn(
+                    Flux.just(message(1), message(2)), Flux.just(message(3)));
+            when(repository.markPublished(anyCollection())).thenReturn(Mono.just(1));
+
+            StepVerifier.create(relay.drain())
+                    .expectNext(3L)
+                    .verifyComplete();
+
+            assertEquals(2, delivered.size());
+            assertEquals(List.of(1L, 2L), delivered.get(0).stream().map(ConfigOutboxMessage::getId).toList());
+            verify(repository).markPublished(List.of(1L, 2L));
+            verify(repository).markPublished(List.of(3L));
+            assertEquals(3, relay.getDeliveredCount());
+        }
+
+        @Test
+        @DisplayName("Should hold back only the partition whose delivery fails")
+        void shouldIsolateFailingPartition() {
+            OutboxRelay relay = new OutboxRelay(repository, transactions, batch -> {
+                if (batch.stream().anyMatch(message -> message.getId() == 1L)) {
+                    return Mono.error(new IllegalStateException("broker rejected #1"));
+                }
+                return Mono.fromRunnable(() -> delivered.add(batch));
+            }, properties);
+            when(repository.claimBatch(2, 10)).thenReturn(
+                    Flux.just(message(1, "a"), message(2, "b"), message(3, "a")), Flux.empty());
+            when(repository.markPublished(anyCollection())).thenReturn(Mono.just(1));
+            when(repository.markFailed(anyCollection(), anyString(), anyInt(), anyDouble(), anyDouble()))
+                    .thenReturn(Flux.just(message(1, "a")));
+
+            StepVerifier.create(relay.drain())
+                    .expectNext(1L)
+                    .verifyComplete();
+
+            assertEquals(List.of(List.of(2L)), delivered.stream()
+                    .map(batch -> batch.stream().map(ConfigOutboxMessage::getId).toList())
+                    .toList());
+            verify(repository).markPublished(List.of(2L));
+            verify(repository).markFailed(eq(List.of(1L)), contains("broker rejected #1"), eq(10), eq(1.0), eq(30.0));
+            assertEquals(1, relay.getDeliveredCount());
+        }
+
+        @Test
+        @DisplayName("Should publish the messages before the failing one of a partition")
+        void shouldPublishPrefixOfFailingPartition() {
+            OutboxRelay relay = new OutboxRelay(repository, transactions, batch -> {
+                if (batch.stream().anyMatch(message -> message.getId() == 2L)) {
+                    return Mono.error(new IllegalStateException("broker rejected #2"));
+                }
+                return Mono.fromRunnable(() -> delivered.add(batch));
+            }, properties);
+            properties.setBatchSize(3);
+            when(repository.claimBatch(3, 10)).thenReturn(Flux.just(message(1), message(2), message(3)), Flux.empty());
+            when(repository.markPublished(anyCollection())).thenReturn(Mono.just(1));
+            when(repository.markFailed(anyCollection(), anyString(), anyInt(), anyDouble(), anyDouble()))
+                    .thenReturn(Flux.just(message(2)));
+
+            StepVerifier.create(relay.drain())
+                    .expectNext(1L)
+                    .verifyComplete();
+
+            verify(repository).markPublished(List.of(1L));
+            verify(repository).markFailed(eq(List.of(2L)), anyString(), eq(10), anyDouble(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("Should fail the batch without recording attempts when the database fails")
+        void shouldFailBatchOnDatabaseError() {
+            OutboxRelay relay = new OutboxRelay(repository, transactions,
+                    batch -> Mono.fromRunnable(() -> delivered.add(batch)), properties);
+            when(repository.claimBatch(2, 10)).thenReturn(Flux.just(message(1)));
+            when(repository.markPublished(anyCollection()))
+                    .thenReturn(Mono.error(new IllegalStateException("connection lost")));
+
+            StepVerifier.create(relay.drain())
+                    .expectError(IllegalStateException.class)
+                    .verify();
+
+            verify(repository, never()).markFailed(anyCollection(), anyString(), anyInt(), anyDouble(), anyDouble());
+            assertEquals(0, relay.getDeliveredCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Change Feed Tests")
+    class ChangeFeedTests {
+
+        private final OutboxProperties properties = new OutboxProperties();
+
+        private ConfigOutboxMessage written(long id, long xid, String origin) {
+            ConfigOutboxMessage message = message(id);
+            message.setXid(xid);
+            message.setOrigin(origin);
+            return message;
+        }
+
+        private List<Long> ids(List<ConfigOutboxMessage> messages) {
+            return messages.stream().map(ConfigOutboxMessage::getId).toList();
+        }
+
+        @Test
+        @DisplayName("Should return a late commit once and forget it when the horizon passes")
+        void shouldReturnLateCommitsOnce() {
+            ChangeFeedCursor cursor = new ChangeFeedCursor(0, 100);
+
+            // #1 is still in flight when #2 is read
+            assertEquals(List.of(2L), ids(cursor.advance(100, List.of(), List.of(written(2, 102, "peer")))));
+            assertEquals(2L, cursor.lastId());
+
+            // #1 commits; #2 comes back with it because its transaction is above the horizon
+            assertEquals(List.of(1L), ids(cursor.advance(101,
+                    List.of(written(1, 101, "peer"), written(2, 102, "peer")), List.of())));
+            assertEquals(101L, cursor.xmin());
+
+            // once the horizon passes both transactions, neither is remembered
+            assertEquals(List.of(3L), ids(cursor.advance(103, List.of(), List.of(written(3, 103, "peer")))));
+            assertEquals(List.of(2L), ids(cursor.advance(103, List.of(written(2, 102, "peer")), List.of())));
+        }
+
+        @Test
+        @DisplayName("Should publish other nodes' changes and skip this node's")
+        void shouldPublishOtherNodesChanges() {
+            properties.setBatchSize(2);
+            OutboxChangeFeed feed = new OutboxChangeFeed(repository, eventPublisher, properties);
+            ConfigOutboxMessage peer = written(6, 100, "peer");
+            ConfigOutboxMessage own = written(7, 100, ChangeEventOutbox.NODE_ID);
+            when(repository.loadSnapshotXmin()).thenReturn(Mono.just(100L));
+            when(repository.loadLastId()).thenReturn(Mono.just(5L));
+            when(repository.loadLateCommits(anyLong(), anyLong())).thenReturn(Flux.empty());
+            when(repository.loadAfter(5L, 2)).thenReturn(Flux.just(peer, own));
+            when(repository.loadAfter(7L, 2)).thenReturn(Flux.empty());
+
+            // the first call only takes the starting position
+            StepVerifier.create(feed.catchUp())
+                    .expectNext(0L)
+                    .verifyComplete();
+            verifyNoInteractions(eventPublisher);
+
+            StepVerifier.create(feed.catchUp())
+                    .expectNext(1L)
+                    .verifyComplete();
+
+            verify(eventPublisher).publishEvent(ConfigurationChangedEvent.updated(
+                    "TenantSettings", peer.getEntityId(), tenantId));
+            verify(eventPublisher, never()).publishEvent(ChangeEventOutbox.toEvent(own));
+            assertEquals(1, feed.getAppliedCount());
+        }
+
+        @Test
+        @DisplayName("Should stamp rows with this node and map them back to the event")
+        void shouldRoundTripEvent() {
+            ConfigurationChangedEvent event = ConfigurationChangedEvent.updated(
+                    "FeatureFlag", UUID.randomUUID(), tenantId, Set.of("enabled"));
+
+            ConfigOutboxMessage message = ChangeEventOutbox.toMessage(event);
+
+            assertEquals(ChangeEventOutbox.NODE_ID, message.getOrigin());
+            assertEquals(event, ChangeEventOutbox.toEvent(message));
+        }
+    }
+}
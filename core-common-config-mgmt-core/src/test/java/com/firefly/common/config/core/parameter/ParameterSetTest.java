@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.parameter;
+
+import com.firefly.common.config.interfaces.dtos.ParameterViolationDTO;
+import com.firefly.common.config.interfaces.enums.ParameterViolationReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParameterSet Tests")
+class ParameterSetTest {
+
+    private static ParameterDefinition.ParameterDefinitionBuilder parameter(String name, String type, String value) {
+        return ParameterDefinition.builder()
+                .name(name)
+                .type(type)
+                .value(value);
+    }
+
+    private static List<ParameterViolationReason> reasons(List<ParameterViolationDTO> violations) {
+        return violations.stream().map(ParameterViolationDTO::getReason).toList();
+    }
+
+    @Nested
+    @DisplayName("Decoding Tests")
+    class DecodingTests {
+
+        @Test
+        @DisplayName("Should parse each type once and expose typed values")
+        void shouldExposeTypedValues() {
+            ParameterSet set = ParameterSet.decode(List.of(
+                    parameter("timeout_ms", "INTEGER", " 3000 ").build(),
+                    parameter("fee_rate", "decimal", "0.015").build(),
+                    parameter("sandbox", "BOOLEAN", "TRUE").build(),
+                    parameter("headers", "JSON", "{\"Accept\":\"application/json\"}").build(),
+                    parameter("region", null, "eu-west-1").build()));
+
+            assertTrue(set.isValid());
+            assertEquals(3000, set.getInt("timeout_ms", 0));
+            assertEquals(new BigDecimal("0.015"), set.getDecimal("fee_rate"));
+            assertEquals(new BigDecimal("3000"), set.getDecimal("timeout_ms"));
+            assertTrue(set.getBoolean("sandbox", false));
+            assertEquals("application/json", set.getJson("headers").get("Accept").asText());
+            assertEquals("eu-west-1", set.getString("region"));
+            assertEquals(ParameterType.STRING, set.typeOf("region"));
+            assertThrows(IllegalStateException.class, () -> set.getBoolean("timeout_ms", false));
+        }
+
+        @Test
+        @DisplayName("Should apply defaults to blank values")
+        void shouldApplyDefaults() {
+            ParameterSet set = ParameterSet.decode(List.of(
+                    parameter("retries", "INTEGER", " ").defaultValue("3").build(),
+                    parameter("missing", "INTEGER", null).build()));
+
+            assertEquals(3L, set.getLong("retries"));
+            assertTrue(set.isDefaulted("retries"));
+            assertEquals(7, set.getInt("missing", 7));
+            assertFalse(set.contains("missing"));
+        }
+
+        @Test
+        @DisplayName("Should let later definitions override earlier ones")
+        void shouldOverrideEarlierDefinitions() {
+            ParameterSet set = ParameterSet.decode(List.of(
+                    parameter("timeout_ms", "INTEGER", "3000").build(),
+                    parameter("timeout_ms", "INTEGER", "500").build()));
+
+            assertTrue(set.isValid());
+            assertEquals(500L, set.getLong("timeout_ms"));
+        }
+
+        @Test
+        @DisplayName("Should leave invalid parameters out of the view")
+        void shouldLeaveOutInvalidParameters() {
+            ParameterSet set = ParameterSet.decode(List.of(
+                    parameter("timeout_ms", "INTEGER", "soon").build(),
+                    parameter("code", "STRING", "abc").validationRegex("[A-Z]{3}").build(),
+                    parameter("api_key", "STRING", null).required(true).credentialVaultId("vault-1").build()));
+
+            assertEquals(0, set.size());
+            assertEquals(List.of(ParameterViolationReason.INVALID_VALUE, ParameterViolationReason.PATTERN_MISMATCH),
+                    reasons(set.getViolations()));
+            assertEquals(Map.of("api_key", "vault-1"), set.getSecretReferences());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should report every violation in input order")
+        void shouldReportEveryViolation() {
+            List<ParameterViolationDTO> violations = ParameterSet.validate(List.of(
+                    parameter("endpoint", "STRING", "https://api.example.com").required(true).build(),
+                    parameter("endpoint", "STRING", "https://other.example.com").build(),
+                    parameter("merchant_id", "STRING", null).required(true).build(),
+                    parameter("limit", "INTEGER", "10").defaultValue("ten").build(),
+                    parameter("mode", "ENUM", "LIVE").build(),
+                    parameter("pin", "STRING", "1234").validationRegex("[0-9").build()));
+
+            assertEquals(List.of(
+                    ParameterViolationReason.DUPLICATE_NAME,
+                    ParameterViolationReason.MISSING_REQUIRED_VALUE,
+                    ParameterViolationReason.INVALID_DEFAULT_VALUE,
+                    ParameterViolationReason.UNKNOWN_TYPE,
+                    ParameterViolationReason.INVALID_REGEX), reasons(violations));
+            assertEquals("merchant_id", violations.get(1).getParameterName());
+        }
+
+        @Test
+        @DisplayName("Should not include values in violation messages")
+        void shouldNotIncludeValues() {
+            List<ParameterViolationDTO> violations = ParameterSet.validate(List.of(
+                    parameter("password", "INTEGER", "hunter2").build()));
+
+            assertEquals(1, violations.size());
+            assertFalse(violations.get(0).getMessage().contains("hunter2"));
+        }
+
+        @Test
+        @DisplayName("Should compile each validation regex once")
+        void shouldCacheCompiledPatterns() {
+            assertSame(ParameterPatterns.compile("[A-Z]{2}[0-9]{4}").orElseThrow(),
+                    ParameterPatterns.compile("[A-Z]{2}[0-9]{4}").orElseThrow());
+            assertTrue(ParameterPatterns.compile("(unclosed").isEmpty());
+        }
+    }
+}
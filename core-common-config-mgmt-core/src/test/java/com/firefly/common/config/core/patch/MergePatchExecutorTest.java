@@ -0,0 +1,304 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.patch;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.parameter.InvalidParameterException;
+import com.firefly.common.config.core.parameter.ParameterDefinition;
+import com.firefly.common.config.core.parameter.ParameterSet;
+import com.firefly.common.config.interfaces.dtos.FeatureFlagDTO;
+import com.firefly.common.config.interfaces.dtos.ParameterViolationDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderParameterDTO;
+import com.firefly.common.config.models.entities.ConfigurationAudit;
+import com.firefly.common.config.models.entities.FeatureFlag;
+import com.firefly.common.config.models.entities.ProviderParameter;
+import com.firefly.common.config.models.repositories.ConfigurationAuditRepository;
+import com.firefly.common.config.models.repositories.PatchResult;
+import com.firefly.common.config.models.repositories.VersionedUpdateRepository;
+import com.firefly.common.config.models.routing.PrimaryTransactions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Merge Patch Executor Tests")
+class MergePatchExecutorTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ConfigurationAuditRepository auditRepository;
+
+    @Mock
+    private ChangeEventOutbox outbox;
+
+    @Mock
+    private PrimaryTransactions transactions;
+
+    @Mock
+    private VersionedUpdateRepository<FeatureFlag> repository;
+
+    @Mock
+    private VersionedUpdateRepository<ProviderParameter> parameterRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final UUID id = UUID.randomUUID();
+    private final UUID tenantId = UUID.randomUUID();
+
+    private MergePatchExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new MergePatchExecutor(objectMapper, eventPublisher, auditRepository, outbox, transactions);
+        lenient().when(transactions.execute(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(auditRepository.saveAll(anyIterable())).thenReturn(Flux.empty());
+        lenient().when(outbox.append(any())).thenReturn(Mono.empty());
+    }
+
+    private MergePatchTarget<FeatureFlag, FeatureFlagDTO> target(String... sensitiveProperties) {
+        return MergePatchTarget.<FeatureFlag, FeatureFlagDTO>builder()
+                .dtoType(FeatureFlagDTO.class)
+                .repository(repository)
+                .toEntity(dto -> FeatureFlag.builder()
+                        .id(dto.getId())
+                        .featureKey(dto.getFeatureKey())
+                        .description(dto.getDescription())
+                        .enabled(dto.getEnabled())
+                        .version(dto.getVersion())
+                        .build())
+                .toDTO(flag -> FeatureFlagDTO.builder()
+                        .id(flag.getId())
+                        .featureKey(flag.getFeatureKey())
+                        .enabled(flag.getEnabled())
+                        .build())
+                .tenantId(FeatureFlag::getTenantId)
+                .sensitiveProperties(List.of(sensitiveProperties))
+                .build();
+    }
+
+    private JsonNode json(String json) throws Exception {
+        return objectMapper.readTree(json);
+    }
+
+    private FeatureFlag stored() {
+        return FeatureFlag.builder().id(id).tenantId(tenantId).featureKey("payments").enabled(false).version(4L).build();
+    }
+
+    private static PatchResult.Change change(Object oldValue, Object newValue) {
+        return new PatchResult.Change(oldValue, newValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ConfigurationAudit> savedAudits() {
+        ArgumentCaptor<Iterable<ConfigurationAudit>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(auditRepository).saveAll(captor.capture());
+        List<ConfigurationAudit> audits = new ArrayList<>();
+        captor.getValue().forEach(audits::add);
+        return audits;
+    }
+
+    @Test
+    @DisplayName("Should write only the patched fields, with the path ID and the expected version")
+    @SuppressWarnings("unchecked")
+    void shouldWriteOnlyPatchedFields() throws Exception {
+        when(repository.patchReturning(any(), anyCollection()))
+                .thenReturn(Mono.just(new PatchResult<>(stored(), Map.of("enabled", change(true, false)))));
+
+        StepVerifier.create(executor.apply(id, json("{\"enabled\": false, \"version\": 3, \"id\": \"" +
+                                UUID.randomUUID() + "\"}"), target()))
+                .assertNext(dto -> assertEquals(id, dto.getId()))
+                .verifyComplete();
+
+        ArgumentCaptor<FeatureFlag> entity = ArgumentCaptor.forClass(FeatureFlag.class);
+        ArgumentCaptor<Collection<String>> fields = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).patchReturning(entity.capture(), fields.capture());
+        assertEquals(List.of("enabled"), List.copyOf(fields.getValue()));
+        assertEquals(id, entity.getValue().getId());
+        assertEquals(3L, entity.getValue().getVersion());
+        assertFalse(entity.getValue().getEnabled());
+    }
+
+    @Test
+    @DisplayName("Should audit each changed column and publish one event after the write")
+    void shouldAuditAndPublishChanges() throws Exception {
+        Map<String, PatchResult.Change> changes = new LinkedHashMap<>();
+        changes.put("enabled", change(false, true));
+        changes.put("description", change(null, "Instant payments"));
+        when(repository.patchReturning(any(), anyCollection()))
+                .thenReturn(Mono.just(new PatchResult<>(stored(), changes)));
+
+        StepVerifier.create(executor.apply(id, json("{\"enabled\": true, \"description\": \"Instant payments\"}"),
+                        target()))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        List<ConfigurationAudit> audits = savedAudits();
+        assertEquals(2, audits.size());
+        assertEquals("FEATURE_FLAG", audits.get(0).getEntityType());
+        assertEquals("enabled", audits.get(0).getFieldName());
+        assertEquals("false", audits.get(0).getOldValue());
+        assertEquals("true", audits.get(0).getNewValue());
+        assertNull(audits.get(1).getOldValue());
+        assertEquals(tenantId, audits.get(1).getTenantId());
+
+        ConfigurationChangedEvent event = ConfigurationChangedEvent.updated(
+                "FeatureFlag", id, tenantId, Set.of("enabled", "description"));
+        InOrder order = inOrder(outbox, transactions, eventPublisher);
+        order.verify(transactions).execute(any());
+        order.verify(outbox).append(event);
+        order.verify(eventPublisher).publishEvent(event);
+    }
+
+    @Test
+    @DisplayName("Should mask sensitive values in audit records")
+    void shouldMaskSensitiveValues() throws Exception {
+        Map<String, PatchResult.Change> changes = new LinkedHashMap<>();
+        changes.put("description", change("old", "new"));
+        changes.put("clientSecret", change("s3cr3t", "t0ps3cr3t"));
+        changes.put("featureKey", change("payments", "instant-payments"));
+        when(repository.patchReturning(any(), anyCollection()))
+                .thenReturn(Mono.just(new PatchResult<>(stored(), changes)));
+
+        StepVerifier.create(executor.apply(id, json("{\"description\": \"new\"}"), target("description")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        List<ConfigurationAudit> audits = savedAudits();
+        assertEquals("******", audits.get(0).getOldValue());
+        assertEquals("******", audits.get(0).getNewValue());
+        assertEquals("******", audits.get(1).getNewValue());
+        assertEquals("instant-payments", audits.get(2).getNewValue());
+    }
+
+    @Test
+    @DisplayName("Should record and publish nothing when the patch changes nothing")
+    void shouldIgnoreNoOpPatch() throws Exception {
+        when(repository.patchReturning(any(), anyCollection()))
+                .thenReturn(Mono.just(new PatchResult<>(stored(), Map.of())));
+
+        StepVerifier.create(executor.apply(id, json("{\"enabled\": false}"), target()))
+                .assertNext(dto -> assertFalse(dto.getEnabled()))
+                .verifyComplete();
+
+        verifyNoInteractions(auditRepository, outbox, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should complete empty when no entity has the ID")
+    void shouldCompleteEmptyWhenMissing() throws Exception {
+        when(repository.patchReturning(any(), anyCollection())).thenReturn(Mono.empty());
+
+        StepVerifier.create(executor.apply(id, json("{\"enabled\": true}"), target()))
+                .verifyComplete();
+
+        verifyNoInteractions(auditRepository, outbox, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should reject patches that are not objects or name unknown fields")
+    void shouldRejectInvalidPatches() throws Exception {
+        when(repository.patchReturning(any(), anyCollection()))
+                .thenReturn(Mono.error(new IllegalArgumentException("Unknown property: colour")));
+
+        StepVerifier.create(executor.apply(id, json("[1, 2]"), target()))
+                .expectError(InvalidMergePatchException.class)
+                .verify();
+        StepVerifier.create(executor.apply(id, json("{\"enabled\": \"sometimes\"}"), target()))
+                .expectError(InvalidMergePatchException.class)
+                .verify();
+        StepVerifier.create(executor.apply(id, json("{\"colour\": \"red\"}"), target()))
+                .expectErrorMatches(e -> e instanceof InvalidMergePatchException
+                        && e.getMessage().contains("colour"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject a patch whose merged row fails the target's validator, without recording it")
+    void shouldRejectInvalidMergedEntity() throws Exception {
+        ProviderParameter merged = ProviderParameter.builder()
+                .id(id)
+                .tenantId(tenantId)
+                .parameterName("timeoutSeconds")
+                .parameterType("INTEGER")
+                .parameterValue("abc")
+                .build();
+        when(parameterRepository.patchReturning(any(), anyCollection()))
+                .thenReturn(Mono.just(new PatchResult<>(merged, Map.of("parameterValue", change("30", "abc")))));
+        MergePatchTarget<ProviderParameter, ProviderParameterDTO> target =
+                MergePatchTarget.<ProviderParameter, ProviderParameterDTO>builder()
+                        .dtoType(ProviderParameterDTO.class)
+                        .repository(parameterRepository)
+                        .toEntity(dto -> ProviderParameter.builder()
+                                .id(dto.getId())
+                                .parameterValue(dto.getParameterValue())
+                                .build())
+                        .toDTO(parameter -> ProviderParameterDTO.builder().id(parameter.getId()).build())
+                        .tenantId(ProviderParameter::getTenantId)
+                        .validator(parameter -> {
+                            List<ParameterViolationDTO> violations =
+                                    ParameterSet.validate(List.of(ParameterDefinition.of(parameter)));
+                            if (!violations.isEmpty()) {
+                                throw new InvalidParameterException(violations);
+                            }
+                        })
+                        .build();
+
+        StepVerifier.create(executor.apply(id, json("{\"parameterValue\": \"abc\"}"), target))
+                .expectErrorMatches(e -> e instanceof InvalidParameterException
+                        && e.getMessage().contains("timeoutSeconds"))
+                .verify();
+
+        verify(transactions).execute(any());
+        verifyNoInteractions(auditRepository, outbox, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should name audit entity types in upper snake case")
+    void shouldNameAuditTypes() {
+        assertEquals("TENANT_SETTINGS", MergePatchExecutor.toAuditType("TenantSettings"));
+        assertEquals("FEATURE_FLAG", MergePatchExecutor.toAuditType("FeatureFlag"));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.policy;
+
+import com.firefly.common.config.interfaces.enums.TwoFactorAuthMethod;
+import com.firefly.common.config.models.entities.TenantSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TenantPolicy Tests")
+class TenantPolicyTest {
+
+    private TenantSettings.TenantSettingsBuilder settings() {
+        return TenantSettings.builder()
+                .id(UUID.randomUUID())
+                .tenantId(UUID.randomUUID())
+                .version(3L);
+    }
+
+    @Nested
+    @DisplayName("CIDR Trie Tests")
+    class CidrTrieTests {
+
+        @Test
+        @DisplayName("Should parse comma-separated and JSON array lists")
+        void shouldParseBothListFormats() {
+            CidrTrie plain = CidrTrie.parse("10.0.0.0/8, 192.168.1.10");
+            CidrTrie json = CidrTrie.parse("[\"10.0.0.0/8\",\"192.168.1.10\"]");
+
+            assertEquals(List.of("10.0.0.0/8", "192.168.1.10/32"), plain.getRanges());
+            assertEquals(plain.getRanges(), json.getRanges());
+        }
+
+        @Test
+        @DisplayName("Should match addresses inside configured prefixes only")
+        void shouldMatchPrefixes() {
+            CidrTrie trie = CidrTrie.parse("10.0.0.0/8,192.168.1.10,2001:db8::/32");
+
+            assertTrue(trie.contains("10.255.0.1"));
+            assertTrue(trie.contains("192.168.1.10"));
+            assertTrue(trie.contains("2001:db8::1"));
+            assertFalse(trie.contains("11.0.0.1"));
+            assertFalse(trie.contains("192.168.1.11"));
+            assertFalse(trie.contains("2001:db9::1"));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed entries without failing")
+        void shouldRejectMalformedEntries() {
+            CidrTrie trie = CidrTrie.parse("10.0.0.0/33,not-an-ip,172.16.0.0/12");
+
+            assertEquals(List.of("172.16.0.0/12"), trie.getRanges());
+            assertEquals(List.of("10.0.0.0/33", "not-an-ip"), trie.getRejectedEntries());
+            assertFalse(trie.contains("example.com"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Compiled Policy Tests")
+    class CompiledPolicyTests {
+
+        @Test
+        @DisplayName("Should let the block list win over the allow list")
+        void shouldApplyBlockListFirst() {
+            TenantPolicy policy = TenantPolicy.compile(settings()
+                    .ipWhitelist("10.0.0.0/8")
+                    .ipBlacklist("10.1.0.0/16")
+                    .build());
+
+            assertTrue(policy.isIpAllowed("10.2.0.1"));
+            assertFalse(policy.isIpAllowed("10.1.0.1"));
+            assertFalse(policy.isIpAllowed("8.8.8.8"));
+        }
+
+        @Test
+        @DisplayName("Should allow every IP when no lists are configured")
+        void shouldAllowWhenNoListsConfigured() {
+            TenantPolicy policy = TenantPolicy.compile(settings().build());
+
+            assertTrue(policy.isIpAllowed("8.8.8.8"));
+            assertTrue(policy.isCountryAllowed("KP"));
+        }
+
+        @Test
+        @DisplayName("Should only evaluate countries when geo-blocking is enabled")
+        void shouldEvaluateCountriesWhenGeoBlockingEnabled() {
+            TenantPolicy policy = TenantPolicy.compile(settings()
+                    .geoBlockingEnabled(true)
+                    .allowedCountries("ES,FR")
+                    .blockedCountries("KP")
+                    .build());
+
+            assertTrue(policy.isCountryAllowed("es"));
+            assertFalse(policy.isCountryAllowed("DE"));
+            assertFalse(policy.isCountryAllowed("KP"));
+        }
+
+        @Test
+        @DisplayName("Should collapse nullable columns to primitives and enums")
+        void shouldCollapseNullableColumns() {
+            TenantPolicy policy = TenantPolicy.compile(settings()
+                    .mfaRequired(true)
+                    .twoFactorAuthMethods("sms, TOTP, CARRIER_PIGEON")
+                    .apiRateLimitPerMinute(120)
+                    .build());
+
+            assertTrue(policy.isMfaRequired());
+            assertFalse(policy.isMfaEnabled());
+            assertEquals(120, policy.getApiRateLimitPerMinute());
+            assertEquals(0, policy.getApiRateLimitPerHour());
+            assertTrue(policy.allowsTwoFactorMethod(TwoFactorAuthMethod.SMS));
+            assertTrue(policy.allowsTwoFactorMethod(TwoFactorAuthMethod.TOTP));
+            assertFalse(policy.allowsTwoFactorMethod(TwoFactorAuthMethod.EMAIL));
+            assertEquals(3L, policy.getVersion());
+        }
+    }
+}
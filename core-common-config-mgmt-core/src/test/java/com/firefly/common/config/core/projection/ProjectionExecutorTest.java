@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.projection;
+
+import com.firefly.common.config.interfaces.dtos.ChannelConfigDTO;
+import com.firefly.common.config.models.entities.ChannelConfig;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.Data;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Projection Executor Tests")
+class ProjectionExecutorTest {
+
+    private ProjectionExecutor executor;
+    private RelationalPersistentEntity<ChannelConfig> channelConfig;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ProjectionExecutor(new R2dbcEntityTemplate(
+                DatabaseClient.create(mock(ConnectionFactory.class)), PostgresDialect.INSTANCE));
+        channelConfig = executor.persistentEntity(ChannelConfig.class);
+    }
+
+    /**
+     * A narrower view of {@link ChannelConfig} than {@link ChannelConfigDTO}.
+     */
+    @Data
+    static class ChannelSummaryDTO {
+        private UUID id;
+        private String channelCode;
+        private String channelName;
+        private String displayLabel;
+    }
+
+    private List<String> selectedNames(Class<?> dtoType, String fields) {
+        return executor.select(channelConfig, dtoType, fields).stream()
+                .map(RelationalPersistentProperty::getName)
+                .toList();
+    }
+
+    /**
+     * Flattens a chain of {@code and} criteria into column to value.
+     */
+    private static Map<String, Object> equalities(Criteria criteria) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Criteria current = criteria; current != null && !current.isEmpty(); current = current.getPrevious()) {
+            assertEquals(CriteriaDefinition.Comparator.EQ, current.getComparator());
+            values.put(current.getColumn().getReference(), current.getValue());
+        }
+        return values;
+    }
+
+    @Nested
+    @DisplayName("Column Conversion Tests")
+    class ColumnConversionTests {
+
+        @Test
+        @DisplayName("Should convert JSON and list filter values to the column types")
+        void shouldConvertFilterValues() {
+            ChannelConfigDTO filters = ChannelConfigDTO.builder()
+                    .channelType("MOBILE")
+                    .metadata("{\"region\": \"eu\"}")
+                    .supportedPlatforms("IOS, ANDROID")
+                    .build();
+
+            Map<String, Object> criteria = equalities(executor.criteriaOf(channelConfig, ChannelConfigDTO.class, filters));
+
+            assertEquals("MOBILE", criteria.get("channelType"));
+            assertEquals(Json.of("{\"region\": \"eu\"}").asString(), ((Json) criteria.get("metadata")).asString());
+            assertArrayEquals(new String[]{"IOS", "ANDROID"}, (String[]) criteria.get("supportedPlatforms"));
+        }
+
+        @Test
+        @DisplayName("Should match plain-text metadata as the JSON string it is stored as")
+        void shouldWrapPlainTextFilter() {
+            ChannelConfigDTO filters = ChannelConfigDTO.builder().metadata("legacy notes").build();
+
+            Map<String, Object> criteria = equalities(executor.criteriaOf(channelConfig, ChannelConfigDTO.class, filters));
+
+            assertEquals("\"legacy notes\"", ((Json) criteria.get("metadata")).asString());
+        }
+
+        @Test
+        @DisplayName("Should project JSON and list columns in the DTO's string form")
+        void shouldProjectDtoRepresentation() {
+            ChannelConfig row = ChannelConfig.builder()
+                    .supportedPlatforms(List.of("IOS", "ANDROID"))
+                    .metadata(Json.of("\"legacy notes\""))
+                    .build();
+            List<RelationalPersistentProperty> selected =
+                    executor.select(channelConfig, ChannelConfigDTO.class, "supportedPlatforms,metadata");
+
+            Map<String, Object> projected = ProjectionExecutor.toMap(channelConfig, row, selected);
+
+            assertEquals(Map.of("supportedPlatforms", "IOS,ANDROID", "metadata", "legacy notes"), projected);
+        }
+    }
+
+    @Nested
+    @DisplayName("Field Selection Tests")
+    class FieldSelectionTests {
+
+        @Test
+        @DisplayName("Should select fields in request order, trimmed, without blanks or duplicates")
+        void shouldParseFieldList() {
+            assertEquals(List.of("channelName", "id", "channelCode"),
+                    selectedNames(ChannelConfigDTO.class, " channelName, id,,channelCode ,id, "));
+        }
+
+        @Test
+        @DisplayName("Should reject a missing or blank field list")
+        void shouldRejectEmptySelection() {
+            assertThrows(InvalidFieldSelectionException.class,
+                    () -> executor.select(channelConfig, ChannelConfigDTO.class, null));
+            assertThrows(InvalidFieldSelectionException.class,
+                    () -> executor.select(channelConfig, ChannelConfigDTO.class, " , ,"));
+        }
+
+        @Test
+        @DisplayName("Should reject fields the DTO does not expose")
+        void shouldRejectUnknownField() {
+            InvalidFieldSelectionException exception = assertThrows(InvalidFieldSelectionException.class,
+                    () -> executor.select(channelConfig, ChannelConfigDTO.class, "id,password"));
+
+            assertTrue(exception.getMessage().contains("'password'"));
+            assertTrue(exception.getMessage().contains("ChannelConfigDTO"));
+        }
+
+        @Test
+        @DisplayName("Should reject DTO properties that are not persistent entity properties")
+        void shouldRejectNonPersistentField() {
+            assertThrows(InvalidFieldSelectionException.class,
+                    () -> executor.select(channelConfig, ChannelSummaryDTO.class, "displayLabel"));
+        }
+
+        @Test
+        @DisplayName("Should resolve selectable fields per entity and DTO pair")
+        void shouldKeySelectableFieldsByDto() {
+            assertEquals(List.of("description"), selectedNames(ChannelConfigDTO.class, "description"));
+            assertThrows(InvalidFieldSelectionException.class,
+                    () -> executor.select(channelConfig, ChannelSummaryDTO.class, "description"));
+
+            ProjectionExecutor fresh = new ProjectionExecutor(new R2dbcEntityTemplate(
+                    DatabaseClient.create(mock(ConnectionFactory.class)), PostgresDialect.INSTANCE));
+            assertEquals(List.of("channelCode"), fresh.select(channelConfig, ChannelSummaryDTO.class, "channelCode")
+                    .stream().map(RelationalPersistentProperty::getName).toList());
+            assertEquals("description", fresh.select(channelConfig, ChannelConfigDTO.class, "description")
+                    .get(0).getName());
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter Criteria Tests")
+    class FilterCriteriaTests {
+
+        @Test
+        @DisplayName("Should match each non-null filter property by equality")
+        void shouldBuildEqualityCriteria() {
+            ChannelConfigDTO filters = ChannelConfigDTO.builder()
+                    .channelCode("MOBILE_APP")
+                    .enabled(true)
+                    .maxTransactionAmount(new BigDecimal("500.00"))
+                    .build();
+
+            Map<String, Object> criteria = equalities(executor.criteriaOf(channelConfig, ChannelConfigDTO.class, filters));
+
+            assertEquals(Map.of(
+                    "channelCode", "MOBILE_APP",
+                    "enabled", true,
+                    "maxTransactionAmount", new BigDecimal("500.00")), criteria);
+        }
+
+        @Test
+        @DisplayName("Should match everything without filters")
+        void shouldReturnEmptyCriteria() {
+            assertTrue(executor.criteriaOf(channelConfig, ChannelConfigDTO.class, null).isEmpty());
+            assertTrue(executor.criteriaOf(channelConfig, ChannelConfigDTO.class, new ChannelConfigDTO()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should ignore filter properties that are not persistent entity properties")
+        void shouldIgnoreNonPersistentFilter() {
+            ChannelSummaryDTO filters = new ChannelSummaryDTO();
+            filters.setChannelName("Mobile");
+            filters.setDisplayLabel("ignored");
+
+            Map<String, Object> criteria = equalities(executor.criteriaOf(channelConfig, ChannelSummaryDTO.class, filters));
+
+            assertEquals(Map.of("channelName", "Mobile"), criteria);
+        }
+    }
+}
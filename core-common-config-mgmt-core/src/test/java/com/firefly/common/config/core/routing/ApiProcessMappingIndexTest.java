@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.routing;
+
+import com.firefly.common.config.core.events.ApiProcessMappingsActivatedEvent;
+import com.firefly.common.config.core.support.HashedTimerWheel;
+import com.firefly.common.config.models.entities.ApiProcessMapping;
+import com.firefly.common.config.models.repositories.ApiProcessMappingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApiProcessMappingIndex Tests")
+class ApiProcessMappingIndexTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private ApiProcessMappingRepository repository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private HashedTimerWheel timerWheel;
+    private ApiProcessMappingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        timerWheel = new HashedTimerWheel("index-test", Duration.ofMillis(10), 64);
+        index = new ApiProcessMappingIndex(repository, timerWheel, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timerWheel.stop();
+    }
+
+    private static ApiProcessMapping mapping(String processId, Instant effectiveFrom, Instant effectiveTo) {
+        return ApiProcessMapping.builder()
+                .id(UUID.randomUUID())
+                .operationId("createAccount")
+                .processId(processId)
+                .isActive(true)
+                .priority(0)
+                .effectiveFrom(effectiveFrom != null ? OffsetDateTime.ofInstant(effectiveFrom, ZoneOffset.UTC) : null)
+                .effectiveTo(effectiveTo != null ? OffsetDateTime.ofInstant(effectiveTo, ZoneOffset.UTC) : null)
+                .build();
+    }
+
+    private void load(ApiProcessMapping... mappings) {
+        when(repository.findByIsActiveTrue()).thenReturn(Flux.just(mappings));
+        index.rebuild().block(TIMEOUT);
+    }
+
+    private String resolvedProcessId() {
+        return index.resolveOperation(null, "createAccount", null, null)
+                .map(ApiProcessMapping::getProcessId)
+                .orElse(null);
+    }
+
+    /**
+     * Waits for the timer wheel to activate the generation that starts at
+     * {@code boundary}.
+     */
+    private void awaitActivation(Instant boundary) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (index.current().activatedAt().isBefore(boundary)) {
+            assertTrue(System.nanoTime() < deadline, "Index was not re-activated at " + boundary);
+            Thread.sleep(10);
+        }
+    }
+
+    private List<ApiProcessMappingsActivatedEvent> publishedEvents(int count) {
+        ArgumentCaptor<ApiProcessMappingsActivatedEvent> events =
+                ArgumentCaptor.forClass(ApiProcessMappingsActivatedEvent.class);
+        verify(eventPublisher, times(count)).publishEvent(events.capture());
+        return events.getAllValues();
+    }
+
+    @Nested
+    @DisplayName("Boundary Tests")
+    class BoundaryTests {
+
+        @Test
+        @DisplayName("Should swap to the successor mapping at the effective-date boundary")
+        void shouldSwapAtBoundary() throws InterruptedException {
+            Instant boundary = Instant.now().plusMillis(200);
+            load(mapping("v1", null, boundary), mapping("v2", boundary, null));
+
+            assertEquals("v1", resolvedProcessId());
+            assertEquals(boundary, index.current().validUntil());
+
+            awaitActivation(boundary);
+
+            assertEquals("v2", resolvedProcessId());
+            assertNull(index.current().validUntil());
+        }
+
+        @Test
+        @DisplayName("Should stop resolving a mapping whose effective period has ended")
+        void shouldExpireAtBoundary() throws InterruptedException {
+            Instant boundary = Instant.now().plusMillis(200);
+            load(mapping("v1", null, boundary));
+
+            assertEquals("v1", resolvedProcessId());
+
+            awaitActivation(boundary);
+
+            assertNull(resolvedProcessId());
+            assertEquals(0, index.current().size());
+        }
+
+        @Test
+        @DisplayName("Should not resolve a mapping before it takes effect")
+        void shouldActivateFutureMappingAtBoundary() throws InterruptedException {
+            Instant boundary = Instant.now().plusMillis(200);
+            load(mapping("v2", boundary, null));
+
+            assertNull(resolvedProcessId());
+
+            awaitActivation(boundary);
+
+            assertEquals("v2", resolvedProcessId());
+        }
+
+        @Test
+        @DisplayName("Should publish an activation event on reload and at each boundary")
+        void shouldPublishActivations() throws InterruptedException {
+            Instant boundary = Instant.now().plusMillis(200);
+            load(mapping("v1", null, boundary), mapping("v2", boundary, null));
+
+            awaitActivation(boundary);
+
+            List<ApiProcessMappingsActivatedEvent> events = publishedEvents(2);
+            assertEquals(boundary, events.get(0).getValidUntil());
+            assertFalse(events.get(1).getActivatedAt().isBefore(boundary));
+            assertNull(events.get(1).getValidUntil());
+        }
+
+        @Test
+        @DisplayName("Should cancel the pending boundary when a reload removes it")
+        void shouldCancelBoundaryOnReload() throws InterruptedException {
+            Instant boundary = Instant.now().plusMillis(100);
+            load(mapping("v1", null, boundary));
+            load(mapping("v3", null, null));
+
+            Thread.sleep(300);
+
+            assertEquals("v3", resolvedProcessId());
+            assertTrue(index.current().activatedAt().isBefore(boundary));
+            publishedEvents(2);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.routing.ApiProcessMappingIndex;
+import com.firefly.common.config.core.routing.PathTemplate;
+import com.firefly.common.config.core.routing.RouteTrie;
+import com.firefly.common.config.core.support.HashedTimerWheel;
+import com.firefly.common.config.models.entities.ApiProcessMapping;
+import com.firefly.common.config.models.repositories.ApiProcessMappingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("API Process Mapping Route Tests")
+class ApiProcessMappingRouteTest {
+
+    private static List<String> templatesMatching(RouteTrie<String> trie, String path) {
+        return trie.match(path).stream()
+                .sorted(Comparator.comparingLong(
+                        (RouteTrie.Match<String> match) -> match.template().getSpecificity()).reversed())
+                .map(RouteTrie.Match::value)
+                .toList();
+    }
+
+    private static RouteTrie<String> trieOf(String... templates) {
+        RouteTrie.Builder<String> builder = RouteTrie.builder();
+        for (String template : templates) {
+            builder.add(PathTemplate.parse(template), template);
+        }
+        return builder.build();
+    }
+
+    @Nested
+    @DisplayName("PathTemplate Tests")
+    class PathTemplateTests {
+
+        @Test
+        @DisplayName("Should classify literal, parameter, wildcard and catch-all segments")
+        void shouldClassifySegments() {
+            PathTemplate template = PathTemplate.parse("/api/{version}/*/**");
+
+            assertEquals(List.of("api", "{version}", "*", "**"), template.getSegments());
+            assertEquals(List.of(PathTemplate.SegmentType.LITERAL, PathTemplate.SegmentType.PARAMETER,
+                    PathTemplate.SegmentType.WILDCARD, PathTemplate.SegmentType.CATCH_ALL), template.getTypes());
+        }
+
+        @Test
+        @DisplayName("Should reject a catch-all before the last segment and malformed parameters")
+        void shouldRejectInvalidTemplates() {
+            assertThrows(IllegalArgumentException.class, () -> PathTemplate.parse("/files/**/meta"));
+            assertThrows(IllegalArgumentException.class, () -> PathTemplate.parse("/accounts/{id"));
+            assertThrows(IllegalArgumentException.class, () -> PathTemplate.parse("/accounts/{a}{b}"));
+        }
+
+        @Test
+        @DisplayName("Should ignore leading, trailing and doubled slashes and the query string")
+        void shouldSplitPaths() {
+            List<String> expected = List.of("accounts", "123");
+
+            assertEquals(expected, PathTemplate.split("/accounts/123"));
+            assertEquals(expected, PathTemplate.split("accounts/123/"));
+            assertEquals(expected, PathTemplate.split("//accounts//123?expand=true"));
+            assertEquals(List.of(), PathTemplate.split("/"));
+        }
+
+        @Test
+        @DisplayName("Should rank literals over parameters over wildcards over catch-alls")
+        void shouldOrderBySpecificity() {
+            long literal = PathTemplate.parse("/accounts/me").getSpecificity();
+            long parameter = PathTemplate.parse("/accounts/{id}").getSpecificity();
+            long wildcard = PathTemplate.parse("/accounts/*").getSpecificity();
+            long catchAll = PathTemplate.parse("/accounts/**").getSpecificity();
+
+            assertTrue(literal > parameter);
+            assertTrue(parameter > wildcard);
+            assertTrue(wildcard > catchAll);
+            assertTrue(PathTemplate.parse("/a/b/{c}").getSpecificity()
+                    > PathTemplate.parse("/a/{b}/{c}").getSpecificity());
+        }
+    }
+
+    @Nested
+    @DisplayName("RouteTrie Tests")
+    class RouteTrieTests {
+
+        @Test
+        @DisplayName("Should match both a literal and a parameter, literal first")
+        void shouldPreferLiteralOverParameter() {
+            RouteTrie<String> trie = trieOf("/accounts/{id}", "/accounts/me");
+
+            assertEquals(List.of("/accounts/me", "/accounts/{id}"), templatesMatching(trie, "/accounts/me"));
+            assertEquals(List.of("/accounts/{id}"), templatesMatching(trie, "/accounts/123"));
+        }
+
+        @Test
+        @DisplayName("Should match with or without a trailing slash")
+        void shouldIgnoreTrailingSlash() {
+            RouteTrie<String> trie = trieOf("/accounts/{id}/");
+
+            assertEquals(List.of("/accounts/{id}/"), templatesMatching(trie, "/accounts/123"));
+            assertEquals(List.of("/accounts/{id}/"), templatesMatching(trie, "/accounts/123/"));
+        }
+
+        @Test
+        @DisplayName("Should match a wildcard against exactly one segment")
+        void shouldMatchWildcardOnce() {
+            RouteTrie<String> trie = trieOf("/accounts/*/balance");
+
+            assertEquals(List.of("/accounts/*/balance"), templatesMatching(trie, "/accounts/123/balance"));
+            assertTrue(trie.match("/accounts/balance").isEmpty());
+            assertTrue(trie.match("/accounts/1/2/balance").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should match a catch-all against zero or more trailing segments")
+        void shouldMatchCatchAll() {
+            RouteTrie<String> trie = trieOf("/files/**", "/files/{name}");
+
+            assertEquals(List.of("/files/**"), templatesMatching(trie, "/files"));
+            assertEquals(List.of("/files/{name}", "/files/**"), templatesMatching(trie, "/files/report"));
+            assertEquals(List.of("/files/**"), templatesMatching(trie, "/files/2024/report"));
+            assertTrue(trie.match("/other").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should not match a longer or shorter path")
+        void shouldRequireFullMatch() {
+            RouteTrie<String> trie = trieOf("/accounts/{id}");
+
+            assertTrue(trie.match("/accounts").isEmpty());
+            assertTrue(trie.match("/accounts/123/balance").isEmpty());
+            assertEquals(1, trie.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Route Resolution Tests")
+    class RouteResolutionTests {
+
+        @Mock
+        private ApiProcessMappingRepository repository;
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
+        private HashedTimerWheel timerWheel;
+        private ApiProcessMappingIndex index;
+
+        @BeforeEach
+        void setUp() {
+            timerWheel = new HashedTimerWheel("route-test", Duration.ofMillis(10), 64);
+            index = new ApiProcessMappingIndex(repository, timerWheel, eventPublisher);
+        }
+
+        @AfterEach
+        void tearDown() {
+            timerWheel.stop();
+        }
+
+        private ApiProcessMapping mapping(String httpMethod, String apiPath, String processId) {
+            return ApiProcessMapping.builder()
+                    .id(UUID.randomUUID())
+                    .operationId(processId)
+                    .processId(processId)
+                    .httpMethod(httpMethod)
+                    .apiPath(apiPath)
+                    .isActive(true)
+                    .priority(0)
+                    .build();
+        }
+
+        private void load(ApiProcessMapping... mappings) {
+            when(repository.findByIsActiveTrue()).thenReturn(Flux.just(mappings));
+            index.rebuild().block(Duration.ofSeconds(5));
+        }
+
+        private String resolve(String httpMethod, String path) {
+            return index.resolveRoute(httpMethod, path, null, null, null)
+                    .map(candidate -> candidate.mapping().getProcessId())
+                    .orElse(null);
+        }
+
+        @Test
+        @DisplayName("Should resolve a literal route over a parameterised one")
+        void shouldPreferLiteralRoute() {
+            load(mapping("GET", "/accounts/{id}", "get-account"), mapping("GET", "/accounts/me", "get-me"));
+
+            assertEquals("get-me", resolve("GET", "/accounts/me"));
+            assertEquals("get-account", resolve("GET", "/accounts/123/"));
+        }
+
+        @Test
+        @DisplayName("Should skip mappings for another method")
+        void shouldRejectMethodMismatch() {
+            load(mapping("POST", "/accounts", "create-account"));
+
+            assertEquals("create-account", resolve("post", "/accounts"));
+            assertNull(resolve("GET", "/accounts"));
+        }
+
+        @Test
+        @DisplayName("Should prefer an exact method over an any-method mapping on the same route")
+        void shouldPreferExactMethod() {
+            load(mapping("*", "/accounts/{id}", "any-method"), mapping("DELETE", "/accounts/{id}", "delete-account"));
+
+            assertEquals("delete-account", resolve("DELETE", "/accounts/123"));
+            assertEquals("any-method", resolve("PATCH", "/accounts/123"));
+        }
+
+        @Test
+        @DisplayName("Should fall back to a wildcard route when nothing more specific matches")
+        void shouldFallBackToWildcard() {
+            load(mapping("GET", "/accounts/**", "accounts-fallback"), mapping("GET", "/accounts/{id}", "get-account"));
+
+            assertEquals("get-account", resolve("GET", "/accounts/123"));
+            assertEquals("accounts-fallback", resolve("GET", "/accounts/123/statements/2024"));
+        }
+    }
+}
@@ -16,10 +16,18 @@
 
 package com.firefly.common.config.core.services.impl;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.firefly.common.config.core.events.ApiProcessMappingsActivatedEvent;
 import com.firefly.common.config.core.mappers.ApiProcessMappingMapper;
+import com.firefly.common.config.core.outbox.ChangeEventOutbox;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.routing.ApiProcessMappingIndex;
+import com.firefly.common.config.core.services.ApiProcessMappingService;
+import com.firefly.common.config.core.support.SingleFlight;
 import com.firefly.common.config.interfaces.dtos.ApiProcessMappingDTO;
 import com.firefly.common.config.models.entities.ApiProcessMapping;
 import com.firefly.common.config.models.repositories.ApiProcessMappingRepository;
+import com.firefly.common.config.models.repositories.VersionConflictException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,11 +35,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -47,6 +64,15 @@ class ApiProcessMappingServiceImplTest {
     @Mock
     private ApiProcessMappingMapper mapper;
     
+    @Mock
+    private ApiProcessMappingIndex index;
+    
+    @Mock
+    private ChangeEventOutbox outbox;
+    
+    @Mock
+    private MergePatchExecutor mergePatch;
+    
     private ApiProcessMappingServiceImpl service;
     
     private UUID testId;
@@ -55,7 +81,8 @@ class ApiProcessMappingServiceImplTest {
     
     @BeforeEach
     void setUp() {
-        service = new ApiProcessMappingServiceImpl(repository, mapper);
+        service = new ApiProcessMappingServiceImpl(repository, mapper, index, outbox, new SingleFlight(), mergePatch);
+        lenient().when(outbox.record(any())).thenAnswer(invocation -> Function.identity());
         testId = UUID.randomUUID();
         testTenantId = UUID.randomUUID();
         testProductId = UUID.randomUUID();
@@ -175,7 +202,6 @@ class ApiProcessMappingServiceImplTest {
         @Test
         @DisplayName("Should update existing mapping")
         void shouldUpdateExistingMapping() {
-            ApiProcessMapping existingEntity = createEntity();
             ApiProcessMappingDTO updateDto = createDTO();
             updateDto.setProcessId("updated-process");
             
@@ -185,8 +211,8 @@ class ApiProcessMappingServiceImplTest {
             ApiProcessMappingDTO resultDto = createDTO();
             resultDto.setProcessId("updated-process");
             
-            when(repository.findById(testId)).thenReturn(Mono.just(existingEntity));
-            when(repository.save(any(ApiProcessMapping.class))).thenReturn(Mono.just(updatedEntity));
+            when(mapper.toEntity(updateDto)).thenReturn(updatedEntity);
+            when(repository.updateReturning(updatedEntity, "createdBy")).thenReturn(Mono.just(updatedEntity));
             when(mapper.toDTO(updatedEntity)).thenReturn(resultDto);
             
             StepVerifier.create(service.update(testId, updateDto))
@@ -197,7 +223,9 @@ class ApiProcessMappingServiceImplTest {
         @Test
         @DisplayName("Should error when updating non-existent mapping")
         void shouldErrorWhenUpdatingNonExistent() {
-            when(repository.findById(testId)).thenReturn(Mono.empty());
+            ApiProcessMapping entity = createEntity();
+            when(mapper.toEntity(any(ApiProcessMappingDTO.class))).thenReturn(entity);
+            when(repository.updateReturning(entity, "createdBy")).thenReturn(Mono.empty());
             
             StepVerifier.create(service.update(testId, createDTO()))
                     .expectErrorMatches(error -> 
@@ -205,6 +233,19 @@ class ApiProcessMappingServiceImplTest {
                             error.getMessage().contains("not found"))
                     .verify();
         }
+        
+        @Test
+        @DisplayName("Should surface version conflicts")
+        void shouldSurfaceVersionConflicts() {
+            ApiProcessMapping entity = createEntity();
+            when(mapper.toEntity(any(ApiProcessMappingDTO.class))).thenReturn(entity);
+            when(repository.updateReturning(entity, "createdBy")).thenReturn(Mono.error(
+                    new VersionConflictException("ApiProcessMapping", testId, 1L, 2L)));
+            
+            StepVerifier.create(service.update(testId, createDTO()))
+                    .expectError(VersionConflictException.class)
+                    .verify();
+        }
     }
     
     @Nested
@@ -412,4 +453,57 @@ class ApiProcessMappingServiceImplTest {
                     .verifyComplete();
         }
     }
+
+    @Nested
+    @DisplayName("Cache Eviction Tests")
+    class CacheEvictionTests {
+
+        @Test
+        @DisplayName("Should evict cached resolutions when a mapping is patched")
+        void shouldEvictOnPatch() {
+            ApiProcessMappingDTO patched = ApiProcessMappingDTO.builder().id(testId).processId("patched").build();
+            when(mergePatch.apply(eq(testId), any(), any())).thenReturn(Mono.just(patched));
+
+            try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+                context.register(CachingConfiguration.class);
+                context.registerBean(ApiProcessMappingService.class, () -> service);
+                context.refresh();
+                Cache cache = context.getBean(CacheManager.class).getCache("api-process-mappings");
+                cache.put("resolve:" + testTenantId + ":createAccount:null:null", createDTO());
+
+                StepVerifier.create(context.getBean(ApiProcessMappingService.class)
+                                .patch(testId, JsonNodeFactory.instance.objectNode().put("processId", "patched")))
+                        .expectNext(patched)
+                        .verifyComplete();
+
+                assertNull(cache.get("resolve:" + testTenantId + ":createAccount:null:null"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should evict cached resolutions when the index activates a new generation")
+        void shouldEvictOnActivation() {
+            try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+                context.register(CachingConfiguration.class);
+                context.registerBean(ApiProcessMappingServiceImpl.class, () -> service);
+                context.refresh();
+                Cache cache = context.getBean(CacheManager.class).getCache("api-process-mappings");
+                cache.put("resolve:" + testTenantId + ":createAccount:null:null", createDTO());
+
+                context.publishEvent(new ApiProcessMappingsActivatedEvent(Instant.now(), null));
+
+                assertNull(cache.get("resolve:" + testTenantId + ":createAccount:null:null"));
+            }
+        }
+    }
+
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    static class CachingConfiguration {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("api-process-mappings");
+        }
+    }
 }
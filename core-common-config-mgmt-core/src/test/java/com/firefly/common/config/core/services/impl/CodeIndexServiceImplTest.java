@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.index.IndexedCode;
+import com.firefly.common.config.core.support.SingleFlight;
+import com.firefly.common.config.models.entities.Tenant;
+import com.firefly.common.config.models.repositories.ProviderRepository;
+import com.firefly.common.config.models.repositories.ProviderStatusRepository;
+import com.firefly.common.config.models.repositories.ProviderTypeRepository;
+import com.firefly.common.config.models.repositories.TenantRepository;
+import com.firefly.common.config.models.repositories.TenantStatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CodeIndexServiceImpl Tests")
+class CodeIndexServiceImplTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private TenantStatusRepository tenantStatusRepository;
+
+    @Mock
+    private ProviderRepository providerRepository;
+
+    @Mock
+    private ProviderTypeRepository providerTypeRepository;
+
+    @Mock
+    private ProviderStatusRepository providerStatusRepository;
+
+    private CodeIndexServiceImpl service;
+
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        service = new CodeIndexServiceImpl(tenantRepository, tenantStatusRepository, providerRepository,
+                providerTypeRepository, providerStatusRepository, new SingleFlight());
+        tenantId = UUID.randomUUID();
+    }
+
+    private void loadTenants(IndexedCode... entries) {
+        service.getTenants().replaceAll(List.of(entries));
+    }
+
+    @Nested
+    @DisplayName("Resolve Tenant Tests")
+    class ResolveTenantTests {
+
+        @Test
+        @DisplayName("Should resolve an indexed code without a query")
+        void shouldResolveIndexedCode() {
+            loadTenants(IndexedCode.of(tenantId, "acme", true));
+
+            StepVerifier.create(service.resolveTenant("acme"))
+                    .assertNext(entry -> assertEquals(tenantId, entry.getId()))
+                    .verifyComplete();
+
+            verifyNoInteractions(tenantRepository);
+        }
+
+        @Test
+        @DisplayName("Should treat a miss as not found once the index is loaded")
+        void shouldTreatMissAsAuthoritative() {
+            loadTenants(IndexedCode.of(tenantId, "acme", true));
+
+            StepVerifier.create(service.resolveTenant("unknown")).verifyComplete();
+            StepVerifier.create(service.resolveTenantContext(UUID.randomUUID().toString())).verifyComplete();
+
+            verifyNoInteractions(tenantRepository);
+        }
+
+        @Test
+        @DisplayName("Should fall back to the repository before the index is loaded")
+        void shouldQueryBeforeLoad() {
+            Tenant tenant = Tenant.builder().id(tenantId).code("acme").active(true).build();
+            when(tenantRepository.findByCode("acme")).thenReturn(Mono.just(tenant));
+
+            StepVerifier.create(service.resolveTenant("acme"))
+                    .assertNext(entry -> assertEquals(tenantId, entry.getId()))
+                    .verifyComplete();
+            StepVerifier.create(service.resolveTenant("acme"))
+                    .assertNext(entry -> assertEquals(tenantId, entry.getId()))
+                    .verifyComplete();
+
+            verify(tenantRepository, times(1)).findByCode(anyString());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.config.SecretProperties;
+import com.firefly.common.config.core.parameter.ParameterDefinition;
+import com.firefly.common.config.core.parameter.ParameterSet;
+import com.firefly.common.config.core.secret.InMemoryVaultClient;
+import com.firefly.common.config.core.secret.SecretValue;
+import com.firefly.common.config.core.support.HashedTimerWheel;
+import com.firefly.common.config.core.support.SingleFlight;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CredentialResolutionServiceImpl Tests")
+class CredentialResolutionServiceImplTest {
+
+    private InMemoryVaultClient vault;
+    private SecretProperties properties;
+    private HashedTimerWheel timerWheel;
+    private CredentialResolutionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        vault = new InMemoryVaultClient();
+        vault.put("cred-1", "sk_live_one");
+        vault.put("cred-2", "sk_live_two");
+        vault.put("cred-3", "sk_live_three");
+        properties = new SecretProperties();
+        properties.setRefreshAheadRatio(1.0);
+        timerWheel = new HashedTimerWheel("test-timer-wheel", Duration.ofMillis(10), 64);
+        service = new CredentialResolutionServiceImpl(vault, properties, timerWheel, new SingleFlight());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+        timerWheel.stop();
+    }
+
+    @Test
+    @DisplayName("Should fetch all references of a parameter set in batched vault calls")
+    void shouldBatchFetchParameterSetSecrets() {
+        properties.setMaxBatchSize(2);
+        ParameterSet parameters = ParameterSet.decode(List.of(
+                ParameterDefinition.builder().name("api_key").credentialVaultId("cred-1").build(),
+                ParameterDefinition.builder().name("webhook_secret").credentialVaultId("cred-2").build(),
+                ParameterDefinition.builder().name("signing_key").credentialVaultId("cred-3").build(),
+                ParameterDefinition.builder().name("unknown").credentialVaultId("cred-404").build(),
+                ParameterDefinition.builder().name("timeout_ms").type("INTEGER").value("3000").build()));
+
+        Map<String, SecretValue> secrets = service.resolve(parameters).block();
+
+        assertEquals(List.of("api_key", "webhook_secret", "signing_key"), List.copyOf(secrets.keySet()));
+        assertEquals("sk_live_two", secrets.get("webhook_secret").asString());
+        assertEquals(2, vault.getFetchCount());
+    }
+
+    @Test
+    @DisplayName("Should serve cached material until invalidated")
+    void shouldServeFromCache() {
+        service.resolve(List.of("cred-1")).block();
+        vault.put("cred-1", "rotated");
+
+        assertEquals("sk_live_one", service.resolve(List.of("cred-1")).block().get("cred-1").asString());
+        assertEquals(1, vault.getFetchCount());
+
+        service.invalidate("cred-1");
+        assertEquals("rotated", service.resolve(List.of("cred-1")).block().get("cred-1").asString());
+        assertEquals(2, vault.getFetchCount());
+    }
+
+    @Test
+    @DisplayName("Should hand out independent copies that can be zeroed")
+    void shouldReturnIndependentCopies() {
+        SecretValue first = service.resolve(List.of("cred-1")).block().get("cred-1");
+        first.destroy();
+
+        SecretValue second = service.resolve(List.of("cred-1")).block().get("cred-1");
+        assertTrue(first.isDestroyed());
+        assertEquals("sk_live_one", second.asString());
+        assertFalse(second.toString().contains("sk_live"));
+    }
+
+    @Test
+    @DisplayName("Should refresh cached material ahead of its expiry")
+    void shouldRefreshAhead() {
+        properties.setRefreshAheadRatio(0.0);
+        service.resolve(List.of("cred-1")).block();
+        vault.put("cred-1", "rotated");
+
+        service.resolve(List.of("cred-1")).block();
+        assertEquals(2, vault.getFetchCount());
+        assertEquals("rotated", service.resolve(List.of("cred-1")).block().get("cred-1").asString());
+    }
+
+    @Test
+    @DisplayName("Should zero and evict material when the TTL ends")
+    void shouldExpireAfterTtl() throws InterruptedException {
+        properties.setTtl(Duration.ofMillis(50));
+        SecretValue cached = service.resolve(List.of("cred-1")).block().get("cred-1");
+        Thread.sleep(200);
+
+        service.resolve(List.of("cred-1")).block();
+        assertEquals("sk_live_one", cached.asString());
+        assertEquals(2, vault.getFetchCount());
+    }
+}
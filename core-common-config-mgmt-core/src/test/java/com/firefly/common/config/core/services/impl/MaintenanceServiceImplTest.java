@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.config.MaintenanceProperties;
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.support.HashedTimerWheel;
+import com.firefly.common.config.models.entities.TenantSettings;
+import com.firefly.common.config.models.repositories.ChannelConfigRepository;
+import com.firefly.common.config.models.repositories.TenantSettingsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MaintenanceServiceImpl Tests")
+class MaintenanceServiceImplTest {
+
+    private static final String TENANT_SETTINGS = "TenantSettings";
+
+    @Mock
+    private TenantSettingsRepository tenantSettingsRepository;
+
+    @Mock
+    private ChannelConfigRepository channelConfigRepository;
+
+    private HashedTimerWheel timerWheel;
+    private MaintenanceServiceImpl maintenanceService;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        timerWheel = new HashedTimerWheel("maintenance-test", Duration.ofMillis(10), 64);
+        maintenanceService = new MaintenanceServiceImpl(
+                tenantSettingsRepository, channelConfigRepository, timerWheel, new MaintenanceProperties());
+        tenantId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        timerWheel.stop();
+    }
+
+    private TenantSettings settings(boolean maintenanceModeEnabled) {
+        return TenantSettings.builder()
+                .id(UUID.randomUUID())
+                .tenantId(tenantId)
+                .maintenanceModeEnabled(maintenanceModeEnabled)
+                .maintenanceMessage("Scheduled maintenance")
+                .active(true)
+                .build();
+    }
+
+    private void publish(ConfigurationChangedEvent event) {
+        maintenanceService.onConfigurationChanged(event);
+    }
+
+    private boolean inMaintenance() {
+        return maintenanceService.getStatus(tenantId, null).isInMaintenance();
+    }
+
+    @Nested
+    @DisplayName("Change Event Tests")
+    class ChangeEventTests {
+
+        @Test
+        @DisplayName("Should apply the latest state when reads complete out of order")
+        void shouldIgnoreStaleRead() {
+            Sinks.One<TenantSettings> firstRead = Sinks.one();
+            Sinks.One<TenantSettings> secondRead = Sinks.one();
+            when(tenantSettingsRepository.findByTenantId(tenantId))
+                    .thenReturn(firstRead.asMono(), secondRead.asMono());
+
+            publish(ConfigurationChangedEvent.updated(TENANT_SETTINGS, UUID.randomUUID(), tenantId));
+            publish(ConfigurationChangedEvent.updated(TENANT_SETTINGS, UUID.randomUUID(), tenantId));
+
+            secondRead.tryEmitValue(settings(false));
+            firstRead.tryEmitValue(settings(true));
+
+            assertFalse(inMaintenance());
+        }
+
+        @Test
+        @DisplayName("Should apply a read that completes in order")
+        void shouldApplyCurrentRead() {
+            Sinks.One<TenantSettings> read = Sinks.one();
+            when(tenantSettingsRepository.findByTenantId(tenantId)).thenReturn(read.asMono());
+
+            publish(ConfigurationChangedEvent.updated(TENANT_SETTINGS, UUID.randomUUID(), tenantId));
+            read.tryEmitValue(settings(true));
+
+            assertTrue(inMaintenance());
+        }
+
+        @Test
+        @DisplayName("Should keep an entry removed when a read completes after the delete")
+        void shouldNotResurrectDeletedEntry() {
+            Sinks.One<TenantSettings> read = Sinks.one();
+            when(tenantSettingsRepository.findByTenantId(tenantId)).thenReturn(read.asMono());
+
+            publish(ConfigurationChangedEvent.updated(TENANT_SETTINGS, UUID.randomUUID(), tenantId));
+            publish(ConfigurationChangedEvent.deleted(TENANT_SETTINGS, UUID.randomUUID(), tenantId));
+            read.tryEmitValue(settings(true));
+
+            assertFalse(inMaintenance());
+        }
+    }
+
+    @Nested
+    @DisplayName("Reload Tests")
+    class ReloadTests {
+
+        @Test
+        @DisplayName("Should load tenants in maintenance")
+        void shouldLoadTenants() {
+            when(tenantSettingsRepository.findByMaintenanceModeEnabledTrue()).thenReturn(Flux.just(settings(true)));
+            when(channelConfigRepository.findByActiveTrue()).thenReturn(Flux.empty());
+
+            StepVerifier.create(maintenanceService.reload())
+                    .expectNext(1L)
+                    .verifyComplete();
+
+            assertTrue(inMaintenance());
+        }
+
+        @Test
+        @DisplayName("Should skip rows changed by an event after the reload began")
+        void shouldSkipRowsChangedDuringReload() {
+            Sinks.Many<TenantSettings> rows = Sinks.many().unicast().onBackpressureBuffer();
+            when(tenantSettingsRepository.findByMaintenanceModeEnabledTrue()).thenReturn(rows.asFlux());
+            when(channelConfigRepository.findByActiveTrue()).thenReturn(Flux.empty());
+            when(tenantSettingsRepository.findByTenantId(tenantId)).thenReturn(Mono.just(settings(false)));
+
+            StepVerifier.create(maintenanceService.reload())
+                    .then(() -> {
+                        publish(ConfigurationChangedEvent.updated(TENANT_SETTINGS, UUID.randomUUID(), tenantId));
+                        rows.tryEmitNext(settings(true));
+                        rows.tryEmitComplete();
+                    })
+                    .expectNext(1L)
+                    .verifyComplete();
+
+            assertFalse(inMaintenance());
+        }
+    }
+}
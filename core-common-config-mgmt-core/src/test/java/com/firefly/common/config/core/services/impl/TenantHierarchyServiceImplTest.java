@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.services.impl;
+
+import com.firefly.common.config.core.events.ConfigurationChangedEvent;
+import com.firefly.common.config.core.mappers.FeatureFlagMapper;
+import com.firefly.common.config.core.mappers.ProviderParameterMapper;
+import com.firefly.common.config.core.mappers.TenantSettingsMapper;
+import com.firefly.common.config.core.support.SingleFlight;
+import com.firefly.common.config.interfaces.dtos.TenantSettingsDTO;
+import com.firefly.common.config.models.entities.TenantSettings;
+import com.firefly.common.config.models.projections.TenantLink;
+import com.firefly.common.config.models.repositories.FeatureFlagRepository;
+import com.firefly.common.config.models.repositories.ProviderParameterRepository;
+import com.firefly.common.config.models.repositories.TenantRepository;
+import com.firefly.common.config.models.repositories.TenantSettingsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TenantHierarchyServiceImpl Tests")
+class TenantHierarchyServiceImplTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private TenantSettingsRepository tenantSettingsRepository;
+
+    @Mock
+    private FeatureFlagRepository featureFlagRepository;
+
+    @Mock
+    private ProviderParameterRepository providerParameterRepository;
+
+    @Mock
+    private TenantSettingsMapper tenantSettingsMapper;
+
+    @Mock
+    private FeatureFlagMapper featureFlagMapper;
+
+    @Mock
+    private ProviderParameterMapper providerParameterMapper;
+
+    private TenantHierarchyServiceImpl service;
+
+    private final UUID root = UUID.randomUUID();
+    private final UUID child = UUID.randomUUID();
+    private final UUID otherRoot = UUID.randomUUID();
+    private final UUID settingsId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new TenantHierarchyServiceImpl(tenantRepository, tenantSettingsRepository, featureFlagRepository,
+                providerParameterRepository, tenantSettingsMapper, featureFlagMapper, providerParameterMapper,
+                new SingleFlight());
+        when(tenantRepository.findAllLinksBy()).thenReturn(Flux.just(link(root, null), link(child, root),
+                link(otherRoot, null)));
+        when(tenantSettingsRepository.findByTenantIdInAndActiveTrue(anyCollection())).thenAnswer(invocation ->
+                Flux.just(TenantSettings.builder().id(settingsId).tenantId(root).mfaRequired(true).build()));
+        when(tenantSettingsMapper.toDTO(any())).thenReturn(TenantSettingsDTO.builder().build());
+    }
+
+    private static TenantLink link(UUID id, UUID parentTenantId) {
+        return new TenantLink() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public UUID getParentTenantId() {
+                return parentTenantId;
+            }
+        };
+    }
+
+    private void loadChildSettings() {
+        StepVerifier.create(service.getEffectiveSettings(child))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should serve inherited settings from the cache")
+    void shouldCacheEffectiveSettings() {
+        loadChildSettings();
+        loadChildSettings();
+
+        verify(tenantSettingsRepository, times(1)).findByTenantIdInAndActiveTrue(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should keep other subtrees cached when a row is patched in place")
+    void shouldKeepOtherSubtreesOnPatch() {
+        loadChildSettings();
+
+        service.onConfigurationChanged(ConfigurationChangedEvent.updated(
+                "TenantSettings", UUID.randomUUID(), otherRoot, Set.of("mfaRequired")));
+        loadChildSettings();
+
+        verify(tenantSettingsRepository, times(1)).findByTenantIdInAndActiveTrue(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should drop every subtree when a full update may have moved the row")
+    void shouldInvalidateAllOnFullUpdate() {
+        loadChildSettings();
+
+        // A full PUT moved the root's row to another tenant; the event names only the new owner
+        service.onConfigurationChanged(ConfigurationChangedEvent.updated("TenantSettings", settingsId, otherRoot));
+        loadChildSettings();
+
+        verify(tenantSettingsRepository, times(2)).findByTenantIdInAndActiveTrue(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should drop every subtree when a patch writes the tenant ID")
+    void shouldInvalidateAllOnTenantPatch() {
+        loadChildSettings();
+
+        service.onConfigurationChanged(ConfigurationChangedEvent.updated(
+                "FeatureFlag", UUID.randomUUID(), otherRoot, Set.of("tenantId")));
+        loadChildSettings();
+
+        verify(tenantSettingsRepository, times(2)).findByTenantIdInAndActiveTrue(anyCollection());
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.snapshot;
+
+import com.firefly.common.config.core.config.OutboxProperties;
+import com.firefly.common.config.models.entities.ConfigOutboxMessage;
+import com.firefly.common.config.models.repositories.ConfigOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Config Snapshot Change Log Tests")
+class ConfigSnapshotChangeLogTest {
+
+    @Mock
+    private ConfigOutboxRepository outboxRepository;
+
+    private final OutboxProperties outboxProperties = new OutboxProperties();
+
+    private ConfigSnapshotChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = new ConfigSnapshotChangeLog(outboxRepository, outboxProperties);
+    }
+
+    private static String version(long lastId, long xmin, Instant takenAt) {
+        return new ConfigSnapshotChangeLog.Version(lastId, xmin, takenAt.getEpochSecond()).toString();
+    }
+
+    private static ConfigOutboxMessage change(String entityType, UUID entityId) {
+        return ConfigOutboxMessage.builder().entityType(entityType).entityId(entityId).build();
+    }
+
+    @Test
+    @DisplayName("Should take the version from the outbox position")
+    void shouldTakeVersionFromOutbox() {
+        when(outboxRepository.loadSnapshotXmin()).thenReturn(Mono.just(750L));
+        when(outboxRepository.loadLastId()).thenReturn(Mono.just(42L));
+
+        String version = changeLog.currentVersion().block();
+
+        ConfigSnapshotChangeLog.Version parsed = ConfigSnapshotChangeLog.Version.parse(version);
+        assertNotNull(parsed);
+        assertEquals(42L, parsed.lastId());
+        assertEquals(750L, parsed.xmin());
+        assertTrue(Math.abs(Instant.now().getEpochSecond() - parsed.takenAt()) < 60);
+    }
+
+    @Nested
+    @DisplayName("Changes Since Tests")
+    class ChangesSinceTests {
+
+        private final Instant now = Instant.now();
+        private final String current = version(60, 800, now);
+
+        @Test
+        @DisplayName("Should group the outbox changes after the version by entity type")
+        void shouldGroupChanges() {
+            UUID mapping = UUID.randomUUID();
+            UUID flag = UUID.randomUUID();
+            UUID valueMapping = UUID.randomUUID();
+            when(outboxRepository.loadChanges(eq(42L), eq(750L), anyCollection(), anyInt())).thenReturn(Flux.just(
+                    change("ApiProcessMapping", mapping),
+                    change("FeatureFlag", flag),
+                    change("ApiProcessMapping", mapping),
+                    change("ProviderValueMapping", valueMapping)));
+
+            StepVerifier.create(changeLog.changesSince(version(42, 750, now.minusSeconds(30)), current))
+                    .assertNext(changes -> {
+                        assertEquals(List.of(mapping), List.copyOf(changes.apiProcessMappingIds()));
+                        assertEquals(List.of(flag), List.copyOf(changes.featureFlagIds()));
+                        assertEquals(List.of(valueMapping), List.copyOf(changes.providerValueMappingIds()));
+                    })
+                    .verifyComplete();
+
+            verify(outboxRepository).loadChanges(42L, 750L, ConfigSnapshotChangeLog.TRACKED_TYPES,
+                    ConfigSnapshotChangeLog.MAX_CHANGES + 1);
+        }
+
+        @Test
+        @DisplayName("Should accept a version taken by another instance before a restart")
+        void shouldAcceptVersionFromAnyInstance() {
+            when(outboxRepository.loadChanges(anyLong(), anyLong(), anyCollection(), anyInt()))
+                    .thenReturn(Flux.empty());
+
+            StepVerifier.create(changeLog.changesSince(version(60, 800, now.minus(Duration.ofHours(5))), current))
+                    .assertNext(changes -> assertTrue(changes.apiProcessMappingIds().isEmpty()))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should require a full snapshot for a version older than half the retention")
+        void shouldExpireOldVersions() {
+            outboxProperties.setRetention(Duration.ofDays(2));
+
+            StepVerifier.create(changeLog.changesSince(version(10, 700, now.minus(Duration.ofDays(1))), current))
+                    .verifyComplete();
+
+            verifyNoInteractions(outboxRepository);
+        }
+
+        @Test
+        @DisplayName("Should require a full snapshot for unknown or future versions")
+        void shouldRejectUnknownVersions() {
+            StepVerifier.create(changeLog.changesSince(null, current)).verifyComplete();
+            StepVerifier.create(changeLog.changesSince("3f2a9c-17", current)).verifyComplete();
+            StepVerifier.create(changeLog.changesSince("a-b-c", current)).verifyComplete();
+            StepVerifier.create(changeLog.changesSince(version(61, 800, now), current)).verifyComplete();
+
+            verifyNoInteractions(outboxRepository);
+        }
+
+        @Test
+        @DisplayName("Should require a full snapshot when too many changes follow the version")
+        void shouldFallBackToFullOnLargeDelta() {
+            when(outboxRepository.loadChanges(anyLong(), anyLong(), anyCollection(), anyInt()))
+                    .thenReturn(Flux.fromStream(IntStream.rangeClosed(0, ConfigSnapshotChangeLog.MAX_CHANGES)
+                            .mapToObj(i -> change("FeatureFlag", UUID.randomUUID()))));
+
+            StepVerifier.create(changeLog.changesSince(version(1, 1, now), current))
+                    .verifyComplete();
+        }
+    }
+}
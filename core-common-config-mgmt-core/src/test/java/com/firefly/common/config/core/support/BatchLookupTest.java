@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.support;
+
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BatchLookup Tests")
+class BatchLookupTest {
+
+    private record Row(UUID id, String name) {
+    }
+
+    private final Map<UUID, Row> table = new LinkedHashMap<>();
+    private final List<List<UUID>> queries = new ArrayList<>();
+
+    private UUID first;
+    private UUID second;
+    private UUID third;
+
+    @BeforeEach
+    void setUp() {
+        first = insert("first");
+        second = insert("second");
+        third = insert("third");
+    }
+
+    private UUID insert(String name) {
+        UUID id = UUID.randomUUID();
+        table.put(id, new Row(id, name));
+        return id;
+    }
+
+    /**
+     * Stands in for {@code repository::findAllById}: records the IDs it was
+     * asked for and answers in reverse order, as a database is free to.
+     */
+    private Flux<Row> findAllById(Collection<UUID> ids) {
+        queries.add(List.copyOf(ids));
+        List<Row> rows = new ArrayList<>();
+        for (UUID id : ids) {
+            if (table.containsKey(id)) {
+                rows.add(0, table.get(id));
+            }
+        }
+        return Flux.fromIterable(rows);
+    }
+
+    private Mono<BatchGetResponseDTO<String>> lookup(List<UUID> ids) {
+        return BatchLookup.lookup(ids, this::findAllById, Row::id, Row::name);
+    }
+
+    @Nested
+    @DisplayName("Ordering Tests")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("Should answer in request order regardless of load order")
+        void shouldKeepRequestOrder() {
+            StepVerifier.create(lookup(List.of(third, first, second)))
+                    .assertNext(response -> {
+                        assertEquals(List.of("third", "first", "second"), response.getItems());
+                        assertEquals(List.of(), response.getMissingIds());
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should look up and return duplicate IDs once, at their first position")
+        void shouldCollapseDuplicates() {
+            StepVerifier.create(lookup(List.of(second, first, second, first)))
+                    .assertNext(response -> assertEquals(List.of("second", "first"), response.getItems()))
+                    .verifyComplete();
+
+            assertEquals(List.of(List.of(second, first)), queries);
+        }
+    }
+
+    @Nested
+    @DisplayName("Missing ID Tests")
+    class MissingIdTests {
+
+        @Test
+        @DisplayName("Should list IDs without a match in request order instead of failing")
+        void shouldReportMissingIds() {
+            UUID unknownA = UUID.randomUUID();
+            UUID unknownB = UUID.randomUUID();
+
+            StepVerifier.create(lookup(List.of(unknownB, first, unknownA, unknownB)))
+                    .assertNext(response -> {
+                        assertEquals(List.of("first"), response.getItems());
+                        assertEquals(List.of(unknownB, unknownA), response.getMissingIds());
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should report every ID as missing when nothing matches")
+        void shouldReportAllMissing() {
+            UUID unknown = UUID.randomUUID();
+
+            StepVerifier.create(lookup(List.of(unknown)))
+                    .assertNext(response -> {
+                        assertEquals(List.of(), response.getItems());
+                        assertEquals(List.of(unknown), response.getMissingIds());
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Empty Input Tests")
+    class EmptyInputTests {
+
+        @Test
+        @DisplayName("Should answer an empty request without querying")
+        void shouldShortCircuitEmptyRequest() {
+            StepVerifier.create(lookup(List.of()))
+                    .assertNext(response -> {
+                        assertEquals(List.of(), response.getItems());
+                        assertEquals(List.of(), response.getMissingIds());
+                    })
+                    .verifyComplete();
+
+            assertTrue(queries.isEmpty());
+        }
+    }
+}
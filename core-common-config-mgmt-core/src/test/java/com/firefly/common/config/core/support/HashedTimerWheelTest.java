@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HashedTimerWheel Tests")
+class HashedTimerWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    private HashedTimerWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimerWheel("timer-wheel-test", Duration.ofMillis(TICK_MILLIS), WHEEL_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    /**
+     * Schedules a task that records how long after scheduling it ran.
+     */
+    private CountDownLatch scheduleTimed(Duration delay, AtomicLong elapsedMillis) {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        wheel.schedule(() -> {
+            elapsedMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            fired.countDown();
+        }, delay);
+        return fired;
+    }
+
+    @Nested
+    @DisplayName("Scheduling Tests")
+    class SchedulingTests {
+
+        @Test
+        @DisplayName("Should fire no earlier than the deadline, rounded up to the next tick")
+        void shouldRoundUpToTick() throws InterruptedException {
+            AtomicLong elapsed = new AtomicLong();
+            CountDownLatch fired = scheduleTimed(Duration.ofMillis(35), elapsed);
+
+            assertTrue(fired.await(2, TimeUnit.SECONDS));
+            assertTrue(elapsed.get() >= 35, "Fired early after " + elapsed.get() + "ms");
+        }
+
+        @Test
+        @DisplayName("Should wait out full wheel rotations for distant deadlines")
+        void shouldHandleDeadlinesBeyondOneRotation() throws InterruptedException {
+            long rotationMillis = TICK_MILLIS * WHEEL_SIZE;
+            long delayMillis = rotationMillis * 3 + 15;
+            AtomicLong elapsed = new AtomicLong();
+            CountDownLatch fired = scheduleTimed(Duration.ofMillis(delayMillis), elapsed);
+
+            assertFalse(fired.await(rotationMillis * 2, TimeUnit.MILLISECONDS));
+            assertTrue(fired.await(2, TimeUnit.SECONDS));
+            assertTrue(elapsed.get() >= delayMillis, "Fired early after " + elapsed.get() + "ms");
+        }
+
+        @Test
+        @DisplayName("Should run past deadlines on the next tick")
+        void shouldRunPastDeadlines() throws InterruptedException {
+            CountDownLatch fired = new CountDownLatch(2);
+
+            wheel.schedule(fired::countDown, Instant.now().minusSeconds(60));
+            wheel.schedule(fired::countDown, Duration.ofMillis(-5));
+
+            assertTrue(fired.await(1, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Should reject a non-positive tick duration")
+        void shouldRejectInvalidTick() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new HashedTimerWheel("invalid", Duration.ZERO, WHEEL_SIZE));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cancellation Tests")
+    class CancellationTests {
+
+        @Test
+        @DisplayName("Should not run a cancelled timeout")
+        void shouldNotRunCancelled() throws InterruptedException {
+            CountDownLatch fired = new CountDownLatch(1);
+            HashedTimerWheel.Timeout timeout = wheel.schedule(fired::countDown, Duration.ofMillis(40));
+
+            timeout.cancel();
+
+            assertFalse(fired.await(200, TimeUnit.MILLISECONDS));
+            assertTrue(timeout.isCancelled());
+            assertFalse(timeout.isExpired());
+        }
+
+        @Test
+        @DisplayName("Should not run a timeout cancelled after it was moved into the wheel")
+        void shouldNotRunCancelledAfterTransfer() throws InterruptedException {
+            CountDownLatch fired = new CountDownLatch(1);
+            HashedTimerWheel.Timeout timeout = wheel.schedule(fired::countDown, Duration.ofMillis(150));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            while (wheel.pendingCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(TICK_MILLIS);
+            }
+
+            timeout.cancel();
+
+            assertFalse(fired.await(300, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should keep running later tasks after one throws")
+        void shouldSurviveThrowingTask() throws InterruptedException {
+            CountDownLatch fired = new CountDownLatch(1);
+            HashedTimerWheel.Timeout failing = wheel.schedule(() -> {
+                throw new IllegalStateException("boom");
+            }, Duration.ofMillis(10));
+            wheel.schedule(fired::countDown, Duration.ofMillis(50));
+
+            assertTrue(fired.await(2, TimeUnit.SECONDS));
+            assertTrue(failing.isExpired());
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.core.support;
+
+import com.firefly.common.config.models.routing.ReadRouting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private static final String OPERATION = "TenantService.getById";
+
+    private SingleFlight singleFlight;
+    private AtomicInteger loads;
+    private List<Sinks.One<String>> pending;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight();
+        loads = new AtomicInteger();
+        pending = new ArrayList<>();
+    }
+
+    /**
+     * Starts a call whose load completes only when the test emits into the
+     * sink of that load.
+     */
+    private Mono<String> call(Object arguments) {
+        return singleFlight.execute(OPERATION, arguments, () -> {
+            loads.incrementAndGet();
+            Sinks.One<String> sink = Sinks.one();
+            pending.add(sink);
+            return sink.asMono();
+        });
+    }
+
+    private static AtomicReference<String> subscribe(Mono<String> mono) {
+        AtomicReference<String> result = new AtomicReference<>();
+        mono.subscribe(result::set, error -> result.set("error: " + error.getMessage()));
+        return result;
+    }
+
+    @Nested
+    @DisplayName("Coalescing Tests")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("Should share one load between concurrent identical calls")
+        void shouldShareOneSubscription() {
+            AtomicReference<String> first = subscribe(call("acme"));
+            AtomicReference<String> second = subscribe(call("acme"));
+
+            assertEquals(1, loads.get());
+            pending.get(0).tryEmitValue("tenant");
+
+            assertEquals("tenant", first.get());
+            assertEquals("tenant", second.get());
+        }
+
+        @Test
+        @DisplayName("Should load separately for different arguments")
+        void shouldKeyByArguments() {
+            subscribe(call("acme"));
+            subscribe(call("globex"));
+
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should not join a load routed differently")
+        void shouldKeyByRouting() {
+            AtomicReference<String> replica = subscribe(call("acme").contextWrite(ReadRouting::preferReplica));
+            AtomicReference<String> primary = subscribe(call("acme").contextWrite(ReadRouting::requirePrimary));
+            AtomicReference<String> session = subscribe(call("acme").contextWrite(context ->
+                    ReadRouting.withSession(ReadRouting.preferReplica(context), "session-1")));
+            subscribe(call("acme").contextWrite(context ->
+                    ReadRouting.withSession(ReadRouting.preferReplica(context), "session-1")));
+
+            assertEquals(3, loads.get());
+            pending.get(0).tryEmitValue("stale");
+            pending.get(1).tryEmitValue("fresh");
+            pending.get(2).tryEmitValue("own write");
+            assertEquals("stale", replica.get());
+            assertEquals("fresh", primary.get());
+            assertEquals("own write", session.get());
+        }
+
+        @Test
+        @DisplayName("Should not cache a completed result")
+        void shouldReleaseKeyOnCompletion() {
+            subscribe(call("acme"));
+            pending.get(0).tryEmitValue("tenant");
+
+            subscribe(call("acme"));
+
+            assertEquals(2, loads.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Release Tests")
+    class ReleaseTests {
+
+        @Test
+        @DisplayName("Should deliver an error to every caller and not remember it")
+        void shouldReleaseKeyOnError() {
+            AtomicReference<String> first = subscribe(call("acme"));
+            AtomicReference<String> second = subscribe(call("acme"));
+            pending.get(0).tryEmitError(new IllegalStateException("boom"));
+
+            assertEquals("error: boom", first.get());
+            assertEquals("error: boom", second.get());
+
+            subscribe(call("acme"));
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should keep the flight while any caller is still subscribed")
+        void shouldKeepFlightWhileSubscribed() {
+            Disposable first = call("acme").subscribe();
+            Disposable second = call("acme").subscribe();
+
+            first.dispose();
+            subscribe(call("acme"));
+            assertEquals(1, loads.get());
+
+            second.dispose();
+            pending.get(0).tryEmitValue("tenant");
+            assertEquals(1, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should start a fresh load once every caller has cancelled")
+        void shouldReleaseKeyOnCancel() {
+            call("acme").subscribe().dispose();
+
+            AtomicReference<String> next = subscribe(call("acme"));
+            pending.get(0).tryEmitValue("abandoned");
+            pending.get(1).tryEmitValue("fresh");
+
+            assertEquals(2, loads.get());
+            assertEquals("fresh", next.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics Tests")
+    class StatisticsTests {
+
+        @Test
+        @DisplayName("Should count requests, coalesced calls and reads in flight")
+        void shouldCountCalls() {
+            subscribe(call("acme"));
+            subscribe(call("acme"));
+            subscribe(call("acme"));
+            SingleFlight.Statistics stats = singleFlight.statisticsFor(OPERATION);
+
+            assertEquals(3, stats.getRequests());
+            assertEquals(2, stats.getCoalesced());
+            assertEquals(1, stats.getInFlight());
+            assertEquals(2.0 / 3, stats.getCoalescingRatio(), 1e-9);
+
+            pending.get(0).tryEmitValue("tenant");
+
+            assertEquals(0, stats.getInFlight());
+        }
+
+        @Test
+        @DisplayName("Should report zero coalescing for an unused operation")
+        void shouldStartEmpty() {
+            SingleFlight.Statistics stats = singleFlight.statisticsFor("Unused.operation");
+
+            assertEquals(0, stats.getRequests());
+            assertEquals(0.0, stats.getCoalescingRatio());
+        }
+
+        @Test
+        @DisplayName("Should notify listeners of existing and new operations once")
+        void shouldNotifyOperationListeners() {
+            StepVerifier.create(singleFlight.execute("A.first", 1, () -> Mono.just("a")))
+                    .expectNext("a")
+                    .verifyComplete();
+            List<String> seen = new ArrayList<>();
+
+            singleFlight.onOperation(seen::add);
+            StepVerifier.create(singleFlight.execute("B.second", 1, () -> Mono.just("b")))
+                    .expectNext("b")
+                    .verifyComplete();
+            StepVerifier.create(singleFlight.execute("B.second", 2, () -> Mono.just("b")))
+                    .expectNext("b")
+                    .verifyComplete();
+
+            assertEquals(List.of("A.first", "B.second"), seen);
+            assertEquals(2, singleFlight.getStatistics().size());
+        }
+    }
+}
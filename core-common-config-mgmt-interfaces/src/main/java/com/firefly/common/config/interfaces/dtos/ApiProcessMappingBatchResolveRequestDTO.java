@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request to resolve the process mappings of several operations for one tenant.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch of operations to resolve for one tenant")
+public class ApiProcessMappingBatchResolveRequestDTO {
+
+    @Schema(description = "Tenant ID for the resolution context (null for vanilla mappings only)")
+    private UUID tenantId;
+
+    @Valid
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 200, message = "At most 200 operations can be resolved per request")
+    @Schema(description = "Operations to resolve, answered in the same order", required = true)
+    private List<OperationContext> operations;
+
+    /**
+     * One operation and its optional product/channel context.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Operation to resolve")
+    public static class OperationContext {
+
+        @NotBlank(message = "Operation ID is required")
+        @Schema(description = "API operation ID", example = "createAccount", required = true)
+        private String operationId;
+
+        @Schema(description = "Product ID for more specific routing")
+        private UUID productId;
+
+        @Schema(description = "Channel type", example = "MOBILE")
+        private String channelType;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a batch resolution, one entry per requested operation in request order.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Process mappings resolved for a batch of operations")
+public class ApiProcessMappingBatchResolveResponseDTO {
+
+    @Schema(description = "Tenant ID the operations were resolved for")
+    private UUID tenantId;
+
+    @Schema(description = "One resolution per requested operation, in request order")
+    private List<Resolution> resolutions;
+
+    @Schema(description = "Number of operations without a matching mapping", example = "0")
+    private int unresolvedCount;
+
+    /**
+     * Resolution of a single operation.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Resolution of a single operation")
+    public static class Resolution {
+
+        @Schema(description = "API operation ID", example = "createAccount")
+        private String operationId;
+
+        @Schema(description = "Product ID from the request")
+        private UUID productId;
+
+        @Schema(description = "Channel type from the request", example = "MOBILE")
+        private String channelType;
+
+        @Schema(description = "Whether a mapping was found")
+        private boolean resolved;
+
+        @Schema(description = "Best matching mapping, absent when not resolved")
+        private ApiProcessMappingDTO mapping;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a multi-get: the entities found, in request order, and the
+ * requested IDs that did not match any entity.
+ *
+ * @param <T> the entity DTO type
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Entities fetched by ID")
+public class BatchGetResponseDTO<T> {
+
+    @Schema(description = "Entities found, in the order their IDs were requested; duplicate IDs appear once")
+    private List<T> items;
+
+    @Schema(description = "Requested IDs without a matching entity, in request order")
+    private List<UUID> missingIds;
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A channel configuration with its active parameters grouped by category.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Channel configuration with its active parameters grouped by category")
+public class ChannelConfigAggregateDTO {
+
+    @Schema(description = "Channel configuration")
+    private ChannelConfigDTO channelConfig;
+
+    @Schema(description = "Active parameters by category (SECURITY, LIMITS, ...); parameters without a category " +
+            "are listed under UNCATEGORIZED")
+    private Map<String, List<ChannelConfigParameterDTO>> parametersByCategory;
+
+    @Schema(description = "Total number of active parameters", example = "12")
+    private int parameterCount;
+}
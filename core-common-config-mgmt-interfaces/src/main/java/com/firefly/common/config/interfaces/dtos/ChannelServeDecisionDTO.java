@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import com.firefly.common.config.interfaces.enums.ChannelDenialReason;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Result of asking whether a tenant channel can serve a request, following
+ * failover channels when the requested one cannot.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Channel availability and limits decision")
+public class ChannelServeDecisionDTO {
+
+    @Schema(description = "Tenant ID")
+    private UUID tenantId;
+
+    @Schema(description = "Channel that was requested", example = "MOBILE_BANKING")
+    private String requestedChannelCode;
+
+    @Schema(description = "Whether the requested channel or one of its failovers can serve the request")
+    private boolean canServe;
+
+    @Schema(description = "Channel that will serve the request (null when none can)", example = "WEB_BANKING")
+    private String servingChannelCode;
+
+    @Schema(description = "Channel config ID of the serving channel")
+    private UUID servingChannelConfigId;
+
+    @Schema(description = "Whether the serving channel is a failover of the requested one")
+    private boolean failedOver;
+
+    @Schema(description = "Channels evaluated, in failover order")
+    private List<String> evaluatedChannels;
+
+    @Schema(description = "Reasons each rejected channel could not serve the request, by channel code")
+    private Map<String, Set<ChannelDenialReason>> denialReasons;
+}
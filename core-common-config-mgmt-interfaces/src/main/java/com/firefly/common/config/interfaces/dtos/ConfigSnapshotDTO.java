@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resolver snapshot (or delta) of the configuration embedded SDK clients resolve locally.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Full or delta snapshot of process mappings, feature flags and provider value mappings")
+public class ConfigSnapshotDTO {
+
+    @Schema(description = "Snapshot version; pass it back as 'since' to receive only later changes",
+            example = "3f2a9c1b7e4d5a60-42")
+    private String version;
+
+    @Schema(description = "True for a full snapshot that replaces local state, false for a delta")
+    private boolean full;
+
+    @Schema(description = "Tenant the snapshot is scoped to (vanilla entries are always included); null for all tenants")
+    private UUID tenantId;
+
+    @Schema(description = "Active API process mappings (all of them, or those changed since the requested version)")
+    private List<ApiProcessMappingDTO> apiProcessMappings;
+
+    @Schema(description = "Active feature flags (all of them, or those changed since the requested version)")
+    private List<FeatureFlagDTO> featureFlags;
+
+    @Schema(description = "Active provider value mappings (all of them, or those changed since the requested version)")
+    private List<ProviderValueMappingDTO> providerValueMappings;
+
+    @Schema(description = "IDs of entries deleted, deactivated or moved out of scope since the requested version")
+    private List<UUID> removedIds;
+
+    @Schema(description = "When the snapshot was generated")
+    private Instant generatedAt;
+}
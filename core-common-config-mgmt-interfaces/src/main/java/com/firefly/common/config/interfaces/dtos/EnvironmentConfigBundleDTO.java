@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Fully resolved configuration of a tenant environment.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resolved key/value configuration of a tenant environment (global -> tenant, default -> environment)")
+public class EnvironmentConfigBundleDTO {
+
+    @Schema(description = "Tenant ID")
+    private UUID tenantId;
+
+    @Schema(description = "Environment name", example = "production")
+    private String environmentName;
+
+    @Schema(description = "Resolved non-secret values by key, sorted by key")
+    private Map<String, String> values;
+
+    @Schema(description = "Credential vault IDs of secret entries by key")
+    private Map<String, String> secretReferences;
+
+    @Schema(description = "Layer each key was resolved from: GLOBAL_DEFAULT, GLOBAL_ENVIRONMENT, TENANT_DEFAULT or TENANT_ENVIRONMENT")
+    private Map<String, String> sources;
+
+    @Schema(description = "SHA-256 of values and secret references; also returned as the ETag")
+    private String contentHash;
+
+    @Schema(description = "When the bundle was materialized")
+    private Instant materializedAt;
+}
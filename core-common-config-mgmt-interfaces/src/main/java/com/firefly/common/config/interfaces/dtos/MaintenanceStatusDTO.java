@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Current maintenance state of a tenant or channel.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Current maintenance state of a tenant or channel")
+public class MaintenanceStatusDTO {
+
+    @Schema(description = "Tenant ID")
+    private UUID tenantId;
+
+    @Schema(description = "Channel code, when the status was requested for a channel", example = "MOBILE")
+    private String channelCode;
+
+    @Schema(description = "What caused the maintenance: TENANT or CHANNEL (null when not in maintenance)",
+            example = "TENANT")
+    private String scope;
+
+    @Schema(description = "Whether the tenant or channel is currently in maintenance")
+    private boolean inMaintenance;
+
+    @Schema(description = "Maintenance message to show to end users")
+    private String message;
+
+    @Schema(description = "Next instant at which the maintenance state is scheduled to change")
+    private Instant nextTransitionAt;
+}
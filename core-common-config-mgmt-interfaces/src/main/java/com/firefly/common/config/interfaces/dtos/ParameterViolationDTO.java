@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.config.interfaces.dtos;
+
+import com.firefly.common.config.interfaces.enums.ParameterViolationReason;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A parameter value that failed validation. Messages never contain the value
+ * itself, which may be a secret.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Parameter validation failure")
+public class ParameterViolationDTO {
+
+    @Schema(description = "Parameter name or key", example = "timeout_ms")
+    private String parameterName;
+
+    @Schema(description = "Failure reason", example = "INVALID_VALUE")
+    private ParameterViolationReason reason;
+
+    @Schema(description = "Human-readable description", example = "Value is not a valid INTEGER")
+    private String message;
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Capability criteria for a provider search. Every criterion that is set
+ * must hold; list criteria require all listed values.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Capability criteria for a provider search; unset criteria match every provider")
+public class ProviderSearchDTO {
+
+    @Schema(description = "Provider type ID")
+    private UUID providerTypeId;
+
+    @Schema(description = "Provider status ID")
+    private UUID providerStatusId;
+
+    @Schema(description = "Provider category", example = "PAYMENT")
+    private String providerCategory;
+
+    @Schema(description = "ISO 3166-1 alpha-2 codes that must all be supported", example = "[\"ES\"]")
+    private List<String> countries;
+
+    @Schema(description = "ISO 4217 codes that must all be supported", example = "[\"EUR\"]")
+    private List<String> currencies;
+
+    @Schema(description = "ISO 639-1 codes that must all be supported", example = "[\"es\"]")
+    private List<String> languages;
+
+    @Schema(description = "Compliance certifications or certification levels that must all be held", example = "[\"PCI_DSS\"]")
+    private List<String> certifications;
+
+    @Schema(description = "Whether the provider must (true) or must not (false) be active")
+    private Boolean active;
+
+    @Schema(description = "Whether the provider must (true) or must not (false) offer a sandbox")
+    private Boolean supportsSandbox;
+
+    @Schema(description = "Whether the provider must (true) or must not (false) support webhooks")
+    private Boolean webhookSupport;
+
+    @Schema(description = "Whether the provider must (true) or must not (false) support batch processing")
+    private Boolean batchProcessingSupport;
+
+    @Schema(description = "Whether the provider must (true) or must not (false) support real-time processing")
+    private Boolean realTimeProcessingSupport;
+}
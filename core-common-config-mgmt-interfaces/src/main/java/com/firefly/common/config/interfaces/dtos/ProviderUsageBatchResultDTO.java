@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of recording a batch of usage events.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch usage metering result")
+public class ProviderUsageBatchResultDTO {
+
+    public static final int MAX_DENIALS = 100;
+
+    @Schema(description = "Events received", example = "5000")
+    private long received;
+
+    @Schema(description = "Events recorded", example = "4998")
+    private long accepted;
+
+    @Schema(description = "Events refused by a limit or an unknown or disabled relationship", example = "1")
+    private long denied;
+
+    @Schema(description = "Events missing the tenant or provider ID or with negative amounts", example = "1")
+    private long invalid;
+
+    @Schema(description = "Decisions for the first " + MAX_DENIALS + " refused events, in input order")
+    private List<ProviderUsageDecisionDTO> denials;
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Current-month usage of a provider by a tenant against the relationship's
+ * monthly limits, including usage not yet flushed to the database.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Monthly provider usage")
+public class ProviderUsageDTO {
+
+    @Schema(description = "Tenant ID")
+    private UUID tenantId;
+
+    @Schema(description = "Provider ID")
+    private UUID providerId;
+
+    @Schema(description = "Provider-tenant relationship ID")
+    private UUID providerTenantId;
+
+    @Schema(description = "Metered month", example = "2025-10")
+    private String period;
+
+    @Schema(description = "Successful transactions this month", example = "41250")
+    private long transactions;
+
+    @Schema(description = "Maximum transactions per month (null for unlimited)", example = "100000")
+    private Integer transactionLimit;
+
+    @Schema(description = "Volume of successful transactions this month", example = "18250.75")
+    private BigDecimal volume;
+
+    @Schema(description = "Monthly volume limit (null for unlimited)", example = "50000.00")
+    private BigDecimal volumeLimit;
+
+    @Schema(description = "Transactions this month times the cost per transaction", example = "412.50")
+    private BigDecimal cost;
+}
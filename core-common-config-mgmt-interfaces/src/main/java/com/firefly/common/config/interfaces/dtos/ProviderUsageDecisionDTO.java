@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import com.firefly.common.config.interfaces.enums.UsageDenialReason;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of recording one usage event.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Usage metering decision")
+public class ProviderUsageDecisionDTO {
+
+    @Schema(description = "Tenant ID")
+    private UUID tenantId;
+
+    @Schema(description = "Provider ID")
+    private UUID providerId;
+
+    @Schema(description = "Whether the usage was within the limits and has been recorded")
+    private boolean allowed;
+
+    @Schema(description = "Why the usage was refused (null when allowed)")
+    private UsageDenialReason denialReason;
+
+    @Schema(description = "Usage after the event (null for unknown relationships)")
+    private ProviderUsageDTO usage;
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Usage of a provider by a tenant, reported by the caller of the provider.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Provider usage event")
+public class ProviderUsageEventDTO {
+
+    @NotNull(message = "Tenant ID is required")
+    @Schema(description = "Tenant ID", required = true)
+    private UUID tenantId;
+
+    @NotNull(message = "Provider ID is required")
+    @Schema(description = "Provider ID", required = true)
+    private UUID providerId;
+
+    @Min(value = 1, message = "Transactions must be at least 1")
+    @Schema(description = "Number of transactions the event stands for (defaults to 1)", example = "1")
+    private Integer transactions;
+
+    @DecimalMin(value = "0", message = "Volume must not be negative")
+    @Schema(description = "Total volume of the transactions in billing currency", example = "125.50")
+    private BigDecimal volume;
+
+    @Schema(description = "Whether the transactions succeeded (defaults to true); failed ones are counted as " +
+            "failures and not against the monthly limits", example = "true")
+    private Boolean success;
+
+    @Min(value = 0, message = "Response time must not be negative")
+    @Schema(description = "Average response time of the transactions in milliseconds", example = "180")
+    private Long responseTimeMs;
+}
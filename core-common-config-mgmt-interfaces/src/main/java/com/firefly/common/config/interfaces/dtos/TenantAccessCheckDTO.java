@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Result of evaluating a client IP and/or country against a tenant policy.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a tenant network access check")
+public class TenantAccessCheckDTO {
+
+    @Schema(description = "Tenant ID")
+    private UUID tenantId;
+
+    @Schema(description = "Client IP that was checked", example = "203.0.113.10")
+    private String ipAddress;
+
+    @Schema(description = "Country code that was checked", example = "ES")
+    private String countryCode;
+
+    @Schema(description = "Whether the IP passed the allow/block lists (true when no IP was supplied)")
+    private boolean ipAllowed;
+
+    @Schema(description = "Whether the country passed geo-blocking (true when no country was supplied)")
+    private boolean countryAllowed;
+
+    @Schema(description = "Overall decision")
+    private boolean allowed;
+}
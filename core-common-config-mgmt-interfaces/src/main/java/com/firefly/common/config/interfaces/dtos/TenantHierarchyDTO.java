@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Position of a tenant in the tenant hierarchy.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Position of a tenant in the tenant hierarchy")
+public class TenantHierarchyDTO {
+
+    @Schema(description = "Tenant ID")
+    private UUID tenantId;
+
+    @Schema(description = "Parent tenant ID, absent for root tenants")
+    private UUID parentTenantId;
+
+    @Schema(description = "Number of ancestors; 0 for root tenants", example = "1")
+    private int depth;
+
+    @Schema(description = "Ancestor IDs, nearest first; configuration is inherited in this order")
+    private List<UUID> ancestorIds;
+
+    @Schema(description = "Direct child tenant IDs")
+    private List<UUID> childIds;
+
+    @Schema(description = "Number of tenants below this one", example = "4")
+    private int descendantCount;
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import com.firefly.common.config.interfaces.enums.TwoFactorAuthMethod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Read-only view of a tenant's compiled security and operational policy.
+ *
+ * <p>Unlike {@link TenantSettingsDTO}, every flag and limit is already resolved
+ * to a primitive value and every list column is normalized, so consumers can
+ * use it without re-parsing.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Compiled tenant policy derived from tenant settings")
+public class TenantPolicyDTO {
+
+    @Schema(description = "Tenant ID")
+    private UUID tenantId;
+
+    @Schema(description = "Version of the tenant settings row the policy was compiled from")
+    private long settingsVersion;
+
+    @Schema(description = "When the policy was compiled")
+    private Instant compiledAt;
+
+    @Schema(description = "Whether the underlying settings are active")
+    private boolean active;
+
+    // Rate limiting (0 = not configured)
+    @Schema(description = "API rate limit per minute (0 = not configured)")
+    private int apiRateLimitPerMinute;
+
+    @Schema(description = "API rate limit per hour (0 = not configured)")
+    private int apiRateLimitPerHour;
+
+    @Schema(description = "API rate limit per day (0 = not configured)")
+    private int apiRateLimitPerDay;
+
+    // Authentication
+    @Schema(description = "Whether MFA is enabled")
+    private boolean mfaEnabled;
+
+    @Schema(description = "Whether MFA is required")
+    private boolean mfaRequired;
+
+    @Schema(description = "Allowed second-factor methods")
+    private Set<TwoFactorAuthMethod> twoFactorAuthMethods;
+
+    @Schema(description = "Minimum password length")
+    private int passwordMinLength;
+
+    @Schema(description = "Session timeout in minutes")
+    private int sessionTimeoutMinutes;
+
+    @Schema(description = "Maximum failed login attempts before lockout")
+    private int maxLoginAttempts;
+
+    // Network
+    @Schema(description = "Normalized allowed CIDR ranges", example = "[\"10.0.0.0/8\"]")
+    private List<String> ipAllowList;
+
+    @Schema(description = "Normalized blocked CIDR ranges")
+    private List<String> ipBlockList;
+
+    @Schema(description = "Whether geo-blocking is enabled")
+    private boolean geoBlockingEnabled;
+
+    @Schema(description = "Allowed ISO 3166-1 alpha-2 country codes")
+    private List<String> allowedCountries;
+
+    @Schema(description = "Blocked ISO 3166-1 alpha-2 country codes")
+    private List<String> blockedCountries;
+
+    @Schema(description = "List entries that could not be parsed and are ignored by the policy")
+    private List<String> rejectedEntries;
+
+    // Compliance and fraud
+    @Schema(description = "Whether PCI-DSS features are enabled")
+    private boolean pciDssEnabled;
+
+    @Schema(description = "Whether GDPR features are enabled")
+    private boolean gdprEnabled;
+
+    @Schema(description = "Data residency country code")
+    private String dataResidencyCountry;
+
+    @Schema(description = "Whether fraud detection is enabled")
+    private boolean fraudDetectionEnabled;
+
+    @Schema(description = "Fraud score threshold")
+    private int fraudScoreThreshold;
+
+    // Circuit breaker
+    @Schema(description = "Whether the circuit breaker is enabled")
+    private boolean circuitBreakerEnabled;
+
+    @Schema(description = "Failures before the circuit breaker opens")
+    private int circuitBreakerFailureThreshold;
+
+    // Maintenance and replication
+    @Schema(description = "Whether maintenance mode is enabled")
+    private boolean maintenanceModeEnabled;
+
+    @Schema(description = "Replication regions")
+    private List<String> replicationRegions;
+}
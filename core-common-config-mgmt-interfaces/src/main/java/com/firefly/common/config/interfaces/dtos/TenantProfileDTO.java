@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Everything needed to build a tenant context, assembled in one call.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tenant with its status, branding, settings, enabled providers and enabled channels")
+public class TenantProfileDTO {
+
+    @Schema(description = "The tenant")
+    private TenantDTO tenant;
+
+    @Schema(description = "Current status of the tenant")
+    private TenantStatusDTO status;
+
+    @Schema(description = "Branding, absent when the tenant has none")
+    private TenantBrandingDTO branding;
+
+    @Schema(description = "Operational settings, absent when the tenant has none")
+    private TenantSettingsDTO settings;
+
+    @Schema(description = "Enabled provider links")
+    private List<ProviderTenantDTO> providers;
+
+    @Schema(description = "Enabled channel configurations, by ascending priority")
+    private List<ChannelConfigDTO> channels;
+
+    @Schema(description = "When the profile was assembled; cached profiles keep their original time")
+    private Instant assembledAt;
+}
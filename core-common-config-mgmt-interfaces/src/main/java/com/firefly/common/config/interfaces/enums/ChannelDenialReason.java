@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.enums;
+
+/**
+ * Reasons a channel can refuse to serve a request.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public enum ChannelDenialReason {
+    CHANNEL_DISABLED,
+    IN_MAINTENANCE,
+    OUTSIDE_AVAILABILITY_SCHEDULE,
+    PLATFORM_NOT_SUPPORTED,
+    UNSUPPORTED_APP_VERSION,
+    COUNTRY_NOT_ALLOWED,
+    AMOUNT_EXCEEDS_TRANSACTION_LIMIT,
+    AMOUNT_EXCEEDS_DAILY_LIMIT,
+    AMOUNT_EXCEEDS_MONTHLY_LIMIT
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.enums;
+
+/**
+ * Second-factor authentication methods a tenant may allow
+ * (see {@code tenant_settings.two_factor_auth_methods}).
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public enum TwoFactorAuthMethod {
+    SMS,
+    EMAIL,
+    TOTP,
+    BIOMETRIC,
+    PUSH;
+
+    /**
+     * Case-insensitive lookup that returns null for unknown values instead of throwing.
+     *
+     * @param value the raw method name
+     * @return the method, or null if not recognised
+     */
+    public static TwoFactorAuthMethod fromValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (TwoFactorAuthMethod method : values()) {
+            if (method.name().equalsIgnoreCase(value.trim())) {
+                return method;
+            }
+        }
+        return null;
+    }
+}
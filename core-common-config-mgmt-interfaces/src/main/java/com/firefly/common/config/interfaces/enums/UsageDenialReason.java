@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.interfaces.enums;
+
+/**
+ * Reasons usage of a provider by a tenant is refused.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public enum UsageDenialReason {
+    UNKNOWN_PROVIDER_TENANT,
+    PROVIDER_TENANT_DISABLED,
+    MONTHLY_TRANSACTION_LIMIT_EXCEEDED,
+    MONTHLY_VOLUME_LIMIT_EXCEEDED
+}
@@ -17,6 +17,7 @@
 
 package com.firefly.common.config.models.entities;
 
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -31,6 +32,7 @@ import org.springframework.data.relational.core.mapping.Table;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -188,10 +190,10 @@ public class ChannelConfig {
     private String minAppVersion;
 
     /**
-     * Comma-separated list of supported platforms (e.g., "iOS,Android,Web")
+     * Supported platforms (e.g., iOS, Android, Web), stored as TEXT[]
      */
     @Column("supported_platforms")
-    private String supportedPlatforms;
+    private List<String> supportedPlatforms;
 
     // ========================================
     // Availability and Maintenance
@@ -248,10 +250,10 @@ public class ChannelConfig {
     // ========================================
 
     /**
-     * Comma-separated list of enabled features for this channel
+     * Features enabled for this channel, stored as TEXT[]
      */
     @Column("features_enabled")
-    private String featuresEnabled;
+    private List<String> featuresEnabled;
 
     /**
      * Comma-separated list of disabled features for this channel
@@ -307,7 +309,7 @@ public class ChannelConfig {
      * Additional metadata in JSON format for extensibility
      */
     @Column("metadata")
-    private String metadata;
+    private Json metadata;
 
     /**
      * Indicates if this channel configuration is active
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One configuration change waiting in, or already relayed from, the
+ * transactional outbox.
+ *
+ * <p>Rows are appended in the same transaction as the change they describe
+ * and carry only the entity coordinates, not its state: consumers re-read the
+ * entity, so a late or repeated delivery never applies stale values.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("config_outbox")
+public class ConfigOutboxMessage {
+
+    /**
+     * Global append order; delivery within a partition follows it
+     */
+    @Id
+    private Long id;
+
+    /**
+     * Ordering scope: the tenant ID, or {@code global} for tenant-less entities
+     */
+    @Column("partition_key")
+    private String partitionKey;
+
+    /**
+     * Entity simple name, e.g. {@code "TenantSettings"}
+     */
+    @Column("entity_type")
+    private String entityType;
+
+    @Column("entity_id")
+    private UUID entityId;
+
+    @Column("tenant_id")
+    private UUID tenantId;
+
+    /**
+     * CREATED, UPDATED or DELETED
+     */
+    @Column("action")
+    private String action;
+
+    /**
+     * Properties written by a partial update; empty for full writes
+     */
+    @Column("changed_fields")
+    private List<String> changedFields;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("published_at")
+    private LocalDateTime publishedAt;
+
+    @Column("attempts")
+    private Integer attempts;
+
+    @Column("last_error")
+    private String lastError;
+
+    /**
+     * Earliest time a failed message is claimed again
+     */
+    @Column("next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Set once the message has failed {@code max-attempts} times; it is then
+     * no longer claimed and no longer holds back its partition
+     */
+    @Column("dead_lettered_at")
+    private LocalDateTime deadLetteredAt;
+
+    /**
+     * Node that wrote the change; other nodes replay it from the change feed
+     */
+    @Column("origin")
+    private String origin;
+
+    /**
+     * Writing transaction ID, assigned by the database on insert
+     */
+    @ReadOnlyProperty
+    @Column("xid")
+    private Long xid;
+}
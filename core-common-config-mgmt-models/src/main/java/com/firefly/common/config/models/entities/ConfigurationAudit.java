@@ -17,6 +17,7 @@
 
 package com.firefly.common.config.models.entities;
 
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -251,7 +252,7 @@ public class ConfigurationAudit {
      * Additional metadata in JSON format for extensibility
      */
     @Column("metadata")
-    private String metadata;
+    private Json metadata;
 
     /**
      * Timestamp when audit record was created
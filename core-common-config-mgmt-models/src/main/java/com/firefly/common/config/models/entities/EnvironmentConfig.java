@@ -17,6 +17,7 @@
 
 package com.firefly.common.config.models.entities;
 
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -73,7 +74,7 @@ public class EnvironmentConfig {
     private String category;
 
     @Column("metadata")
-    private String metadata;
+    private Json metadata;
 
     @Column("active")
     private Boolean active;
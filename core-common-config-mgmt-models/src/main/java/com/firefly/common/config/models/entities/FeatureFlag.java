@@ -17,6 +17,7 @@
 
 package com.firefly.common.config.models.entities;
 
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,6 +30,7 @@ import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -73,10 +75,10 @@ public class FeatureFlag {
     private LocalDateTime endDate;
 
     @Column("target_user_segments")
-    private String targetUserSegments;
+    private List<String> targetUserSegments;
 
     @Column("metadata")
-    private String metadata;
+    private Json metadata;
 
     @Column("active")
     private Boolean active;
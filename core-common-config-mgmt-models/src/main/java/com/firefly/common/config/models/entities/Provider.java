@@ -17,6 +17,7 @@
 
 package com.firefly.common.config.models.entities;
 
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -346,7 +347,7 @@ public class Provider {
      * Additional metadata in JSON format for extensibility
      */
     @Column("metadata")
-    private String metadata;
+    private Json metadata;
 
     /**
      * Indicates if provider is active and available for use
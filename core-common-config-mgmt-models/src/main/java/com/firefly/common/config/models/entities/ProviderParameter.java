@@ -17,6 +17,7 @@
 
 package com.firefly.common.config.models.entities;
 
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -91,7 +92,7 @@ public class ProviderParameter {
     private Integer displayOrder;
 
     @Column("metadata")
-    private String metadata;
+    private Json metadata;
 
     @Column("active")
     private Boolean active;
@@ -17,6 +17,7 @@
 
 package com.firefly.common.config.models.entities;
 
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -275,7 +276,7 @@ public class ProviderTenant {
      * Additional metadata in JSON format for extensibility
      */
     @Column("metadata")
-    private String metadata;
+    private Json metadata;
 
     /**
      * Indicates if this relationship is active
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Usage of a provider-tenant relationship in one month.
+ *
+ * <p>Rows are keyed by relationship and month and only ever incremented by
+ * the usage meter's flush; they are read through
+ * {@code ProviderTenantRepository} rather than a repository of their own.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("provider_tenant_usage")
+public class ProviderTenantUsage {
+
+    @Column("provider_tenant_id")
+    private UUID providerTenantId;
+
+    /**
+     * First day of the metered month
+     */
+    @Column("period_start")
+    private LocalDate periodStart;
+
+    /**
+     * Successful transactions in the month
+     */
+    @Column("transaction_count")
+    private Long transactionCount;
+
+    @Column("failure_count")
+    private Long failureCount;
+
+    /**
+     * Volume of successful transactions in the month (in currency units)
+     */
+    @Column("volume")
+    private BigDecimal volume;
+
+    @Column("cost")
+    private BigDecimal cost;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -17,6 +17,7 @@
 
 package com.firefly.common.config.models.entities;
 
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -330,7 +331,7 @@ public class Tenant {
      * Additional metadata in JSON format for extensibility
      */
     @Column("metadata")
-    private String metadata;
+    private Json metadata;
 
     /**
      * Indicates if tenant is active and operational
@@ -17,6 +17,7 @@
 
 package com.firefly.common.config.models.entities;
 
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -85,7 +86,7 @@ public class TenantBranding {
     private String emailFooterText;
 
     @Column("metadata")
-    private String metadata;
+    private Json metadata;
 
     @Column("active")
     private Boolean active;
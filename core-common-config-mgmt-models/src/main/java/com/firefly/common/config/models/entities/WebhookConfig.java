@@ -17,6 +17,7 @@
 
 package com.firefly.common.config.models.entities;
 
+import io.r2dbc.postgresql.codec.Json;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,6 +30,7 @@ import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -108,11 +110,11 @@ public class WebhookConfig {
     private String contentType;
 
     /**
-     * Comma-separated list of event types to subscribe to
+     * Event types to subscribe to, stored as TEXT[]
      * Examples: "transaction.created", "payment.completed", "kyc.verified"
      */
     @Column("event_types")
-    private String eventTypes;
+    private List<String> eventTypes;
 
     /**
      * HTTP method for webhook delivery (POST, PUT, PATCH)
@@ -167,10 +169,10 @@ public class WebhookConfig {
     private Boolean followRedirects;
 
     /**
-     * Custom HTTP headers in JSON format
+     * Custom HTTP headers as a JSONB object
      */
     @Column("custom_headers")
-    private String customHeaders;
+    private Json customHeaders;
 
 
     // ========================================
@@ -355,7 +357,7 @@ public class WebhookConfig {
      * Additional metadata in JSON format for extensibility
      */
     @Column("metadata")
-    private String metadata;
+    private Json metadata;
 
     /**
      * Indicates if webhook configuration is active
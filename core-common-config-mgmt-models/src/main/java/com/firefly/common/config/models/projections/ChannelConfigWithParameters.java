@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.projections;
+
+import com.firefly.common.config.models.entities.ChannelConfig;
+import com.firefly.common.config.models.entities.ChannelConfigParameter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A channel configuration together with its active parameters, loaded in a
+ * single query.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+public class ChannelConfigWithParameters {
+
+    private ChannelConfig channelConfig;
+
+    /**
+     * Active parameters ordered by category and key.
+     */
+    private List<ChannelConfigParameter> parameters;
+}
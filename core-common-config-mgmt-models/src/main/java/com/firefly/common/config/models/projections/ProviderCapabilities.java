@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.projections;
+
+import java.util.UUID;
+
+/**
+ * A provider reduced to the columns that describe what it can do.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface ProviderCapabilities {
+
+    UUID getId();
+
+    String getCode();
+
+    UUID getProviderTypeId();
+
+    UUID getProviderStatusId();
+
+    String getProviderCategory();
+
+    Boolean getActive();
+
+    Boolean getSupportsSandbox();
+
+    Boolean getWebhookSupport();
+
+    Boolean getBatchProcessingSupport();
+
+    Boolean getRealTimeProcessingSupport();
+
+    /**
+     * @return comma-separated ISO 3166-1 alpha-2 codes
+     */
+    String getSupportedCountries();
+
+    /**
+     * @return comma-separated ISO 4217 codes
+     */
+    String getSupportedCurrencies();
+
+    /**
+     * @return comma-separated ISO 639-1 codes
+     */
+    String getSupportedLanguages();
+
+    String getCertificationLevel();
+
+    String getComplianceCertifications();
+}
@@ -22,6 +22,7 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -113,6 +114,24 @@ public interface ApiProcessMappingRepository extends BaseRepository<ApiProcessMa
             UUID productId, 
             String channelType);
 
+    /**
+     * Finds every currently effective mapping of a tenant (or vanilla) for a
+     * set of operations in one query, for batch resolution.
+     *
+     * @param tenantId the tenant ID (can be null for vanilla lookup)
+     * @param operationIds the operation IDs
+     * @return Flux of candidate mappings, unordered
+     */
+    @Query("""
+        SELECT * FROM api_process_mappings
+        WHERE is_active = TRUE
+          AND operation_id IN (:operationIds)
+          AND (tenant_id = :tenantId OR tenant_id IS NULL)
+          AND (effective_from IS NULL OR effective_from <= CURRENT_TIMESTAMP)
+          AND (effective_to IS NULL OR effective_to > CURRENT_TIMESTAMP)
+        """)
+    Flux<ApiProcessMapping> findCandidatesForOperations(UUID tenantId, Collection<String> operationIds);
+
     /**
      * Finds the best matching mapping without product/channel context.
      * 
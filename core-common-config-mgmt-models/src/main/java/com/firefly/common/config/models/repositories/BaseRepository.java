@@ -24,7 +24,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @NoRepositoryBean
-public interface BaseRepository<T, ID> extends ReactiveCrudRepository<T, ID> {
+public interface BaseRepository<T, ID> extends ReactiveCrudRepository<T, ID>, VersionedUpdateRepository<T> {
     Flux<T> findAllBy(Pageable pageable);
     Mono<Long> count();
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.repositories;
+
+import com.firefly.common.config.models.projections.ChannelConfigWithParameters;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Custom repository fragment loading channel configurations together with
+ * their active parameters in one round trip.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface ChannelConfigAggregateRepository {
+
+    /**
+     * Finds an active channel configuration and its active parameters.
+     *
+     * @param tenantId the tenant ID
+     * @param channelCode the channel code
+     * @return Mono of the aggregate, empty if the channel does not exist
+     */
+    Mono<ChannelConfigWithParameters> findAggregateByTenantIdAndChannelCode(UUID tenantId, String channelCode);
+
+    /**
+     * Finds all active channel configurations of a tenant and their active
+     * parameters, ordered by priority and channel code.
+     *
+     * @param tenantId the tenant ID
+     * @return Flux of aggregates
+     */
+    Flux<ChannelConfigWithParameters> findAggregatesByTenantId(UUID tenantId);
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.repositories;
+
+import com.firefly.common.config.models.entities.ChannelConfig;
+import com.firefly.common.config.models.entities.ChannelConfigParameter;
+import com.firefly.common.config.models.projections.ChannelConfigWithParameters;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link ChannelConfigAggregateRepository}.
+ *
+ * <p>Channels are left-joined with their active parameters and the rows,
+ * ordered by channel, are regrouped while streaming. Parameter columns are
+ * aliased with a {@code p_} prefix so the channel columns can be read by the
+ * regular entity converter.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class ChannelConfigAggregateRepositoryImpl implements ChannelConfigAggregateRepository {
+
+    private static final String SELECT_AGGREGATE = """
+        SELECT c.*,
+               p.id AS p_id,
+               p.channel_code AS p_channel_code,
+               p.parameter_key AS p_parameter_key,
+               p.parameter_value AS p_parameter_value,
+               p.parameter_type AS p_parameter_type,
+               p.description AS p_description,
+               p.is_sensitive AS p_is_sensitive,
+               p.is_required AS p_is_required,
+               p.validation_regex AS p_validation_regex,
+               p.default_value AS p_default_value,
+               p.category AS p_category,
+               p.active AS p_active,
+               p.version AS p_version,
+               p.created_at AS p_created_at,
+               p.updated_at AS p_updated_at
+        FROM channel_configs c
+        LEFT JOIN channel_config_parameters p
+               ON p.channel_config_id = c.id
+              AND p.active = TRUE
+        WHERE c.tenant_id = :tenantId
+          AND c.active = TRUE
+        """;
+
+    private static final String ORDER_BY = """
+        ORDER BY c.priority ASC NULLS LAST, c.channel_code, c.id, p.category ASC NULLS LAST, p.parameter_key
+        """;
+
+    private final R2dbcEntityTemplate template;
+
+    @Override
+    public Mono<ChannelConfigWithParameters> findAggregateByTenantIdAndChannelCode(UUID tenantId, String channelCode) {
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+                .sql(SELECT_AGGREGATE + "  AND c.channel_code = :channelCode\n" + ORDER_BY)
+                .bind("tenantId", tenantId)
+                .bind("channelCode", channelCode);
+        return group(spec).next();
+    }
+
+    @Override
+    public Flux<ChannelConfigWithParameters> findAggregatesByTenantId(UUID tenantId) {
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+                .sql(SELECT_AGGREGATE + ORDER_BY)
+                .bind("tenantId", tenantId);
+        return group(spec);
+    }
+
+    private Flux<ChannelConfigWithParameters> group(DatabaseClient.GenericExecuteSpec spec) {
+        return spec.map(this::readRow)
+                .all()
+                .bufferUntilChanged(row -> row.config().getId())
+                .map(rows -> {
+                    List<ChannelConfigParameter> parameters = new ArrayList<>(rows.size());
+                    for (JoinedRow row : rows) {
+                        if (row.parameter() != null) {
+                            parameters.add(row.parameter());
+                        }
+                    }
+                    return new ChannelConfigWithParameters(rows.get(0).config(), parameters);
+                });
+    }
+
+    private JoinedRow readRow(Row row, RowMetadata metadata) {
+        ChannelConfig config = template.getConverter().read(ChannelConfig.class, row, metadata);
+        UUID parameterId = row.get("p_id", UUID.class);
+        if (parameterId == null) {
+            return new JoinedRow(config, null);
+        }
+        ChannelConfigParameter parameter = ChannelConfigParameter.builder()
+                .id(parameterId)
+                .channelConfigId(config.getId())
+                .channelCode(row.get("p_channel_code", String.class))
+                .parameterKey(row.get("p_parameter_key", String.class))
+                .parameterValue(row.get("p_parameter_value", String.class))
+                .parameterType(row.get("p_parameter_type", String.class))
+                .description(row.get("p_description", String.class))
+                .isSensitive(row.get("p_is_sensitive", Boolean.class))
+                .isRequired(row.get("p_is_required", Boolean.class))
+                .validationRegex(row.get("p_validation_regex", String.class))
+                .defaultValue(row.get("p_default_value", String.class))
+                .category(row.get("p_category", String.class))
+                .active(row.get("p_active", Boolean.class))
+                .version(row.get("p_version", Long.class))
+                .createdAt(row.get("p_created_at", LocalDateTime.class))
+                .updatedAt(row.get("p_updated_at", LocalDateTime.class))
+                .build();
+        return new JoinedRow(config, parameter);
+    }
+
+    private record JoinedRow(ChannelConfig config, ChannelConfigParameter parameter) {
+    }
+}
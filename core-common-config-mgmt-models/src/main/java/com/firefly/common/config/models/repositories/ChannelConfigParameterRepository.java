@@ -29,7 +29,8 @@ import java.util.UUID;
  * Repository for ChannelConfigParameter entity
  */
 @Repository
-public interface ChannelConfigParameterRepository extends R2dbcRepository<ChannelConfigParameter, UUID> {
+public interface ChannelConfigParameterRepository extends R2dbcRepository<ChannelConfigParameter, UUID>,
+        VersionedUpdateRepository<ChannelConfigParameter> {
 
     /**
      * Find all active parameters
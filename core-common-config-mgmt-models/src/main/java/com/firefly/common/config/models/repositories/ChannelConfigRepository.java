@@ -18,13 +18,15 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.ChannelConfig;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
 @Repository
-public interface ChannelConfigRepository extends BaseRepository<ChannelConfig, UUID> {
+public interface ChannelConfigRepository extends BaseRepository<ChannelConfig, UUID>, ChannelConfigAggregateRepository {
 
     /**
      * Find all active channel configs
@@ -60,5 +62,29 @@ public interface ChannelConfigRepository extends BaseRepository<ChannelConfig, U
      * Find all channel configs for a tenant ordered by priority (ascending)
      */
     Flux<ChannelConfig> findByTenantIdOrderByPriorityAsc(UUID tenantId);
-}
 
+    /**
+     * Find the enabled, non-deleted channel configs of a tenant ordered by priority (ascending)
+     */
+    Flux<ChannelConfig> findByTenantIdAndEnabledTrueAndActiveTrueOrderByPriorityAsc(UUID tenantId);
+
+    /**
+     * Find rows whose JSONB metadata contains the given document ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM channel_configs WHERE metadata @> :document")
+    Flux<ChannelConfig> findWhereMetadataContains(Json document);
+
+    /**
+     * Find a tenant's active channel configs that enable a feature ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM channel_configs WHERE tenant_id = :tenantId AND active = true "
+            + "AND features_enabled @> ARRAY[:feature]::text[]")
+    Flux<ChannelConfig> findActiveByTenantIdAndFeatureEnabled(UUID tenantId, String feature);
+
+    /**
+     * Find a tenant's active channel configs supporting at least one of the platforms ({@code &&}, GIN-indexed)
+     */
+    @Query("SELECT * FROM channel_configs WHERE tenant_id = :tenantId AND active = true "
+            + "AND supported_platforms && :platforms")
+    Flux<ChannelConfig> findActiveByTenantIdSupportingAnyPlatform(UUID tenantId, String[] platforms);
+}
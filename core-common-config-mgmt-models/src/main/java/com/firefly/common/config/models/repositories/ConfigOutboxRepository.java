@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.repositories;
+
+import com.firefly.common.config.models.entities.ConfigOutboxMessage;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@Repository
+public interface ConfigOutboxRepository extends ReactiveCrudRepository<ConfigOutboxMessage, Long> {
+
+    /**
+     * Locks and returns the next batch of pending messages, oldest first.
+     *
+     * <p>A message is pending while it is neither published nor
+     * dead-lettered. Rows locked by another relay are skipped, so concurrent
+     * relays claim disjoint batches. A claimed row is returned only if no
+     * earlier pending row of its partition is held elsewhere; it stays locked
+     * until the transaction ends and is picked up again once the earlier row
+     * is published, which keeps each partition in order across relays.
+     * Partitions whose earliest failed row is waiting for its retry are
+     * skipped altogether, so they cannot crowd other partitions out of the
+     * batch.</p>
+     *
+     * <p>Must run inside a transaction; the locks are held until it ends.
+     * The name has no read prefix, so with read replicas it runs on the
+     * primary.</p>
+     *
+     * @param batchSize the maximum number of rows to claim
+     * @param maxAttempts rows that failed this often are treated as dead-lettered
+     * @return the claimed messages in id order
+     */
+    @Query("""
+        WITH claimed AS (
+            SELECT o.id FROM config_outbox o
+            WHERE o.published_at IS NULL
+              AND o.dead_lettered_at IS NULL
+              AND o.attempts < :maxAttempts
+              AND (o.next_attempt_at IS NULL OR o.next_attempt_at <= CURRENT_TIMESTAMP)
+              AND NOT EXISTS (
+                  SELECT 1 FROM config_outbox waiting
+                  WHERE waiting.partition_key = o.partition_key
+                    AND waiting.published_at IS NULL
+                    AND waiting.dead_lettered_at IS NULL
+                    AND waiting.attempts < :maxAttempts
+                    AND waiting.next_attempt_at > CURRENT_TIMESTAMP
+                    AND waiting.id < o.id
+              )
+            ORDER BY o.id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+        )
+        SELECT o.* FROM config_outbox o
+        JOIN claimed c ON c.id = o.id
+        WHERE NOT EXISTS (
+            SELECT 1 FROM config_outbox earlier
+            WHERE earlier.partition_key = o.partition_key
+              AND earlier.published_at IS NULL
+              AND earlier.dead_lettered_at IS NULL
+              AND earlier.attempts < :maxAttempts
+              AND earlier.id < o.id
+              AND earlier.id NOT IN (SELECT id FROM claimed)
+        )
+        ORDER BY o.id
+        """)
+    Flux<ConfigOutboxMessage> claimBatch(int batchSize, int maxAttempts);
+
+    @Modifying
+    @Query("UPDATE config_outbox SET published_at = CURRENT_TIMESTAMP WHERE id IN (:ids)")
+    Mono<Integer> markPublished(Collection<Long> ids);
+
+    /**
+     * Records a failed delivery. The message is retried after
+     * {@code backoffSeconds * 2^attempts}, capped at {@code maxBackoffSeconds},
+     * and dead-lettered once it has failed {@code maxAttempts} times.
+     *
+     * @return the updated messages
+     */
+    @Query("""
+        UPDATE config_outbox SET
+            attempts = attempts + 1,
+            last_error = :error,
+            next_attempt_at = CURRENT_TIMESTAMP
+                + make_interval(secs => LEAST(:maxBackoffSeconds, :backoffSeconds * power(2, attempts))),
+            dead_lettered_at = CASE WHEN attempts + 1 >= :maxAttempts THEN CURRENT_TIMESTAMP END
+        WHERE id IN (:ids)
+        RETURNING *
+        """)
+    Flux<ConfigOutboxMessage> markFailed(Collection<Long> ids, String error, int maxAttempts,
+                                         double backoffSeconds, double maxBackoffSeconds);
+
+    /**
+     * @param retentionSeconds how long published messages are kept, measured on the database clock
+     * @return the number of purged messages
+     */
+    @Modifying
+    @Query("DELETE FROM config_outbox WHERE published_at < CURRENT_TIMESTAMP - make_interval(secs => :retentionSeconds)")
+    Mono<Integer> deletePublishedOlderThan(long retentionSeconds);
+
+    /**
+     * Reads the oldest transaction ID still running: every transaction with a
+     * lower ID has committed or rolled back, so its outbox rows are already
+     * visible. Read it before the rows it guards.
+     *
+     * @return the current snapshot's xmin
+     */
+    @Query("SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint")
+    Mono<Long> loadSnapshotXmin();
+
+    /**
+     * @return the highest outbox ID, or 0 when the outbox is empty
+     */
+    @Query("SELECT COALESCE(MAX(id), 0) FROM config_outbox")
+    Mono<Long> loadLastId();
+
+    /**
+     * Pages through the outbox in ID order, published or not. The name has no
+     * read prefix, so with read replicas it runs on the primary and never
+     * misses a row the writer has committed.
+     *
+     * @param afterId the last ID already read
+     * @param limit the maximum number of rows
+     * @return the next rows in ID order
+     */
+    @Query("SELECT * FROM config_outbox WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<ConfigOutboxMessage> loadAfter(long afterId, int limit);
+
+    /**
+     * Returns the rows up to {@code afterId} written by transactions at or
+     * above {@code xmin}: those that may have committed after an earlier
+     * {@link #loadAfter} read past their ID.
+     *
+     * @param afterId the last ID already read
+     * @param xmin the snapshot xmin read before that page
+     * @return the candidate late commits in ID order
+     */
+    @Query("SELECT * FROM config_outbox WHERE id <= :afterId AND xid >= :xmin ORDER BY id")
+    Flux<ConfigOutboxMessage> loadLateCommits(long afterId, long xmin);
+
+    /**
+     * Returns the changes to the given entity types after a position taken
+     * with {@link #loadSnapshotXmin()} and {@link #loadLastId()}: rows after
+     * {@code afterId}, and rows up to it whose transaction was still running
+     * when the position was taken.
+     *
+     * @param afterId the last ID of the position
+     * @param xmin the snapshot xmin of the position
+     * @param entityTypes the entity simple names to include
+     * @param limit the maximum number of rows
+     * @return the changes in ID order
+     */
+    @Query("""
+        SELECT * FROM config_outbox
+        WHERE (id > :afterId OR xid >= :xmin) AND entity_type IN (:entityTypes)
+        ORDER BY id
+        LIMIT :limit
+        """)
+    Flux<ConfigOutboxMessage> loadChanges(long afterId, long xmin, Collection<String> entityTypes, int limit);
+
+    @Query("SELECT COUNT(*) FROM config_outbox WHERE published_at IS NULL AND dead_lettered_at IS NULL")
+    Mono<Long> countUnpublished();
+}
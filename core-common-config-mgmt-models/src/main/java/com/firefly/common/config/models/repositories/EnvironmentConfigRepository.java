@@ -18,6 +18,8 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.EnvironmentConfig;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -37,5 +39,27 @@ public interface EnvironmentConfigRepository extends BaseRepository<EnvironmentC
     Mono<EnvironmentConfig> findByTenantIdAndEnvironmentNameAndConfigKey(UUID tenantId, String environmentName, String configKey);
 
     Flux<EnvironmentConfig> findByCategory(String category);
-}
 
+    /**
+     * Finds every active row that can contribute to the resolved configuration of a tenant
+     * environment: global and tenant rows, for the environment and for the {@code default}
+     * environment. Environment names are compared case-insensitively.
+     *
+     * @param tenantId the tenant ID
+     * @param environmentName the environment name
+     * @return Flux of candidate rows, unordered
+     */
+    @Query("""
+        SELECT * FROM environment_configs
+        WHERE active = TRUE
+          AND (tenant_id IS NULL OR tenant_id = :tenantId)
+          AND LOWER(environment_name) IN (LOWER(:environmentName), 'default')
+        """)
+    Flux<EnvironmentConfig> findBundleCandidates(UUID tenantId, String environmentName);
+
+    /**
+     * Find rows whose JSONB metadata contains the given document ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM environment_configs WHERE metadata @> :document")
+    Flux<EnvironmentConfig> findWhereMetadataContains(Json document);
+}
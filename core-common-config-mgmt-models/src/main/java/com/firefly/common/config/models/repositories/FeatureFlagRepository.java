@@ -18,9 +18,12 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.FeatureFlag;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.Collection;
 import java.util.UUID;
 
 @Repository
@@ -37,5 +40,20 @@ public interface FeatureFlagRepository extends BaseRepository<FeatureFlag, UUID>
     Flux<FeatureFlag> findByEnvironment(String environment);
 
     Flux<FeatureFlag> findByEnabledTrue();
-}
 
+    Flux<FeatureFlag> findByTenantIdInAndActiveTrue(Collection<UUID> tenantIds);
+
+    Flux<FeatureFlag> findByTenantIdIsNullAndActiveTrue();
+
+    /**
+     * Find rows whose JSONB metadata contains the given document ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM feature_flags WHERE metadata @> :document")
+    Flux<FeatureFlag> findWhereMetadataContains(Json document);
+
+    /**
+     * Find active flags targeting at least one of the segments ({@code &&}, GIN-indexed)
+     */
+    @Query("SELECT * FROM feature_flags WHERE active = true AND target_user_segments && :segments")
+    Flux<FeatureFlag> findActiveTargetingAnySegment(String[] segments);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.repositories;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Outcome of {@link VersionedUpdateRepository#patchReturning}: the row as
+ * stored after the update and the properties whose value actually changed.
+ *
+ * @param <T> the entity type
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Value
+public class PatchResult<T> {
+
+    T entity;
+
+    /**
+     * Changed entity properties in patch order, with the stored values before
+     * and after the update. Properties written with their current value are
+     * not included.
+     */
+    Map<String, Change> changes;
+
+    public boolean isChanged() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Column value before and after the update, as read from the database.
+     */
+    @Value
+    public static class Change {
+        Object oldValue;
+        Object newValue;
+    }
+}
@@ -18,9 +18,12 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.ProviderParameter;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -86,5 +89,25 @@ public interface ProviderParameterRepository extends BaseRepository<ProviderPara
      * @return Flux of provider parameters
      */
     Flux<ProviderParameter> findByEnvironment(String environment);
-}
 
+    /**
+     * Find the active parameters of a provider owned by any of the given tenants
+     * @param providerId Provider ID
+     * @param tenantIds Tenant IDs
+     * @return Flux of provider parameters
+     */
+    Flux<ProviderParameter> findByProviderIdAndTenantIdInAndActiveTrue(UUID providerId, Collection<UUID> tenantIds);
+
+    /**
+     * Find the active global (tenant-less) parameters of a provider
+     * @param providerId Provider ID
+     * @return Flux of provider parameters
+     */
+    Flux<ProviderParameter> findByProviderIdAndTenantIdIsNullAndActiveTrue(UUID providerId);
+
+    /**
+     * Find rows whose JSONB metadata contains the given document ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM provider_parameters WHERE metadata @> :document")
+    Flux<ProviderParameter> findWhereMetadataContains(Json document);
+}
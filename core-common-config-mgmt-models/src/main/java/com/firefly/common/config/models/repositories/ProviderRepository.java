@@ -18,6 +18,10 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.Provider;
+import com.firefly.common.config.models.projections.ProviderCapabilities;
+import com.firefly.common.config.models.projections.ProviderCodeReference;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -30,7 +34,21 @@ public interface ProviderRepository extends BaseRepository<Provider, UUID> {
 
     Mono<Provider> findByCode(String code);
 
+    Flux<ProviderCodeReference> findAllCodesBy();
+
+    Mono<ProviderCodeReference> findCodeById(UUID id);
+
     Flux<Provider> findByProviderTypeId(UUID providerTypeId);
 
     Flux<Provider> findByProviderStatusId(UUID providerStatusId);
+
+    Flux<ProviderCapabilities> findAllCapabilitiesBy();
+
+    Mono<ProviderCapabilities> findCapabilitiesById(UUID id);
+
+    /**
+     * Find rows whose JSONB metadata contains the given document ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM providers WHERE metadata @> :document")
+    Flux<Provider> findWhereMetadataContains(Json document);
 }
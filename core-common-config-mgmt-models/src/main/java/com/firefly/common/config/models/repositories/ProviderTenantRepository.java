@@ -18,9 +18,16 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.ProviderTenant;
+import com.firefly.common.config.models.entities.ProviderTenantUsage;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
@@ -41,5 +48,72 @@ public interface ProviderTenantRepository extends BaseRepository<ProviderTenant,
     Flux<ProviderTenant> findByTenantIdAndEnabledTrue(UUID tenantId);
 
     Flux<ProviderTenant> findByTenantIdAndIsPrimaryTrue(UUID tenantId);
-}
 
+    Flux<ProviderTenant> findByTenantIdAndEnabledTrueAndActiveTrue(UUID tenantId);
+
+    /**
+     * Adds flushed usage to the lifetime metrics of a relationship without
+     * touching its version, so metering never conflicts with configuration
+     * updates. The stored average response time is weighted by the number of
+     * requests that reported a response time, kept in
+     * {@code timed_requests_count}.
+     *
+     * @param id the relationship ID
+     * @param requests requests since the last flush, failed ones included
+     * @param failures failed requests since the last flush
+     * @param timedRequests requests that reported a response time
+     * @param responseTimeSumMs sum of the reported response times
+     * @param lastUsedAt time of the latest request
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("""
+        UPDATE provider_tenants SET
+            average_response_time_ms = CASE WHEN :timedRequests = 0 THEN average_response_time_ms
+                ELSE ROUND((COALESCE(average_response_time_ms, 0)::numeric * COALESCE(timed_requests_count, 0)
+                    + :responseTimeSumMs) / (COALESCE(timed_requests_count, 0) + :timedRequests))::integer END,
+            timed_requests_count = COALESCE(timed_requests_count, 0) + :timedRequests,
+            total_requests_count = COALESCE(total_requests_count, 0) + :requests,
+            total_failures_count = COALESCE(total_failures_count, 0) + :failures,
+            last_used_at = GREATEST(last_used_at, :lastUsedAt)
+        WHERE id = :id
+        """)
+    Mono<Integer> addUsageMetrics(UUID id, long requests, long failures, long timedRequests,
+                                  long responseTimeSumMs, LocalDateTime lastUsedAt);
+
+    /**
+     * Adds flushed usage to a relationship's month and returns the month's
+     * totals, which include the usage flushed by other nodes.
+     */
+    @Query("""
+        INSERT INTO provider_tenant_usage AS u
+            (provider_tenant_id, period_start, transaction_count, failure_count, volume, cost, updated_at)
+        VALUES (:providerTenantId, :periodStart, :transactions, :failures, :volume, :cost, CURRENT_TIMESTAMP)
+        ON CONFLICT (provider_tenant_id, period_start) DO UPDATE SET
+            transaction_count = u.transaction_count + EXCLUDED.transaction_count,
+            failure_count = u.failure_count + EXCLUDED.failure_count,
+            volume = u.volume + EXCLUDED.volume,
+            cost = u.cost + EXCLUDED.cost,
+            updated_at = EXCLUDED.updated_at
+        RETURNING *
+        """)
+    Mono<ProviderTenantUsage> addPeriodUsage(UUID providerTenantId, LocalDate periodStart, long transactions,
+                                             long failures, BigDecimal volume, BigDecimal cost);
+
+    /**
+     * Loads the usage of every relationship in a month. Named without a read
+     * prefix so that, with read replicas, it runs on the primary and quota
+     * checks start from current totals.
+     */
+    @Query("SELECT * FROM provider_tenant_usage WHERE period_start = :periodStart")
+    Flux<ProviderTenantUsage> loadPeriodUsage(LocalDate periodStart);
+
+    @Query("SELECT * FROM provider_tenant_usage WHERE provider_tenant_id = :providerTenantId AND period_start = :periodStart")
+    Mono<ProviderTenantUsage> loadPeriodUsage(UUID providerTenantId, LocalDate periodStart);
+
+    /**
+     * Find rows whose JSONB metadata contains the given document ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM provider_tenants WHERE metadata @> :document")
+    Flux<ProviderTenant> findWhereMetadataContains(Json document);
+}
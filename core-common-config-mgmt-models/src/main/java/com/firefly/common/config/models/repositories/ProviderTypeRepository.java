@@ -18,6 +18,7 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.ProviderType;
+import com.firefly.common.config.models.projections.CodeReference;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -29,4 +30,8 @@ public interface ProviderTypeRepository extends BaseRepository<ProviderType, UUI
     Flux<ProviderType> findByActiveTrue();
 
     Mono<ProviderType> findByCode(String code);
+
+    Flux<CodeReference> findAllCodesBy();
+
+    Mono<CodeReference> findCodeById(UUID id);
 }
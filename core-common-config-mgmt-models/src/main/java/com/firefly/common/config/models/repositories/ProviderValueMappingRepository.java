@@ -18,6 +18,8 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.ProviderValueMapping;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -87,5 +89,10 @@ public interface ProviderValueMappingRepository extends BaseRepository<ProviderV
      * @return Flux of provider value mappings
      */
     Flux<ProviderValueMapping> findByDirection(String direction);
-}
 
+    /**
+     * Find rows whose JSONB metadata contains the given document ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM provider_value_mappings WHERE metadata @> :document")
+    Flux<ProviderValueMapping> findWhereMetadataContains(Json document);
+}
@@ -18,6 +18,8 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.TenantBranding;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -40,5 +42,10 @@ public interface TenantBrandingRepository extends BaseRepository<TenantBranding,
      * @return Mono of tenant branding
      */
     Mono<TenantBranding> findByTenantId(UUID tenantId);
-}
 
+    /**
+     * Find rows whose JSONB metadata contains the given document ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM tenant_brandings WHERE metadata @> :document")
+    Flux<TenantBranding> findWhereMetadataContains(Json document);
+}
@@ -18,6 +18,10 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.Tenant;
+import com.firefly.common.config.models.projections.TenantCodeReference;
+import com.firefly.common.config.models.projections.TenantLink;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -30,6 +34,10 @@ public interface TenantRepository extends BaseRepository<Tenant, UUID> {
 
     Mono<Tenant> findByCode(String code);
 
+    Flux<TenantCodeReference> findAllCodesBy();
+
+    Mono<TenantCodeReference> findCodeById(UUID id);
+
     Flux<Tenant> findByTenantStatusId(UUID tenantStatusId);
 
     Flux<Tenant> findByCountryId(UUID countryId);
@@ -37,5 +45,14 @@ public interface TenantRepository extends BaseRepository<Tenant, UUID> {
     Flux<Tenant> findBySubscriptionTier(String subscriptionTier);
 
     Flux<Tenant> findByIsTrialTrue();
-}
 
+    Flux<Tenant> findByParentTenantId(UUID parentTenantId);
+
+    Flux<TenantLink> findAllLinksBy();
+
+    /**
+     * Find rows whose JSONB metadata contains the given document ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM tenants WHERE metadata @> :document")
+    Flux<Tenant> findWhereMetadataContains(Json document);
+}
@@ -18,9 +18,12 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.TenantSettings;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.Collection;
 import java.util.UUID;
 
 @Repository
@@ -31,5 +34,12 @@ public interface TenantSettingsRepository extends BaseRepository<TenantSettings,
     Mono<TenantSettings> findByTenantId(UUID tenantId);
 
     Flux<TenantSettings> findByMaintenanceModeEnabledTrue();
-}
 
+    Flux<TenantSettings> findByTenantIdInAndActiveTrue(Collection<UUID> tenantIds);
+
+    /**
+     * Find rows whose JSONB metadata contains the given document ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM tenant_settings WHERE metadata @> :document")
+    Flux<TenantSettings> findWhereMetadataContains(Json document);
+}
@@ -18,6 +18,8 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.TenantStatus;
+import com.firefly.common.config.models.projections.CodeReference;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -29,5 +31,16 @@ public interface TenantStatusRepository extends BaseRepository<TenantStatus, UUI
     Flux<TenantStatus> findByActiveTrue();
 
     Mono<TenantStatus> findByCode(String code);
+
+    Flux<CodeReference> findAllCodesBy();
+
+    Mono<CodeReference> findCodeById(UUID id);
+
+    @Query("""
+        SELECT s.* FROM tenant_statuses s
+        JOIN tenants t ON t.tenant_status_id = s.id
+        WHERE t.id = :tenantId
+        """)
+    Mono<TenantStatus> findStatusOfTenant(UUID tenantId);
 }
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.repositories;
+
+import lombok.Getter;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Thrown when an optimistic update finds the row at a different version than
+ * the caller read.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Getter
+public class VersionConflictException extends OptimisticLockingFailureException {
+
+    private final String entityType;
+    private final Object entityId;
+    private final Object expectedVersion;
+    private final Object currentVersion;
+
+    public VersionConflictException(String entityType, Object entityId, Object expectedVersion, Object currentVersion) {
+        super(entityType + " with id: " + entityId + " was modified concurrently (expected version "
+                + expectedVersion + ", current version " + currentVersion + ")");
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+}
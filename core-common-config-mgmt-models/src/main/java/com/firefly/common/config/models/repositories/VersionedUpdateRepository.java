@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.repositories;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Repository fragment for single-statement optimistic updates.
+ *
+ * @param <T> the entity type
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public interface VersionedUpdateRepository<T> {
+
+    /**
+     * Replaces the stored row with the entity in one
+     * {@code UPDATE ... WHERE id = ? AND version = ? RETURNING *} statement.
+     *
+     * <p>The entity's version is the version the caller last read; when it is
+     * null the row is updated unconditionally. The version is incremented,
+     * the last-modified timestamp is set, and creation audit columns and the
+     * given preserved properties keep their stored values.</p>
+     *
+     * @param entity the entity with its ID and expected version set
+     * @param preservedProperties entity property names that must not be overwritten
+     * @return the updated row, or empty if no row has the entity's ID
+     * @throws VersionConflictException (as an error signal) if the row exists with another version
+     */
+    Mono<T> updateReturning(T entity, String... preservedProperties);
+
+    /**
+     * Writes only the given properties of the entity in one statement and
+     * returns the stored row together with the previous values of those
+     * columns, so callers can report exactly what changed.
+     *
+     * <p>Versioning follows {@link #updateReturning}: a non-null entity
+     * version is the expected version, and the version and last-modified
+     * timestamp are bumped whenever the statement runs. An empty property set
+     * writes nothing and returns the current row.</p>
+     *
+     * @param entity the entity holding the ID, expected version and new values
+     * @param properties entity property names to write
+     * @return the result, or empty if no row has the entity's ID
+     * @throws IllegalArgumentException (as an error signal) if a property is unknown or not updatable
+     * @throws VersionConflictException (as an error signal) if the row exists with another version
+     */
+    Mono<PatchResult<T>> patchReturning(T entity, Collection<String> properties);
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.repositories;
+
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.annotation.CreatedBy;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of {@link VersionedUpdateRepository}.
+ *
+ * <p>The full-row statement for each entity type is derived once from the
+ * mapping metadata and cached; column values are produced by the regular
+ * entity converter, so custom conversions apply exactly as they do for
+ * {@code save}. A conditional update that touches no row is followed by a
+ * version lookup only to tell a conflict from a missing row.</p>
+ *
+ * <p>Patches join the target row with a locked copy of itself, so the
+ * previous values of the written columns come back in the same
+ * {@code RETURNING} clause as the new row.</p>
+ *
+ * @param <T> the entity type
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class VersionedUpdateRepositoryImpl<T> implements VersionedUpdateRepository<T> {
+
+    private static final String OLD_VALUE_PREFIX = "old_";
+
+    private final R2dbcEntityTemplate template;
+
+    private final Map<StatementKey, UpdateStatement> statements = new ConcurrentHashMap<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Mono<T> updateReturning(T entity, String... preservedProperties) {
+        Class<T> type = (Class<T>) entity.getClass();
+        UpdateStatement statement = statements.computeIfAbsent(
+                new StatementKey(type, Set.of(preservedProperties)), this::prepare);
+
+        PersistentPropertyAccessor<T> accessor = statement.entity().getPropertyAccessor(entity);
+        Object id = accessor.getProperty(statement.entity().getRequiredIdProperty());
+        if (id == null) {
+            return Mono.error(new IllegalArgumentException(type.getSimpleName() + " has no id to update"));
+        }
+        touch(accessor, statement.lastModified());
+        Object expectedVersion = statement.version() != null ? accessor.getProperty(statement.version()) : null;
+
+        OutboundRow row = template.getDataAccessStrategy().getOutboundRow(accessor.getBean());
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+                .sql(expectedVersion != null ? statement.conditionalSql() : statement.unconditionalSql())
+                .bind("id", id);
+        spec = bindColumns(spec, row, statement.columns());
+        if (expectedVersion != null) {
+            spec = spec.bind("expectedVersion", expectedVersion);
+        }
+
+        Mono<T> updated = spec.map((result, metadata) -> template.getConverter().read(type, result, metadata)).one();
+        return expectedVersion == null
+                ? updated
+                : updated.switchIfEmpty(conflictOrMissing(statement.entity(), id, expectedVersion));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Mono<PatchResult<T>> patchReturning(T entity, Collection<String> properties) {
+        Class<T> type = (Class<T>) entity.getClass();
+        RelationalPersistentEntity<?> persistent = template.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(type);
+        PersistentPropertyAccessor<T> accessor = persistent.getPropertyAccessor(entity);
+        RelationalPersistentProperty idProperty = persistent.getRequiredIdProperty();
+        Object id = accessor.getProperty(idProperty);
+        if (id == null) {
+            return Mono.error(new IllegalArgumentException(type.getSimpleName() + " has no id to update"));
+        }
+
+        List<RelationalPersistentProperty> columns = new ArrayList<>(properties.size());
+        for (String name : new LinkedHashSet<>(properties)) {
+            RelationalPersistentProperty property = persistent.getPersistentProperty(name);
+            if (property == null || !isUpdatable(property) || property.isAnnotationPresent(LastModifiedDate.class)) {
+                return Mono.error(new IllegalArgumentException(
+                        "Field '" + name + "' cannot be updated on " + type.getSimpleName()));
+            }
+            columns.add(property);
+        }
+        if (columns.isEmpty()) {
+            return template.select(type)
+                    .matching(Query.query(Criteria.where(idProperty.getName()).is(id)))
+                    .one()
+                    .map(current -> new PatchResult<>(current, Map.of()));
+        }
+
+        RelationalPersistentProperty version = persistent.getVersionProperty();
+        RelationalPersistentProperty lastModified = lastModifiedProperty(persistent);
+        touch(accessor, lastModified);
+        Object expectedVersion = version != null ? accessor.getProperty(version) : null;
+
+        ReactiveDataAccessStrategy strategy = template.getDataAccessStrategy();
+        String table = strategy.toSql(persistent.getQualifiedTableName());
+        String idColumn = strategy.toSql(idProperty.getColumnName());
+        StringBuilder assignments = new StringBuilder();
+        StringBuilder selected = new StringBuilder(idColumn);
+        StringBuilder returning = new StringBuilder("n.*");
+        for (int i = 0; i < columns.size(); i++) {
+            String column = strategy.toSql(columns.get(i).getColumnName());
+            assignments.append(i == 0 ? "" : ", ").append(column).append(" = :c").append(i);
+            selected.append(", ").append(column);
+            returning.append(", o.").append(column).append(" AS ").append(OLD_VALUE_PREFIX).append(i);
+        }
+        if (lastModified != null) {
+            assignments.append(", ").append(strategy.toSql(lastModified.getColumnName())).append(" = :lastModified");
+        }
+        StringBuilder where = new StringBuilder(" WHERE n.").append(idColumn).append(" = o.").append(idColumn);
+        if (version != null) {
+            String versionColumn = strategy.toSql(version.getColumnName());
+            assignments.append(", ").append(versionColumn).append(" = n.").append(versionColumn).append(" + 1");
+            if (expectedVersion != null) {
+                where.append(" AND n.").append(versionColumn).append(" = :expectedVersion");
+            }
+        }
+        String sql = "UPDATE " + table + " AS n SET " + assignments
+                + " FROM (SELECT " + selected + " FROM " + table + " WHERE " + idColumn + " = :id FOR UPDATE) AS o"
+                + where + " RETURNING " + returning;
+
+        OutboundRow row = strategy.getOutboundRow(accessor.getBean());
+        DatabaseClient.GenericExecuteSpec spec = bindColumns(template.getDatabaseClient().sql(sql).bind("id", id),
+                row, columns);
+        if (lastModified != null) {
+            spec = bind(spec, "lastModified", row.get(lastModified.getColumnName()), lastModified);
+        }
+        if (expectedVersion != null) {
+            spec = spec.bind("expectedVersion", expectedVersion);
+        }
+
+        Mono<PatchResult<T>> patched = spec.map((result, metadata) -> readPatch(type, columns, result, metadata)).one();
+        return expectedVersion == null
+                ? patched
+                : patched.switchIfEmpty(conflictOrMissing(persistent, id, expectedVersion));
+    }
+
+    private PatchResult<T> readPatch(Class<T> type, List<RelationalPersistentProperty> columns,
+                                     Row result, RowMetadata metadata) {
+        T updated = template.getConverter().read(type, result, metadata);
+        Map<String, PatchResult.Change> changes = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            RelationalPersistentProperty property = columns.get(i);
+            Object oldValue = comparable(result.get(OLD_VALUE_PREFIX + i));
+            Object newValue = comparable(result.get(property.getColumnName().getReference()));
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.put(property.getName(), new PatchResult.Change(oldValue, newValue));
+            }
+        }
+        return new PatchResult<>(updated, changes);
+    }
+
+    /**
+     * Arrays and JSONB values have no value equality as returned by the
+     * driver, so they are compared (and audited) as lists and JSON text.
+     */
+    private static Object comparable(Object value) {
+        if (value instanceof Object[] array) {
+            return Arrays.asList(array);
+        }
+        if (value instanceof Json json) {
+            return json.asString();
+        }
+        return value;
+    }
+
+    private <R> Mono<R> conflictOrMissing(RelationalPersistentEntity<?> persistent, Object id, Object expectedVersion) {
+        ReactiveDataAccessStrategy strategy = template.getDataAccessStrategy();
+        String sql = "SELECT " + strategy.toSql(persistent.getRequiredVersionProperty().getColumnName())
+                + " FROM " + strategy.toSql(persistent.getQualifiedTableName())
+                + " WHERE " + strategy.toSql(persistent.getRequiredIdProperty().getColumnName()) + " = :id";
+        return Mono.defer(() -> template.getDatabaseClient()
+                .sql(sql)
+                .bind("id", id)
+                .map((result, metadata) -> result.get(0))
+                .one()
+                .flatMap(currentVersion -> Mono.<R>error(new VersionConflictException(
+                        persistent.getType().getSimpleName(), id, expectedVersion, currentVersion))));
+    }
+
+    private UpdateStatement prepare(StatementKey key) {
+        RelationalPersistentEntity<?> entity = template.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(key.type());
+        ReactiveDataAccessStrategy strategy = template.getDataAccessStrategy();
+        String table = strategy.toSql(entity.getQualifiedTableName());
+        String idColumn = strategy.toSql(entity.getRequiredIdProperty().getColumnName());
+        RelationalPersistentProperty version = entity.getVersionProperty();
+
+        List<RelationalPersistentProperty> columns = new ArrayList<>();
+        StringBuilder assignments = new StringBuilder();
+        for (RelationalPersistentProperty property : entity) {
+            if (!isUpdatable(property) || key.preservedProperties().contains(property.getName())) {
+                continue;
+            }
+            if (!assignments.isEmpty()) {
+                assignments.append(", ");
+            }
+            assignments.append(strategy.toSql(property.getColumnName())).append(" = :c").append(columns.size());
+            columns.add(property);
+        }
+
+        String update = "UPDATE " + table + " SET " + assignments;
+        String where = " WHERE " + idColumn + " = :id";
+        String conditional = null;
+        if (version != null) {
+            String versionColumn = strategy.toSql(version.getColumnName());
+            update += ", " + versionColumn + " = " + versionColumn + " + 1";
+            conditional = update + where + " AND " + versionColumn + " = :expectedVersion RETURNING *";
+        }
+        return new UpdateStatement(entity, List.copyOf(columns), version, lastModifiedProperty(entity),
+                update + where + " RETURNING *", conditional);
+    }
+
+    private static boolean isUpdatable(RelationalPersistentProperty property) {
+        return !property.isIdProperty()
+                && !property.isVersionProperty()
+                && property.isWritable()
+                && !property.isInsertOnly()
+                && !property.isAnnotationPresent(CreatedDate.class)
+                && !property.isAnnotationPresent(CreatedBy.class);
+    }
+
+    private static RelationalPersistentProperty lastModifiedProperty(RelationalPersistentEntity<?> entity) {
+        for (RelationalPersistentProperty property : entity) {
+            if (property.isAnnotationPresent(LastModifiedDate.class)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec,
+                                                                 OutboundRow row,
+                                                                 List<RelationalPersistentProperty> columns) {
+        for (int i = 0; i < columns.size(); i++) {
+            RelationalPersistentProperty property = columns.get(i);
+            spec = bind(spec, "c" + i, row.get(property.getColumnName()), property);
+        }
+        return spec;
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                          Parameter value, RelationalPersistentProperty property) {
+        if (value != null && value.hasValue()) {
+            return spec.bind(name, value.getValue());
+        }
+        return spec.bindNull(name, value != null ? value.getType() : property.getType());
+    }
+
+    private static <E> void touch(PersistentPropertyAccessor<E> accessor, RelationalPersistentProperty lastModified) {
+        if (lastModified == null) {
+            return;
+        }
+        Class<?> type = lastModified.getType();
+        if (type == LocalDateTime.class) {
+            accessor.setProperty(lastModified, LocalDateTime.now());
+        } else if (type == OffsetDateTime.class) {
+            accessor.setProperty(lastModified, OffsetDateTime.now());
+        } else if (type == Instant.class) {
+            accessor.setProperty(lastModified, Instant.now());
+        }
+    }
+
+    private record StatementKey(Class<?> type, Set<String> preservedProperties) {
+    }
+
+    private record UpdateStatement(RelationalPersistentEntity<?> entity,
+                                   List<RelationalPersistentProperty> columns,
+                                   RelationalPersistentProperty version,
+                                   RelationalPersistentProperty lastModified,
+                                   String unconditionalSql,
+                                   String conditionalSql) {
+    }
+}
@@ -18,6 +18,8 @@
 package com.firefly.common.config.models.repositories;
 
 import com.firefly.common.config.models.entities.WebhookConfig;
+import io.r2dbc.postgresql.codec.Json;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -37,5 +39,17 @@ public interface WebhookConfigRepository extends BaseRepository<WebhookConfig, U
     Flux<WebhookConfig> findByEnabledTrue();
 
     Mono<WebhookConfig> findByWebhookName(String webhookName);
-}
 
+    /**
+     * Find rows whose JSONB metadata contains the given document ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM webhook_configs WHERE metadata @> :document")
+    Flux<WebhookConfig> findWhereMetadataContains(Json document);
+
+    /**
+     * Find a tenant's enabled, active webhooks subscribed to an event type ({@code @>}, GIN-indexed)
+     */
+    @Query("SELECT * FROM webhook_configs WHERE tenant_id = :tenantId AND enabled = true AND active = true "
+            + "AND event_types @> ARRAY[:eventType]::text[]")
+    Flux<WebhookConfig> findSubscribedByTenantIdAndEventType(UUID tenantId, String eventType);
+}
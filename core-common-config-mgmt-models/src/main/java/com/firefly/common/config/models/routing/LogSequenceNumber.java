@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.routing;
+
+/**
+ * Parses PostgreSQL write-ahead log positions ({@code pg_lsn}) such as
+ * {@code 16/B374D848} into comparable longs.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+final class LogSequenceNumber {
+
+    private LogSequenceNumber() {
+    }
+
+    /**
+     * @param text the {@code pg_lsn} text form, may be null
+     * @return the position, or {@link RoutedPool#UNKNOWN_LSN} if null or malformed
+     */
+    static long parse(String text) {
+        if (text == null) {
+            return RoutedPool.UNKNOWN_LSN;
+        }
+        int slash = text.indexOf('/');
+        if (slash <= 0 || slash == text.length() - 1) {
+            return RoutedPool.UNKNOWN_LSN;
+        }
+        try {
+            long high = Long.parseLong(text, 0, slash, 16);
+            long low = Long.parseLong(text, slash + 1, text.length(), 16);
+            return (high << 32) | (low & 0xFFFFFFFFL);
+        } catch (NumberFormatException e) {
+            return RoutedPool.UNKNOWN_LSN;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.routing;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs a unit of reactive work in one R2DBC transaction on the primary.
+ *
+ * <p>Every repository call inside the work, reads included, shares the
+ * transaction's primary connection. When read replicas are enabled and the
+ * caller has a routing session, the primary's WAL position is recorded
+ * again after the commit: the positions recorded by the repository advice
+ * inside the transaction precede the commit record, so without this a
+ * replica could serve the session's next read before it has replayed the
+ * commit.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Component
+public class PrimaryTransactions {
+
+    private final TransactionalOperator transactionalOperator;
+    private final ObjectProvider<ReadReplicaConnectionFactory> router;
+
+    public PrimaryTransactions(TransactionalOperator transactionalOperator,
+                               ObjectProvider<ReadReplicaConnectionFactory> router) {
+        this.transactionalOperator = transactionalOperator;
+        this.router = router;
+    }
+
+    /**
+     * @param work the work to run; it must not subscribe to anything outside its own chain
+     * @return the work's result, emitted after the commit; an error rolls the transaction back
+     */
+    public <T> Mono<T> execute(Mono<T> work) {
+        return transactionalOperator.transactional(work)
+                .flatMap(value -> recordWrite().thenReturn(value))
+                .switchIfEmpty(Mono.defer(() -> recordWrite().then(Mono.empty())))
+                .contextWrite(ReadRouting::requirePrimary);
+    }
+
+    private Mono<Void> recordWrite() {
+        return Mono.deferContextual(context -> {
+            ReadReplicaConnectionFactory factory = router.getIfAvailable();
+            if (factory == null) {
+                return Mono.empty();
+            }
+            return ReadRouting.sessionOf(context)
+                    .map(factory::recordWrite)
+                    .orElse(Mono.empty());
+        });
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.routing;
+
+import io.r2dbc.spi.Connection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection factory that sends writes to the primary and read-only work to
+ * replicas.
+ *
+ * <p>A connection comes from a replica only when the subscriber context asks
+ * for one (see {@link ReadRouting}) and the replica is healthy, no further
+ * behind the primary than {@code max-lag-bytes}, and — if the context carries
+ * a routing session — has replayed at least up to that session's last write.
+ * Otherwise the primary is used, so reads after a write in the same session
+ * always see the write.</p>
+ *
+ * <p>Replay positions are polled every {@code lag-poll-interval}; session
+ * write positions are recorded by {@link #recordWrite(String)} and dropped
+ * once every healthy replica has passed them or after {@code session-ttl}.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReadReplicaConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    static final String POSITION_QUERY =
+            "SELECT (CASE WHEN pg_is_in_recovery() THEN pg_last_wal_replay_lsn() ELSE pg_current_wal_lsn() END)::text";
+
+    private final RoutedPool primary;
+    private final List<RoutedPool> replicas;
+    private final Duration pollInterval;
+    private final long maxLagBytes;
+    private final long sessionTtlNanos;
+
+    private final Map<String, SessionMark> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final LongAdder fallbacks = new LongAdder();
+
+    private volatile Disposable poller;
+
+    public ReadReplicaConnectionFactory(RoutedPool primary, List<RoutedPool> replicas, ReadReplicaProperties properties) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.pollInterval = properties.getLagPollInterval();
+        this.maxLagBytes = properties.getMaxLagBytes();
+        this.sessionTtlNanos = properties.getSessionTtl().toNanos();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(primary.getName(), primary.getPool());
+        for (RoutedPool replica : this.replicas) {
+            targets.put(replica.getName(), replica.getPool());
+        }
+        setTargetConnectionFactories(targets);
+        setDefaultTargetConnectionFactory(primary.getPool());
+        setLenientFallback(false);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (!replicas.isEmpty()) {
+            poller = Flux.interval(Duration.ZERO, pollInterval)
+                    .onBackpressureDrop()
+                    .concatMap(tick -> poll())
+                    .subscribe();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        Disposable current = poller;
+        if (current != null) {
+            current.dispose();
+        }
+        for (RoutedPool replica : replicas) {
+            replica.getPool().dispose();
+        }
+        primary.getPool().dispose();
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.just(select(context).getName()));
+    }
+
+    /**
+     * Remembers the primary's current WAL position as the minimum a replica
+     * must have replayed before it may serve reads for the session.
+     *
+     * @param sessionId the routing session
+     * @return completion once the position is recorded
+     */
+    public Mono<Void> recordWrite(String sessionId) {
+        if (replicas.isEmpty()) {
+            return Mono.empty();
+        }
+        return queryPosition(primary)
+                .doOnNext(position -> sessions.merge(sessionId,
+                        new SessionMark(position, System.nanoTime() + sessionTtlNanos),
+                        SessionMark::latest))
+                .onErrorResume(e -> {
+                    // Without a position the session cannot be matched to a replica, so pin it to the primary
+                    log.warn("Could not read primary WAL position for session {}: {}", sessionId, e.getMessage());
+                    sessions.put(sessionId, new SessionMark(Long.MAX_VALUE, System.nanoTime() + sessionTtlNanos));
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    public RoutedPool getPrimary() {
+        return primary;
+    }
+
+    public List<RoutedPool> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * @return all pools, primary first
+     */
+    public List<RoutedPool> getPools() {
+        List<RoutedPool> pools = new ArrayList<>(replicas.size() + 1);
+        pools.add(primary);
+        pools.addAll(replicas);
+        return Collections.unmodifiableList(pools);
+    }
+
+    /**
+     * @return read-only requests that had to use the primary because no replica was eligible
+     */
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    /**
+     * @return sessions whose last write has not yet reached every replica
+     */
+    public int getTrackedSessionCount() {
+        return sessions.size();
+    }
+
+    RoutedPool select(ContextView context) {
+        if (replicas.isEmpty() || ReadRouting.targetOf(context) != ReadRouting.Target.REPLICA) {
+            return routed(primary);
+        }
+        long required = ReadRouting.sessionOf(context)
+                .map(this::requiredPosition)
+                .orElse(RoutedPool.UNKNOWN_LSN);
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            RoutedPool replica = replicas.get((start + i) % size);
+            if (isEligible(replica, required)) {
+                return routed(replica);
+            }
+        }
+        fallbacks.increment();
+        return routed(primary);
+    }
+
+    private boolean isEligible(RoutedPool replica, long requiredPosition) {
+        if (!replica.isHealthy()) {
+            return false;
+        }
+        if (maxLagBytes > 0 && (replica.getLagBytes() < 0 || replica.getLagBytes() > maxLagBytes)) {
+            return false;
+        }
+        return requiredPosition == RoutedPool.UNKNOWN_LSN || replica.getWalPosition() >= requiredPosition;
+    }
+
+    private long requiredPosition(String sessionId) {
+        SessionMark mark = sessions.get(sessionId);
+        if (mark == null) {
+            return RoutedPool.UNKNOWN_LSN;
+        }
+        if (mark.isExpired(System.nanoTime())) {
+            sessions.remove(sessionId, mark);
+            return RoutedPool.UNKNOWN_LSN;
+        }
+        return mark.position();
+    }
+
+    private static RoutedPool routed(RoutedPool pool) {
+        pool.recordRouted();
+        return pool;
+    }
+
+    private Mono<Void> poll() {
+        return queryPosition(primary)
+                .defaultIfEmpty(RoutedPool.UNKNOWN_LSN)
+                .onErrorResume(e -> {
+                    log.warn("Could not read primary WAL position: {}", e.getMessage());
+                    return Mono.just(RoutedPool.UNKNOWN_LSN);
+                })
+                .flatMap(primaryPosition -> {
+                    primary.update(primaryPosition, 0L);
+                    return Flux.fromIterable(replicas)
+                            .flatMap(replica -> pollReplica(replica, primaryPosition))
+                            .then();
+                })
+                .doOnSuccess(done -> pruneSessions());
+    }
+
+    private Mono<Void> pollReplica(RoutedPool replica, long primaryPosition) {
+        return queryPosition(replica)
+                .doOnNext(position -> replica.update(position,
+                        primaryPosition < 0 || position < 0 ? RoutedPool.UNKNOWN_LSN : Math.max(0L, primaryPosition - position)))
+                .switchIfEmpty(Mono.fromRunnable(replica::markUnhealthy))
+                .onErrorResume(e -> {
+                    if (replica.isHealthy()) {
+                        log.warn("Replica {} is unavailable for reads: {}", replica.getName(), e.getMessage());
+                    }
+                    replica.markUnhealthy();
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void pruneSessions() {
+        long slowest = Long.MAX_VALUE;
+        for (RoutedPool replica : replicas) {
+            if (replica.isHealthy()) {
+                slowest = Math.min(slowest, replica.getWalPosition());
+            }
+        }
+        long now = System.nanoTime();
+        long caughtUp = slowest == Long.MAX_VALUE ? RoutedPool.UNKNOWN_LSN : slowest;
+        sessions.values().removeIf(mark -> mark.isExpired(now) || mark.position() <= caughtUp);
+    }
+
+    private static Mono<Long> queryPosition(RoutedPool pool) {
+        return Mono.usingWhen(
+                pool.getPool().create(),
+                connection -> Mono.from(connection.createStatement(POSITION_QUERY).execute())
+                        .flatMap(result -> Mono.from(result.map((row, metadata) ->
+                                LogSequenceNumber.parse(row.get(0, String.class))))),
+                Connection::close)
+                .filter(position -> position != RoutedPool.UNKNOWN_LSN);
+    }
+
+    private record SessionMark(long position, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+
+        static SessionMark latest(SessionMark existing, SessionMark written) {
+            return new SessionMark(Math.max(existing.position(), written.position()), written.expiresAtNanos());
+        }
+    }
+}
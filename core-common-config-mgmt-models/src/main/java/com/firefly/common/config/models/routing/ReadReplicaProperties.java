@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-replica routing settings ({@code firefly.config.r2dbc.read-replicas.*}).
+ * The primary keeps using the standard {@code spring.r2dbc.*} settings.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "firefly.config.r2dbc.read-replicas")
+public class ReadReplicaProperties {
+
+    /**
+     * Enables routing; when false the single {@code spring.r2dbc} pool is used.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Request header carrying the read-your-writes session ID.
+     */
+    private String sessionHeader = "X-Config-Session";
+
+    /**
+     * How often replica replay positions and the primary WAL position are polled.
+     */
+    private Duration lagPollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Replicas further behind the primary than this many WAL bytes are not
+     * used for reads; 0 disables the check.
+     */
+    private long maxLagBytes = 16L * 1024 * 1024;
+
+    /**
+     * How long a session's last write position is remembered.
+     */
+    private Duration sessionTtl = Duration.ofMinutes(5);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * One replica pool.
+     */
+    @Data
+    public static class Replica {
+
+        /**
+         * Plain (non-pool) R2DBC URL, e.g. {@code r2dbc:postgresql://replica-1:5432/config}.
+         */
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int initialSize = 2;
+
+        private int maxSize = 10;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.routing;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single {@code spring.r2dbc} pool with a primary pool plus one
+ * pool per configured replica behind a {@link ReadReplicaConnectionFactory},
+ * and advises every R2DBC repository with {@link ReadWriteRoutingInterceptor}.
+ * Active only when {@code firefly.config.r2dbc.read-replicas.enabled=true}.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "firefly.config.r2dbc.read-replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaRoutingConfiguration {
+
+    @Bean
+    @Primary
+    public ReadReplicaConnectionFactory connectionFactory(R2dbcProperties r2dbc, ReadReplicaProperties properties) {
+        R2dbcProperties.Pool pool = r2dbc.getPool();
+        RoutedPool primary = new RoutedPool("primary", false, createPool("primary", r2dbc.getUrl(),
+                r2dbc.getUsername(), r2dbc.getPassword(), pool.getInitialSize(), pool.getMaxSize(),
+                pool.getMaxIdleTime(), pool.getValidationQuery()));
+
+        List<RoutedPool> replicas = new ArrayList<>();
+        for (ReadReplicaProperties.Replica replica : properties.getReplicas()) {
+            String name = "replica-" + replicas.size();
+            replicas.add(new RoutedPool(name, true, createPool(name, replica.getUrl(),
+                    replica.getUsername(), replica.getPassword(), replica.getInitialSize(), replica.getMaxSize(),
+                    pool.getMaxIdleTime(), pool.getValidationQuery())));
+        }
+        return new ReadReplicaConnectionFactory(primary, replicas, properties);
+    }
+
+    @Bean
+    public static BeanPostProcessor readReplicaRepositoryPostProcessor(
+            ObjectProvider<ReadReplicaConnectionFactory> router) {
+        ReadWriteRoutingInterceptor interceptor = new ReadWriteRoutingInterceptor(router);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(interceptor)));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static ConnectionPool createPool(String name, String url, String username, String password,
+                                             int initialSize, int maxSize, Duration maxIdleTime,
+                                             String validationQuery) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("No R2DBC URL configured for pool " + name);
+        }
+        // Pooling is done here, so an r2dbc:pool: URL must not create a second pool underneath
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions
+                .parse(url.replaceFirst("^r2dbc:pool:", "r2dbc:"))
+                .mutate();
+        if (username != null) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (password != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionPoolConfiguration.Builder configuration = ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name(name)
+                .initialSize(initialSize)
+                .maxSize(maxSize);
+        if (maxIdleTime != null) {
+            configuration.maxIdleTime(maxIdleTime);
+        }
+        if (validationQuery != null && !validationQuery.isBlank()) {
+            configuration.validationQuery(validationQuery);
+        }
+        return new ConnectionPool(configuration.build());
+    }
+}
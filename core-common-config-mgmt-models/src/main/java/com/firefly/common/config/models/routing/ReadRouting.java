@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.routing;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Optional;
+
+/**
+ * Reactor {@link Context} keys that steer {@link ReadReplicaConnectionFactory}.
+ *
+ * <p>Writes always use the primary. Reads use a replica only when the
+ * subscriber context asks for one with {@link #preferReplica(Context)}; the
+ * routing session set with {@link #withSession(Context, String)} gives
+ * read-your-writes consistency across requests of the same client.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class ReadRouting {
+
+    /**
+     * Where a connection should come from.
+     */
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    static final String TARGET_KEY = ReadRouting.class.getName() + ".target";
+    static final String SESSION_KEY = ReadRouting.class.getName() + ".session";
+
+    private ReadRouting() {
+    }
+
+    /**
+     * Marks the context as read-only unless a target was already chosen.
+     *
+     * @param context the subscriber context
+     * @return the updated context
+     */
+    public static Context preferReplica(Context context) {
+        return context.hasKey(TARGET_KEY) ? context : context.put(TARGET_KEY, Target.REPLICA);
+    }
+
+    /**
+     * Forces the primary, e.g. for writes and everything they read back.
+     *
+     * @param context the subscriber context
+     * @return the updated context
+     */
+    public static Context requirePrimary(Context context) {
+        return context.put(TARGET_KEY, Target.PRIMARY);
+    }
+
+    /**
+     * Attaches a read-your-writes session.
+     *
+     * @param context the subscriber context
+     * @param sessionId the client session (ignored if null or blank)
+     * @return the updated context
+     */
+    public static Context withSession(Context context, String sessionId) {
+        return sessionId == null || sessionId.isBlank() ? context : context.put(SESSION_KEY, sessionId);
+    }
+
+    /**
+     * @param context the subscriber context
+     * @return the requested target, the primary if none was chosen
+     */
+    public static Target targetOf(ContextView context) {
+        return context.getOrDefault(TARGET_KEY, Target.PRIMARY);
+    }
+
+    /**
+     * @param context the subscriber context
+     * @return the read-your-writes session, if one is attached
+     */
+    public static Optional<String> sessionOf(ContextView context) {
+        return context.getOrEmpty(SESSION_KEY);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.routing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.r2dbc.repository.Modifying;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Repository advice that pins writes to the primary.
+ *
+ * <p>Query methods ({@code find…}, {@code count…}, {@code exists…} and the
+ * other Spring Data read prefixes) without {@link Modifying} keep the
+ * caller's target: they use a replica only inside a context marked
+ * read-only, such as a {@code GET} request, and the primary otherwise. The
+ * re-reads change-event listeners run right after a commit, and the reads a
+ * service does before an update or delete, therefore never see a lagging
+ * replica. Everything else runs on the primary and, when the caller has a
+ * routing session, records the primary's WAL position afterwards so the
+ * session's next reads wait for a replica that has caught up.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+class ReadWriteRoutingInterceptor implements MethodInterceptor {
+
+    private static final String[] READ_PREFIXES =
+            {"find", "read", "get", "query", "search", "stream", "count", "exists"};
+
+    private final ObjectProvider<ReadReplicaConnectionFactory> router;
+    private final Map<Method, Boolean> readOnly = new ConcurrentHashMap<>();
+
+    ReadWriteRoutingInterceptor(ObjectProvider<ReadReplicaConnectionFactory> router) {
+        this.router = router;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        if (readOnly.computeIfAbsent(invocation.getMethod(), ReadWriteRoutingInterceptor::isReadOnly)) {
+            return result;
+        }
+        if (result instanceof Mono<?> mono) {
+            return afterWrite(mono);
+        }
+        if (result instanceof Flux<?> flux) {
+            return afterWrite(flux);
+        }
+        return result;
+    }
+
+    private <T> Mono<T> afterWrite(Mono<T> write) {
+        return write
+                .flatMap(value -> recordWrite().thenReturn(value))
+                .switchIfEmpty(Mono.defer(() -> recordWrite().then(Mono.empty())))
+                .contextWrite(ReadRouting::requirePrimary);
+    }
+
+    private <T> Flux<T> afterWrite(Flux<T> write) {
+        return write
+                .concatWith(recordWrite().then(Mono.empty()))
+                .contextWrite(ReadRouting::requirePrimary);
+    }
+
+    private Mono<Void> recordWrite() {
+        return Mono.deferContextual(context -> ReadRouting.sessionOf(context)
+                .map(session -> router.getObject().recordWrite(session))
+                .orElse(Mono.empty()));
+    }
+
+    static boolean isReadOnly(Method method) {
+        if (method.isAnnotationPresent(Modifying.class)) {
+            return false;
+        }
+        String name = method.getName();
+        for (String prefix : READ_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.routing;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import lombok.Getter;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One connection pool behind {@link ReadReplicaConnectionFactory}, together
+ * with its routing counters and, for replicas, the last observed replay
+ * position.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class RoutedPool {
+
+    /**
+     * Replay position not known yet.
+     */
+    public static final long UNKNOWN_LSN = -1L;
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final boolean replica;
+
+    @Getter
+    private final ConnectionPool pool;
+
+    private final LongAdder routed = new LongAdder();
+
+    private volatile long walPosition = UNKNOWN_LSN;
+    private volatile boolean healthy;
+    private volatile long lagBytes = UNKNOWN_LSN;
+
+    RoutedPool(String name, boolean replica, ConnectionPool pool) {
+        this.name = name;
+        this.replica = replica;
+        this.pool = pool;
+        // The primary is always considered reachable; replicas must prove it first
+        this.healthy = !replica;
+    }
+
+    /**
+     * @return connections handed out by this pool through the router
+     */
+    public long getRoutedCount() {
+        return routed.sum();
+    }
+
+    /**
+     * @return the replay position for replicas or the current WAL position for the primary
+     */
+    public long getWalPosition() {
+        return walPosition;
+    }
+
+    /**
+     * @return bytes of WAL the replica still has to replay, or -1 if unknown
+     */
+    public long getLagBytes() {
+        return lagBytes;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public Optional<PoolMetrics> getPoolMetrics() {
+        return pool.getMetrics();
+    }
+
+    void recordRouted() {
+        routed.increment();
+    }
+
+    void update(long walPosition, long lagBytes) {
+        this.walPosition = walPosition;
+        this.lagBytes = lagBytes;
+        this.healthy = true;
+    }
+
+    void markUnhealthy() {
+        this.healthy = false;
+    }
+}
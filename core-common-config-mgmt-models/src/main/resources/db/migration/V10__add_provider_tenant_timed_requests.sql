@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+-- =====================================================
+-- V10: Provider Tenant Timed Request Count
+-- =====================================================
+-- average_response_time_ms is a running average over
+-- the requests that reported a response time, which
+-- can be fewer than total_requests_count. Its weight is
+-- kept in its own column so that untimed requests do
+-- not pull the average down. Existing averages were
+-- weighted by the total, so the new column starts there.
+-- =====================================================
+
+ALTER TABLE provider_tenants ADD COLUMN timed_requests_count BIGINT DEFAULT 0;
+
+UPDATE provider_tenants
+SET timed_requests_count = COALESCE(total_requests_count, 0)
+WHERE average_response_time_ms IS NOT NULL;
+
+COMMENT ON COLUMN provider_tenants.timed_requests_count IS 'Requests included in average_response_time_ms';
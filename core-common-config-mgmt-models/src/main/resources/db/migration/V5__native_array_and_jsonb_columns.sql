@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+-- =====================================================
+-- V5: Native Array and JSONB Columns
+-- =====================================================
+-- Delimited list columns become TEXT[] and JSON document
+-- columns become JSONB, each with a GIN index, so that
+-- containment queries (@>, &&) run in PostgreSQL instead
+-- of matching strings in application code.
+-- =====================================================
+
+-- =====================================================
+-- CONVERSION HELPERS (dropped at the end)
+-- =====================================================
+-- Accepts a JSON array or a comma/semicolon separated list
+CREATE OR REPLACE FUNCTION firefly_to_text_array(value TEXT) RETURNS TEXT[] AS $$
+DECLARE
+    trimmed TEXT := btrim(value);
+BEGIN
+    IF trimmed IS NULL OR trimmed = '' THEN
+        RETURN NULL;
+    END IF;
+    IF left(trimmed, 1) = '[' THEN
+        BEGIN
+            RETURN ARRAY(SELECT btrim(element) FROM jsonb_array_elements_text(trimmed::jsonb) AS element
+                         WHERE btrim(element) <> '');
+        EXCEPTION WHEN others THEN
+            trimmed := btrim(trimmed, '[]');
+        END;
+    END IF;
+    RETURN ARRAY(SELECT btrim(element, E' \t\r\n"''') FROM regexp_split_to_table(trimmed, '[,;]') AS element
+                 WHERE btrim(element, E' \t\r\n"''') <> '');
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Keeps valid JSON as is and wraps anything else in a JSON string
+CREATE OR REPLACE FUNCTION firefly_to_jsonb(value TEXT) RETURNS JSONB AS $$
+BEGIN
+    IF value IS NULL OR btrim(value) = '' THEN
+        RETURN NULL;
+    END IF;
+    RETURN value::jsonb;
+EXCEPTION WHEN others THEN
+    RETURN to_jsonb(value);
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- =====================================================
+-- LIST COLUMNS TO TEXT[]
+-- =====================================================
+ALTER TABLE webhook_configs
+    ALTER COLUMN event_types TYPE TEXT[] USING firefly_to_text_array(event_types);
+ALTER TABLE channel_configs
+    ALTER COLUMN features_enabled TYPE TEXT[] USING firefly_to_text_array(features_enabled);
+ALTER TABLE channel_configs
+    ALTER COLUMN supported_platforms TYPE TEXT[] USING firefly_to_text_array(supported_platforms);
+ALTER TABLE feature_flags
+    ALTER COLUMN target_user_segments TYPE TEXT[] USING firefly_to_text_array(target_user_segments);
+
+CREATE INDEX IF NOT EXISTS idx_webhook_configs_event_types ON webhook_configs USING GIN (event_types);
+CREATE INDEX IF NOT EXISTS idx_channel_configs_features_enabled ON channel_configs USING GIN (features_enabled);
+CREATE INDEX IF NOT EXISTS idx_channel_configs_supported_platforms ON channel_configs USING GIN (supported_platforms);
+CREATE INDEX IF NOT EXISTS idx_feature_flags_target_user_segments ON feature_flags USING GIN (target_user_segments);
+
+-- =====================================================
+-- JSON DOCUMENT COLUMNS TO JSONB
+-- =====================================================
+ALTER TABLE webhook_configs
+    ALTER COLUMN custom_headers TYPE JSONB USING firefly_to_jsonb(custom_headers);
+
+ALTER TABLE tenants ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+ALTER TABLE tenant_brandings ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+ALTER TABLE tenant_settings ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+ALTER TABLE providers ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+ALTER TABLE provider_parameters ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+ALTER TABLE provider_value_mappings ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+ALTER TABLE provider_tenants ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+ALTER TABLE feature_flags ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+ALTER TABLE webhook_configs ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+ALTER TABLE configuration_audits ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+ALTER TABLE environment_configs ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+ALTER TABLE channel_configs ALTER COLUMN metadata TYPE JSONB USING firefly_to_jsonb(metadata);
+
+-- jsonb_path_ops indexes are smaller and serve @> queries, the only operator used on metadata
+CREATE INDEX IF NOT EXISTS idx_tenants_metadata ON tenants USING GIN (metadata jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_tenant_brandings_metadata ON tenant_brandings USING GIN (metadata jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_tenant_settings_metadata ON tenant_settings USING GIN (metadata jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_providers_metadata ON providers USING GIN (metadata jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_provider_parameters_metadata ON provider_parameters USING GIN (metadata jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_provider_value_mappings_metadata ON provider_value_mappings USING GIN (metadata jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_provider_tenants_metadata ON provider_tenants USING GIN (metadata jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_feature_flags_metadata ON feature_flags USING GIN (metadata jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_webhook_configs_metadata ON webhook_configs USING GIN (metadata jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_environment_configs_metadata ON environment_configs USING GIN (metadata jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_channel_configs_metadata ON channel_configs USING GIN (metadata jsonb_path_ops);
+
+DROP FUNCTION firefly_to_text_array(TEXT);
+DROP FUNCTION firefly_to_jsonb(TEXT);
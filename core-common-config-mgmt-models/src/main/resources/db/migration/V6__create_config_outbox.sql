@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+-- =====================================================
+-- V6: Configuration Change Outbox
+-- =====================================================
+-- Every configuration write appends one row here in the
+-- same transaction, so a change event exists if and only
+-- if the change committed. The relay claims unpublished
+-- rows with FOR UPDATE SKIP LOCKED, delivers them in id
+-- order per partition (the owning tenant, or 'global')
+-- and marks them published; published rows are purged
+-- after the retention period.
+-- =====================================================
+
+CREATE TABLE config_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    partition_key VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id UUID NOT NULL,
+    tenant_id UUID,
+    action VARCHAR(20) NOT NULL,
+    changed_fields TEXT[],
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT
+);
+
+-- Claim scan: oldest unpublished rows first
+CREATE INDEX idx_config_outbox_unpublished ON config_outbox(id) WHERE published_at IS NULL;
+
+-- Ordering check: earlier unpublished rows of the same partition
+CREATE INDEX idx_config_outbox_partition_unpublished ON config_outbox(partition_key, id)
+    WHERE published_at IS NULL;
+
+-- Retention purge
+CREATE INDEX idx_config_outbox_published_at ON config_outbox(published_at) WHERE published_at IS NOT NULL;
+
+COMMENT ON TABLE config_outbox IS 'Transactional outbox of configuration change events, drained by the outbox relay';
+COMMENT ON COLUMN config_outbox.partition_key IS 'Delivery ordering scope: the tenant ID, or global for tenant-less entities';
+COMMENT ON COLUMN config_outbox.attempts IS 'Failed delivery attempts so far';
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+-- =====================================================
+-- V7: Provider Tenant Usage Metering
+-- =====================================================
+-- Per-month usage of each provider-tenant relationship,
+-- enforced against monthly_transaction_limit and
+-- monthly_volume_limit. Usage is aggregated in memory and
+-- added here by periodic flushes with one upsert per
+-- relationship and month, so concurrent nodes never
+-- overwrite each other's counts.
+-- =====================================================
+
+CREATE TABLE provider_tenant_usage (
+    provider_tenant_id UUID NOT NULL REFERENCES provider_tenants(id) ON DELETE CASCADE,
+    period_start DATE NOT NULL,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    failure_count BIGINT NOT NULL DEFAULT 0,
+    volume DECIMAL(17,2) NOT NULL DEFAULT 0,
+    cost DECIMAL(19,4) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (provider_tenant_id, period_start)
+);
+
+CREATE INDEX idx_provider_tenant_usage_period ON provider_tenant_usage(period_start);
+
+COMMENT ON TABLE provider_tenant_usage IS 'Monthly usage per provider-tenant relationship, maintained by the usage meter';
+COMMENT ON COLUMN provider_tenant_usage.period_start IS 'First day of the metered month';
+COMMENT ON COLUMN provider_tenant_usage.transaction_count IS 'Successful transactions, counted against monthly_transaction_limit';
+COMMENT ON COLUMN provider_tenant_usage.volume IS 'Volume of successful transactions, counted against monthly_volume_limit';
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+-- =====================================================
+-- V8: Outbox Retry Backoff and Dead Letters
+-- =====================================================
+-- A message whose delivery fails is retried after an
+-- exponential backoff (next_attempt_at) while the rest of
+-- its partition waits; other partitions keep flowing.
+-- After max-attempts failures it is dead-lettered: it is
+-- no longer claimed, no longer holds back its partition
+-- and is kept (not purged) for inspection.
+-- =====================================================
+
+ALTER TABLE config_outbox ADD COLUMN next_attempt_at TIMESTAMP;
+ALTER TABLE config_outbox ADD COLUMN dead_lettered_at TIMESTAMP;
+
+DROP INDEX idx_config_outbox_unpublished;
+DROP INDEX idx_config_outbox_partition_unpublished;
+
+-- Claim scan: oldest pending rows first
+CREATE INDEX idx_config_outbox_unpublished ON config_outbox(id)
+    WHERE published_at IS NULL AND dead_lettered_at IS NULL;
+
+-- Ordering check: earlier pending rows of the same partition
+CREATE INDEX idx_config_outbox_partition_unpublished ON config_outbox(partition_key, id)
+    WHERE published_at IS NULL AND dead_lettered_at IS NULL;
+
+CREATE INDEX idx_config_outbox_dead_lettered ON config_outbox(dead_lettered_at) WHERE dead_lettered_at IS NOT NULL;
+
+COMMENT ON COLUMN config_outbox.next_attempt_at IS 'Earliest time a failed message is claimed again';
+COMMENT ON COLUMN config_outbox.dead_lettered_at IS 'When the message was given up after max-attempts failed deliveries';
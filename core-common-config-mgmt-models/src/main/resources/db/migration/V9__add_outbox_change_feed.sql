@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+-- =====================================================
+-- V9: Outbox Change Feed
+-- =====================================================
+-- Every node follows config_outbox to refresh its
+-- in-memory views after changes made on other nodes.
+-- origin identifies the writing node, so it can skip
+-- its own rows. xid is the writing transaction: ids are
+-- assigned before commit, so a row can become visible
+-- after rows with higher ids; readers re-check rows at
+-- or above the oldest transaction still running when
+-- they last read (pg_snapshot_xmin) to catch them.
+-- Requires PostgreSQL 13 or later.
+-- =====================================================
+
+ALTER TABLE config_outbox ADD COLUMN origin VARCHAR(100);
+ALTER TABLE config_outbox ADD COLUMN xid BIGINT NOT NULL DEFAULT (pg_current_xact_id()::text::bigint);
+
+-- Late-commit scan: rows of transactions newer than the reader's horizon
+CREATE INDEX idx_config_outbox_xid ON config_outbox(xid);
+
+COMMENT ON COLUMN config_outbox.origin IS 'Node that wrote the change';
+COMMENT ON COLUMN config_outbox.xid IS 'Writing transaction ID (64-bit), set by the database';
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.repositories;
+
+import com.firefly.common.config.models.entities.ChannelConfig;
+import com.firefly.common.config.models.entities.FeatureFlag;
+import com.firefly.common.config.models.entities.Tenant;
+import com.firefly.common.config.models.entities.WebhookConfig;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Connection;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the {@code TEXT[]} and {@code JSONB} containment finders against
+ * PostgreSQL with the service's migrations, and checks that the planner can
+ * answer each operator from its GIN index.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Containment Query PostgreSQL Tests")
+class ContainmentQueryPostgresTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static PostgresqlConnectionFactory connectionFactory;
+    private static DatabaseClient client;
+    private static TenantRepository tenants;
+    private static ChannelConfigRepository channelConfigs;
+    private static FeatureFlagRepository featureFlags;
+    private static WebhookConfigRepository webhookConfigs;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        connectionFactory = new PostgresqlConnectionFactory(
+                PostgresqlConnectionConfiguration.builder()
+                        .host(POSTGRES.getHost())
+                        .port(POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT))
+                        .database(POSTGRES.getDatabaseName())
+                        .username(POSTGRES.getUsername())
+                        .password(POSTGRES.getPassword())
+                        .build());
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(connectionFactory);
+        client = template.getDatabaseClient();
+        R2dbcRepositoryFactory factory = new R2dbcRepositoryFactory(template);
+        RepositoryFragments versioned = RepositoryFragments.just(new VersionedUpdateRepositoryImpl<>(template));
+        tenants = factory.getRepository(TenantRepository.class, versioned);
+        featureFlags = factory.getRepository(FeatureFlagRepository.class, versioned);
+        webhookConfigs = factory.getRepository(WebhookConfigRepository.class, versioned);
+        channelConfigs = factory.getRepository(ChannelConfigRepository.class,
+                versioned.append(RepositoryFragments.just(new ChannelConfigAggregateRepositoryImpl(template))));
+    }
+
+    @BeforeEach
+    void setUp() {
+        client.sql("TRUNCATE tenants, feature_flags, webhook_configs CASCADE").then().block(TIMEOUT);
+    }
+
+    private static UUID insertTenant(String code, String metadata) {
+        UUID id = UUID.randomUUID();
+        client.sql("""
+                        INSERT INTO tenants (id, code, name, tenant_status_id, metadata)
+                        VALUES (:id, :code, :code, (SELECT id FROM tenant_statuses WHERE code = 'ACTIVE'), :metadata)
+                        """)
+                .bind("id", id)
+                .bind("code", code)
+                .bind("metadata", Json.of(metadata))
+                .then()
+                .block(TIMEOUT);
+        return id;
+    }
+
+    private static UUID insertChannel(UUID tenantId, String code, boolean active, String[] features,
+                                      String[] platforms) {
+        UUID id = UUID.randomUUID();
+        client.sql("""
+                        INSERT INTO channel_configs (id, tenant_id, channel_code, channel_name, active,
+                                                     features_enabled, supported_platforms)
+                        VALUES (:id, :tenantId, :code, :code, :active, :features, :platforms)
+                        """)
+                .bind("id", id)
+                .bind("tenantId", tenantId)
+                .bind("code", code)
+                .bind("active", active)
+                .bind("features", features)
+                .bind("platforms", platforms)
+                .then()
+                .block(TIMEOUT);
+        return id;
+    }
+
+    private static UUID insertFeatureFlag(String key, boolean active, String[] segments, String metadata) {
+        UUID id = UUID.randomUUID();
+        client.sql("""
+                        INSERT INTO feature_flags (id, feature_key, feature_name, active, target_user_segments, metadata)
+                        VALUES (:id, :key, :key, :active, :segments, :metadata)
+                        """)
+                .bind("id", id)
+                .bind("key", key)
+                .bind("active", active)
+                .bind("segments", segments)
+                .bind("metadata", Json.of(metadata))
+                .then()
+                .block(TIMEOUT);
+        return id;
+    }
+
+    private static UUID insertWebhook(UUID tenantId, String name, boolean enabled, String[] eventTypes) {
+        UUID id = UUID.randomUUID();
+        client.sql("""
+                        INSERT INTO webhook_configs (id, tenant_id, webhook_name, webhook_url, enabled, event_types)
+                        VALUES (:id, :tenantId, :name, 'https://example.com/hooks', :enabled, :eventTypes)
+                        """)
+                .bind("id", id)
+                .bind("tenantId", tenantId)
+                .bind("name", name)
+                .bind("enabled", enabled)
+                .bind("eventTypes", eventTypes)
+                .then()
+                .block(TIMEOUT);
+        return id;
+    }
+
+    private static <T> List<UUID> ids(Flux<T> rows, Function<T, UUID> idOf) {
+        return rows.map(idOf).sort().collectList().block(TIMEOUT);
+    }
+
+    private static List<UUID> sorted(UUID... ids) {
+        return Flux.just(ids).sort().collectList().block(TIMEOUT);
+    }
+
+    @Nested
+    @DisplayName("JSONB Containment Tests")
+    class JsonContainmentTests {
+
+        @Test
+        @DisplayName("Should find rows whose metadata contains the document, nested values included")
+        void shouldMatchContainedDocuments() {
+            UUID eu = insertTenant("EU", "{\"region\": \"eu\", \"tier\": \"gold\"}");
+            UUID euNested = insertTenant("EU_NESTED", "{\"region\": \"eu\", \"limits\": {\"daily\": 100}}");
+            insertTenant("US", "{\"region\": \"us\", \"tier\": \"gold\"}");
+
+            assertEquals(sorted(eu, euNested),
+                    ids(tenants.findWhereMetadataContains(Json.of("{\"region\": \"eu\"}")), Tenant::getId));
+            assertEquals(List.of(euNested),
+                    ids(tenants.findWhereMetadataContains(Json.of("{\"limits\": {\"daily\": 100}}")), Tenant::getId));
+            assertEquals(List.of(),
+                    ids(tenants.findWhereMetadataContains(Json.of("{\"region\": \"eu\", \"tier\": \"silver\"}")),
+                            Tenant::getId));
+        }
+
+        @Test
+        @DisplayName("Should match feature flag metadata the same way")
+        void shouldMatchFeatureFlagMetadata() {
+            UUID beta = insertFeatureFlag("beta-ui", true, new String[]{"BETA"}, "{\"owner\": \"web\", \"beta\": true}");
+            insertFeatureFlag("payments", true, new String[]{"ALL"}, "{\"owner\": \"payments\"}");
+
+            assertEquals(List.of(beta),
+                    ids(featureFlags.findWhereMetadataContains(Json.of("{\"beta\": true}")), FeatureFlag::getId));
+        }
+    }
+
+    @Nested
+    @DisplayName("Array Containment Tests")
+    class ArrayContainmentTests {
+
+        @Test
+        @DisplayName("Should find a tenant's active channels enabling a feature")
+        void shouldMatchEnabledFeature() {
+            UUID tenantId = insertTenant("BANK", "{}");
+            UUID otherTenantId = insertTenant("OTHER", "{}");
+            UUID web = insertChannel(tenantId, "WEB", true, new String[]{"TRANSFERS", "CARDS"}, new String[]{"WEB"});
+            insertChannel(tenantId, "ATM", true, new String[]{"WITHDRAWALS"}, new String[]{"ATM"});
+            insertChannel(tenantId, "LEGACY", false, new String[]{"TRANSFERS"}, new String[]{"WEB"});
+            insertChannel(otherTenantId, "WEB", true, new String[]{"TRANSFERS"}, new String[]{"WEB"});
+
+            assertEquals(List.of(web), ids(channelConfigs.findActiveByTenantIdAndFeatureEnabled(tenantId, "TRANSFERS"),
+                    ChannelConfig::getId));
+            assertEquals(List.of(), ids(channelConfigs.findActiveByTenantIdAndFeatureEnabled(tenantId, "TRANSFER"),
+                    ChannelConfig::getId));
+        }
+
+        @Test
+        @DisplayName("Should find a tenant's active channels supporting any of the platforms")
+        void shouldMatchAnyPlatform() {
+            UUID tenantId = insertTenant("BANK", "{}");
+            UUID mobile = insertChannel(tenantId, "MOBILE", true, new String[]{}, new String[]{"IOS", "ANDROID"});
+            UUID web = insertChannel(tenantId, "WEB", true, new String[]{}, new String[]{"WEB"});
+            insertChannel(tenantId, "ATM", true, new String[]{}, new String[]{"ATM"});
+
+            assertEquals(sorted(mobile, web), ids(channelConfigs.findActiveByTenantIdSupportingAnyPlatform(
+                    tenantId, new String[]{"ANDROID", "WEB"}), ChannelConfig::getId));
+            assertEquals(List.of(), ids(channelConfigs.findActiveByTenantIdSupportingAnyPlatform(
+                    tenantId, new String[]{"KIOSK"}), ChannelConfig::getId));
+        }
+
+        @Test
+        @DisplayName("Should find active flags targeting any of the segments")
+        void shouldMatchAnySegment() {
+            UUID premium = insertFeatureFlag("premium-limits", true, new String[]{"PREMIUM", "PRIVATE"}, "{}");
+            insertFeatureFlag("retired", false, new String[]{"PREMIUM"}, "{}");
+            insertFeatureFlag("retail", true, new String[]{"RETAIL"}, "{}");
+
+            assertEquals(List.of(premium), ids(featureFlags.findActiveTargetingAnySegment(
+                    new String[]{"PRIVATE", "STUDENT"}), FeatureFlag::getId));
+        }
+
+        @Test
+        @DisplayName("Should find a tenant's enabled webhooks subscribed to an event type")
+        void shouldMatchSubscribedWebhooks() {
+            UUID tenantId = insertTenant("BANK", "{}");
+            UUID subscribed = insertWebhook(tenantId, "audit", true, new String[]{"tenant.updated", "tenant.created"});
+            insertWebhook(tenantId, "paused", false, new String[]{"tenant.updated"});
+            insertWebhook(tenantId, "billing", true, new String[]{"invoice.created"});
+
+            assertEquals(List.of(subscribed), ids(webhookConfigs.findSubscribedByTenantIdAndEventType(
+                    tenantId, "tenant.updated"), WebhookConfig::getId));
+        }
+    }
+
+    @Nested
+    @DisplayName("Index Tests")
+    class IndexTests {
+
+        static Stream<Arguments> indexedQueries() {
+            return Stream.of(
+                    Arguments.of("idx_tenants_metadata",
+                            "SELECT * FROM tenants WHERE metadata @> '{\"region\": \"eu\"}'"),
+                    Arguments.of("idx_channel_configs_features_enabled",
+                            "SELECT * FROM channel_configs WHERE features_enabled @> ARRAY['TRANSFERS']::text[]"),
+                    Arguments.of("idx_channel_configs_supported_platforms",
+                            "SELECT * FROM channel_configs WHERE supported_platforms && ARRAY['WEB']::text[]"),
+                    Arguments.of("idx_feature_flags_target_user_segments",
+                            "SELECT * FROM feature_flags WHERE target_user_segments && ARRAY['PREMIUM']::text[]"),
+                    Arguments.of("idx_webhook_configs_event_types",
+                            "SELECT * FROM webhook_configs WHERE event_types @> ARRAY['tenant.updated']::text[]"));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("indexedQueries")
+        @DisplayName("Should be able to answer the operator from the GIN index")
+        void shouldUseGinIndex(String index, String query) {
+            String plan = Mono.usingWhen(connectionFactory.create(),
+                            connection -> explainWithoutSeqScan(connection, query),
+                            Connection::close)
+                    .block(TIMEOUT);
+
+            assertNotNull(plan);
+            assertTrue(plan.contains(index), plan);
+        }
+
+        private Mono<String> explainWithoutSeqScan(Connection connection, String query) {
+            return Mono.from(connection.createStatement("SET enable_seqscan = off").execute())
+                    .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                    .then(Flux.from(connection.createStatement("EXPLAIN " + query).execute())
+                            .flatMap(result -> result.map((row, metadata) -> row.get(0, String.class)))
+                            .collectList()
+                            .map(lines -> String.join("\n", lines)));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.routing;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes through {@link ReadReplicaConnectionFactory} to two independent
+ * PostgreSQL servers standing in for a primary and a replica. Each server
+ * names itself in a {@code node} table, and the replica's "replay" position
+ * is its own WAL position, moved forward with {@code pg_switch_wal()} to
+ * play a replica catching up.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ReadReplicaConnectionFactory PostgreSQL Tests")
+class ReadReplicaConnectionFactoryPostgresTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private RoutedPool primary;
+    private RoutedPool replica;
+    private ReadReplicaConnectionFactory factory;
+
+    @BeforeAll
+    static void setUpNodes() {
+        name(PRIMARY, "primary");
+        name(REPLICA, "replica");
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setLagPollInterval(Duration.ofMillis(50));
+        // Two unrelated servers have unrelated WAL positions, so lag is not meaningful here
+        properties.setMaxLagBytes(0);
+        primary = new RoutedPool("primary", false, pool(PRIMARY));
+        replica = new RoutedPool("replica-0", true, pool(REPLICA));
+        factory = new ReadReplicaConnectionFactory(primary, List.of(replica), properties);
+        factory.afterPropertiesSet();
+        await(replica::isHealthy);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.destroy();
+    }
+
+    private static ConnectionFactory connectionFactory(PostgreSQLContainer<?> container) {
+        return new PostgresqlConnectionFactory(PostgresqlConnectionConfiguration.builder()
+                .host(container.getHost())
+                .port(container.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT))
+                .database(container.getDatabaseName())
+                .username(container.getUsername())
+                .password(container.getPassword())
+                .build());
+    }
+
+    private static ConnectionPool pool(PostgreSQLContainer<?> container) {
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory(container))
+                .maxSize(4)
+                .build());
+    }
+
+    private static void name(PostgreSQLContainer<?> container, String name) {
+        DatabaseClient client = DatabaseClient.create(connectionFactory(container));
+        client.sql("CREATE TABLE node (name TEXT NOT NULL)").then().block(TIMEOUT);
+        client.sql("CREATE TABLE wal_filler (id SERIAL PRIMARY KEY)").then().block(TIMEOUT);
+        client.sql("INSERT INTO node (name) VALUES (:name)").bind("name", name).then().block(TIMEOUT);
+    }
+
+    private static long position(PostgreSQLContainer<?> container) {
+        return DatabaseClient.create(connectionFactory(container))
+                .sql("SELECT pg_current_wal_lsn()::text")
+                .map(row -> LogSequenceNumber.parse(row.get(0, String.class)))
+                .one()
+                .block(TIMEOUT);
+    }
+
+    /**
+     * Switches WAL segments on the server until it is past {@code target}.
+     */
+    private static long advancePast(PostgreSQLContainer<?> container, long target) {
+        DatabaseClient client = DatabaseClient.create(connectionFactory(container));
+        long position = position(container);
+        while (position <= target) {
+            client.sql("INSERT INTO wal_filler DEFAULT VALUES").then().block(TIMEOUT);
+            client.sql("SELECT pg_switch_wal()").then().block(TIMEOUT);
+            position = position(container);
+        }
+        return position;
+    }
+
+    /**
+     * Reads the serving node's name through the router.
+     */
+    private String read(Function<Context, Context> routing) {
+        return DatabaseClient.create(factory)
+                .sql("SELECT name FROM node")
+                .map(row -> row.get(0, String.class))
+                .one()
+                .contextWrite(routing)
+                .block(TIMEOUT);
+    }
+
+    private static Function<Context, Context> session(String sessionId) {
+        return context -> ReadRouting.withSession(ReadRouting.preferReplica(context), sessionId);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within " + TIMEOUT);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve read-only work from the replica and everything else from the primary")
+    void shouldRouteByTarget() {
+        assertEquals("replica", read(ReadRouting::preferReplica));
+        assertEquals("primary", read(Function.identity()));
+        assertEquals("primary", read(context -> ReadRouting.requirePrimary(ReadRouting.preferReplica(context))));
+        assertEquals(1, replica.getRoutedCount());
+    }
+
+    @Test
+    @DisplayName("Should serve a session from the primary until the replica has replayed its write")
+    void shouldReadYourWrites() {
+        advancePast(PRIMARY, replica.getWalPosition());
+        factory.recordWrite("session-1").block(TIMEOUT);
+        long fallbacks = factory.getFallbackCount();
+
+        assertEquals("primary", read(session("session-1")));
+        assertEquals(fallbacks + 1, factory.getFallbackCount());
+        assertEquals("replica", read(session("session-2")));
+        assertEquals(1, factory.getTrackedSessionCount());
+
+        long caughtUp = advancePast(REPLICA, position(PRIMARY));
+        await(() -> replica.getWalPosition() >= caughtUp);
+        await(() -> factory.getTrackedSessionCount() == 0);
+
+        assertEquals("replica", read(session("session-1")));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica is unavailable")
+    void shouldFallBackWhenReplicaIsDown() {
+        replica.getPool().dispose();
+        await(() -> !replica.isHealthy());
+        long fallbacks = factory.getFallbackCount();
+
+        assertEquals("primary", read(ReadRouting::preferReplica));
+        assertEquals(fallbacks + 1, factory.getFallbackCount());
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.models.routing;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadWriteRoutingInterceptor Tests")
+class ReadWriteRoutingInterceptorTest {
+
+    @Mock
+    private ObjectProvider<ReadReplicaConnectionFactory> router;
+
+    @Mock
+    private ReadReplicaConnectionFactory factory;
+
+    private ReadWriteRoutingInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ReadWriteRoutingInterceptor(router);
+        lenient().when(router.getObject()).thenReturn(factory);
+        lenient().when(router.getIfAvailable()).thenReturn(factory);
+        lenient().when(factory.recordWrite(anyString())).thenReturn(Mono.empty());
+    }
+
+    /**
+     * Stand-in for a repository; the interceptor only looks at method names
+     * and annotations.
+     */
+    interface SampleRepository {
+
+        Mono<String> findByCode(String code);
+
+        Mono<Long> countByActiveTrue();
+
+        Mono<Boolean> existsByCode(String code);
+
+        Flux<String> streamAllBy();
+
+        Mono<String> save(String value);
+
+        Mono<Void> deleteById(String id);
+
+        Flux<String> loadAfter(long id);
+
+        Flux<String> claimBatch(int limit);
+
+        @Modifying
+        Mono<Integer> findAndMarkProcessed(long id);
+    }
+
+    private static Method method(String name) {
+        return Arrays.stream(SampleRepository.class.getMethods())
+                .filter(method -> method.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Emits the routing target the subscriber context asks for.
+     */
+    private static Mono<ReadRouting.Target> target() {
+        return Mono.deferContextual(context -> Mono.just(ReadRouting.targetOf(context)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T invoke(String methodName, Object result) throws Throwable {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(method(methodName));
+        when(invocation.proceed()).thenReturn(result);
+        return (T) interceptor.invoke(invocation);
+    }
+
+    @Nested
+    @DisplayName("Classification Tests")
+    class ClassificationTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"findByCode", "countByActiveTrue", "existsByCode", "streamAllBy"})
+        @DisplayName("Should treat query methods as read-only")
+        void shouldTreatQueriesAsReads(String name) {
+            assertTrue(ReadWriteRoutingInterceptor.isReadOnly(method(name)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"save", "deleteById", "loadAfter", "claimBatch", "findAndMarkProcessed"})
+        @DisplayName("Should treat writes, loads, claims and @Modifying queries as primary work")
+        void shouldTreatOthersAsWrites(String name) {
+            assertFalse(ReadWriteRoutingInterceptor.isReadOnly(method(name)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Routing Tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should route reads to a replica inside a read-only request")
+        void shouldPreferReplicaForReadOnlyRequests() throws Throwable {
+            Mono<ReadRouting.Target> read = invoke("findByCode", target());
+
+            StepVerifier.create(read.contextWrite(ReadRouting::preferReplica))
+                    .expectNext(ReadRouting.Target.REPLICA)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should keep unmarked reads, e.g. change-event re-reads, on the primary")
+        void shouldKeepUnmarkedReadsOnPrimary() throws Throwable {
+            Mono<ReadRouting.Target> read = invoke("findByCode", target());
+            Flux<ReadRouting.Target> count = invoke("countByActiveTrue", Flux.from(target()));
+
+            StepVerifier.create(read)
+                    .expectNext(ReadRouting.Target.PRIMARY)
+                    .verifyComplete();
+            StepVerifier.create(count.contextWrite(context -> ReadRouting.withSession(context, "session-1")))
+                    .expectNext(ReadRouting.Target.PRIMARY)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should route writes to the primary inside a read-only request")
+        void shouldRequirePrimaryForWrites() throws Throwable {
+            Mono<ReadRouting.Target> write = invoke("save", target());
+
+            StepVerifier.create(write.contextWrite(ReadRouting::preferReplica))
+                    .expectNext(ReadRouting.Target.PRIMARY)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should keep reads on the primary once the caller required it")
+        void shouldKeepReadsOnPrimary() throws Throwable {
+            Flux<ReadRouting.Target> read = invoke("streamAllBy", Flux.from(target()));
+
+            StepVerifier.create(read.contextWrite(ReadRouting::requirePrimary))
+                    .expectNext(ReadRouting.Target.PRIMARY)
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Session Tests")
+    class SessionTests {
+
+        @Test
+        @DisplayName("Should record the session's write position after a write")
+        void shouldRecordWrite() throws Throwable {
+            Mono<String> write = invoke("save", Mono.just("saved"));
+
+            StepVerifier.create(write.contextWrite(context -> ReadRouting.withSession(context, "session-1")))
+                    .expectNext("saved")
+                    .verifyComplete();
+
+            verify(factory).recordWrite("session-1");
+        }
+
+        @Test
+        @DisplayName("Should record the write position once after an empty or multi-row write")
+        void shouldRecordAfterCompletion() throws Throwable {
+            Mono<Void> delete = invoke("deleteById", Mono.empty());
+            Flux<String> claim = invoke("claimBatch", Flux.just("a", "b"));
+
+            StepVerifier.create(delete.contextWrite(context -> ReadRouting.withSession(context, "session-1")))
+                    .verifyComplete();
+            StepVerifier.create(claim.contextWrite(context -> ReadRouting.withSession(context, "session-2")))
+                    .expectNext("a", "b")
+                    .verifyComplete();
+
+            verify(factory).recordWrite("session-1");
+            verify(factory).recordWrite("session-2");
+        }
+
+        @Test
+        @DisplayName("Should not record positions for reads or session-less writes")
+        void shouldSkipReadsAndSessionlessWrites() throws Throwable {
+            Mono<String> read = invoke("findByCode", Mono.just("found"));
+            Mono<String> write = invoke("save", Mono.just("saved"));
+
+            StepVerifier.create(read.contextWrite(context -> ReadRouting.withSession(context, "session-1")))
+                    .expectNext("found")
+                    .verifyComplete();
+            StepVerifier.create(write)
+                    .expectNext("saved")
+                    .verifyComplete();
+
+            verifyNoInteractions(factory);
+        }
+    }
+
+    @Nested
+    @DisplayName("Transaction Tests")
+    class TransactionTests {
+
+        @Mock
+        private TransactionalOperator transactionalOperator;
+
+        @Test
+        @DisplayName("Should keep a read followed by a write in one transaction on the primary")
+        @SuppressWarnings("unchecked")
+        void shouldRunWriteAfterReadOnPrimary() throws Throwable {
+            when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            PrimaryTransactions transactions = new PrimaryTransactions(transactionalOperator, router);
+            Mono<ReadRouting.Target> read = invoke("findByCode", target());
+            Mono<ReadRouting.Target> write = invoke("save", target());
+
+            StepVerifier.create(transactions.execute(read.zipWith(write))
+                            .contextWrite(context -> ReadRouting.withSession(ReadRouting.preferReplica(context),
+                                    "session-1")))
+                    .assertNext(targets -> {
+                        assertEquals(ReadRouting.Target.PRIMARY, targets.getT1());
+                        assertEquals(ReadRouting.Target.PRIMARY, targets.getT2());
+                    })
+                    .verifyComplete();
+
+            // Once by the repository advice, once after the commit
+            verify(factory, times(2)).recordWrite("session-1");
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.sdk.embedded;
+
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.FeatureFlagEntry;
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.MappingEntry;
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.ValueMappingEntry;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Immutable, indexed copy of the configuration an embedded resolver serves.
+ *
+ * <p>Resolution follows the same rules as the config service: process
+ * mappings prefer tenant, then product, then channel specificity, then the
+ * lowest priority, and fall back to any vanilla mapping; feature flags and
+ * value mappings prefer a tenant-specific entry over the global one.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class ConfigSnapshot {
+
+    private static final ConfigSnapshot EMPTY = new ConfigSnapshot(null, null, Map.of(), Map.of(), Map.of());
+
+    private final String version;
+    private final UUID tenantId;
+    private final Map<UUID, MappingEntry> mappings;
+    private final Map<UUID, FeatureFlagEntry> featureFlags;
+    private final Map<UUID, ValueMappingEntry> valueMappings;
+
+    private final Map<String, List<MappingEntry>> mappingsByOperation = new HashMap<>();
+    private final Map<String, List<FeatureFlagEntry>> flagsByKey = new HashMap<>();
+    private final Map<String, List<ValueMappingEntry>> valueMappingsByType = new HashMap<>();
+
+    ConfigSnapshot(String version, UUID tenantId, Map<UUID, MappingEntry> mappings,
+                   Map<UUID, FeatureFlagEntry> featureFlags, Map<UUID, ValueMappingEntry> valueMappings) {
+        this.version = version;
+        this.tenantId = tenantId;
+        this.mappings = Map.copyOf(mappings);
+        this.featureFlags = Map.copyOf(featureFlags);
+        this.valueMappings = Map.copyOf(valueMappings);
+        for (MappingEntry mapping : this.mappings.values()) {
+            if (mapping.getOperationId() != null) {
+                mappingsByOperation.computeIfAbsent(mapping.getOperationId(), key -> new ArrayList<>()).add(mapping);
+            }
+        }
+        for (FeatureFlagEntry flag : this.featureFlags.values()) {
+            if (flag.getFeatureKey() != null) {
+                flagsByKey.computeIfAbsent(flag.getFeatureKey(), key -> new ArrayList<>()).add(flag);
+            }
+        }
+        for (ValueMappingEntry mapping : this.valueMappings.values()) {
+            valueMappingsByType.computeIfAbsent(typeKey(mapping.getProviderId(), mapping.getMappingType()),
+                    key -> new ArrayList<>()).add(mapping);
+        }
+    }
+
+    /**
+     * @return a snapshot with no entries and no version
+     */
+    public static ConfigSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Applies a payload: a full payload replaces every entry, a delta removes
+     * {@code removedIds} and upserts the rest.
+     *
+     * @param payload the payload from the config service
+     * @return the new snapshot
+     */
+    public ConfigSnapshot apply(SnapshotPayload payload) {
+        Map<UUID, MappingEntry> nextMappings = payload.isFull() ? new LinkedHashMap<>() : new LinkedHashMap<>(mappings);
+        Map<UUID, FeatureFlagEntry> nextFlags = payload.isFull() ? new LinkedHashMap<>() : new LinkedHashMap<>(featureFlags);
+        Map<UUID, ValueMappingEntry> nextValues = payload.isFull() ? new LinkedHashMap<>() : new LinkedHashMap<>(valueMappings);
+        if (payload.getRemovedIds() != null) {
+            for (UUID id : payload.getRemovedIds()) {
+                nextMappings.remove(id);
+                nextFlags.remove(id);
+                nextValues.remove(id);
+            }
+        }
+        upsert(nextMappings, payload.getApiProcessMappings(), MappingEntry::getId);
+        upsert(nextFlags, payload.getFeatureFlags(), FeatureFlagEntry::getId);
+        upsert(nextValues, payload.getProviderValueMappings(), ValueMappingEntry::getId);
+        return new ConfigSnapshot(payload.getVersion(), payload.getTenantId(), nextMappings, nextFlags, nextValues);
+    }
+
+    /**
+     * Resolves the process mapping for an operation.
+     *
+     * @param tenantId the tenant (null for vanilla only)
+     * @param operationId the operation ID
+     * @param productId the product (optional)
+     * @param channelType the channel type (optional)
+     * @param now the evaluation instant for effective dates
+     * @return the best mapping, if any
+     */
+    public Optional<MappingEntry> resolveMapping(UUID tenantId, String operationId, UUID productId,
+                                                 String channelType, Instant now) {
+        List<MappingEntry> candidates = operationId != null
+                ? mappingsByOperation.getOrDefault(operationId, List.of())
+                : List.of();
+        MappingEntry best = null;
+        for (MappingEntry mapping : candidates) {
+            if (isEffective(mapping, now)
+                    && matches(mapping.getTenantId(), tenantId)
+                    && matches(mapping.getProductId(), productId)
+                    && (mapping.getChannelType() == null || mapping.getChannelType().equals(channelType))
+                    && (best == null || rank(mapping) < rank(best)
+                        || (rank(mapping) == rank(best) && priority(mapping.getPriority()) < priority(best.getPriority())))) {
+                best = mapping;
+            }
+        }
+        if (best == null) {
+            // Vanilla fallback, regardless of product and channel
+            for (MappingEntry mapping : candidates) {
+                if (mapping.getTenantId() == null && isEffective(mapping, now)
+                        && (best == null || priority(mapping.getPriority()) < priority(best.getPriority()))) {
+                    best = mapping;
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Evaluates a feature flag. A tenant-specific flag overrides the global one;
+     * a flag is on when it is enabled and inside its start/end window.
+     *
+     * @param featureKey the flag key
+     * @param tenantId the tenant (optional)
+     * @param now the evaluation time, in the service's local time
+     * @return true if the flag is on, false if it is off or unknown
+     */
+    public boolean isFeatureEnabled(String featureKey, UUID tenantId, LocalDateTime now) {
+        FeatureFlagEntry selected = null;
+        for (FeatureFlagEntry flag : flagsByKey.getOrDefault(featureKey, List.of())) {
+            if (flag.getTenantId() == null ? selected == null
+                    : flag.getTenantId().equals(tenantId)) {
+                selected = flag;
+            }
+        }
+        if (selected == null || !Boolean.TRUE.equals(selected.getEnabled())) {
+            return false;
+        }
+        return (selected.getStartDate() == null || !now.isBefore(selected.getStartDate()))
+                && (selected.getEndDate() == null || now.isBefore(selected.getEndDate()));
+    }
+
+    /**
+     * Translates a Firefly value into the provider's value.
+     *
+     * @param providerId the provider
+     * @param tenantId the tenant (optional)
+     * @param mappingType the mapping type, e.g. {@code TRANSACTION_STATUS}
+     * @param fireflyValue the Firefly value
+     * @return the provider value, if mapped
+     */
+    public Optional<String> toProviderValue(UUID providerId, UUID tenantId, String mappingType, String fireflyValue) {
+        return translate(providerId, tenantId, mappingType, fireflyValue, true);
+    }
+
+    /**
+     * Translates a provider value into the Firefly value.
+     *
+     * @param providerId the provider
+     * @param tenantId the tenant (optional)
+     * @param mappingType the mapping type, e.g. {@code TRANSACTION_STATUS}
+     * @param providerValue the provider value
+     * @return the Firefly value, if mapped
+     */
+    public Optional<String> toFireflyValue(UUID providerId, UUID tenantId, String mappingType, String providerValue) {
+        return translate(providerId, tenantId, mappingType, providerValue, false);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public Collection<MappingEntry> getMappings() {
+        return mappings.values();
+    }
+
+    public Collection<FeatureFlagEntry> getFeatureFlags() {
+        return featureFlags.values();
+    }
+
+    public Collection<ValueMappingEntry> getValueMappings() {
+        return valueMappings.values();
+    }
+
+    /**
+     * @return the total number of entries
+     */
+    public int size() {
+        return mappings.size() + featureFlags.size() + valueMappings.size();
+    }
+
+    private Optional<String> translate(UUID providerId, UUID tenantId, String mappingType, String value,
+                                       boolean outbound) {
+        ValueMappingEntry best = null;
+        for (ValueMappingEntry mapping : valueMappingsByType.getOrDefault(typeKey(providerId, mappingType), List.of())) {
+            String source = outbound ? mapping.getFireflyValue() : mapping.getProviderValue();
+            if (!Objects.equals(source, value) || !allowsDirection(mapping.getDirection(), outbound)
+                    || !matches(mapping.getTenantId(), tenantId)) {
+                continue;
+            }
+            if (best == null
+                    || (best.getTenantId() == null && mapping.getTenantId() != null)
+                    || (Objects.equals(best.getTenantId(), mapping.getTenantId())
+                        && priority(mapping.getPriority()) < priority(best.getPriority()))) {
+                best = mapping;
+            }
+        }
+        if (best == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(outbound ? best.getProviderValue() : best.getFireflyValue());
+    }
+
+    private static boolean allowsDirection(String direction, boolean outbound) {
+        if (direction == null) {
+            return true;
+        }
+        return switch (direction.toUpperCase()) {
+            case "INBOUND", "PROVIDER_TO_FIREFLY" -> !outbound;
+            case "OUTBOUND", "FIREFLY_TO_PROVIDER" -> outbound;
+            default -> true;
+        };
+    }
+
+    private static boolean isEffective(MappingEntry mapping, Instant now) {
+        return (mapping.getEffectiveFrom() == null || !now.isBefore(mapping.getEffectiveFrom().toInstant()))
+                && (mapping.getEffectiveTo() == null || now.isBefore(mapping.getEffectiveTo().toInstant()));
+    }
+
+    /**
+     * Lower is more specific: tenant, product and channel bits, most significant first.
+     */
+    private static int rank(MappingEntry mapping) {
+        return (mapping.getTenantId() == null ? 4 : 0)
+                | (mapping.getProductId() == null ? 2 : 0)
+                | (mapping.getChannelType() == null ? 1 : 0);
+    }
+
+    private static boolean matches(UUID entryValue, UUID requested) {
+        return entryValue == null || entryValue.equals(requested);
+    }
+
+    private static int priority(Integer priority) {
+        return priority != null ? priority : 0;
+    }
+
+    private static String typeKey(UUID providerId, String mappingType) {
+        return providerId + "|" + mappingType;
+    }
+
+    private static <T> void upsert(Map<UUID, T> target, List<T> entries, Function<T, UUID> idOf) {
+        if (entries == null) {
+            return;
+        }
+        for (T entry : entries) {
+            UUID id = idOf.apply(entry);
+            if (id != null) {
+                target.put(id, entry);
+            }
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.sdk.embedded;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.MappingEntry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process resolver backed by a snapshot downloaded from the config service.
+ *
+ * <p>On {@link #start()} the resolver downloads a full snapshot and then polls
+ * {@code GET /api/v1/config-snapshots?since=<version>} for deltas. Lookups are
+ * answered from the current in-memory {@link ConfigSnapshot} and never touch
+ * the network. If a poll fails the last good snapshot keeps being served
+ * (stale-while-revalidate) and polling backs off exponentially up to
+ * {@link EmbeddedResolverOptions#getMaxBackoff()}; {@link #isStale()} reports
+ * when the snapshot is older than {@link EmbeddedResolverOptions#getStaleAfter()}.</p>
+ *
+ * <pre>{@code
+ * EmbeddedConfigResolver resolver = new EmbeddedConfigResolver(EmbeddedResolverOptions.builder()
+ *         .baseUrl("http://config-mgmt:8080")
+ *         .tenantId(tenantId)
+ *         .build());
+ * resolver.start().join();
+ * resolver.resolveMapping(tenantId, "createAccount", productId, "MOBILE");
+ * }</pre>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public class EmbeddedConfigResolver implements AutoCloseable {
+
+    private static final System.Logger LOG = System.getLogger(EmbeddedConfigResolver.class.getName());
+    private static final String SNAPSHOT_PATH = "/api/v1/config-snapshots";
+
+    private final EmbeddedResolverOptions options;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService scheduler;
+    private final CompletableFuture<ConfigSnapshot> ready = new CompletableFuture<>();
+
+    private volatile ConfigSnapshot snapshot = ConfigSnapshot.empty();
+    private volatile Instant lastSuccessfulRefresh;
+    private volatile int consecutiveFailures;
+    private volatile boolean closed;
+
+    public EmbeddedConfigResolver(EmbeddedResolverOptions options) {
+        this.options = Objects.requireNonNull(options, "options");
+        Objects.requireNonNull(options.getBaseUrl(), "baseUrl");
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(options.getRequestTimeout())
+                .build();
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "config-snapshot-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts polling. The returned future completes with the first snapshot:
+     * immediately when a persisted snapshot could be restored, otherwise once
+     * the first download succeeds (retrying with back-off until it does).
+     *
+     * @return a future of the first snapshot
+     */
+    public CompletableFuture<ConfigSnapshot> start() {
+        restore();
+        scheduler.execute(this::poll);
+        return ready;
+    }
+
+    /**
+     * Downloads the changes since the current version and applies them.
+     *
+     * @return the snapshot now being served
+     * @throws IOException if the config service cannot be reached or answers with an error
+     * @throws InterruptedException if interrupted while waiting for the response
+     */
+    public synchronized ConfigSnapshot refresh() throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(snapshotUri(snapshot.getVersion()))
+                .timeout(options.getRequestTimeout())
+                .header("Accept", "application/json")
+                .GET();
+        options.getHeaders().forEach(request::header);
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("Config snapshot request failed with HTTP " + response.statusCode());
+        }
+        SnapshotPayload payload = objectMapper.readValue(response.body(), SnapshotPayload.class);
+        ConfigSnapshot previous = snapshot;
+        ConfigSnapshot next = previous.apply(payload);
+        snapshot = next;
+        lastSuccessfulRefresh = Instant.now();
+        consecutiveFailures = 0;
+        ready.complete(next);
+        if (!Objects.equals(previous.getVersion(), next.getVersion())) {
+            persist(next);
+        }
+        return next;
+    }
+
+    /**
+     * @see ConfigSnapshot#resolveMapping(UUID, String, UUID, String, Instant)
+     */
+    public Optional<MappingEntry> resolveMapping(UUID tenantId, String operationId, UUID productId, String channelType) {
+        return loadedSnapshot().resolveMapping(tenantId, operationId, productId, channelType, Instant.now());
+    }
+
+    /**
+     * @see ConfigSnapshot#isFeatureEnabled(String, UUID, LocalDateTime)
+     */
+    public boolean isFeatureEnabled(String featureKey, UUID tenantId) {
+        return loadedSnapshot().isFeatureEnabled(featureKey, tenantId, LocalDateTime.now());
+    }
+
+    /**
+     * @see ConfigSnapshot#toProviderValue(UUID, UUID, String, String)
+     */
+    public Optional<String> toProviderValue(UUID providerId, UUID tenantId, String mappingType, String fireflyValue) {
+        return loadedSnapshot().toProviderValue(providerId, tenantId, mappingType, fireflyValue);
+    }
+
+    /**
+     * @see ConfigSnapshot#toFireflyValue(UUID, UUID, String, String)
+     */
+    public Optional<String> toFireflyValue(UUID providerId, UUID tenantId, String mappingType, String providerValue) {
+        return loadedSnapshot().toFireflyValue(providerId, tenantId, mappingType, providerValue);
+    }
+
+    /**
+     * @return the snapshot currently being served (empty before the first download)
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @return when the last poll succeeded, or null if none has
+     */
+    public Instant getLastSuccessfulRefresh() {
+        return lastSuccessfulRefresh;
+    }
+
+    /**
+     * @return the number of polls that failed since the last success
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * @return true if no poll has succeeded within the configured stale-after window
+     */
+    public boolean isStale() {
+        Instant last = lastSuccessfulRefresh;
+        return last == null || last.plus(options.getStaleAfter()).isBefore(Instant.now());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+    }
+
+    private void restore() {
+        Path file = options.getSnapshotFile();
+        if (file == null) {
+            return;
+        }
+        try {
+            Optional<ConfigSnapshot> restored = SnapshotFile.read(file)
+                    .filter(candidate -> Objects.equals(candidate.getTenantId(), options.getTenantId()));
+            if (restored.isPresent()) {
+                snapshot = restored.get();
+                ready.complete(snapshot);
+                LOG.log(System.Logger.Level.INFO, "Restored config snapshot {0} ({1} entries) from {2}",
+                        snapshot.getVersion(), snapshot.size(), file);
+            }
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.WARNING, "Could not restore config snapshot from {0}: {1}", file, e.toString());
+        }
+    }
+
+    private void persist(ConfigSnapshot next) {
+        Path file = options.getSnapshotFile();
+        if (file == null) {
+            return;
+        }
+        try {
+            SnapshotFile.write(next, file);
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.WARNING, "Could not persist config snapshot to {0}: {1}", file, e.toString());
+        }
+    }
+
+    private void poll() {
+        if (closed) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            consecutiveFailures++;
+            LOG.log(System.Logger.Level.WARNING, "Config snapshot refresh failed ({0} in a row), serving version {1}: {2}",
+                    consecutiveFailures, snapshot.getVersion(), e.toString());
+        }
+        if (!closed) {
+            scheduler.schedule(this::poll, nextDelay().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Duration nextDelay() {
+        if (consecutiveFailures == 0) {
+            return options.getPollInterval();
+        }
+        Duration delay = options.getPollInterval().multipliedBy(1L << Math.min(consecutiveFailures, 16));
+        return delay.compareTo(options.getMaxBackoff()) > 0 ? options.getMaxBackoff() : delay;
+    }
+
+    private ConfigSnapshot loadedSnapshot() {
+        ConfigSnapshot current = snapshot;
+        if (current.getVersion() == null) {
+            throw new IllegalStateException("No configuration snapshot has been loaded yet");
+        }
+        return current;
+    }
+
+    private URI snapshotUri(String since) {
+        StringBuilder uri = new StringBuilder(stripTrailingSlash(options.getBaseUrl())).append(SNAPSHOT_PATH);
+        char separator = '?';
+        if (options.getTenantId() != null) {
+            uri.append(separator).append("tenantId=").append(options.getTenantId());
+            separator = '&';
+        }
+        if (since != null) {
+            uri.append(separator).append("since=").append(URLEncoder.encode(since, StandardCharsets.UTF_8));
+        }
+        return URI.create(uri.toString());
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
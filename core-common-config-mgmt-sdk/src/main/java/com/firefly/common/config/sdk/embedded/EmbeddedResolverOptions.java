@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.sdk.embedded;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Settings of an {@link EmbeddedConfigResolver}.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Value
+@Builder
+public class EmbeddedResolverOptions {
+
+    /**
+     * Base URL of the config service, e.g. {@code http://config-mgmt:8080}.
+     */
+    String baseUrl;
+
+    /**
+     * Tenant to scope the snapshot to; vanilla entries are always included.
+     * Null downloads the configuration of every tenant.
+     */
+    UUID tenantId;
+
+    /**
+     * Delay between delta polls while the service is healthy.
+     */
+    @Builder.Default
+    Duration pollInterval = Duration.ofSeconds(30);
+
+    /**
+     * Upper bound of the exponential back-off applied after failed polls.
+     */
+    @Builder.Default
+    Duration maxBackoff = Duration.ofMinutes(5);
+
+    /**
+     * Timeout of a single snapshot request.
+     */
+    @Builder.Default
+    Duration requestTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Age after which the served snapshot is reported as stale. A stale
+     * snapshot is still served.
+     */
+    @Builder.Default
+    Duration staleAfter = Duration.ofMinutes(5);
+
+    /**
+     * Local file the last good snapshot is persisted to and restored from on
+     * start, so lookups work before (or without) the config service
+     * answering. Null disables persistence.
+     */
+    Path snapshotFile;
+
+    /**
+     * Extra request headers, e.g. {@code Authorization}.
+     */
+    @Singular
+    Map<String, String> headers;
+}
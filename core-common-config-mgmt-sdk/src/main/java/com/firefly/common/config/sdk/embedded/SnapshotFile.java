@@ -0,0 +1,341 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.sdk.embedded;
+
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.FeatureFlagEntry;
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.MappingEntry;
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.ValueMappingEntry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary persistence of a {@link ConfigSnapshot}, so a restarting
+ * service can resolve locally before the config service answers.
+ *
+ * <p>Layout (big-endian): magic {@code FFCS}, format version, body length,
+ * CRC-32 of the body, then the body: the snapshot version and tenant followed
+ * by the mappings, feature flags and value mappings. Strings are UTF-8 with
+ * an int length ({@code -1} for null), UUIDs and numbers carry a presence
+ * byte. Files are written to a temporary sibling and moved into place, and
+ * read through a read-only memory mapping; a truncated or corrupt file is
+ * reported as absent rather than failing startup.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x46464353;
+    private static final short FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 4 + 4;
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Writes a snapshot, replacing any previous file atomically where the
+     * file system supports it.
+     *
+     * @param snapshot the snapshot to persist
+     * @param path the target file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(ConfigSnapshot snapshot, Path path) throws IOException {
+        byte[] body = encode(snapshot);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putShort(FORMAT_VERSION)
+                .putInt(body.length)
+                .putInt((int) crc.getValue())
+                .flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.write(new ByteBuffer[]{header, ByteBuffer.wrap(body)});
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Maps and decodes a snapshot file.
+     *
+     * @param path the file
+     * @return the snapshot, or empty if the file is missing, from another
+     *         format version, truncated or fails its checksum
+     * @throws IOException if the file exists but cannot be read
+     */
+    public static Optional<ConfigSnapshot> read(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            int length = buffer.getInt();
+            int expectedCrc = buffer.getInt();
+            if (length != size - HEADER_BYTES) {
+                return Optional.empty();
+            }
+            ByteBuffer body = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != expectedCrc) {
+                return Optional.empty();
+            }
+            return Optional.of(decode(body));
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] encode(ConfigSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + snapshot.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, snapshot.getVersion());
+        writeUuid(out, snapshot.getTenantId());
+
+        out.writeInt(snapshot.getMappings().size());
+        for (MappingEntry mapping : snapshot.getMappings()) {
+            writeUuid(out, mapping.getId());
+            writeUuid(out, mapping.getTenantId());
+            writeUuid(out, mapping.getProductId());
+            writeString(out, mapping.getChannelType());
+            writeString(out, mapping.getApiPath());
+            writeString(out, mapping.getHttpMethod());
+            writeString(out, mapping.getOperationId());
+            writeString(out, mapping.getProcessId());
+            writeString(out, mapping.getProcessVersion());
+            writeInteger(out, mapping.getPriority());
+            writeOffsetDateTime(out, mapping.getEffectiveFrom());
+            writeOffsetDateTime(out, mapping.getEffectiveTo());
+            writeString(out, mapping.getParameters());
+        }
+
+        out.writeInt(snapshot.getFeatureFlags().size());
+        for (FeatureFlagEntry flag : snapshot.getFeatureFlags()) {
+            writeUuid(out, flag.getId());
+            writeUuid(out, flag.getTenantId());
+            writeString(out, flag.getFeatureKey());
+            out.writeByte(flag.getEnabled() == null ? -1 : flag.getEnabled() ? 1 : 0);
+            writeString(out, flag.getEnvironment());
+            writeInteger(out, flag.getRolloutPercentage());
+            writeLocalDateTime(out, flag.getStartDate());
+            writeLocalDateTime(out, flag.getEndDate());
+        }
+
+        out.writeInt(snapshot.getValueMappings().size());
+        for (ValueMappingEntry mapping : snapshot.getValueMappings()) {
+            writeUuid(out, mapping.getId());
+            writeUuid(out, mapping.getProviderId());
+            writeUuid(out, mapping.getTenantId());
+            writeString(out, mapping.getMappingType());
+            writeString(out, mapping.getFireflyValue());
+            writeString(out, mapping.getProviderValue());
+            writeString(out, mapping.getDirection());
+            writeInteger(out, mapping.getPriority());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static ConfigSnapshot decode(ByteBuffer in) {
+        String version = readString(in);
+        UUID tenantId = readUuid(in);
+
+        int mappingCount = readCount(in);
+        Map<UUID, MappingEntry> mappings = new LinkedHashMap<>(mappingCount * 2);
+        for (int i = 0; i < mappingCount; i++) {
+            MappingEntry mapping = MappingEntry.builder()
+                    .id(readUuid(in))
+                    .tenantId(readUuid(in))
+                    .productId(readUuid(in))
+                    .channelType(readString(in))
+                    .apiPath(readString(in))
+                    .httpMethod(readString(in))
+                    .operationId(readString(in))
+                    .processId(readString(in))
+                    .processVersion(readString(in))
+                    .priority(readInteger(in))
+                    .effectiveFrom(readOffsetDateTime(in))
+                    .effectiveTo(readOffsetDateTime(in))
+                    .parameters(readString(in))
+                    .build();
+            mappings.put(mapping.getId(), mapping);
+        }
+
+        int flagCount = readCount(in);
+        Map<UUID, FeatureFlagEntry> flags = new LinkedHashMap<>(flagCount * 2);
+        for (int i = 0; i < flagCount; i++) {
+            UUID id = readUuid(in);
+            UUID flagTenantId = readUuid(in);
+            String featureKey = readString(in);
+            byte enabled = in.get();
+            FeatureFlagEntry flag = FeatureFlagEntry.builder()
+                    .id(id)
+                    .tenantId(flagTenantId)
+                    .featureKey(featureKey)
+                    .enabled(enabled < 0 ? null : enabled == 1)
+                    .environment(readString(in))
+                    .rolloutPercentage(readInteger(in))
+                    .startDate(readLocalDateTime(in))
+                    .endDate(readLocalDateTime(in))
+                    .build();
+            flags.put(flag.getId(), flag);
+        }
+
+        int valueCount = readCount(in);
+        Map<UUID, ValueMappingEntry> values = new LinkedHashMap<>(valueCount * 2);
+        for (int i = 0; i < valueCount; i++) {
+            ValueMappingEntry mapping = ValueMappingEntry.builder()
+                    .id(readUuid(in))
+                    .providerId(readUuid(in))
+                    .tenantId(readUuid(in))
+                    .mappingType(readString(in))
+                    .fireflyValue(readString(in))
+                    .providerValue(readString(in))
+                    .direction(readString(in))
+                    .priority(readInteger(in))
+                    .build();
+            values.put(mapping.getId(), mapping);
+        }
+        return new ConfigSnapshot(version, tenantId, mappings, flags, values);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getMostSignificantBits());
+            out.writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    private static UUID readUuid(ByteBuffer in) {
+        return in.get() != 0 ? new UUID(in.getLong(), in.getLong()) : null;
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(ByteBuffer in) {
+        return in.get() != 0 ? in.getInt() : null;
+    }
+
+    private static void writeOffsetDateTime(DataOutputStream out, OffsetDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond());
+            out.writeInt(value.getNano());
+            out.writeInt(value.getOffset().getTotalSeconds());
+        }
+    }
+
+    private static OffsetDateTime readOffsetDateTime(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        Instant instant = Instant.ofEpochSecond(in.getLong(), in.getInt());
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.ofTotalSeconds(in.getInt()));
+    }
+
+    private static void writeLocalDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readLocalDateTime(ByteBuffer in) {
+        return in.get() != 0 ? LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC) : null;
+    }
+
+    private static int readCount(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalArgumentException("Invalid entry count: " + count);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.sdk.embedded;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Wire form of a full or delta snapshot as returned by
+ * {@code GET /api/v1/config-snapshots}. Only the fields needed for local
+ * resolution are bound; everything else is ignored.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SnapshotPayload {
+
+    private String version;
+    private boolean full;
+    private UUID tenantId;
+    private List<MappingEntry> apiProcessMappings;
+    private List<FeatureFlagEntry> featureFlags;
+    private List<ValueMappingEntry> providerValueMappings;
+    private List<UUID> removedIds;
+
+    /**
+     * API-to-process mapping.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class MappingEntry {
+        private UUID id;
+        private UUID tenantId;
+        private UUID productId;
+        private String channelType;
+        private String apiPath;
+        private String httpMethod;
+        private String operationId;
+        private String processId;
+        private String processVersion;
+        private Integer priority;
+        private OffsetDateTime effectiveFrom;
+        private OffsetDateTime effectiveTo;
+        private String parameters;
+    }
+
+    /**
+     * Feature flag.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class FeatureFlagEntry {
+        private UUID id;
+        private UUID tenantId;
+        private String featureKey;
+        private Boolean enabled;
+        private String environment;
+        private Integer rolloutPercentage;
+        private LocalDateTime startDate;
+        private LocalDateTime endDate;
+    }
+
+    /**
+     * Provider value mapping.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ValueMappingEntry {
+        private UUID id;
+        private UUID providerId;
+        private UUID tenantId;
+        private String mappingType;
+        private String fireflyValue;
+        private String providerValue;
+        private String direction;
+        private Integer priority;
+    }
+}
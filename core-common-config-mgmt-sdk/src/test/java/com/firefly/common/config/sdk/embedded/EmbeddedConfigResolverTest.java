@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.sdk.embedded;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.FeatureFlagEntry;
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.MappingEntry;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Embedded Config Resolver Tests")
+class EmbeddedConfigResolverTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Queue<Object> responses = new ArrayDeque<>();
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+    private final UUID tenantId = UUID.randomUUID();
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/config-snapshots", exchange -> {
+            queries.add(exchange.getRequestURI().getRawQuery());
+            Object next;
+            synchronized (responses) {
+                next = responses.poll();
+            }
+            byte[] body = next instanceof Integer ? new byte[0] : objectMapper.writeValueAsBytes(next);
+            exchange.sendResponseHeaders(next instanceof Integer status ? status : 200, body.length > 0 ? body.length : -1);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private void respond(Object response) {
+        synchronized (responses) {
+            responses.add(response);
+        }
+    }
+
+    private EmbeddedConfigResolver resolver(Path snapshotFile) {
+        return new EmbeddedConfigResolver(EmbeddedResolverOptions.builder()
+                .baseUrl(baseUrl)
+                .tenantId(tenantId)
+                .pollInterval(Duration.ofHours(1))
+                .snapshotFile(snapshotFile)
+                .build());
+    }
+
+    private MappingEntry mapping(UUID tenant, String processId) {
+        return MappingEntry.builder()
+                .id(UUID.randomUUID())
+                .tenantId(tenant)
+                .operationId("createAccount")
+                .processId(processId)
+                .priority(0)
+                .build();
+    }
+
+    private SnapshotPayload payload(String version, boolean full, List<MappingEntry> mappings, List<UUID> removed) {
+        return SnapshotPayload.builder()
+                .version(version)
+                .full(full)
+                .tenantId(tenantId)
+                .apiProcessMappings(mappings)
+                .featureFlags(List.of(FeatureFlagEntry.builder()
+                        .id(UUID.randomUUID())
+                        .featureKey("instant-payments")
+                        .enabled(true)
+                        .build()))
+                .providerValueMappings(List.of())
+                .removedIds(removed)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should download a full snapshot and then apply deltas since its version")
+    void shouldApplyDeltas() throws Exception {
+        MappingEntry vanilla = mapping(null, "open-account");
+        MappingEntry tenantSpecific = mapping(tenantId, "open-account-v2");
+        respond(payload("5-700-1000", true, List.of(vanilla), List.of()));
+        respond(payload("9-702-1030", false, List.of(tenantSpecific), List.of()));
+        respond(payload("12-705-1060", false, List.of(), List.of(tenantSpecific.getId())));
+
+        try (EmbeddedConfigResolver resolver = resolver(null)) {
+            resolver.refresh();
+            assertEquals("open-account", resolver.resolveMapping(tenantId, "createAccount", null, null)
+                    .orElseThrow().getProcessId());
+            assertTrue(resolver.isFeatureEnabled("instant-payments", tenantId));
+
+            resolver.refresh();
+            assertEquals("open-account-v2", resolver.resolveMapping(tenantId, "createAccount", null, null)
+                    .orElseThrow().getProcessId());
+
+            resolver.refresh();
+            assertEquals("open-account", resolver.resolveMapping(tenantId, "createAccount", null, null)
+                    .orElseThrow().getProcessId());
+            assertEquals("12-705-1060", resolver.getSnapshot().getVersion());
+            assertFalse(resolver.isStale());
+        }
+
+        assertEquals("tenantId=" + tenantId, queries.get(0));
+        assertEquals("tenantId=" + tenantId + "&since=5-700-1000", queries.get(1));
+        assertEquals("tenantId=" + tenantId + "&since=9-702-1030", queries.get(2));
+    }
+
+    @Test
+    @DisplayName("Should keep serving the last snapshot when a refresh fails")
+    void shouldServeLastSnapshotOnFailure() throws Exception {
+        respond(payload("5-700-1000", true, List.of(mapping(null, "open-account")), List.of()));
+        respond(503);
+
+        try (EmbeddedConfigResolver resolver = resolver(null)) {
+            resolver.refresh();
+            IOException failure = assertThrows(IOException.class, resolver::refresh);
+
+            assertTrue(failure.getMessage().contains("503"));
+            assertEquals("5-700-1000", resolver.getSnapshot().getVersion());
+            assertTrue(resolver.resolveMapping(tenantId, "createAccount", null, null).isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse lookups before the first snapshot")
+    void shouldRefuseLookupsBeforeFirstSnapshot() {
+        try (EmbeddedConfigResolver resolver = resolver(null)) {
+            assertThrows(IllegalStateException.class, () -> resolver.isFeatureEnabled("instant-payments", tenantId));
+            assertTrue(resolver.isStale());
+        }
+    }
+
+    @Test
+    @DisplayName("Should start from the persisted snapshot without contacting the service")
+    void shouldStartFromPersistedSnapshot() throws Exception {
+        Path file = tempDir.resolve("config.snapshot");
+        respond(payload("5-700-1000", true, List.of(mapping(null, "open-account")), List.of()));
+        try (EmbeddedConfigResolver first = resolver(file)) {
+            first.refresh();
+        }
+        server.stop(0);
+        server = null;
+
+        try (EmbeddedConfigResolver restarted = resolver(file)) {
+            ConfigSnapshot restored = restarted.start().get(5, TimeUnit.SECONDS);
+
+            assertEquals("5-700-1000", restored.getVersion());
+            assertEquals("open-account", restarted.resolveMapping(tenantId, "createAccount", null, null)
+                    .orElseThrow().getProcessId());
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.sdk.embedded;
+
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.FeatureFlagEntry;
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.MappingEntry;
+import com.firefly.common.config.sdk.embedded.SnapshotPayload.ValueMappingEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Snapshot File Tests")
+class SnapshotFileTest {
+
+    private static final int HEADER_BYTES = 14;
+
+    @TempDir
+    Path tempDir;
+
+    private static ConfigSnapshot snapshot(String version) {
+        UUID tenantId = UUID.randomUUID();
+        return ConfigSnapshot.empty().apply(SnapshotPayload.builder()
+                .version(version)
+                .full(true)
+                .tenantId(tenantId)
+                .apiProcessMappings(List.of(
+                        MappingEntry.builder()
+                                .id(UUID.randomUUID())
+                                .tenantId(tenantId)
+                                .productId(UUID.randomUUID())
+                                .channelType("MOBILE")
+                                .apiPath("/api/v1/accounts/{id}")
+                                .httpMethod("GET")
+                                .operationId("getAccount")
+                                .processId("account-lookup")
+                                .processVersion("2.1.0")
+                                .priority(5)
+                                .effectiveFrom(OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 123_000_000, ZoneOffset.ofHours(2)))
+                                .effectiveTo(OffsetDateTime.of(2027, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC))
+                                .parameters("{\"región\": \"España\"}")
+                                .build(),
+                        MappingEntry.builder()
+                                .id(UUID.randomUUID())
+                                .operationId("createAccount")
+                                .processId("vanilla-account-creation")
+                                .build()))
+                .featureFlags(List.of(
+                        FeatureFlagEntry.builder()
+                                .id(UUID.randomUUID())
+                                .tenantId(tenantId)
+                                .featureKey("instant-payments")
+                                .enabled(true)
+                                .environment("PROD")
+                                .rolloutPercentage(25)
+                                .startDate(LocalDateTime.of(2026, 3, 1, 9, 30))
+                                .build(),
+                        FeatureFlagEntry.builder()
+                                .id(UUID.randomUUID())
+                                .featureKey("legacy-export")
+                                .build()))
+                .providerValueMappings(List.of(
+                        ValueMappingEntry.builder()
+                                .id(UUID.randomUUID())
+                                .providerId(UUID.randomUUID())
+                                .mappingType("TRANSACTION_STATUS")
+                                .fireflyValue("COMPLETED")
+                                .providerValue("SETTLED")
+                                .direction("BIDIRECTIONAL")
+                                .priority(0)
+                                .build()))
+                .build());
+    }
+
+    private static void assertSameContent(ConfigSnapshot expected, ConfigSnapshot actual) {
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getTenantId(), actual.getTenantId());
+        assertEquals(List.copyOf(expected.getMappings()), List.copyOf(actual.getMappings()));
+        assertEquals(List.copyOf(expected.getFeatureFlags()), List.copyOf(actual.getFeatureFlags()));
+        assertEquals(List.copyOf(expected.getValueMappings()), List.copyOf(actual.getValueMappings()));
+    }
+
+    @Nested
+    @DisplayName("Round Trip Tests")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Should read back every field, including nulls and offsets")
+        void shouldRoundTrip() throws IOException {
+            ConfigSnapshot snapshot = snapshot("42-17-1760000000");
+            Path file = tempDir.resolve("snapshot.bin");
+
+            SnapshotFile.write(snapshot, file);
+            ConfigSnapshot read = SnapshotFile.read(file).orElseThrow();
+
+            assertSameContent(snapshot, read);
+            MappingEntry tenantMapping = read.getMappings().iterator().next();
+            assertEquals(ZoneOffset.ofHours(2), tenantMapping.getEffectiveFrom().getOffset());
+        }
+
+        @Test
+        @DisplayName("Should round-trip an empty snapshot")
+        void shouldRoundTripEmptySnapshot() throws IOException {
+            Path file = tempDir.resolve("empty.bin");
+
+            SnapshotFile.write(ConfigSnapshot.empty(), file);
+
+            assertSameContent(ConfigSnapshot.empty(), SnapshotFile.read(file).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should create missing parent directories")
+        void shouldCreateParentDirectories() throws IOException {
+            Path file = tempDir.resolve("cache/config/snapshot.bin");
+
+            SnapshotFile.write(snapshot("1-1-1"), file);
+
+            assertTrue(SnapshotFile.read(file).isPresent());
+        }
+    }
+
+    @Nested
+    @DisplayName("Damaged File Tests")
+    class DamagedFileTests {
+
+        private Path written() throws IOException {
+            Path file = tempDir.resolve("snapshot.bin");
+            SnapshotFile.write(snapshot("1-1-1"), file);
+            return file;
+        }
+
+        @Test
+        @DisplayName("Should report a missing file as absent")
+        void shouldIgnoreMissingFile() throws IOException {
+            assertEquals(Optional.empty(), SnapshotFile.read(tempDir.resolve("missing.bin")));
+        }
+
+        @Test
+        @DisplayName("Should reject a body that fails its checksum")
+        void shouldRejectCorruptedCrc() throws IOException {
+            Path file = written();
+            byte[] bytes = Files.readAllBytes(file);
+            bytes[bytes.length - 1] ^= 0x5A;
+            Files.write(file, bytes);
+
+            assertEquals(Optional.empty(), SnapshotFile.read(file));
+        }
+
+        @Test
+        @DisplayName("Should reject a stored checksum that does not match the body")
+        void shouldRejectCorruptedChecksumField() throws IOException {
+            Path file = written();
+            byte[] bytes = Files.readAllBytes(file);
+            bytes[HEADER_BYTES - 1] ^= 0x01;
+            Files.write(file, bytes);
+
+            assertEquals(Optional.empty(), SnapshotFile.read(file));
+        }
+
+        @Test
+        @DisplayName("Should reject a truncated body or header")
+        void shouldRejectTruncatedFile() throws IOException {
+            Path file = written();
+            byte[] bytes = Files.readAllBytes(file);
+
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 7));
+            assertEquals(Optional.empty(), SnapshotFile.read(file));
+
+            Files.write(file, Arrays.copyOf(bytes, HEADER_BYTES - 1));
+            assertEquals(Optional.empty(), SnapshotFile.read(file));
+
+            Files.write(file, new byte[0]);
+            assertEquals(Optional.empty(), SnapshotFile.read(file));
+        }
+
+        @Test
+        @DisplayName("Should reject another file type or format version")
+        void shouldRejectForeignHeader() throws IOException {
+            Path file = written();
+            byte[] bytes = Files.readAllBytes(file);
+
+            byte[] magic = bytes.clone();
+            magic[0] = 'X';
+            Files.write(file, magic);
+            assertEquals(Optional.empty(), SnapshotFile.read(file));
+
+            byte[] version = bytes.clone();
+            version[5] = 2;
+            Files.write(file, version);
+            assertEquals(Optional.empty(), SnapshotFile.read(file));
+        }
+    }
+
+    @Nested
+    @DisplayName("Replace Tests")
+    class ReplaceTests {
+
+        @Test
+        @DisplayName("Should replace the previous snapshot and leave no temporary files")
+        void shouldReplaceAtomically() throws IOException {
+            Path file = tempDir.resolve("snapshot.bin");
+            ConfigSnapshot first = snapshot("1-1-1");
+            ConfigSnapshot second = snapshot("2-2-2");
+
+            SnapshotFile.write(first, file);
+            SnapshotFile.write(second, file);
+
+            assertSameContent(second, SnapshotFile.read(file).orElseThrow());
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertEquals(List.of(file), files.toList());
+            }
+        }
+
+        @Test
+        @DisplayName("Should swap in a new file rather than overwrite the one a reader has open")
+        void shouldNotOverwriteInPlace() throws IOException {
+            Path file = tempDir.resolve("snapshot.bin");
+            SnapshotFile.write(snapshot("1-1-1"), file);
+            byte[] original = Files.readAllBytes(file);
+
+            try (FileChannel reader = FileChannel.open(file, StandardOpenOption.READ)) {
+                SnapshotFile.write(snapshot("2-2-2"), file);
+
+                ByteBuffer contents = ByteBuffer.allocate((int) reader.size());
+                reader.read(contents, 0);
+                assertArrayEquals(original, contents.array());
+            }
+            assertEquals("2-2-2", SnapshotFile.read(file).orElseThrow().getVersion());
+        }
+    }
+}
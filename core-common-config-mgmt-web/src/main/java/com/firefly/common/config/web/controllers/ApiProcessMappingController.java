@@ -16,8 +16,14 @@
 
 package com.firefly.common.config.web.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
 import com.firefly.common.config.core.services.ApiProcessMappingService;
+import com.firefly.common.config.interfaces.dtos.ApiProcessMappingBatchResolveRequestDTO;
+import com.firefly.common.config.interfaces.dtos.ApiProcessMappingBatchResolveResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ApiProcessMappingDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetRequestDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,6 +36,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
@@ -72,6 +79,22 @@ public class ApiProcessMappingController {
         return ResponseEntity.ok(apiProcessMappingService.getById(id));
     }
 
+    @PostMapping("/ids")
+    @Operation(
+            operationId = "getApiProcessMappingsByIds",
+            summary = "Get api process mappings by IDs",
+            description = "Fetches up to " + BatchGetRequestDTO.MAX_IDS + " api process mappings with a single query. Items are " +
+                         "returned in request order and IDs without a match are listed in missingIds.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Api process mappings retrieved"),
+                    @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+            }
+    )
+    public ResponseEntity<Mono<BatchGetResponseDTO<ApiProcessMappingDTO>>> getByIds(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        return ResponseEntity.ok(apiProcessMappingService.getByIds(request.getIds()));
+    }
+
     @PostMapping("/filter")
     @Operation(
             operationId = "filterApiProcessMappings",
@@ -122,6 +145,28 @@ public class ApiProcessMappingController {
         return ResponseEntity.ok(apiProcessMappingService.update(id, dto));
     }
 
+    @PatchMapping(value = "/{id}", consumes = {MergePatchExecutor.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            operationId = "patchApiProcessMapping",
+            summary = "Partially update a mapping",
+            description = "Applies a JSON Merge Patch (RFC 7386). Only the fields present in the patch are written and " +
+                         "a null member clears a field. Include version to reject the patch if the mapping was " +
+                         "modified since it was read.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Mapping updated", content = @Content(schema = @Schema(implementation = ApiProcessMappingDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Patch is not an object or names fields that cannot be updated"),
+                    @ApiResponse(responseCode = "404", description = "Mapping not found"),
+                    @ApiResponse(responseCode = "409", description = "Version conflict")
+            }
+    )
+    public ResponseEntity<Mono<ApiProcessMappingDTO>> patch(
+            @Parameter(description = "ID of the mapping to update", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Merge patch with the fields to change", required = true)
+            @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(apiProcessMappingService.patch(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
             operationId = "deleteApiProcessMapping",
@@ -163,6 +208,51 @@ public class ApiProcessMappingController {
         return ResponseEntity.ok(apiProcessMappingService.resolveMapping(tenantId, operationId, productId, channelType));
     }
 
+    @PostMapping("/resolve/batch")
+    @Operation(
+            operationId = "resolveApiProcessMappingsBatch",
+            summary = "Resolve the process mappings for several operations",
+            description = "Resolves a list of (operationId, productId, channelType) tuples for one tenant in a single " +
+                    "call, using the same priority rules as the single resolve endpoint. Results are returned in " +
+                    "request order; operations without a matching mapping are reported as unresolved.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operations resolved",
+                            content = @Content(schema = @Schema(implementation = ApiProcessMappingBatchResolveResponseDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid request")
+            }
+    )
+    public ResponseEntity<Mono<ApiProcessMappingBatchResolveResponseDTO>> resolveBatch(
+            @Valid @RequestBody ApiProcessMappingBatchResolveRequestDTO request) {
+        return ResponseEntity.ok(apiProcessMappingService.resolveBatch(request));
+    }
+
+    @GetMapping("/resolve-route")
+    @Operation(
+            operationId = "resolveApiProcessMappingRoute",
+            summary = "Resolve the process mapping for an HTTP request",
+            description = "Matches an HTTP method and concrete request path against the apiPath templates of all " +
+                    "active mappings ('{param}', '*' and a trailing '**' are supported) using the in-memory route " +
+                    "index. The most specific template wins, then tenant, product, channel and method specificity.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Mapping resolved",
+                            content = @Content(schema = @Schema(implementation = ApiProcessMappingDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "No matching mapping found")
+            }
+    )
+    public ResponseEntity<Mono<ApiProcessMappingDTO>> resolveRoute(
+            @Parameter(description = "HTTP method of the request (e.g., 'GET', 'POST')", required = true)
+            @RequestParam String method,
+            @Parameter(description = "Concrete request path (e.g., '/api/v1/accounts/123/balance')", required = true)
+            @RequestParam String path,
+            @Parameter(description = "Tenant ID for the resolution context")
+            @RequestParam(required = false) UUID tenantId,
+            @Parameter(description = "Product ID for more specific routing")
+            @RequestParam(required = false) UUID productId,
+            @Parameter(description = "Channel type (e.g., 'API', 'MOBILE', 'BRANCH')")
+            @RequestParam(required = false) String channelType) {
+        return ResponseEntity.ok(apiProcessMappingService.resolveRoute(method, path, tenantId, productId, channelType));
+    }
+
     @GetMapping("/tenants/{tenantId}/mappings")
     @Operation(
             operationId = "getApiProcessMappingsByTenant",
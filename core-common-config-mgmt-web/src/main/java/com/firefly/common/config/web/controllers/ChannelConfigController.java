@@ -17,12 +17,18 @@
 
 package com.firefly.common.config.web.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
 import com.firefly.common.config.core.services.ChannelConfigService;
+import com.firefly.common.config.interfaces.dtos.BatchGetRequestDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
+import com.firefly.common.config.interfaces.dtos.ChannelConfigAggregateDTO;
 import com.firefly.common.config.interfaces.dtos.ChannelConfigDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -30,8 +36,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -63,6 +71,55 @@ public class ChannelConfigController {
         return ResponseEntity.ok(channelConfigService.getById(id));
     }
 
+    @PostMapping("/ids")
+    @Operation(
+            operationId = "getChannelConfigsByIds",
+            summary = "Get channel configs by IDs",
+            description = "Fetches up to " + BatchGetRequestDTO.MAX_IDS + " channel configs with a single query. Items are " +
+                         "returned in request order and IDs without a match are listed in missingIds.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Channel configs retrieved"),
+                    @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+            }
+    )
+    public ResponseEntity<Mono<BatchGetResponseDTO<ChannelConfigDTO>>> getByIds(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        return ResponseEntity.ok(channelConfigService.getByIds(request.getIds()));
+    }
+
+    @GetMapping("/tenants/{tenantId}/{channelCode}/aggregate")
+    @Operation(
+            operationId = "getChannelConfigAggregate",
+            summary = "Get channel config with parameters",
+            description = "Retrieve an active channel configuration together with its active parameters grouped by category, loaded in a single query",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Channel config found", content = @Content(schema = @Schema(implementation = ChannelConfigAggregateDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Channel config not found")
+            }
+    )
+    public ResponseEntity<Mono<ChannelConfigAggregateDTO>> getAggregate(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Channel code", required = true, example = "MOBILE_BANKING")
+            @PathVariable String channelCode) {
+        return ResponseEntity.ok(channelConfigService.getAggregate(tenantId, channelCode));
+    }
+
+    @GetMapping("/tenants/{tenantId}/aggregate")
+    @Operation(
+            operationId = "getChannelConfigAggregatesByTenant",
+            summary = "Get all channel configs of a tenant with parameters",
+            description = "Retrieve every active channel configuration of a tenant together with its active parameters grouped by category, loaded in a single query and ordered by priority",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Channel configs retrieved", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ChannelConfigAggregateDTO.class))))
+            }
+    )
+    public ResponseEntity<Flux<ChannelConfigAggregateDTO>> getAggregatesByTenant(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId) {
+        return ResponseEntity.ok(channelConfigService.getAggregatesByTenant(tenantId));
+    }
+
     @PostMapping("/filter")
     @Operation(
             operationId = "filterChannelConfigs",
@@ -114,6 +171,28 @@ public class ChannelConfigController {
         return ResponseEntity.ok(channelConfigService.update(id, channelConfigDTO));
     }
 
+    @PatchMapping(value = "/{id}", consumes = {MergePatchExecutor.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            operationId = "patchChannelConfig",
+            summary = "Partially update a channel config",
+            description = "Applies a JSON Merge Patch (RFC 7386). Only the fields present in the patch are written and " +
+                         "a null member clears a field. Include version to reject the patch if the channel config was " +
+                         "modified since it was read.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Channel config updated", content = @Content(schema = @Schema(implementation = ChannelConfigDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Patch is not an object or names fields that cannot be updated"),
+                    @ApiResponse(responseCode = "404", description = "Channel config not found"),
+                    @ApiResponse(responseCode = "409", description = "Version conflict")
+            }
+    )
+    public ResponseEntity<Mono<ChannelConfigDTO>> patch(
+            @Parameter(description = "Channel config ID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Merge patch with the fields to change", required = true)
+            @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(channelConfigService.patch(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
             operationId = "deleteChannelConfig",
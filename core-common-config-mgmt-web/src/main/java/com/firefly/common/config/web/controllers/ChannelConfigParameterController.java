@@ -17,8 +17,14 @@
 
 package com.firefly.common.config.web.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
 import com.firefly.common.config.core.services.ChannelConfigParameterService;
+import com.firefly.common.config.core.services.ParameterSetService;
+import com.firefly.common.config.interfaces.dtos.BatchGetRequestDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ChannelConfigParameterDTO;
+import com.firefly.common.config.interfaces.dtos.ParameterValidationResultDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,9 +37,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -47,6 +55,7 @@ import java.util.UUID;
 public class ChannelConfigParameterController {
 
     private final ChannelConfigParameterService service;
+    private final ParameterSetService parameterSetService;
 
     @GetMapping("/{id}")
     @Operation(summary = "Get channel config parameter by ID", description = "Retrieves a channel config parameter by its ID")
@@ -60,6 +69,19 @@ public class ChannelConfigParameterController {
         return service.getById(id);
     }
 
+    @PostMapping("/ids")
+    @Operation(summary = "Get channel config parameters by IDs",
+            description = "Fetches several channel config parameters with a single query, in request order; " +
+                    "IDs without a match are listed in missingIds")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Channel config parameters retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+    })
+    public Mono<BatchGetResponseDTO<ChannelConfigParameterDTO>> getByIds(@Valid @RequestBody BatchGetRequestDTO request) {
+        log.debug("REST request to get {} ChannelConfigParameters by ID", request.getIds().size());
+        return service.getByIds(request.getIds());
+    }
+
     @PostMapping("/filter")
     @Operation(summary = "Filter channel config parameters", description = "Filters channel config parameters with pagination")
     @ApiResponses(value = {
@@ -72,6 +94,20 @@ public class ChannelConfigParameterController {
         return service.filter(filterRequest);
     }
 
+    @PostMapping("/validate")
+    @Operation(summary = "Validate a set of channel config parameters",
+            description = "Checks every parameter's value and default against its parameter type and validation regex, " +
+                    "required parameters without a value, and duplicate keys, without writing anything; all " +
+                    "violations are returned in one response")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Validation result",
+                    content = @Content(schema = @Schema(implementation = ParameterValidationResultDTO.class)))
+    })
+    public Mono<ParameterValidationResultDTO> validate(@RequestBody List<ChannelConfigParameterDTO> parameters) {
+        log.debug("REST request to validate {} ChannelConfigParameters", parameters.size());
+        return parameterSetService.validateChannelParameters(parameters);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Create channel config parameter", description = "Creates a new channel config parameter")
@@ -98,6 +134,21 @@ public class ChannelConfigParameterController {
         return service.update(id, dto);
     }
 
+    @PatchMapping(value = "/{id}", consumes = {MergePatchExecutor.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Partially update channel config parameter",
+            description = "Applies a JSON Merge Patch (RFC 7386), writing only the fields present in the patch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Channel config parameter updated successfully",
+                    content = @Content(schema = @Schema(implementation = ChannelConfigParameterDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Patch is not an object or names fields that cannot be updated"),
+            @ApiResponse(responseCode = "404", description = "Channel config parameter not found"),
+            @ApiResponse(responseCode = "409", description = "Version conflict")
+    })
+    public Mono<ChannelConfigParameterDTO> patch(@PathVariable UUID id, @RequestBody JsonNode patch) {
+        log.debug("REST request to patch ChannelConfigParameter with ID: {}", id);
+        return service.patch(id, patch);
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Delete channel config parameter", description = "Deletes a channel config parameter (soft delete)")
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.controllers;
+
+import com.firefly.common.config.core.services.ChannelPolicyService;
+import com.firefly.common.config.interfaces.dtos.ChannelServeDecisionDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * REST controller evaluating compiled channel policies.
+ *
+ * <p>Policies combine a channel configuration with its parameters and are
+ * served from memory, so gateways can call these endpoints per request.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/channel-policies")
+@RequiredArgsConstructor
+@Tag(name = "Channel Policies", description = "Channel availability, client and transaction limit checks with failover")
+public class ChannelPolicyController {
+
+    private final ChannelPolicyService channelPolicyService;
+
+    @GetMapping("/{tenantId}/{channelCode}/can-serve")
+    @Operation(
+            operationId = "canChannelServe",
+            summary = "Check whether a channel can serve a request",
+            description = "Evaluates enablement, maintenance, availability schedule, platform, minimum app version, " +
+                    "geo restrictions and transaction limits. When the channel cannot serve, its failover channels " +
+                    "are evaluated in turn. Omitted inputs are not checked.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Decision evaluated",
+                            content = @Content(schema = @Schema(implementation = ChannelServeDecisionDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Channel configuration not found")
+            }
+    )
+    public ResponseEntity<Mono<ChannelServeDecisionDTO>> canServe(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Channel code", required = true, example = "MOBILE_BANKING")
+            @PathVariable String channelCode,
+            @Parameter(description = "Client platform", example = "iOS")
+            @RequestParam(required = false) String platform,
+            @Parameter(description = "Client app version", example = "2.5.1")
+            @RequestParam(required = false) String appVersion,
+            @Parameter(description = "ISO 3166-1 alpha-2 country code", example = "US")
+            @RequestParam(required = false) String country,
+            @Parameter(description = "Transaction amount", example = "250.00")
+            @RequestParam(required = false) BigDecimal amount) {
+        return ResponseEntity.ok(channelPolicyService.canServe(tenantId, channelCode, platform, appVersion, country, amount));
+    }
+
+    @PostMapping("/{tenantId}/{channelCode}/refresh")
+    @Operation(
+            operationId = "refreshChannelPolicy",
+            summary = "Recompile a channel policy from the database",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Policy recompiled"),
+                    @ApiResponse(responseCode = "404", description = "Channel configuration not found")
+            }
+    )
+    public ResponseEntity<Mono<Void>> refresh(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Channel code", required = true, example = "MOBILE_BANKING")
+            @PathVariable String channelCode) {
+        return ResponseEntity.ok(channelPolicyService.refresh(tenantId, channelCode).then());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.controllers;
+
+import com.firefly.common.config.core.services.ConfigSnapshotService;
+import com.firefly.common.config.interfaces.dtos.ConfigSnapshotDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * REST controller serving resolver snapshots to embedded SDK clients.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/config-snapshots")
+@RequiredArgsConstructor
+@Tag(name = "Config Snapshots", description = "Versioned snapshots for in-process resolution by SDK clients")
+public class ConfigSnapshotController {
+
+    private final ConfigSnapshotService configSnapshotService;
+
+    @GetMapping
+    @Operation(
+            operationId = "getConfigSnapshot",
+            summary = "Get a full or delta resolver snapshot",
+            description = "Returns the process mappings, feature flags and provider value mappings an embedded " +
+                    "resolver needs. With 'since' set to a previously returned version only the changes after it " +
+                    "are returned; an unknown or expired version yields a full snapshot.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation",
+                            content = @Content(schema = @Schema(implementation = ConfigSnapshotDTO.class)))
+            }
+    )
+    public ResponseEntity<Mono<ConfigSnapshotDTO>> getSnapshot(
+            @Parameter(description = "Tenant to scope the snapshot to (vanilla entries are always included)")
+            @RequestParam(required = false) UUID tenantId,
+            @Parameter(description = "Version the client already holds")
+            @RequestParam(required = false) String since) {
+        return ResponseEntity.ok(configSnapshotService.getSnapshot(tenantId, since));
+    }
+}
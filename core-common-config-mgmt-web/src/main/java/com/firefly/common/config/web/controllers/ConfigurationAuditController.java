@@ -18,6 +18,8 @@
 package com.firefly.common.config.web.controllers;
 
 import com.firefly.common.config.core.services.ConfigurationAuditService;
+import com.firefly.common.config.interfaces.dtos.BatchGetRequestDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ConfigurationAuditDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
@@ -60,6 +62,22 @@ public class ConfigurationAuditController {
         return ResponseEntity.ok(configurationAuditService.getById(id));
     }
 
+    @PostMapping("/ids")
+    @Operation(
+            operationId = "getConfigurationAuditsByIds",
+            summary = "Get configuration audits by IDs",
+            description = "Fetches up to " + BatchGetRequestDTO.MAX_IDS + " configuration audits with a single query. Items are " +
+                         "returned in request order and IDs without a match are listed in missingIds.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Configuration audits retrieved"),
+                    @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+            }
+    )
+    public ResponseEntity<Mono<BatchGetResponseDTO<ConfigurationAuditDTO>>> getByIds(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        return ResponseEntity.ok(configurationAuditService.getByIds(request.getIds()));
+    }
+
     @PostMapping("/filter")
     @Operation(
             operationId = "filterConfigurationAudits",
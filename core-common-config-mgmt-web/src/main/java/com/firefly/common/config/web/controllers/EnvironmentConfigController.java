@@ -17,7 +17,12 @@
 
 package com.firefly.common.config.web.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
 import com.firefly.common.config.core.services.EnvironmentConfigService;
+import com.firefly.common.config.interfaces.dtos.BatchGetRequestDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
+import com.firefly.common.config.interfaces.dtos.EnvironmentConfigBundleDTO;
 import com.firefly.common.config.interfaces.dtos.EnvironmentConfigDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
@@ -29,7 +34,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
@@ -60,6 +67,67 @@ public class EnvironmentConfigController {
         return ResponseEntity.ok(environmentConfigService.getById(id));
     }
 
+    @PostMapping("/ids")
+    @Operation(
+            operationId = "getEnvironmentConfigsByIds",
+            summary = "Get environment configs by IDs",
+            description = "Fetches up to " + BatchGetRequestDTO.MAX_IDS + " environment configs with a single query. Items are " +
+                         "returned in request order and IDs without a match are listed in missingIds.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Environment configs retrieved"),
+                    @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+            }
+    )
+    public ResponseEntity<Mono<BatchGetResponseDTO<EnvironmentConfigDTO>>> getByIds(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        return ResponseEntity.ok(environmentConfigService.getByIds(request.getIds()));
+    }
+
+    @GetMapping("/tenants/{tenantId}/environments/{environmentName}/bundle")
+    @Operation(
+            operationId = "getEnvironmentConfigBundle",
+            summary = "Get the resolved configuration bundle of a tenant environment",
+            description = "Returns every key resolved from global and tenant rows, with `default` environment rows " +
+                    "overridden by the named environment. The response carries the content hash as ETag; send it " +
+                    "back in If-None-Match to get 304 Not Modified when nothing changed.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation", content = @Content(schema = @Schema(implementation = EnvironmentConfigBundleDTO.class))),
+                    @ApiResponse(responseCode = "304", description = "Bundle unchanged since the given ETag")
+            }
+    )
+    public Mono<ResponseEntity<EnvironmentConfigBundleDTO>> getBundle(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Environment name", required = true, example = "production")
+            @PathVariable String environmentName,
+            @Parameter(description = "Content hash of a previously fetched bundle")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return environmentConfigService.getBundle(tenantId, environmentName)
+                .map(bundle -> {
+                    String etag = "\"" + bundle.getContentHash() + "\"";
+                    if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<EnvironmentConfigBundleDTO>build();
+                    }
+                    return ResponseEntity.ok().eTag(etag).body(bundle);
+                });
+    }
+
+    @GetMapping("/tenants/{tenantId}/environments/{environmentName}/bundle/hash")
+    @Operation(
+            operationId = "getEnvironmentConfigBundleHash",
+            summary = "Get the content hash of a tenant environment bundle",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation")
+            }
+    )
+    public ResponseEntity<Mono<String>> getBundleHash(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Environment name", required = true, example = "production")
+            @PathVariable String environmentName) {
+        return ResponseEntity.ok(environmentConfigService.getBundleHash(tenantId, environmentName));
+    }
+
     @PostMapping("/filter")
     @Operation(
             operationId = "filterEnvironmentConfigs",
@@ -106,6 +174,28 @@ public class EnvironmentConfigController {
         return ResponseEntity.ok(environmentConfigService.update(id, environmentConfigDTO));
     }
 
+    @PatchMapping(value = "/{id}", consumes = {MergePatchExecutor.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            operationId = "patchEnvironmentConfig",
+            summary = "Partially update an environment configuration",
+            description = "Applies a JSON Merge Patch (RFC 7386). Only the fields present in the patch are written and " +
+                         "a null member clears a field. Include version to reject the patch if the environment configuration was " +
+                         "modified since it was read.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Environment configuration updated", content = @Content(schema = @Schema(implementation = EnvironmentConfigDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Patch is not an object or names fields that cannot be updated"),
+                    @ApiResponse(responseCode = "404", description = "Environment configuration not found"),
+                    @ApiResponse(responseCode = "409", description = "Version conflict")
+            }
+    )
+    public ResponseEntity<Mono<EnvironmentConfigDTO>> patch(
+            @Parameter(description = "ID of the environment configuration to update", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Merge patch with the fields to change", required = true)
+            @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(environmentConfigService.patch(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
             operationId = "deleteEnvironmentConfig",
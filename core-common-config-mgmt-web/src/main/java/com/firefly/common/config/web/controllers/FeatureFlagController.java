@@ -17,7 +17,11 @@
 
 package com.firefly.common.config.web.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
 import com.firefly.common.config.core.services.FeatureFlagService;
+import com.firefly.common.config.interfaces.dtos.BatchGetRequestDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.FeatureFlagDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
@@ -30,6 +34,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
@@ -60,6 +65,22 @@ public class FeatureFlagController {
         return ResponseEntity.ok(featureFlagService.getById(id));
     }
 
+    @PostMapping("/ids")
+    @Operation(
+            operationId = "getFeatureFlagsByIds",
+            summary = "Get feature flags by IDs",
+            description = "Fetches up to " + BatchGetRequestDTO.MAX_IDS + " feature flags with a single query. Items are " +
+                         "returned in request order and IDs without a match are listed in missingIds.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Feature flags retrieved"),
+                    @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+            }
+    )
+    public ResponseEntity<Mono<BatchGetResponseDTO<FeatureFlagDTO>>> getByIds(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        return ResponseEntity.ok(featureFlagService.getByIds(request.getIds()));
+    }
+
     @PostMapping("/filter")
     @Operation(
             operationId = "filterFeatureFlags",
@@ -106,6 +127,28 @@ public class FeatureFlagController {
         return ResponseEntity.ok(featureFlagService.update(id, featureFlagDTO));
     }
 
+    @PatchMapping(value = "/{id}", consumes = {MergePatchExecutor.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            operationId = "patchFeatureFlag",
+            summary = "Partially update a feature flag",
+            description = "Applies a JSON Merge Patch (RFC 7386). Only the fields present in the patch are written and " +
+                         "a null member clears a field. Include version to reject the patch if the feature flag was " +
+                         "modified since it was read.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Feature flag updated", content = @Content(schema = @Schema(implementation = FeatureFlagDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Patch is not an object or names fields that cannot be updated"),
+                    @ApiResponse(responseCode = "404", description = "Feature flag not found"),
+                    @ApiResponse(responseCode = "409", description = "Version conflict")
+            }
+    )
+    public ResponseEntity<Mono<FeatureFlagDTO>> patch(
+            @Parameter(description = "ID of the feature flag to update", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Merge patch with the fields to change", required = true)
+            @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(featureFlagService.patch(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
             operationId = "deleteFeatureFlag",
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.controllers;
+
+import com.firefly.common.config.core.services.MaintenanceService;
+import com.firefly.common.config.interfaces.dtos.MaintenanceStatusDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * REST controller exposing the in-memory maintenance calendar.
+ *
+ * <p>Status lookups never hit the database and are cheap enough for a gateway
+ * to call on every request.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/maintenance")
+@RequiredArgsConstructor
+@Tag(name = "Maintenance", description = "Current maintenance state of tenants and channels")
+public class MaintenanceController {
+
+    private final MaintenanceService maintenanceService;
+
+    @GetMapping("/tenants/{tenantId}")
+    @Operation(
+            operationId = "getTenantMaintenanceStatus",
+            summary = "Get the maintenance status of a tenant",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation",
+                            content = @Content(schema = @Schema(implementation = MaintenanceStatusDTO.class)))
+            }
+    )
+    public ResponseEntity<Mono<MaintenanceStatusDTO>> getTenantStatus(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId) {
+        return ResponseEntity.ok(maintenanceService.getTenantStatus(tenantId));
+    }
+
+    @GetMapping("/tenants/{tenantId}/channels/{channelCode}")
+    @Operation(
+            operationId = "getChannelMaintenanceStatus",
+            summary = "Get the maintenance status of a tenant channel",
+            description = "Tenant-wide maintenance takes precedence over the channel's daily maintenance window.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation",
+                            content = @Content(schema = @Schema(implementation = MaintenanceStatusDTO.class)))
+            }
+    )
+    public ResponseEntity<Mono<MaintenanceStatusDTO>> getChannelStatus(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Channel code", required = true, example = "MOBILE")
+            @PathVariable String channelCode) {
+        return ResponseEntity.ok(maintenanceService.getChannelStatus(tenantId, channelCode));
+    }
+
+    @GetMapping("/active")
+    @Operation(
+            operationId = "listActiveMaintenance",
+            summary = "List all tenants and channels currently in maintenance",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = MaintenanceStatusDTO.class))))
+            }
+    )
+    public ResponseEntity<Flux<MaintenanceStatusDTO>> getActiveMaintenance() {
+        return ResponseEntity.ok(maintenanceService.getActiveMaintenance());
+    }
+
+    @PostMapping("/reload")
+    @Operation(
+            operationId = "reloadMaintenanceCalendar",
+            summary = "Reload the maintenance calendar from the database",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Number of calendar entries loaded")
+            }
+    )
+    public ResponseEntity<Mono<Long>> reload() {
+        return ResponseEntity.ok(maintenanceService.reload());
+    }
+}
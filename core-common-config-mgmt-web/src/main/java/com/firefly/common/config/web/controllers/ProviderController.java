@@ -17,8 +17,15 @@
 
 package com.firefly.common.config.web.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.projection.ProjectionExecutor;
+import com.firefly.common.config.core.services.ProviderSearchService;
 import com.firefly.common.config.core.services.ProviderService;
+import com.firefly.common.config.interfaces.dtos.BatchGetRequestDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderSearchDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,11 +37,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -61,6 +71,7 @@ import java.util.UUID;
 public class ProviderController {
 
     private final ProviderService providerService;
+    private final ProviderSearchService providerSearchService;
 
     @GetMapping("/{id}")
     @Operation(
@@ -95,6 +106,22 @@ public class ProviderController {
         return ResponseEntity.ok(providerService.getById(id));
     }
 
+    @PostMapping("/ids")
+    @Operation(
+            operationId = "getProvidersByIds",
+            summary = "Get providers by IDs",
+            description = "Fetches up to " + BatchGetRequestDTO.MAX_IDS + " providers with a single query. Items are " +
+                         "returned in request order and IDs without a match are listed in missingIds.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Providers retrieved"),
+                    @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+            }
+    )
+    public ResponseEntity<Mono<BatchGetResponseDTO<ProviderDTO>>> getByIds(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        return ResponseEntity.ok(providerService.getByIds(request.getIds()));
+    }
+
     @PostMapping("/filter")
     @Operation(
             operationId = "filterProviders",
@@ -120,6 +147,60 @@ public class ProviderController {
         return ResponseEntity.ok(providerService.filter(filterRequest));
     }
 
+    @GetMapping(value = "/{id}", params = ProjectionExecutor.FIELDS_PARAM)
+    @Operation(
+            operationId = "getProviderFieldsById",
+            summary = "Retrieve selected provider fields by ID",
+            description = "Returns only the requested fields of the provider. The field list is pushed into the SQL " +
+                         "SELECT, so the remaining columns are neither read nor serialized.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Requested provider fields successfully retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Unknown or empty field list"),
+                    @ApiResponse(responseCode = "404", description = "Provider not found")
+            }
+    )
+    public ResponseEntity<Mono<Map<String, Object>>> getFieldsById(
+            @Parameter(description = "Unique identifier (UUID) of the provider to retrieve", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Comma-separated provider fields to return", required = true, example = "id,code,name,providerTypeId")
+            @RequestParam(ProjectionExecutor.FIELDS_PARAM) String fields) {
+        return ResponseEntity.ok(providerService.getById(id, fields));
+    }
+
+    @PostMapping(value = "/filter", params = ProjectionExecutor.FIELDS_PARAM)
+    @Operation(
+            operationId = "filterProvidersFields",
+            summary = "Search and filter providers, returning selected fields",
+            description = "Filters and paginates providers like the regular filter endpoint, but returns only the " +
+                         "requested fields. Each non-null filter field is matched by equality.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Projected provider page successfully retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Unknown or empty field list")
+            }
+    )
+    public ResponseEntity<Mono<PaginationResponse<Map<String, Object>>>> filterFields(
+            @ParameterObject @ModelAttribute FilterRequest<ProviderDTO> filterRequest,
+            @Parameter(description = "Comma-separated provider fields to return", required = true, example = "id,code,name,providerTypeId")
+            @RequestParam(ProjectionExecutor.FIELDS_PARAM) String fields) {
+        return ResponseEntity.ok(providerService.filter(filterRequest, fields));
+    }
+
+    @PostMapping("/search")
+    @Operation(
+            operationId = "searchProvidersByCapability",
+            summary = "Search providers by capability",
+            description = "Finds providers by type, status, category, supported countries, currencies and languages, " +
+                         "certifications and processing capabilities. List criteria require every listed value and " +
+                         "codes match case-insensitively. Matching runs against an in-memory capability index kept " +
+                         "in sync with provider writes; only the matching providers are read from the database.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Matching providers in code order")
+            }
+    )
+    public ResponseEntity<Mono<List<ProviderDTO>>> search(@RequestBody ProviderSearchDTO criteria) {
+        return ResponseEntity.ok(providerSearchService.search(criteria));
+    }
+
     @PostMapping
     @Operation(
             operationId = "createProvider",
@@ -201,6 +282,28 @@ public class ProviderController {
         return ResponseEntity.ok(providerService.update(id, providerDTO));
     }
 
+    @PatchMapping(value = "/{id}", consumes = {MergePatchExecutor.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            operationId = "patchProvider",
+            summary = "Partially update a provider",
+            description = "Applies a JSON Merge Patch (RFC 7386). Only the fields present in the patch are written and " +
+                         "a null member clears a field. Include version to reject the patch if the provider was " +
+                         "modified since it was read.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Provider updated", content = @Content(schema = @Schema(implementation = ProviderDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Patch is not an object or names fields that cannot be updated"),
+                    @ApiResponse(responseCode = "404", description = "Provider not found"),
+                    @ApiResponse(responseCode = "409", description = "Version conflict")
+            }
+    )
+    public ResponseEntity<Mono<ProviderDTO>> patch(
+            @Parameter(description = "Provider ID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Merge patch with the fields to change", required = true)
+            @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(providerService.patch(id, patch));
+    }
+
     /**
      * DELETE /api/v1/providers/:id : Delete a provider
      *
@@ -17,7 +17,13 @@
 
 package com.firefly.common.config.web.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.services.ParameterSetService;
 import com.firefly.common.config.core.services.ProviderParameterService;
+import com.firefly.common.config.interfaces.dtos.BatchGetRequestDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
+import com.firefly.common.config.interfaces.dtos.ParameterValidationResultDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderParameterDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
@@ -30,11 +36,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -44,6 +52,7 @@ import java.util.UUID;
 public class ProviderParameterController {
 
     private final ProviderParameterService providerParameterService;
+    private final ParameterSetService parameterSetService;
 
     @GetMapping("/{id}")
     @Operation(
@@ -60,6 +69,22 @@ public class ProviderParameterController {
         return ResponseEntity.ok(providerParameterService.getById(id));
     }
 
+    @PostMapping("/ids")
+    @Operation(
+            operationId = "getProviderParametersByIds",
+            summary = "Get provider parameters by IDs",
+            description = "Fetches up to " + BatchGetRequestDTO.MAX_IDS + " provider parameters with a single query. Items are " +
+                         "returned in request order and IDs without a match are listed in missingIds.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Provider parameters retrieved"),
+                    @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+            }
+    )
+    public ResponseEntity<Mono<BatchGetResponseDTO<ProviderParameterDTO>>> getByIds(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        return ResponseEntity.ok(providerParameterService.getByIds(request.getIds()));
+    }
+
     @PostMapping("/filter")
     @Operation(
             operationId = "filterProviderParameters",
@@ -73,6 +98,23 @@ public class ProviderParameterController {
         return ResponseEntity.ok(providerParameterService.filter(filterRequest));
     }
 
+    @PostMapping("/validate")
+    @Operation(
+            operationId = "validateProviderParameters",
+            summary = "Validate a set of provider parameters",
+            description = "Checks every parameter's value and default against its parameter type and validation regex, " +
+                         "required parameters without a value, and duplicate names, without writing anything. All " +
+                         "violations are returned in one response.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Validation result")
+            }
+    )
+    public ResponseEntity<Mono<ParameterValidationResultDTO>> validate(
+            @Parameter(description = "Provider parameters to validate", required = true)
+            @RequestBody List<ProviderParameterDTO> parameters) {
+        return ResponseEntity.ok(parameterSetService.validateProviderParameters(parameters));
+    }
+
     @PostMapping
     @Operation(
             operationId = "createProviderParameter",
@@ -108,6 +150,28 @@ public class ProviderParameterController {
         return ResponseEntity.ok(providerParameterService.update(id, providerParameterDTO));
     }
 
+    @PatchMapping(value = "/{id}", consumes = {MergePatchExecutor.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            operationId = "patchProviderParameter",
+            summary = "Partially update a provider parameter",
+            description = "Applies a JSON Merge Patch (RFC 7386). Only the fields present in the patch are written and " +
+                         "a null member clears a field. Include version to reject the patch if the provider parameter was " +
+                         "modified since it was read.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Provider parameter updated", content = @Content(schema = @Schema(implementation = ProviderParameterDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Patch is not an object or names fields that cannot be updated"),
+                    @ApiResponse(responseCode = "404", description = "Provider parameter not found"),
+                    @ApiResponse(responseCode = "409", description = "Version conflict")
+            }
+    )
+    public ResponseEntity<Mono<ProviderParameterDTO>> patch(
+            @Parameter(description = "ID of the provider parameter to update", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Merge patch with the fields to change", required = true)
+            @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(providerParameterService.patch(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(
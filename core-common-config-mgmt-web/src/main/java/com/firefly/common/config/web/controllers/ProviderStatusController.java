@@ -17,7 +17,11 @@
 
 package com.firefly.common.config.web.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
 import com.firefly.common.config.core.services.ProviderStatusService;
+import com.firefly.common.config.interfaces.dtos.BatchGetRequestDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderStatusDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
@@ -30,6 +34,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
@@ -70,6 +75,22 @@ public class ProviderStatusController {
         return ResponseEntity.ok(providerStatusService.getById(id));
     }
 
+    @PostMapping("/ids")
+    @Operation(
+            operationId = "getProviderStatusesByIds",
+            summary = "Get provider statuses by IDs",
+            description = "Fetches up to " + BatchGetRequestDTO.MAX_IDS + " provider statuses with a single query. Items are " +
+                         "returned in request order and IDs without a match are listed in missingIds.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Provider statuses retrieved"),
+                    @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+            }
+    )
+    public ResponseEntity<Mono<BatchGetResponseDTO<ProviderStatusDTO>>> getByIds(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        return ResponseEntity.ok(providerStatusService.getByIds(request.getIds()));
+    }
+
     /**
      * POST /api/v1/provider-statuses/filter : Filter provider statuses
      *
@@ -140,6 +161,28 @@ public class ProviderStatusController {
         return ResponseEntity.ok(providerStatusService.update(id, providerStatusDTO));
     }
 
+    @PatchMapping(value = "/{id}", consumes = {MergePatchExecutor.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            operationId = "patchProviderStatus",
+            summary = "Partially update a provider status",
+            description = "Applies a JSON Merge Patch (RFC 7386). Only the fields present in the patch are written and " +
+                         "a null member clears a field. Include version to reject the patch if the provider status was " +
+                         "modified since it was read.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Provider status updated", content = @Content(schema = @Schema(implementation = ProviderStatusDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Patch is not an object or names fields that cannot be updated"),
+                    @ApiResponse(responseCode = "404", description = "Provider status not found"),
+                    @ApiResponse(responseCode = "409", description = "Version conflict")
+            }
+    )
+    public ResponseEntity<Mono<ProviderStatusDTO>> patch(
+            @Parameter(description = "ID of the provider status to update", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Merge patch with the fields to change", required = true)
+            @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(providerStatusService.patch(id, patch));
+    }
+
     /**
      * DELETE /api/v1/provider-statuses/:id : Delete a provider status
      *
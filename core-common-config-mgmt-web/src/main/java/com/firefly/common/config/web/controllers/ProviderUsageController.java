@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.controllers;
+
+import com.firefly.common.config.core.services.ProviderUsageService;
+import com.firefly.common.config.interfaces.dtos.ProviderUsageBatchResultDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderUsageDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderUsageDecisionDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderUsageEventDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * REST controller metering provider usage against the monthly limits of
+ * provider-tenant relationships.
+ *
+ * <p>Events are counted in memory and flushed to the database periodically,
+ * so providers and gateways can report every transaction.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/provider-usage")
+@RequiredArgsConstructor
+@Tag(name = "Provider Usage", description = "Usage metering and monthly quota enforcement per tenant and provider")
+public class ProviderUsageController {
+
+    private final ProviderUsageService providerUsageService;
+
+    @PostMapping
+    @Operation(
+            operationId = "recordProviderUsage",
+            summary = "Record a usage event",
+            description = "Counts the transactions against the tenant's monthly transaction and volume limits for the " +
+                    "provider. Usage that would exceed a limit, or that targets a disabled or unknown relationship, " +
+                    "is refused and not counted.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Decision evaluated",
+                            content = @Content(schema = @Schema(implementation = ProviderUsageDecisionDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid usage event")
+            }
+    )
+    public ResponseEntity<Mono<ProviderUsageDecisionDTO>> record(
+            @Parameter(description = "Usage event", required = true)
+            @Valid @RequestBody ProviderUsageEventDTO event) {
+        return ResponseEntity.ok(providerUsageService.record(event));
+    }
+
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            operationId = "recordProviderUsageBatch",
+            summary = "Record a stream of usage events",
+            description = "Accepts newline-delimited JSON or a JSON array. Events are applied in order as they are " +
+                    "read; invalid events are counted and skipped.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Batch recorded",
+                            content = @Content(schema = @Schema(implementation = ProviderUsageBatchResultDTO.class)))
+            }
+    )
+    public ResponseEntity<Mono<ProviderUsageBatchResultDTO>> recordBatch(
+            @Parameter(description = "Usage events", required = true)
+            @RequestBody Flux<ProviderUsageEventDTO> events) {
+        return ResponseEntity.ok(providerUsageService.recordAll(events));
+    }
+
+    @GetMapping("/{tenantId}/{providerId}")
+    @Operation(
+            operationId = "getProviderUsage",
+            summary = "Get the current month's usage of a tenant's provider",
+            description = "Includes usage recorded on this node that has not been flushed yet.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Usage retrieved",
+                            content = @Content(schema = @Schema(implementation = ProviderUsageDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Provider-tenant relationship not found")
+            }
+    )
+    public ResponseEntity<Mono<ProviderUsageDTO>> getUsage(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Provider ID", required = true)
+            @PathVariable UUID providerId) {
+        return ResponseEntity.ok(providerUsageService.getUsage(tenantId, providerId));
+    }
+}
@@ -17,8 +17,13 @@
 
 package com.firefly.common.config.web.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.projection.ProjectionExecutor;
 import com.firefly.common.config.core.services.ProviderTenantService;
 import com.firefly.common.config.core.services.TenantService;
+import com.firefly.common.config.interfaces.dtos.BatchGetRequestDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.ProviderTenantDTO;
 import com.firefly.common.config.interfaces.dtos.TenantDTO;
 import org.fireflyframework.core.filters.FilterRequest;
@@ -32,11 +37,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -98,6 +105,22 @@ public class TenantController {
         return ResponseEntity.ok(tenantService.getById(id));
     }
 
+    @PostMapping("/ids")
+    @Operation(
+            operationId = "getTenantsByIds",
+            summary = "Get tenants by IDs",
+            description = "Fetches up to " + BatchGetRequestDTO.MAX_IDS + " tenants with a single query. Items are " +
+                         "returned in request order and IDs without a match are listed in missingIds.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tenants retrieved"),
+                    @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+            }
+    )
+    public ResponseEntity<Mono<BatchGetResponseDTO<TenantDTO>>> getByIds(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        return ResponseEntity.ok(tenantService.getByIds(request.getIds()));
+    }
+
     @PostMapping("/filter")
     @Operation(
             operationId = "filterTenants",
@@ -122,6 +145,44 @@ public class TenantController {
         return ResponseEntity.ok(tenantService.filter(filterRequest));
     }
 
+    @GetMapping(value = "/{id}", params = ProjectionExecutor.FIELDS_PARAM)
+    @Operation(
+            operationId = "getTenantFieldsById",
+            summary = "Retrieve selected tenant fields by ID",
+            description = "Returns only the requested fields of the tenant. The field list is pushed into the SQL " +
+                         "SELECT, so the remaining columns are neither read nor serialized.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Requested tenant fields successfully retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Unknown or empty field list"),
+                    @ApiResponse(responseCode = "404", description = "Tenant not found")
+            }
+    )
+    public ResponseEntity<Mono<Map<String, Object>>> getFieldsById(
+            @Parameter(description = "Unique identifier (UUID) of the tenant to retrieve", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Comma-separated tenant fields to return", required = true, example = "id,code,name")
+            @RequestParam(ProjectionExecutor.FIELDS_PARAM) String fields) {
+        return ResponseEntity.ok(tenantService.getById(id, fields));
+    }
+
+    @PostMapping(value = "/filter", params = ProjectionExecutor.FIELDS_PARAM)
+    @Operation(
+            operationId = "filterTenantsFields",
+            summary = "Search and filter tenants, returning selected fields",
+            description = "Filters and paginates tenants like the regular filter endpoint, but returns only the " +
+                         "requested fields. Each non-null filter field is matched by equality.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Projected tenant page successfully retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Unknown or empty field list")
+            }
+    )
+    public ResponseEntity<Mono<PaginationResponse<Map<String, Object>>>> filterFields(
+            @ParameterObject @ModelAttribute FilterRequest<TenantDTO> filterRequest,
+            @Parameter(description = "Comma-separated tenant fields to return", required = true, example = "id,code,name")
+            @RequestParam(ProjectionExecutor.FIELDS_PARAM) String fields) {
+        return ResponseEntity.ok(tenantService.filter(filterRequest, fields));
+    }
+
     @PostMapping
     @Operation(
             operationId = "createTenant",
@@ -204,6 +265,28 @@ public class TenantController {
         return ResponseEntity.ok(tenantService.update(id, tenantDTO));
     }
 
+    @PatchMapping(value = "/{id}", consumes = {MergePatchExecutor.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            operationId = "patchTenant",
+            summary = "Partially update a tenant",
+            description = "Applies a JSON Merge Patch (RFC 7386). Only the fields present in the patch are written and " +
+                         "a null member clears a field. Include version to reject the patch if the tenant was " +
+                         "modified since it was read.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tenant updated", content = @Content(schema = @Schema(implementation = TenantDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Patch is not an object or names fields that cannot be updated"),
+                    @ApiResponse(responseCode = "404", description = "Tenant not found"),
+                    @ApiResponse(responseCode = "409", description = "Version conflict")
+            }
+    )
+    public ResponseEntity<Mono<TenantDTO>> patch(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Merge patch with the fields to change", required = true)
+            @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(tenantService.patch(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(
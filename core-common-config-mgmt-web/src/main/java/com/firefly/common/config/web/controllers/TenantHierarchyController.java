@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.controllers;
+
+import com.firefly.common.config.core.services.TenantHierarchyService;
+import com.firefly.common.config.interfaces.dtos.FeatureFlagDTO;
+import com.firefly.common.config.interfaces.dtos.ProviderParameterDTO;
+import com.firefly.common.config.interfaces.dtos.TenantHierarchyDTO;
+import com.firefly.common.config.interfaces.dtos.TenantSettingsDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller exposing the tenant hierarchy and the configuration each
+ * tenant inherits through it.
+ *
+ * <p>Inherited values are resolved child first, then each ancestor up to the
+ * root, then global values, so subsidiaries only store what they change.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/tenant-hierarchy")
+@RequiredArgsConstructor
+@Tag(name = "Tenant Hierarchy", description = "Parent/child tenant structure and inherited settings, feature flags and provider parameters")
+public class TenantHierarchyController {
+
+    private final TenantHierarchyService tenantHierarchyService;
+
+    @GetMapping("/{tenantId}")
+    @Operation(
+            operationId = "getTenantHierarchy",
+            summary = "Get the position of a tenant in the hierarchy",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation",
+                            content = @Content(schema = @Schema(implementation = TenantHierarchyDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Tenant not found")
+            }
+    )
+    public ResponseEntity<Mono<TenantHierarchyDTO>> getHierarchy(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId) {
+        return ResponseEntity.ok(tenantHierarchyService.getHierarchy(tenantId));
+    }
+
+    @GetMapping("/{tenantId}/descendants")
+    @Operation(
+            operationId = "getTenantDescendants",
+            summary = "List all tenants below a tenant",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Descendant tenant IDs in breadth-first order")
+            }
+    )
+    public ResponseEntity<Mono<List<UUID>>> getDescendants(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId) {
+        return ResponseEntity.ok(tenantHierarchyService.getDescendants(tenantId));
+    }
+
+    @GetMapping("/{tenantId}/effective-settings")
+    @Operation(
+            operationId = "getEffectiveTenantSettings",
+            summary = "Get tenant settings with unset values inherited from ancestors",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation",
+                            content = @Content(schema = @Schema(implementation = TenantSettingsDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Neither the tenant nor any ancestor has settings")
+            }
+    )
+    public ResponseEntity<Mono<TenantSettingsDTO>> getEffectiveSettings(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId) {
+        return ResponseEntity.ok(tenantHierarchyService.getEffectiveSettings(tenantId));
+    }
+
+    @GetMapping("/{tenantId}/effective-feature-flags")
+    @Operation(
+            operationId = "getEffectiveFeatureFlags",
+            summary = "Get the feature flags that apply to a tenant",
+            description = "For each feature key and environment, returns the flag of the tenant itself, else of " +
+                    "its nearest ancestor, else the global flag.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation")
+            }
+    )
+    public ResponseEntity<Mono<List<FeatureFlagDTO>>> getEffectiveFeatureFlags(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId) {
+        return ResponseEntity.ok(tenantHierarchyService.getEffectiveFeatureFlags(tenantId));
+    }
+
+    @GetMapping("/{tenantId}/providers/{providerId}/effective-parameters")
+    @Operation(
+            operationId = "getEffectiveProviderParameters",
+            summary = "Get the provider parameters that apply to a tenant",
+            description = "For each parameter name and environment, returns the parameter of the tenant itself, " +
+                    "else of its nearest ancestor, else the global parameter.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation")
+            }
+    )
+    public ResponseEntity<Mono<List<ProviderParameterDTO>>> getEffectiveProviderParameters(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Provider ID", required = true)
+            @PathVariable UUID providerId) {
+        return ResponseEntity.ok(tenantHierarchyService.getEffectiveProviderParameters(tenantId, providerId));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.controllers;
+
+import com.firefly.common.config.core.services.TenantPolicyService;
+import com.firefly.common.config.interfaces.dtos.TenantAccessCheckDTO;
+import com.firefly.common.config.interfaces.dtos.TenantPolicyDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * REST controller exposing compiled tenant policies.
+ *
+ * <p>Policies are derived from tenant settings and served from memory, making
+ * these endpoints suitable for per-request checks by gateways.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/tenant-policies")
+@RequiredArgsConstructor
+@Tag(name = "Tenant Policies", description = "Compiled, read-only tenant security and operational policies derived from tenant settings")
+public class TenantPolicyController {
+
+    private final TenantPolicyService tenantPolicyService;
+
+    @GetMapping("/{tenantId}")
+    @Operation(
+            operationId = "getTenantPolicy",
+            summary = "Get the compiled policy for a tenant",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation",
+                            content = @Content(schema = @Schema(implementation = TenantPolicyDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Tenant settings not found")
+            }
+    )
+    public ResponseEntity<Mono<TenantPolicyDTO>> getPolicy(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId) {
+        return ResponseEntity.ok(tenantPolicyService.getPolicy(tenantId));
+    }
+
+    @GetMapping("/{tenantId}/access-check")
+    @Operation(
+            operationId = "checkTenantAccess",
+            summary = "Check a client IP and country against a tenant policy",
+            description = "Evaluates the IP against the tenant's block and allow CIDR lists and the country " +
+                    "against its geo-blocking lists. Omitted inputs are treated as allowed.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Check evaluated",
+                            content = @Content(schema = @Schema(implementation = TenantAccessCheckDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Tenant settings not found")
+            }
+    )
+    public ResponseEntity<Mono<TenantAccessCheckDTO>> checkAccess(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Client IP address", example = "203.0.113.10")
+            @RequestParam(required = false) String ipAddress,
+            @Parameter(description = "ISO 3166-1 alpha-2 country code", example = "ES")
+            @RequestParam(required = false) String countryCode) {
+        return ResponseEntity.ok(tenantPolicyService.checkAccess(tenantId, ipAddress, countryCode));
+    }
+
+    @PostMapping("/{tenantId}/refresh")
+    @Operation(
+            operationId = "refreshTenantPolicy",
+            summary = "Recompile a tenant policy from the database",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Policy recompiled",
+                            content = @Content(schema = @Schema(implementation = TenantPolicyDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Tenant settings not found")
+            }
+    )
+    public ResponseEntity<Mono<TenantPolicyDTO>> refresh(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId) {
+        return ResponseEntity.ok(tenantPolicyService.refresh(tenantId));
+    }
+}
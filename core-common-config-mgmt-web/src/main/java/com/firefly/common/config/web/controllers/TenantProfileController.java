@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.controllers;
+
+import com.firefly.common.config.core.services.TenantProfileService;
+import com.firefly.common.config.interfaces.dtos.TenantProfileDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * REST controller exposing aggregate tenant profiles.
+ *
+ * <p>A profile replaces the six calls otherwise needed to build a tenant
+ * context and is served from memory until one of its parts changes.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/tenant-profiles")
+@RequiredArgsConstructor
+@Tag(name = "Tenant Profiles", description = "Tenant, status, branding, settings, enabled providers and enabled channels in one response")
+public class TenantProfileController {
+
+    private final TenantProfileService tenantProfileService;
+
+    @GetMapping("/{tenantId}")
+    @Operation(
+            operationId = "getTenantProfile",
+            summary = "Get the aggregate profile of a tenant",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation",
+                            content = @Content(schema = @Schema(implementation = TenantProfileDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Tenant not found")
+            }
+    )
+    public ResponseEntity<Mono<TenantProfileDTO>> getProfile(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId) {
+        return ResponseEntity.ok(tenantProfileService.getProfile(tenantId));
+    }
+
+    @PostMapping("/{tenantId}/refresh")
+    @Operation(
+            operationId = "refreshTenantProfile",
+            summary = "Reassemble a tenant profile from the database",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Profile reassembled",
+                            content = @Content(schema = @Schema(implementation = TenantProfileDTO.class))),
+                    @ApiResponse(responseCode = "404", description = "Tenant not found")
+            }
+    )
+    public ResponseEntity<Mono<TenantProfileDTO>> refresh(
+            @Parameter(description = "Tenant ID", required = true)
+            @PathVariable UUID tenantId) {
+        return ResponseEntity.ok(tenantProfileService.refresh(tenantId));
+    }
+}
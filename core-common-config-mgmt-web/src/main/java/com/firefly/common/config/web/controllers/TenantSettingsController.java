@@ -17,7 +17,12 @@
 
 package com.firefly.common.config.web.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.common.config.core.patch.MergePatchExecutor;
+import com.firefly.common.config.core.projection.ProjectionExecutor;
 import com.firefly.common.config.core.services.TenantSettingsService;
+import com.firefly.common.config.interfaces.dtos.BatchGetRequestDTO;
+import com.firefly.common.config.interfaces.dtos.BatchGetResponseDTO;
 import com.firefly.common.config.interfaces.dtos.TenantSettingsDTO;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
@@ -30,11 +35,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -60,6 +67,22 @@ public class TenantSettingsController {
         return ResponseEntity.ok(tenantSettingsService.getById(id));
     }
 
+    @PostMapping("/ids")
+    @Operation(
+            operationId = "getTenantSettingsByIds",
+            summary = "Get tenant settings by IDs",
+            description = "Fetches up to " + BatchGetRequestDTO.MAX_IDS + " tenant settings with a single query. Items are " +
+                         "returned in request order and IDs without a match are listed in missingIds.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tenant settings retrieved"),
+                    @ApiResponse(responseCode = "400", description = "No IDs or too many IDs")
+            }
+    )
+    public ResponseEntity<Mono<BatchGetResponseDTO<TenantSettingsDTO>>> getByIds(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        return ResponseEntity.ok(tenantSettingsService.getByIds(request.getIds()));
+    }
+
     @PostMapping("/filter")
     @Operation(
             operationId = "filterTenantSettings",
@@ -73,6 +96,40 @@ public class TenantSettingsController {
         return ResponseEntity.ok(tenantSettingsService.filter(filterRequest));
     }
 
+    @GetMapping(value = "/{id}", params = ProjectionExecutor.FIELDS_PARAM)
+    @Operation(
+            operationId = "getTenantSettingsFieldsById",
+            summary = "Get selected tenant settings fields by ID",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation"),
+                    @ApiResponse(responseCode = "400", description = "Unknown or empty field list"),
+                    @ApiResponse(responseCode = "404", description = "Tenant settings not found")
+            }
+    )
+    public ResponseEntity<Mono<Map<String, Object>>> getFieldsById(
+            @Parameter(description = "ID of the tenant settings to retrieve", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Comma-separated fields to return", required = true)
+            @RequestParam(ProjectionExecutor.FIELDS_PARAM) String fields) {
+        return ResponseEntity.ok(tenantSettingsService.getById(id, fields));
+    }
+
+    @PostMapping(value = "/filter", params = ProjectionExecutor.FIELDS_PARAM)
+    @Operation(
+            operationId = "filterTenantSettingsFields",
+            summary = "Filter tenant settings, returning selected fields",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successful operation"),
+                    @ApiResponse(responseCode = "400", description = "Unknown or empty field list")
+            }
+    )
+    public ResponseEntity<Mono<PaginationResponse<Map<String, Object>>>> filterFields(
+            @ParameterObject @ModelAttribute FilterRequest<TenantSettingsDTO> filterRequest,
+            @Parameter(description = "Comma-separated fields to return", required = true)
+            @RequestParam(ProjectionExecutor.FIELDS_PARAM) String fields) {
+        return ResponseEntity.ok(tenantSettingsService.filter(filterRequest, fields));
+    }
+
     @PostMapping
     @Operation(
             operationId = "createTenantSettings",
@@ -106,6 +163,28 @@ public class TenantSettingsController {
         return ResponseEntity.ok(tenantSettingsService.update(id, tenantSettingsDTO));
     }
 
+    @PatchMapping(value = "/{id}", consumes = {MergePatchExecutor.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            operationId = "patchTenantSettings",
+            summary = "Partially update a tenant settings",
+            description = "Applies a JSON Merge Patch (RFC 7386). Only the fields present in the patch are written and " +
+                         "a null member clears a field. Include version to reject the patch if the tenant settings was " +
+                         "modified since it was read.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tenant settings updated", content = @Content(schema = @Schema(implementation = TenantSettingsDTO.class))),
+                    @ApiResponse(responseCode = "400", description = "Patch is not an object or names fields that cannot be updated"),
+                    @ApiResponse(responseCode = "404", description = "Tenant settings not found"),
+                    @ApiResponse(responseCode = "409", description = "Version conflict")
+            }
+    )
+    public ResponseEntity<Mono<TenantSettingsDTO>> patch(
+            @Parameter(description = "ID of the tenant settings to update", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Merge patch with the fields to change", required = true)
+            @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(tenantSettingsService.patch(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
             operationId = "deleteTenantSettings",
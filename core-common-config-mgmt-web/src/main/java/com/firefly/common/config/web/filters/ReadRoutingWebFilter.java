@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.filters;
+
+import com.firefly.common.config.models.routing.ReadReplicaProperties;
+import com.firefly.common.config.models.routing.ReadRouting;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Carries read-replica routing hints from the request into the reactive
+ * context.
+ *
+ * <p>{@code GET} and {@code HEAD} requests and {@code POST …/filter} searches
+ * are marked read-only, which also covers queries that bypass the
+ * repositories such as {@code FilterUtils}. The optional session header is
+ * attached so that a client reading right after its own write is served by a
+ * replica that has already replayed that write, or by the primary. Repository
+ * writes always go to the primary regardless of the mark. Active only when
+ * {@code firefly.config.r2dbc.read-replicas.enabled=true}.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "firefly.config.r2dbc.read-replicas", name = "enabled", havingValue = "true")
+public class ReadRoutingWebFilter implements WebFilter {
+
+    private static final String FILTER_SUFFIX = "/filter";
+
+    private final ReadReplicaProperties properties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String session = request.getHeaders().getFirst(properties.getSessionHeader());
+        boolean readOnly = isReadOnly(request);
+        return chain.filter(exchange).contextWrite(context -> {
+            context = ReadRouting.withSession(context, session);
+            return readOnly ? ReadRouting.preferReplica(context) : context;
+        });
+    }
+
+    private static boolean isReadOnly(ServerHttpRequest request) {
+        HttpMethod method = request.getMethod();
+        if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)) {
+            return true;
+        }
+        return HttpMethod.POST.equals(method)
+                && request.getPath().pathWithinApplication().value().endsWith(FILTER_SUFFIX);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.filters;
+
+import com.firefly.common.config.core.config.TenantContextProperties;
+import com.firefly.common.config.core.index.TenantContext;
+import com.firefly.common.config.core.services.CodeIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Resolves the tenant header (a tenant code or ID) to a {@link TenantContext}
+ * from the in-memory code index.
+ *
+ * <p>The context is stored as an exchange attribute and in the Reactor
+ * context before any other filter runs, so the database is only read for a
+ * tenant the index has not seen yet. Requests without the header pass
+ * unchanged; a header naming no tenant is rejected with {@code 400}, and an
+ * inactive tenant with {@code 403} if configured. Disabled unless
+ * {@code firefly.config.tenant-context.enabled=true}.</p>
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "firefly.config.tenant-context", name = "enabled", havingValue = "true")
+public class TenantContextWebFilter implements WebFilter {
+
+    private final CodeIndexService codeIndexService;
+    private final TenantContextProperties properties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        String header = exchange.getRequest().getHeaders().getFirst(properties.getHeader());
+        if (header == null || header.isBlank() || properties.getExcludedPaths().stream().anyMatch(path::startsWith)) {
+            return chain.filter(exchange);
+        }
+
+        // Resolve to an Optional first: the filter chain itself completes empty
+        return codeIndexService.resolveTenantContext(header)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(resolved -> {
+                    if (resolved.isEmpty()) {
+                        if (!properties.isRejectUnknown()) {
+                            return chain.filter(exchange);
+                        }
+                        log.debug("Rejecting {} for unknown tenant {}", path, header);
+                        return reject(exchange.getResponse(), HttpStatus.BAD_REQUEST);
+                    }
+                    TenantContext tenant = resolved.get();
+                    if (!tenant.isActive() && properties.isRejectInactive()) {
+                        log.debug("Rejecting {} for inactive tenant {}", path, tenant.getCode());
+                        return reject(exchange.getResponse(), HttpStatus.FORBIDDEN);
+                    }
+                    exchange.getAttributes().put(TenantContext.ATTRIBUTE, tenant);
+                    return chain.filter(exchange).contextWrite(context -> context.put(TenantContext.class, tenant));
+                });
+    }
+
+    private static Mono<Void> reject(ServerHttpResponse response, HttpStatus status) {
+        response.setStatusCode(status);
+        return response.setComplete();
+    }
+}
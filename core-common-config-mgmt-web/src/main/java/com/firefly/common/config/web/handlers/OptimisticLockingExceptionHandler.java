@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.handlers;
+
+import com.firefly.common.config.models.repositories.VersionConflictException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps optimistic-locking failures to {@code 409 Conflict}. For
+ * {@link VersionConflictException} the response carries the current version
+ * so the client can re-read and retry.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OptimisticLockingExceptionHandler {
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleConflict(OptimisticLockingFailureException exception) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, exception.getMessage());
+        problem.setTitle("Version conflict");
+        if (exception instanceof VersionConflictException conflict) {
+            problem.setProperty("entityType", conflict.getEntityType());
+            problem.setProperty("entityId", conflict.getEntityId());
+            problem.setProperty("expectedVersion", conflict.getExpectedVersion());
+            problem.setProperty("currentVersion", conflict.getCurrentVersion());
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.metrics;
+
+import com.firefly.common.config.models.routing.ReadReplicaConnectionFactory;
+import com.firefly.common.config.models.routing.RoutedPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.PoolMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Publishes read-replica routing statistics per pool:
+ * {@code config.r2dbc.routed}, {@code config.r2dbc.pool.acquired},
+ * {@code config.r2dbc.pool.idle}, {@code config.r2dbc.pool.pending},
+ * {@code config.r2dbc.replica.lag.bytes} and {@code config.r2dbc.replica.healthy},
+ * tagged with {@code pool}, plus {@code config.r2dbc.fallbacks} and
+ * {@code config.r2dbc.sessions.tracked}.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "firefly.config.r2dbc.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaMetrics implements MeterBinder {
+
+    private final ReadReplicaConnectionFactory router;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RoutedPool pool : router.getPools()) {
+            register(registry, pool);
+        }
+        FunctionCounter.builder("config.r2dbc.fallbacks", router, ReadReplicaConnectionFactory::getFallbackCount)
+                .description("Reads sent to the primary because no replica was eligible")
+                .register(registry);
+        Gauge.builder("config.r2dbc.sessions.tracked", router, ReadReplicaConnectionFactory::getTrackedSessionCount)
+                .description("Sessions waiting for replicas to replay their last write")
+                .register(registry);
+    }
+
+    private void register(MeterRegistry registry, RoutedPool pool) {
+        FunctionCounter.builder("config.r2dbc.routed", pool, RoutedPool::getRoutedCount)
+                .description("Connections requested through the router")
+                .tag("pool", pool.getName())
+                .register(registry);
+        poolGauge(registry, pool, "config.r2dbc.pool.acquired", "Connections in use", PoolMetrics::acquiredSize);
+        poolGauge(registry, pool, "config.r2dbc.pool.idle", "Idle connections", PoolMetrics::idleSize);
+        poolGauge(registry, pool, "config.r2dbc.pool.pending", "Callers waiting for a connection",
+                PoolMetrics::pendingAcquireSize);
+        if (pool.isReplica()) {
+            Gauge.builder("config.r2dbc.replica.lag.bytes", pool, RoutedPool::getLagBytes)
+                    .description("WAL bytes the replica still has to replay (-1 if unknown)")
+                    .baseUnit("bytes")
+                    .tag("pool", pool.getName())
+                    .register(registry);
+            Gauge.builder("config.r2dbc.replica.healthy", pool, replica -> replica.isHealthy() ? 1 : 0)
+                    .description("1 if the replica answered the last position poll")
+                    .tag("pool", pool.getName())
+                    .register(registry);
+        }
+    }
+
+    private static void poolGauge(MeterRegistry registry, RoutedPool pool, String name, String description,
+                                  ToIntFunction<PoolMetrics> metric) {
+        Gauge.builder(name, pool, p -> p.getPoolMetrics().map(metric::applyAsInt).orElse(0))
+                .description(description)
+                .tag("pool", pool.getName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.metrics;
+
+import com.firefly.common.config.core.support.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes {@link SingleFlight} statistics per operation:
+ * {@code config.singleflight.requests}, {@code config.singleflight.coalesced},
+ * {@code config.singleflight.in.flight} and
+ * {@code config.singleflight.coalescing.ratio}, tagged with {@code operation}.
+ *
+ * @author Firefly Development Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlightMetrics implements MeterBinder {
+
+    private final SingleFlight singleFlight;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        singleFlight.onOperation(operation -> register(registry, operation));
+    }
+
+    private void register(MeterRegistry registry, String operation) {
+        SingleFlight.Statistics statistics = singleFlight.statisticsFor(operation);
+        FunctionCounter.builder("config.singleflight.requests", statistics, SingleFlight.Statistics::getRequests)
+                .description("Reads requested, including coalesced ones")
+                .tag("operation", operation)
+                .register(registry);
+        FunctionCounter.builder("config.singleflight.coalesced", statistics, SingleFlight.Statistics::getCoalesced)
+                .description("Reads answered by joining an identical read in flight")
+                .tag("operation", operation)
+                .register(registry);
+        Gauge.builder("config.singleflight.in.flight", statistics, SingleFlight.Statistics::getInFlight)
+                .description("Reads currently executing")
+                .tag("operation", operation)
+                .register(registry);
+        Gauge.builder("config.singleflight.coalescing.ratio", statistics, SingleFlight.Statistics::getCoalescingRatio)
+                .description("Share of reads that did not reach the database")
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
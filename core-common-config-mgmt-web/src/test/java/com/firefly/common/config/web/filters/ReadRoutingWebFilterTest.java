@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.firefly.common.config.web.filters;
+
+import com.firefly.common.config.models.routing.ReadReplicaProperties;
+import com.firefly.common.config.models.routing.ReadRouting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.ContextView;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReadRoutingWebFilter Tests")
+class ReadRoutingWebFilterTest {
+
+    private ReadReplicaProperties properties;
+    private ReadRoutingWebFilter filter;
+    private AtomicReference<ContextView> seen;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReadReplicaProperties();
+        filter = new ReadRoutingWebFilter(properties);
+        seen = new AtomicReference<>();
+        chain = exchange -> Mono.deferContextual(context -> {
+            seen.set(context);
+            return Mono.empty();
+        });
+    }
+
+    private ContextView filter(MockServerHttpRequest.BaseBuilder<?> request) {
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(request), chain)).verifyComplete();
+        return seen.get();
+    }
+
+    @Test
+    @DisplayName("Should mark GET requests read-only and attach the session header")
+    void shouldMarkGetAsRead() {
+        ContextView context = filter(MockServerHttpRequest.get("/api/v1/tenants/acme")
+                .header("X-Config-Session", "session-1"));
+
+        assertEquals(ReadRouting.Target.REPLICA, ReadRouting.targetOf(context));
+        assertEquals(Optional.of("session-1"), ReadRouting.sessionOf(context));
+    }
+
+    @Test
+    @DisplayName("Should mark POST filter searches read-only")
+    void shouldMarkFilterAsRead() {
+        ContextView context = filter(MockServerHttpRequest.post("/api/v1/tenants/filter"));
+
+        assertEquals(ReadRouting.Target.REPLICA, ReadRouting.targetOf(context));
+        assertTrue(ReadRouting.sessionOf(context).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should leave writes on the primary but still attach the session")
+    void shouldLeaveWritesOnPrimary() {
+        ContextView context = filter(MockServerHttpRequest.post("/api/v1/tenants")
+                .header("X-Config-Session", "session-1"));
+
+        assertEquals(ReadRouting.Target.PRIMARY, ReadRouting.targetOf(context));
+        assertEquals(Optional.of("session-1"), ReadRouting.sessionOf(context));
+    }
+
+    @Test
+    @DisplayName("Should read the session from the configured header and ignore blank values")
+    void shouldUseConfiguredHeader() {
+        properties.setSessionHeader("X-Client-Session");
+
+        ContextView configured = filter(MockServerHttpRequest.get("/api/v1/tenants")
+                .header("X-Client-Session", "session-2"));
+        ContextView blank = filter(MockServerHttpRequest.get("/api/v1/tenants")
+                .header("X-Client-Session", " "));
+
+        assertEquals(Optional.of("session-2"), ReadRouting.sessionOf(configured));
+        assertTrue(ReadRouting.sessionOf(blank).isEmpty());
+    }
+}